@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.neurons;
+
+import org.nervousync.commons.Globals;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2 class="en-US">Admission controller of data source</h2>
+ * <p class="en-US">
+ * Sheds load before the borrowers join the waiters queue. Borrowers will be rejected when the waiters queue was full,
+ * or the predicted wait time which calculated by the average hold time of connections (Little's law) exceeds
+ * the remaining time of borrower. The optional adaptive concurrency limit was calculated by the gradient between
+ * long-term and short-term statement latency, the limit decreases when the database slows down and grows back
+ * when the latency recovered, so the database stays in its efficient regime.
+ * </p>
+ * <h2 class="zh-CN">数据源的准入控制器</h2>
+ * <p class="zh-CN">
+ * 在借出请求加入等待者队列前削减负载。当等待者队列已满，或根据连接平均占用时间（利特尔法则）预测的等待时间超过借出请求的剩余时间时，
+ * 将拒绝借出请求。可选的自适应并发限制根据长期和短期查询延迟的梯度计算，数据库变慢时限制降低，延迟恢复后限制回升，使数据库保持在高效的工作区间。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 16:08:42 $
+ */
+public final class AdmissionController {
+
+	/**
+	 * <span class="en-US">Smoothing factor of short-term latency and hold time</span>
+	 * <span class="zh-CN">短期延迟和占用时间的平滑系数</span>
+	 */
+	private static final double SHORT_SMOOTHING = 0.1d;
+	/**
+	 * <span class="en-US">Smoothing factor of long-term latency</span>
+	 * <span class="zh-CN">长期延迟的平滑系数</span>
+	 */
+	private static final double LONG_SMOOTHING = 1.0d / 600;
+	/**
+	 * <span class="en-US">Smoothing factor of concurrency limit</span>
+	 * <span class="zh-CN">并发限制的平滑系数</span>
+	 */
+	private static final double LIMIT_SMOOTHING = 0.2d;
+	/**
+	 * <span class="en-US">Tolerance ratio of short-term latency to long-term latency before decreasing the limit</span>
+	 * <span class="zh-CN">降低限制前允许的短期延迟与长期延迟的比值</span>
+	 */
+	private static final double LATENCY_TOLERANCE = 1.5d;
+	/**
+	 * <span class="en-US">Minimum concurrency limit</span>
+	 * <span class="zh-CN">最小并发限制</span>
+	 */
+	private static final int MIN_LIMIT = 1;
+
+	/**
+	 * <span class="en-US">Maximum waiters count, not limited if less than or equal to 0</span>
+	 * <span class="zh-CN">最大等待者数量，小于等于0时不限制</span>
+	 */
+	private final int maxWaiters;
+	/**
+	 * <span class="en-US">Adaptive concurrency limit was enabled</span>
+	 * <span class="zh-CN">已启用自适应并发限制</span>
+	 */
+	private final boolean adaptive;
+	/**
+	 * <span class="en-US">Rejected borrowers count</span>
+	 * <span class="zh-CN">已拒绝的借出请求数</span>
+	 */
+	private final AtomicLong rejectedCount;
+	/**
+	 * <span class="en-US">Average hold time of borrowed connections (Unit: nanoseconds)</span>
+	 * <span class="zh-CN">借出连接的平均占用时间（单位：纳秒）</span>
+	 */
+	private double holdTime = Globals.INITIALIZE_INT_VALUE;
+	/**
+	 * <span class="en-US">Short-term statement latency (Unit: nanoseconds)</span>
+	 * <span class="zh-CN">短期查询延迟（单位：纳秒）</span>
+	 */
+	private double shortLatency = Globals.INITIALIZE_INT_VALUE;
+	/**
+	 * <span class="en-US">Long-term statement latency (Unit: nanoseconds)</span>
+	 * <span class="zh-CN">长期查询延迟（单位：纳秒）</span>
+	 */
+	private double longLatency = Globals.INITIALIZE_INT_VALUE;
+	/**
+	 * <span class="en-US">Current concurrency limit, 0 means not calculated yet</span>
+	 * <span class="zh-CN">当前并发限制，0表示尚未计算</span>
+	 */
+	private double limit = Globals.INITIALIZE_INT_VALUE;
+	/**
+	 * <span class="en-US">Samples count of current calculate window</span>
+	 * <span class="zh-CN">当前计算窗口的样本数</span>
+	 */
+	private int sampleCount = Globals.INITIALIZE_INT_VALUE;
+
+	/**
+	 * <h4 class="en-US">Constructor method for admission controller without adaptive concurrency limit</h4>
+	 * <h4 class="zh-CN">不使用自适应并发限制的准入控制器的构造方法</h4>
+	 *
+	 * @param maxWaiters <span class="en-US">Maximum waiters count, not limited if less than or equal to 0</span>
+	 *                   <span class="zh-CN">最大等待者数量，小于等于0时不限制</span>
+	 */
+	public AdmissionController(final int maxWaiters) {
+		this(maxWaiters, Boolean.FALSE);
+	}
+
+	/**
+	 * <h4 class="en-US">Constructor method for admission controller</h4>
+	 * <h4 class="zh-CN">准入控制器的构造方法</h4>
+	 *
+	 * @param maxWaiters <span class="en-US">Maximum waiters count, not limited if less than or equal to 0</span>
+	 *                   <span class="zh-CN">最大等待者数量，小于等于0时不限制</span>
+	 * @param adaptive   <span class="en-US">Enable adaptive concurrency limit</span>
+	 *                   <span class="zh-CN">启用自适应并发限制</span>
+	 */
+	public AdmissionController(final int maxWaiters, final boolean adaptive) {
+		this.maxWaiters = maxWaiters;
+		this.adaptive = adaptive;
+		this.rejectedCount = new AtomicLong(Globals.INITIALIZE_INT_VALUE);
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for maximum waiters count</h4>
+	 * <h4 class="zh-CN">最大等待者数量的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Maximum waiters count</span>
+	 * <span class="zh-CN">最大等待者数量</span>
+	 */
+	public int getMaxWaiters() {
+		return this.maxWaiters;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for adaptive concurrency limit was enabled</h4>
+	 * <h4 class="zh-CN">已启用自适应并发限制的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Adaptive concurrency limit was enabled</span>
+	 * <span class="zh-CN">已启用自适应并发限制</span>
+	 */
+	public boolean isAdaptive() {
+		return this.adaptive;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for rejected borrowers count</h4>
+	 * <h4 class="zh-CN">已拒绝的借出请求数的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Rejected borrowers count</span>
+	 * <span class="zh-CN">已拒绝的借出请求数</span>
+	 */
+	public long getRejectedCount() {
+		return this.rejectedCount.get();
+	}
+
+	/**
+	 * <h4 class="en-US">Current concurrency limit, never greater than the given maximum limit</h4>
+	 * <h4 class="zh-CN">当前并发限制，不会超过指定的最大限制</h4>
+	 *
+	 * @param maxLimit <span class="en-US">Maximum connection limit of data source</span>
+	 *                 <span class="zh-CN">数据源的最大连接数</span>
+	 * @return <span class="en-US">Concurrency limit</span>
+	 * <span class="zh-CN">并发限制</span>
+	 */
+	synchronized int limit(final int maxLimit) {
+		if (!this.adaptive || this.limit == Globals.INITIALIZE_INT_VALUE) {
+			return maxLimit;
+		}
+		return Math.max(MIN_LIMIT, Math.min(maxLimit, (int) this.limit));
+	}
+
+	/**
+	 * <h4 class="en-US">Check the borrower should be rejected instead of joining the waiters queue</h4>
+	 * <h4 class="zh-CN">检查借出请求是否应被拒绝而不是加入等待者队列</h4>
+	 *
+	 * @param waitersCount <span class="en-US">Current waiters count</span>
+	 *                     <span class="zh-CN">当前等待者数量</span>
+	 * @param aheadCount   <span class="en-US">Waiters count which will be served before the borrower</span>
+	 *                     <span class="zh-CN">将在借出请求之前获取连接的等待者数量</span>
+	 * @param concurrency  <span class="en-US">Current concurrency limit</span>
+	 *                     <span class="zh-CN">当前并发限制</span>
+	 * @param remaining    <span class="en-US">Remaining time of borrower (Unit: nanoseconds), <code>Long.MAX_VALUE</code> for unbounded</span>
+	 *                     <span class="zh-CN">借出请求的剩余时间（单位：纳秒），<code>Long.MAX_VALUE</code>表示无限制</span>
+	 * @return <span class="en-US">Borrower was rejected</span>
+	 * <span class="zh-CN">借出请求已被拒绝</span>
+	 */
+	boolean reject(final int waitersCount, final int aheadCount, final int concurrency, final long remaining) {
+		boolean reject = this.maxWaiters > 0 && waitersCount >= this.maxWaiters;
+		if (!reject && remaining != Long.MAX_VALUE) {
+			double holdTime;
+			synchronized (this) {
+				holdTime = this.holdTime;
+			}
+			//	Little's law: the borrower will be served after the waiters ahead of it were served
+			reject = holdTime * (aheadCount + 1) / Math.max(MIN_LIMIT, concurrency) > remaining;
+		}
+		if (reject) {
+			this.rejectedCount.incrementAndGet();
+		}
+		return reject;
+	}
+
+	/**
+	 * <h4 class="en-US">Record the hold time of returned connection</h4>
+	 * <h4 class="zh-CN">记录归还连接的占用时间</h4>
+	 *
+	 * @param elapsedTime <span class="en-US">Hold time of connection (Unit: nanoseconds)</span>
+	 *                    <span class="zh-CN">连接的占用时间（单位：纳秒）</span>
+	 */
+	synchronized void holdTime(final long elapsedTime) {
+		this.holdTime = (this.holdTime == Globals.INITIALIZE_INT_VALUE)
+				? elapsedTime
+				: this.holdTime * (1 - SHORT_SMOOTHING) + elapsedTime * SHORT_SMOOTHING;
+	}
+
+	/**
+	 * <h4 class="en-US">Record the latency of executed statement and update the adaptive concurrency limit</h4>
+	 * <p class="en-US">
+	 * The limit was updated once per window which size was the current limit, gradient between long-term and
+	 * short-term latency shrinks the limit, and the square root of limit was allowed as the queue to probe growth.
+	 * </p>
+	 * <h4 class="zh-CN">记录已执行查询的延迟并更新自适应并发限制</h4>
+	 * <p class="zh-CN">每个大小为当前限制的窗口更新一次限制，长期与短期延迟的梯度用于降低限制，限制的平方根作为探测增长的队列。</p>
+	 *
+	 * @param elapsedTime <span class="en-US">Latency of statement (Unit: nanoseconds)</span>
+	 *                    <span class="zh-CN">查询延迟（单位：纳秒）</span>
+	 * @param maxLimit    <span class="en-US">Maximum connection limit of data source</span>
+	 *                    <span class="zh-CN">数据源的最大连接数</span>
+	 */
+	synchronized void latency(final long elapsedTime, final int maxLimit) {
+		if (!this.adaptive || elapsedTime <= 0L) {
+			return;
+		}
+		if (this.limit == Globals.INITIALIZE_INT_VALUE) {
+			this.limit = maxLimit;
+			this.shortLatency = this.longLatency = elapsedTime;
+			return;
+		}
+		this.shortLatency = this.shortLatency * (1 - SHORT_SMOOTHING) + elapsedTime * SHORT_SMOOTHING;
+		this.longLatency = this.longLatency * (1 - LONG_SMOOTHING) + elapsedTime * LONG_SMOOTHING;
+		if (this.longLatency > this.shortLatency * 2) {
+			//	Latency was recovered a lot, let the long-term latency follow it quickly
+			this.longLatency *= 0.95d;
+		}
+		if (++this.sampleCount < this.limit) {
+			return;
+		}
+		this.sampleCount = Globals.INITIALIZE_INT_VALUE;
+		double gradient =
+				Math.max(0.5d, Math.min(1.0d, LATENCY_TOLERANCE * this.longLatency / this.shortLatency));
+		double newLimit = this.limit * gradient + Math.sqrt(this.limit);
+		this.limit = Math.max(MIN_LIMIT,
+				Math.min(maxLimit, this.limit * (1 - LIMIT_SMOOTHING) + newLimit * LIMIT_SMOOTHING));
+	}
+}
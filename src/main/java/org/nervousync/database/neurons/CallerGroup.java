@@ -0,0 +1,333 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.neurons;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.commons.Globals;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <h2 class="en-US">Caller group of data source</h2>
+ * <p class="en-US">
+ * Bulkhead of callers which share one data source, e.g. service module, tenant or endpoint. Each group limits
+ * its maximum borrowed connections count, and the optional guaranteed connections count could not be used by
+ * other groups, so a misbehaving group could not hold all connections of the data source.
+ * </p>
+ * <h2 class="zh-CN">数据源的调用者分组</h2>
+ * <p class="zh-CN">
+ * 共享同一数据源的调用者隔离舱，例如服务模块、租户或接口。每个分组限制其最大借出连接数，可选的保证连接数无法被其他分组占用，
+ * 避免异常的分组占用数据源的所有连接。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 17:21:33 $
+ */
+public final class CallerGroup {
+
+	/**
+	 * <span class="en-US">Group name</span>
+	 * <span class="zh-CN">分组名称</span>
+	 */
+	private final String groupName;
+	/**
+	 * <span class="en-US">Maximum borrowed connections count, not limited if less than or equal to 0</span>
+	 * <span class="zh-CN">最大借出连接数，小于等于0时不限制</span>
+	 */
+	private volatile int maxConnections;
+	/**
+	 * <span class="en-US">Guaranteed connections count which could not be used by other groups</span>
+	 * <span class="zh-CN">其他分组无法占用的保证连接数</span>
+	 */
+	private volatile int guaranteedConnections;
+	/**
+	 * <span class="en-US">Borrowed connections count, include the connections which being created for current group</span>
+	 * <span class="zh-CN">借出的连接数，包含正在为当前分组创建的连接</span>
+	 */
+	private volatile int borrowedCount = Globals.INITIALIZE_INT_VALUE;
+	/**
+	 * <span class="en-US">Waiting to get count of connections</span>
+	 * <span class="zh-CN">等待获取连接的计数</span>
+	 */
+	private final AtomicInteger waitCount;
+	/**
+	 * <span class="en-US">Total borrowed count</span>
+	 * <span class="zh-CN">借出总次数</span>
+	 */
+	private final LongAdder borrowTotal;
+	/**
+	 * <span class="en-US">Total failed borrowing count, include timeout and rejected</span>
+	 * <span class="zh-CN">借出失败的总次数，包含超时和被拒绝</span>
+	 */
+	private final LongAdder failedTotal;
+	/**
+	 * <span class="en-US">Total wait time of borrowing (Unit: nanoseconds)</span>
+	 * <span class="zh-CN">借出等待的总时间（单位：纳秒）</span>
+	 */
+	private final LongAdder waitTime;
+	/**
+	 * <span class="en-US">Total hold time of returned connections (Unit: nanoseconds)</span>
+	 * <span class="zh-CN">已归还连接的总占用时间（单位：纳秒）</span>
+	 */
+	private final LongAdder holdTime;
+	/**
+	 * <span class="en-US">Total returned count</span>
+	 * <span class="zh-CN">归还总次数</span>
+	 */
+	private final LongAdder returnTotal;
+
+	/**
+	 * <h4 class="en-US">Constructor method for caller group</h4>
+	 * <h4 class="zh-CN">调用者分组的构造方法</h4>
+	 *
+	 * @param groupName             <span class="en-US">Group name</span>
+	 *                              <span class="zh-CN">分组名称</span>
+	 * @param maxConnections        <span class="en-US">Maximum borrowed connections count</span>
+	 *                              <span class="zh-CN">最大借出连接数</span>
+	 * @param guaranteedConnections <span class="en-US">Guaranteed connections count</span>
+	 *                              <span class="zh-CN">保证连接数</span>
+	 */
+	CallerGroup(@Nonnull final String groupName, final int maxConnections, final int guaranteedConnections) {
+		this.groupName = groupName;
+		this.waitCount = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+		this.borrowTotal = new LongAdder();
+		this.failedTotal = new LongAdder();
+		this.waitTime = new LongAdder();
+		this.holdTime = new LongAdder();
+		this.returnTotal = new LongAdder();
+		this.limits(maxConnections, guaranteedConnections);
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for group name</h4>
+	 * <h4 class="zh-CN">分组名称的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Group name</span>
+	 * <span class="zh-CN">分组名称</span>
+	 */
+	public String getGroupName() {
+		return this.groupName;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for maximum borrowed connections count</h4>
+	 * <h4 class="zh-CN">最大借出连接数的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Maximum borrowed connections count</span>
+	 * <span class="zh-CN">最大借出连接数</span>
+	 */
+	public int getMaxConnections() {
+		return this.maxConnections;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for guaranteed connections count</h4>
+	 * <h4 class="zh-CN">保证连接数的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Guaranteed connections count</span>
+	 * <span class="zh-CN">保证连接数</span>
+	 */
+	public int getGuaranteedConnections() {
+		return this.guaranteedConnections;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for borrowed connections count</h4>
+	 * <h4 class="zh-CN">借出的连接数的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Borrowed connections count</span>
+	 * <span class="zh-CN">借出的连接数</span>
+	 */
+	public int getBorrowedCount() {
+		return this.borrowedCount;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for waiting to get count of connections</h4>
+	 * <h4 class="zh-CN">等待获取连接的计数的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Waiting to get count of connections</span>
+	 * <span class="zh-CN">等待获取连接的计数</span>
+	 */
+	public int getWaitCount() {
+		return this.waitCount.get();
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for total borrowed count</h4>
+	 * <h4 class="zh-CN">借出总次数的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Total borrowed count</span>
+	 * <span class="zh-CN">借出总次数</span>
+	 */
+	public long getBorrowTotal() {
+		return this.borrowTotal.sum();
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for total failed borrowing count</h4>
+	 * <h4 class="zh-CN">借出失败的总次数的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Total failed borrowing count</span>
+	 * <span class="zh-CN">借出失败的总次数</span>
+	 */
+	public long getFailedTotal() {
+		return this.failedTotal.sum();
+	}
+
+	/**
+	 * <h4 class="en-US">Average wait time of borrowing</h4>
+	 * <h4 class="zh-CN">借出的平均等待时间</h4>
+	 *
+	 * @return <span class="en-US">Average wait time (Unit: milliseconds)</span>
+	 * <span class="zh-CN">平均等待时间（单位：毫秒）</span>
+	 */
+	public long getAverageWaitTime() {
+		long borrowTotal = this.borrowTotal.sum();
+		return (borrowTotal == 0L) ? 0L : TimeUnit.NANOSECONDS.toMillis(this.waitTime.sum() / borrowTotal);
+	}
+
+	/**
+	 * <h4 class="en-US">Average hold time of returned connections</h4>
+	 * <h4 class="zh-CN">已归还连接的平均占用时间</h4>
+	 *
+	 * @return <span class="en-US">Average hold time (Unit: milliseconds)</span>
+	 * <span class="zh-CN">平均占用时间（单位：毫秒）</span>
+	 */
+	public long getAverageHoldTime() {
+		long returnTotal = this.returnTotal.sum();
+		return (returnTotal == 0L) ? 0L : TimeUnit.NANOSECONDS.toMillis(this.holdTime.sum() / returnTotal);
+	}
+
+	/**
+	 * <h4 class="en-US">Update the maximum and guaranteed connections count</h4>
+	 * <h4 class="zh-CN">更新最大连接数和保证连接数</h4>
+	 *
+	 * @param maxConnections        <span class="en-US">Maximum borrowed connections count</span>
+	 *                              <span class="zh-CN">最大借出连接数</span>
+	 * @param guaranteedConnections <span class="en-US">Guaranteed connections count</span>
+	 *                              <span class="zh-CN">保证连接数</span>
+	 */
+	void limits(final int maxConnections, final int guaranteedConnections) {
+		this.maxConnections = maxConnections;
+		this.guaranteedConnections = guaranteed(maxConnections, guaranteedConnections);
+	}
+
+	/**
+	 * <h4 class="en-US">Effective guaranteed connections count which was limited by the maximum connections count</h4>
+	 * <h4 class="zh-CN">受最大连接数限制的有效保证连接数</h4>
+	 *
+	 * @param maxConnections        <span class="en-US">Maximum borrowed connections count</span>
+	 *                              <span class="zh-CN">最大借出连接数</span>
+	 * @param guaranteedConnections <span class="en-US">Guaranteed connections count</span>
+	 *                              <span class="zh-CN">保证连接数</span>
+	 * @return <span class="en-US">Effective guaranteed connections count</span>
+	 * <span class="zh-CN">有效的保证连接数</span>
+	 */
+	static int guaranteed(final int maxConnections, final int guaranteedConnections) {
+		return (maxConnections > 0)
+				? Math.min(maxConnections, Math.max(Globals.INITIALIZE_INT_VALUE, guaranteedConnections))
+				: Math.max(Globals.INITIALIZE_INT_VALUE, guaranteedConnections);
+	}
+
+	/**
+	 * <h4 class="en-US">Check the group could borrow more connections</h4>
+	 * <h4 class="zh-CN">检查分组是否可以借出更多连接</h4>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	boolean available() {
+		return this.maxConnections <= 0 || this.borrowedCount < this.maxConnections;
+	}
+
+	/**
+	 * <h4 class="en-US">Guaranteed connections count which not used by current group</h4>
+	 * <h4 class="zh-CN">当前分组未使用的保证连接数</h4>
+	 *
+	 * @return <span class="en-US">Unused guaranteed connections count</span>
+	 * <span class="zh-CN">未使用的保证连接数</span>
+	 */
+	int unusedGuarantee() {
+		return Math.max(Globals.INITIALIZE_INT_VALUE, this.guaranteedConnections - this.borrowedCount);
+	}
+
+	/**
+	 * <h4 class="en-US">Count a connection was granted to current group, must be invoked with the pool lock held</h4>
+	 * <h4 class="zh-CN">计数已授予当前分组的连接，必须在持有连接池锁时调用</h4>
+	 */
+	void acquire() {
+		this.borrowedCount++;
+	}
+
+	/**
+	 * <h4 class="en-US">Count a connection was released by current group, must be invoked with the pool lock held</h4>
+	 * <h4 class="zh-CN">计数当前分组释放的连接，必须在持有连接池锁时调用</h4>
+	 */
+	void release() {
+		if (this.borrowedCount > 0) {
+			this.borrowedCount--;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Increase or decrease waiting to get count of connections</h4>
+	 * <h4 class="zh-CN">增加或减少等待获取连接的计数</h4>
+	 *
+	 * @param waiting <span class="en-US">Borrower begins waiting</span>
+	 *                <span class="zh-CN">借出请求开始等待</span>
+	 */
+	void waiting(final boolean waiting) {
+		if (waiting) {
+			this.waitCount.incrementAndGet();
+		} else {
+			this.waitCount.decrementAndGet();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Record the result of borrowing</h4>
+	 * <h4 class="zh-CN">记录借出结果</h4>
+	 *
+	 * @param succeed     <span class="en-US">Connection was borrowed</span>
+	 *                    <span class="zh-CN">已借出连接</span>
+	 * @param elapsedTime <span class="en-US">Wait time of borrowing (Unit: nanoseconds)</span>
+	 *                    <span class="zh-CN">借出的等待时间（单位：纳秒）</span>
+	 */
+	void borrowed(final boolean succeed, final long elapsedTime) {
+		if (succeed) {
+			this.borrowTotal.increment();
+			this.waitTime.add(elapsedTime);
+		} else {
+			this.failedTotal.increment();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Record the hold time of returned connection</h4>
+	 * <h4 class="zh-CN">记录归还连接的占用时间</h4>
+	 *
+	 * @param elapsedTime <span class="en-US">Hold time of connection (Unit: nanoseconds)</span>
+	 *                    <span class="zh-CN">连接的占用时间（单位：纳秒）</span>
+	 */
+	void returned(final long elapsedTime) {
+		this.returnTotal.increment();
+		this.holdTime.add(elapsedTime);
+	}
+}
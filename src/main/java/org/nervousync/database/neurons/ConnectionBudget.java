@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.neurons;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.commons.Globals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h2 class="en-US">Physical connection budget shared by multiple data sources</h2>
+ * <p class="en-US">
+ * Caps the total physical connections count of all registered data sources. Each data source keeps its own
+ * minimum and maximum connection limit, the minimum connection limit is the guaranteed share of the data source
+ * which could not be used by other data sources. When the budget was exhausted, idle connections above the
+ * guaranteed share of other data sources will be closed to flow the capacity to the data source which has waiters.
+ * </p>
+ * <h2 class="zh-CN">多个数据源共享的物理连接预算</h2>
+ * <p class="zh-CN">
+ * 限制所有已注册数据源的物理连接总数。每个数据源保持各自的最小和最大连接数，最小连接数为数据源的保证份额，
+ * 其他数据源无法占用。当预算耗尽时，将关闭其他数据源超出保证份额的空闲连接，使容量流向存在等待者的数据源。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 13:27:16 $
+ */
+public final class ConnectionBudget {
+
+	/**
+	 * <span class="en-US">Maximum physical connections count of all data sources</span>
+	 * <span class="zh-CN">所有数据源的最大物理连接数</span>
+	 */
+	private final int maxConnections;
+	/**
+	 * <span class="en-US">Registered data sources and its used connections count</span>
+	 * <span class="zh-CN">已注册的数据源及其使用的连接数</span>
+	 */
+	private final Map<NeuronsDataSource, Integer> usedConnections;
+	/**
+	 * <span class="en-US">Used physical connections count of all data sources</span>
+	 * <span class="zh-CN">所有数据源已使用的物理连接数</span>
+	 */
+	private int usedCount = Globals.INITIALIZE_INT_VALUE;
+
+	/**
+	 * <h4 class="en-US">Constructor method for physical connection budget</h4>
+	 * <h4 class="zh-CN">物理连接预算的构造方法</h4>
+	 *
+	 * @param maxConnections <span class="en-US">Maximum physical connections count of all data sources</span>
+	 *                       <span class="zh-CN">所有数据源的最大物理连接数</span>
+	 */
+	public ConnectionBudget(final int maxConnections) {
+		if (maxConnections <= 0) {
+			throw new IllegalArgumentException("Maximum connections of budget must be greater than 0! ");
+		}
+		this.maxConnections = maxConnections;
+		this.usedConnections = new LinkedHashMap<>();
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for maximum physical connections count of all data sources</h4>
+	 * <h4 class="zh-CN">所有数据源的最大物理连接数的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Maximum physical connections count</span>
+	 * <span class="zh-CN">最大物理连接数</span>
+	 */
+	public int getMaxConnections() {
+		return this.maxConnections;
+	}
+
+	/**
+	 * <h4 class="en-US">Used physical connections count of all data sources</h4>
+	 * <h4 class="zh-CN">所有数据源已使用的物理连接数</h4>
+	 *
+	 * @return <span class="en-US">Used connections count</span>
+	 * <span class="zh-CN">已使用的连接数</span>
+	 */
+	public synchronized int getUsedCount() {
+		return this.usedCount;
+	}
+
+	/**
+	 * <h4 class="en-US">Used physical connections count of given data source</h4>
+	 * <h4 class="zh-CN">指定数据源已使用的物理连接数</h4>
+	 *
+	 * @param dataSource <span class="en-US">Data source instance object</span>
+	 *                   <span class="zh-CN">数据源实例对象</span>
+	 * @return <span class="en-US">Used connections count</span>
+	 * <span class="zh-CN">已使用的连接数</span>
+	 */
+	public synchronized int getUsedCount(@Nonnull final NeuronsDataSource dataSource) {
+		return this.usedConnections.getOrDefault(dataSource, Globals.INITIALIZE_INT_VALUE);
+	}
+
+	/**
+	 * <h4 class="en-US">Register data source with its current physical connections count</h4>
+	 * <h4 class="zh-CN">使用数据源当前的物理连接数注册数据源</h4>
+	 *
+	 * @param dataSource <span class="en-US">Data source instance object</span>
+	 *                   <span class="zh-CN">数据源实例对象</span>
+	 * @param usedCount  <span class="en-US">Current physical connections count</span>
+	 *                   <span class="zh-CN">当前的物理连接数</span>
+	 */
+	synchronized void register(@Nonnull final NeuronsDataSource dataSource, final int usedCount) {
+		if (!this.usedConnections.containsKey(dataSource)) {
+			this.usedConnections.put(dataSource, usedCount);
+			this.usedCount += usedCount;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Deregister data source and return all used connections to the budget</h4>
+	 * <h4 class="zh-CN">注销数据源并将其使用的所有连接归还至预算</h4>
+	 *
+	 * @param dataSource <span class="en-US">Data source instance object</span>
+	 *                   <span class="zh-CN">数据源实例对象</span>
+	 */
+	void deregister(@Nonnull final NeuronsDataSource dataSource) {
+		Integer usedCount;
+		synchronized (this) {
+			usedCount = this.usedConnections.remove(dataSource);
+			if (usedCount != null) {
+				this.usedCount -= usedCount;
+			}
+		}
+		if (usedCount != null && usedCount > 0) {
+			this.notifyWaiters();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Acquire a physical connection permit for given data source</h4>
+	 * <p class="en-US">
+	 * Data source which used connections count less than its guaranteed share always obtains the permit if
+	 * the budget was not exhausted, otherwise the unused guaranteed shares of other data sources are reserved.
+	 * </p>
+	 * <h4 class="zh-CN">为指定数据源获取物理连接许可</h4>
+	 * <p class="zh-CN">
+	 * 已使用连接数小于保证份额的数据源在预算未耗尽时总能获得许可，否则需要为其他数据源保留未使用的保证份额。
+	 * </p>
+	 *
+	 * @param dataSource <span class="en-US">Data source instance object</span>
+	 *                   <span class="zh-CN">数据源实例对象</span>
+	 * @return <span class="en-US">Permit was acquired</span>
+	 * <span class="zh-CN">已获得许可</span>
+	 */
+	synchronized boolean acquire(@Nonnull final NeuronsDataSource dataSource) {
+		Integer usedCount = this.usedConnections.get(dataSource);
+		if (usedCount == null) {
+			return Boolean.TRUE;
+		}
+		if (this.usedCount >= this.maxConnections) {
+			return Boolean.FALSE;
+		}
+		if (usedCount >= dataSource.guaranteedConnections()
+				&& (this.usedCount + 1 + this.reservedCount(dataSource)) > this.maxConnections) {
+			return Boolean.FALSE;
+		}
+		this.usedConnections.put(dataSource, usedCount + 1);
+		this.usedCount++;
+		return Boolean.TRUE;
+	}
+
+	/**
+	 * <h4 class="en-US">Release a physical connection permit of given data source</h4>
+	 * <h4 class="zh-CN">释放指定数据源的一个物理连接许可</h4>
+	 *
+	 * @param dataSource <span class="en-US">Data source instance object</span>
+	 *                   <span class="zh-CN">数据源实例对象</span>
+	 */
+	void release(@Nonnull final NeuronsDataSource dataSource) {
+		synchronized (this) {
+			Integer usedCount = this.usedConnections.get(dataSource);
+			if (usedCount == null || usedCount == 0) {
+				return;
+			}
+			this.usedConnections.put(dataSource, usedCount - 1);
+			this.usedCount--;
+		}
+		this.notifyWaiters();
+	}
+
+	/**
+	 * <h4 class="en-US">Close an idle connection of other data source to flow the capacity to given data source</h4>
+	 * <p class="en-US">
+	 * Only the idle connections above the guaranteed share of other data source could be closed. The data source
+	 * which has the most idle connections was tried first, avoid always draining the first registered data source.
+	 * </p>
+	 * <h4 class="zh-CN">关闭其他数据源的空闲连接，使容量流向指定的数据源</h4>
+	 * <p class="zh-CN">仅能关闭其他数据源超出保证份额的空闲连接。优先尝试空闲连接最多的数据源，避免总是消耗最先注册的数据源。</p>
+	 *
+	 * @param dataSource <span class="en-US">Data source instance object which has waiters</span>
+	 *                   <span class="zh-CN">存在等待者的数据源实例对象</span>
+	 * @return <span class="en-US">An idle connection was closed</span>
+	 * <span class="zh-CN">已关闭一个空闲连接</span>
+	 */
+	boolean reclaim(@Nonnull final NeuronsDataSource dataSource) {
+		Map<NeuronsDataSource, Integer> donors = new HashMap<>();
+		synchronized (this) {
+			this.usedConnections.forEach((registered, usedCount) -> {
+				int poolCount = registered.getPoolCount();
+				if (registered != dataSource && usedCount > registered.guaranteedConnections() && poolCount > 0) {
+					donors.put(registered, poolCount);
+				}
+			});
+		}
+		//	Release the idle connection without holding the budget lock, the budget will be notified by release
+		List<NeuronsDataSource> candidates = new ArrayList<>(donors.keySet());
+		//	Idle counts were read once, the sorting will not be broken by the concurrent borrowing
+		candidates.sort(Comparator.comparing(donors::get, Comparator.reverseOrder()));
+		for (NeuronsDataSource donor : candidates) {
+			if (donor.releaseIdleConnection()) {
+				return Boolean.TRUE;
+			}
+		}
+		return Boolean.FALSE;
+	}
+
+	/**
+	 * <h4 class="en-US">Unused guaranteed share count of other data sources</h4>
+	 * <h4 class="zh-CN">其他数据源未使用的保证份额数</h4>
+	 *
+	 * @param dataSource <span class="en-US">Data source instance object</span>
+	 *                   <span class="zh-CN">数据源实例对象</span>
+	 * @return <span class="en-US">Reserved connections count</span>
+	 * <span class="zh-CN">保留的连接数</span>
+	 */
+	private int reservedCount(@Nonnull final NeuronsDataSource dataSource) {
+		int reservedCount = Globals.INITIALIZE_INT_VALUE;
+		for (Map.Entry<NeuronsDataSource, Integer> entry : this.usedConnections.entrySet()) {
+			if (entry.getKey() != dataSource) {
+				reservedCount += Math.max(0, entry.getKey().guaranteedConnections() - entry.getValue());
+			}
+		}
+		return reservedCount;
+	}
+
+	/**
+	 * <h4 class="en-US">Notify the data sources which has waiters that the capacity was released</h4>
+	 * <h4 class="zh-CN">通知存在等待者的数据源容量已释放</h4>
+	 */
+	private void notifyWaiters() {
+		List<NeuronsDataSource> dataSources;
+		synchronized (this) {
+			dataSources = new ArrayList<>(this.usedConnections.keySet());
+		}
+		//	Notify without holding the budget lock, avoid lock ordering problem with the data source lock
+		dataSources.stream()
+				.filter(registered -> registered.getWaitCount() > 0)
+				.forEach(NeuronsDataSource::capacityAvailable);
+	}
+}
@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.neurons;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.commons.Globals;
+import org.nervousync.database.neurons.connection.LogicalConnection;
+import org.nervousync.utils.LoggerUtils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * <h2 class="en-US">Thread-bound connection context</h2>
+ * <p class="en-US">
+ * Within the scope of context, every <code>getConnection()</code> of the data source on the same thread returns
+ * a reference-counted handle of the already bound connection, so the nested calls share one borrowed connection
+ * and its transaction. The bound connection will be returned to the pool when both the scope and all handles were
+ * closed. Nested scopes on the same thread share the same context.
+ * </p>
+ * <h2 class="zh-CN">线程绑定的连接上下文</h2>
+ * <p class="zh-CN">
+ * 在上下文范围内，同一线程上数据源的每次<code>getConnection()</code>调用都将返回已绑定连接的引用计数句柄，
+ * 因此嵌套调用共享同一个借出的连接及其事务。当范围和所有句柄均已关闭时，绑定的连接将归还至连接池。同一线程上的嵌套范围共享同一个上下文。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 20:37:51 $
+ */
+public final class ConnectionContext implements AutoCloseable {
+
+	/**
+	 * <span class="en-US">Multilingual logger instance object</span>
+	 * <span class="zh-CN">多语言日志实例对象</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(ConnectionContext.class);
+
+	/**
+	 * <span class="en-US">Data source instance object</span>
+	 * <span class="zh-CN">数据源实例对象</span>
+	 */
+	private final NeuronsDataSource dataSource;
+	/**
+	 * <span class="en-US">Bound connection, <code>null</code> if not bound</span>
+	 * <span class="zh-CN">绑定的连接，未绑定时为<code>null</code></span>
+	 */
+	private Connection connection = null;
+	/**
+	 * <span class="en-US">Opened scopes count</span>
+	 * <span class="zh-CN">已开启的范围数</span>
+	 */
+	private int scopeCount = Globals.INITIALIZE_INT_VALUE;
+	/**
+	 * <span class="en-US">Opened handles count of bound connection</span>
+	 * <span class="zh-CN">绑定连接已打开的句柄数</span>
+	 */
+	private int referenceCount = Globals.INITIALIZE_INT_VALUE;
+
+	/**
+	 * <h4 class="en-US">Constructor method for thread-bound connection context</h4>
+	 * <h4 class="zh-CN">线程绑定的连接上下文的构造方法</h4>
+	 *
+	 * @param dataSource <span class="en-US">Data source instance object</span>
+	 *                   <span class="zh-CN">数据源实例对象</span>
+	 */
+	ConnectionContext(@Nonnull final NeuronsDataSource dataSource) {
+		this.dataSource = dataSource;
+	}
+
+	/**
+	 * <h4 class="en-US">Check the connection was bound to current context</h4>
+	 * <h4 class="zh-CN">检查连接是否已绑定到当前上下文</h4>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	public synchronized boolean isBound() {
+		return this.connection != null;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for opened handles count of bound connection</h4>
+	 * <h4 class="zh-CN">绑定连接已打开的句柄数的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Opened handles count</span>
+	 * <span class="zh-CN">已打开的句柄数</span>
+	 */
+	public synchronized int getReferenceCount() {
+		return this.referenceCount;
+	}
+
+	/**
+	 * <h4 class="en-US">Close current scope</h4>
+	 * <p class="en-US">Context will be unbound from the thread after the outermost scope was closed</p>
+	 * <h4 class="zh-CN">关闭当前范围</h4>
+	 * <p class="zh-CN">最外层范围关闭后，上下文将与线程解除绑定</p>
+	 */
+	@Override
+	public void close() {
+		boolean unbind;
+		synchronized (this) {
+			if (this.scopeCount == 0) {
+				return;
+			}
+			this.scopeCount--;
+			unbind = (this.scopeCount == 0);
+			if (unbind) {
+				this.releaseIdle();
+			}
+		}
+		if (unbind) {
+			this.dataSource.contextClosed(this);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Open a nested scope</h4>
+	 * <h4 class="zh-CN">开启嵌套范围</h4>
+	 */
+	synchronized void enter() {
+		this.scopeCount++;
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve a reference-counted handle of the bound connection, borrow connection if not bound</h4>
+	 * <h4 class="zh-CN">获取绑定连接的引用计数句柄，如果未绑定则借出连接</h4>
+	 *
+	 * @param connectionBinder <span class="en-US">Binder which borrows the physical connection if not bound</span>
+	 *                         <span class="zh-CN">未绑定时借出物理连接的绑定器</span>
+	 * @return <span class="en-US">Connection handle instance object, <code>null</code> if no connection available for the try-acquire borrowing</span>
+	 * <span class="zh-CN">连接句柄实例对象，如果尝试获取时没有可用连接则返回<code>null</code></span>
+	 * @throws SQLException <span class="en-US">if obtain database connection failed</span>
+	 *                      <span class="zh-CN">如果获取数据库连接失败</span>
+	 */
+	synchronized Connection connection(@Nonnull final LogicalConnection.ConnectionBinder connectionBinder)
+			throws SQLException {
+		if (this.connection == null) {
+			this.connection = this.dataSource.pooledConnection(connectionBinder);
+			if (this.connection == null) {
+				//	No connection available for the try-acquire borrowing
+				return null;
+			}
+		}
+		this.referenceCount++;
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+				new Class<?>[]{Connection.class}, new ConnectionHandler(this, this.connection));
+	}
+
+	/**
+	 * <h4 class="en-US">Connection handle was closed</h4>
+	 * <h4 class="zh-CN">连接句柄已关闭</h4>
+	 */
+	private synchronized void handleClosed() {
+		if (this.referenceCount > 0) {
+			this.referenceCount--;
+		}
+		this.releaseIdle();
+	}
+
+	/**
+	 * <h4 class="en-US">Return the bound connection to the pool if both the scope and all handles were closed</h4>
+	 * <h4 class="zh-CN">如果范围和所有句柄均已关闭，则将绑定的连接归还至连接池</h4>
+	 */
+	private void releaseIdle() {
+		if (this.connection == null || this.scopeCount > 0 || this.referenceCount > 0) {
+			return;
+		}
+		Connection boundConnection = this.connection;
+		this.connection = null;
+		try {
+			boundConnection.close();
+		} catch (SQLException e) {
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Invocation handler of reference-counted connection handles</h2>
+	 * <p class="en-US">
+	 * Closing the handle only decreases the reference count of context, statements created through the handle
+	 * report the handle as their connection
+	 * </p>
+	 * <h2 class="zh-CN">引用计数连接句柄的调用处理器</h2>
+	 * <p class="zh-CN">关闭句柄仅减少上下文的引用计数，通过句柄创建的查询将句柄作为其所属连接</p>
+	 */
+	private static final class ConnectionHandler implements InvocationHandler {
+
+		/**
+		 * <span class="en-US">Connection context instance object</span>
+		 * <span class="zh-CN">连接上下文实例对象</span>
+		 */
+		private final ConnectionContext connectionContext;
+		/**
+		 * <span class="en-US">Bound connection instance object</span>
+		 * <span class="zh-CN">绑定的连接实例对象</span>
+		 */
+		private final Connection connection;
+		/**
+		 * <span class="en-US">Close status of handle</span>
+		 * <span class="zh-CN">句柄关闭状态</span>
+		 */
+		private volatile boolean closed = Boolean.FALSE;
+
+		/**
+		 * <h4 class="en-US">Constructor method for invocation handler of connection handles</h4>
+		 * <h4 class="zh-CN">连接句柄的调用处理器的构造方法</h4>
+		 *
+		 * @param connectionContext <span class="en-US">Connection context instance object</span>
+		 *                          <span class="zh-CN">连接上下文实例对象</span>
+		 * @param connection        <span class="en-US">Bound connection instance object</span>
+		 *                          <span class="zh-CN">绑定的连接实例对象</span>
+		 */
+		ConnectionHandler(@Nonnull final ConnectionContext connectionContext, @Nonnull final Connection connection) {
+			this.connectionContext = connectionContext;
+			this.connection = connection;
+		}
+
+		@Override
+		public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+			switch (method.getName()) {
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "isClosed":
+					return this.closed || this.connection.isClosed();
+				case "close":
+					if (!this.closed) {
+						this.closed = Boolean.TRUE;
+						this.connectionContext.handleClosed();
+					}
+					return null;
+				case "unwrap":
+					if (args[0] instanceof Class<?> clazz && clazz.isInstance(this.connection)) {
+						return this.connection;
+					}
+					break;
+				case "isWrapperFor":
+					if (args[0] instanceof Class<?> clazz && clazz.isInstance(this.connection)) {
+						return Boolean.TRUE;
+					}
+					break;
+				default:
+					break;
+			}
+			if (this.closed && method.getDeclaringClass() != Object.class) {
+				throw new SQLException("Connection was closed! ");
+			}
+			Object result;
+			try {
+				result = method.invoke(this.connection, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+			return ResourceHandler.wrap((Connection) proxy, method, result, null);
+		}
+	}
+}
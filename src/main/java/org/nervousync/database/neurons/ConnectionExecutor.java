@@ -0,0 +1,478 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.neurons;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.commons.Globals;
+import org.nervousync.database.neurons.connection.NeuronsConnection;
+import org.nervousync.utils.LoggerUtils;
+
+import java.io.Closeable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * <h2 class="en-US">Connection execution service of data source</h2>
+ * <p class="en-US">
+ * A fixed set of workers, each worker permanently owns one borrowed connection with its warm statement cache.
+ * Submitted units of work are queued to the worker which has the shortest queue and executed in batches,
+ * there is no borrow, return or validation for each unit of work. Units of work receive a handle of the owned
+ * connection which could not be closed, statements created through the handle report the handle as their connection.
+ * After each unit of work, the statements left open will be closed, the uncommitted transaction will be rolled back
+ * and the connection status will be reset. After a unit of work failed, the owned connection will be validated,
+ * invalid connection will be replaced. Owned connections will be returned to the data source when the executor
+ * or the data source was closed.
+ * </p>
+ * <h2 class="zh-CN">数据源的连接执行服务</h2>
+ * <p class="zh-CN">
+ * 由固定数量的工作线程组成，每个工作线程永久持有一个借出的连接及其已预热的查询缓存。提交的工作单元将排入队列最短的工作线程并批量执行，
+ * 每个工作单元不再需要借出、归还或检查连接。工作单元获得的是无法关闭的持有连接句柄，通过句柄创建的查询将句柄作为其所属连接。
+ * 每个工作单元执行后，将关闭未关闭的查询，回滚未提交的事务并重置连接状态。工作单元执行失败后，将检查持有的连接，无效的连接将被替换。
+ * 执行器或数据源关闭时，持有的连接将归还至数据源。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 19:05:27 $
+ */
+public final class ConnectionExecutor implements Closeable {
+
+	/**
+	 * <span class="en-US">Multilingual logger instance object</span>
+	 * <span class="zh-CN">多语言日志实例对象</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(ConnectionExecutor.class);
+
+	/**
+	 * <span class="en-US">Default maximum units of work count in one batch</span>
+	 * <span class="zh-CN">默认的单批次最大工作单元数</span>
+	 */
+	private static final int DEFAULT_BATCH_SIZE = 64;
+	/**
+	 * <span class="en-US">Poll time of worker queue (Unit: milliseconds)</span>
+	 * <span class="zh-CN">工作队列的轮询时间（单位：毫秒）</span>
+	 */
+	private static final long POLL_TIME = 500L;
+
+	/**
+	 * <span class="en-US">Data source instance object</span>
+	 * <span class="zh-CN">数据源实例对象</span>
+	 */
+	private final NeuronsDataSource dataSource;
+	/**
+	 * <span class="en-US">Maximum units of work count in one batch</span>
+	 * <span class="zh-CN">单批次最大工作单元数</span>
+	 */
+	private final int batchSize;
+	/**
+	 * <span class="en-US">Worker list</span>
+	 * <span class="zh-CN">工作线程列表</span>
+	 */
+	private final List<Worker> workers;
+	/**
+	 * <span class="en-US">Sequence of submission, used to spread the submissions between workers with the same queue length</span>
+	 * <span class="zh-CN">提交序号，用于在队列长度相同的工作线程间分散提交</span>
+	 */
+	private final AtomicInteger sequence;
+	/**
+	 * <span class="en-US">Close status of executor</span>
+	 * <span class="zh-CN">执行器关闭状态</span>
+	 */
+	private volatile boolean closed = Boolean.FALSE;
+
+	/**
+	 * <h4 class="en-US">Constructor method for connection execution service</h4>
+	 * <p class="en-US">Each worker borrows its connection from the data source before started</p>
+	 * <h4 class="zh-CN">连接执行服务的构造方法</h4>
+	 * <p class="zh-CN">每个工作线程在启动前从数据源借出其连接</p>
+	 *
+	 * @param dataSource  <span class="en-US">Data source instance object</span>
+	 *                    <span class="zh-CN">数据源实例对象</span>
+	 * @param workerCount <span class="en-US">Workers count</span>
+	 *                    <span class="zh-CN">工作线程数</span>
+	 * @param batchSize   <span class="en-US">Maximum units of work count in one batch</span>
+	 *                    <span class="zh-CN">单批次最大工作单元数</span>
+	 * @throws SQLException <span class="en-US">if borrow the connection of workers failed</span>
+	 *                      <span class="zh-CN">如果为工作线程借出连接失败</span>
+	 */
+	ConnectionExecutor(@Nonnull final NeuronsDataSource dataSource, final int workerCount, final int batchSize)
+			throws SQLException {
+		if (workerCount <= 0) {
+			throw new IllegalArgumentException("Workers count of connection executor must be greater than 0! ");
+		}
+		this.dataSource = dataSource;
+		this.batchSize = (batchSize <= 0) ? DEFAULT_BATCH_SIZE : batchSize;
+		this.workers = new ArrayList<>(workerCount);
+		this.sequence = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+		try {
+			for (int i = 0; i < workerCount; i++) {
+				this.workers.add(new Worker(dataSource.physicalConnection(), i + 1));
+			}
+		} catch (SQLException e) {
+			this.closed = Boolean.TRUE;
+			for (Worker worker : this.workers) {
+				this.dataSource.closeConnection(worker.connection);
+			}
+			throw e;
+		}
+		this.workers.forEach(Thread::start);
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for workers count</h4>
+	 * <h4 class="zh-CN">工作线程数的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Workers count</span>
+	 * <span class="zh-CN">工作线程数</span>
+	 */
+	public int getWorkerCount() {
+		return this.workers.size();
+	}
+
+	/**
+	 * <h4 class="en-US">Queued units of work count of all workers</h4>
+	 * <h4 class="zh-CN">所有工作线程中排队的工作单元数</h4>
+	 *
+	 * @return <span class="en-US">Queued units of work count</span>
+	 * <span class="zh-CN">排队的工作单元数</span>
+	 */
+	public int getQueuedCount() {
+		return this.workers.stream().mapToInt(worker -> worker.queue.size()).sum();
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for close status of executor</h4>
+	 * <h4 class="zh-CN">执行器关闭状态的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Close status</span>
+	 * <span class="zh-CN">关闭状态</span>
+	 */
+	public boolean isClosed() {
+		return this.closed;
+	}
+
+	/**
+	 * <h4 class="en-US">Submit unit of work to the worker which has the shortest queue</h4>
+	 * <h4 class="zh-CN">将工作单元提交至队列最短的工作线程</h4>
+	 *
+	 * @param <T>      <span class="en-US">Result type</span>
+	 *                 <span class="zh-CN">结果类型</span>
+	 * @param function <span class="en-US">Unit of work using the connection owned by worker</span>
+	 *                 <span class="zh-CN">使用工作线程所持有连接的工作单元</span>
+	 * @return <span class="en-US">Future of result, completed exceptionally if the unit of work failed or the executor was closed</span>
+	 * <span class="zh-CN">结果的Future，如果工作单元执行失败或执行器已关闭则以异常完成</span>
+	 */
+	public <T> CompletableFuture<T> submit(@Nonnull final Function<Connection, T> function) {
+		Task<T> task = new Task<>(function);
+		if (this.closed) {
+			task.future.completeExceptionally(new SQLException("Connection executor was closed! "));
+			return task.future;
+		}
+		int offset = Math.floorMod(this.sequence.getAndIncrement(), this.workers.size());
+		Worker worker = this.workers.get(offset);
+		for (int i = 1; i < this.workers.size(); i++) {
+			Worker current = this.workers.get((offset + i) % this.workers.size());
+			if (current.queue.size() < worker.queue.size()) {
+				worker = current;
+			}
+		}
+		worker.queue.offer(task);
+		//	Worker was terminated after the task queued, the task will not be drained by the worker
+		if (worker.terminated && worker.queue.remove(task)) {
+			task.future.completeExceptionally(new SQLException("Connection executor was closed! "));
+		}
+		return task.future;
+	}
+
+	/**
+	 * <h4 class="en-US">Close the executor</h4>
+	 * <p class="en-US">
+	 * Queued units of work will be executed, owned connections will be returned to the data source after that.
+	 * Wait for the workers terminated unless the executor was closed by one of the workers.
+	 * </p>
+	 * <h4 class="zh-CN">关闭执行器</h4>
+	 * <p class="zh-CN">排队的工作单元将继续执行，之后持有的连接将归还至数据源。除非执行器由工作线程关闭，否则等待工作线程终止。</p>
+	 */
+	@Override
+	public void close() {
+		this.closed = Boolean.TRUE;
+		try {
+			for (Worker worker : this.workers) {
+				if (worker != Thread.currentThread()) {
+					worker.join();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			this.dataSource.executorClosed(this);
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Unit of work and its result future</h2>
+	 * <h2 class="zh-CN">工作单元及其结果Future</h2>
+	 *
+	 * @param <T> <span class="en-US">Result type</span>
+	 *            <span class="zh-CN">结果类型</span>
+	 */
+	private static final class Task<T> {
+
+		/**
+		 * <span class="en-US">Unit of work</span>
+		 * <span class="zh-CN">工作单元</span>
+		 */
+		private final Function<Connection, T> function;
+		/**
+		 * <span class="en-US">Future of result</span>
+		 * <span class="zh-CN">结果的Future</span>
+		 */
+		private final CompletableFuture<T> future;
+
+		/**
+		 * <h4 class="en-US">Constructor method for unit of work</h4>
+		 * <h4 class="zh-CN">工作单元的构造方法</h4>
+		 *
+		 * @param function <span class="en-US">Unit of work</span>
+		 *                 <span class="zh-CN">工作单元</span>
+		 */
+		Task(@Nonnull final Function<Connection, T> function) {
+			this.function = function;
+			this.future = new CompletableFuture<>();
+		}
+
+		/**
+		 * <h4 class="en-US">Execute the unit of work using given connection</h4>
+		 * <h4 class="zh-CN">使用指定的连接执行工作单元</h4>
+		 *
+		 * @param connection <span class="en-US">Database connection instance object</span>
+		 *                   <span class="zh-CN">数据库连接实例对象</span>
+		 * @return <span class="en-US">Unit of work was executed successfully</span>
+		 * <span class="zh-CN">工作单元执行成功</span>
+		 */
+		boolean execute(@Nonnull final Connection connection) {
+			try {
+				this.future.complete(this.function.apply(connection));
+				return Boolean.TRUE;
+			} catch (Throwable e) {
+				this.future.completeExceptionally(e);
+				return Boolean.FALSE;
+			}
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Worker which permanently owns one connection</h2>
+	 * <h2 class="zh-CN">永久持有一个连接的工作线程</h2>
+	 */
+	private final class Worker extends Thread implements InvocationHandler {
+
+		/**
+		 * <span class="en-US">Queue of submitted units of work</span>
+		 * <span class="zh-CN">已提交的工作单元队列</span>
+		 */
+		private final BlockingQueue<Task<?>> queue;
+		/**
+		 * <span class="en-US">Handle of owned connection which passed to the units of work, closing the handle has no effect</span>
+		 * <span class="zh-CN">传递给工作单元的持有连接句柄，关闭句柄无效</span>
+		 */
+		private final Connection handle;
+		/**
+		 * <span class="en-US">Statements created through the handle and not closed by current unit of work</span>
+		 * <span class="zh-CN">通过句柄创建且当前工作单元未关闭的查询</span>
+		 */
+		private final Set<Statement> openedStatements;
+		/**
+		 * <span class="en-US">Owned database connection</span>
+		 * <span class="zh-CN">持有的数据库连接</span>
+		 */
+		private NeuronsConnection connection;
+		/**
+		 * <span class="en-US">Worker was terminated and will not drain the queue any more</span>
+		 * <span class="zh-CN">工作线程已终止，不再处理队列</span>
+		 */
+		private volatile boolean terminated = Boolean.FALSE;
+
+		/**
+		 * <h4 class="en-US">Constructor method for worker</h4>
+		 * <h4 class="zh-CN">工作线程的构造方法</h4>
+		 *
+		 * @param connection <span class="en-US">Owned database connection</span>
+		 *                   <span class="zh-CN">持有的数据库连接</span>
+		 * @param index      <span class="en-US">Worker index</span>
+		 *                   <span class="zh-CN">工作线程序号</span>
+		 */
+		Worker(@Nonnull final NeuronsConnection connection, final int index) {
+			super("Neurons-Executor-" + index);
+			this.setDaemon(Boolean.TRUE);
+			this.queue = new LinkedBlockingQueue<>();
+			this.connection = connection;
+			this.openedStatements = ConcurrentHashMap.newKeySet();
+			this.handle = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+					new Class<?>[]{Connection.class}, this);
+		}
+
+		@Override
+		public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+			switch (method.getName()) {
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "close":
+					//	Owned connection will be returned by the worker, units of work could not return it to the pool
+					return null;
+				default:
+					break;
+			}
+			Object result;
+			try {
+				result = method.invoke(this.connection, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+			return ResourceHandler.wrap(this.handle, method, result, this.openedStatements);
+		}
+
+		@Override
+		public void run() {
+			List<Task<?>> batch = new ArrayList<>(batchSize);
+			try {
+				while (true) {
+					Task<?> task = this.queue.poll(POLL_TIME, TimeUnit.MILLISECONDS);
+					if (task == null) {
+						if (closed) {
+							break;
+						}
+						continue;
+					}
+					batch.add(task);
+					this.queue.drainTo(batch, batchSize - 1);
+					batch.forEach(this::execute);
+					batch.clear();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				this.terminated = Boolean.TRUE;
+				this.queue.drainTo(batch);
+				batch.forEach(task -> task.future.completeExceptionally(
+						new SQLException("Connection executor was closed! ")));
+				this.returnConnection();
+			}
+		}
+
+		/**
+		 * <h4 class="en-US">Execute the unit of work, borrow a new connection if the owned connection was closed or retired</h4>
+		 * <h4 class="zh-CN">执行工作单元，如果持有的连接已关闭或已标记退役则借出新连接</h4>
+		 *
+		 * @param task <span class="en-US">Unit of work</span>
+		 *             <span class="zh-CN">工作单元</span>
+		 */
+		private void execute(@Nonnull final Task<?> task) {
+			try {
+				if (this.connection == null || this.connection.isClosed() || this.connection.isRetired()) {
+					this.returnConnection();
+					this.connection = dataSource.physicalConnection();
+				}
+			} catch (SQLException e) {
+				task.future.completeExceptionally(e);
+				return;
+			}
+			this.reclaim(task.execute(this.handle));
+		}
+
+		/**
+		 * <h4 class="en-US">Reclaim the owned connection after the unit of work was executed</h4>
+		 * <p class="en-US">
+		 * Close the statements left open, roll back the uncommitted transaction and reset the connection status,
+		 * the connection will be validated if the unit of work failed. The connection will be retired and returned
+		 * if the reclaiming failed or the validation failed, the next unit of work will borrow a new connection.
+		 * </p>
+		 * <h4 class="zh-CN">工作单元执行后回收持有的连接</h4>
+		 * <p class="zh-CN">
+		 * 关闭未关闭的查询，回滚未提交的事务并重置连接状态，如果工作单元执行失败则检查连接。如果回收失败或检查失败，
+		 * 连接将被标记退役并归还，下一个工作单元将借出新连接。
+		 * </p>
+		 *
+		 * @param succeed <span class="en-US">Unit of work was executed successfully</span>
+		 *                <span class="zh-CN">工作单元执行成功</span>
+		 */
+		private void reclaim(final boolean succeed) {
+			for (Statement statement : this.openedStatements) {
+				try {
+					statement.close();
+				} catch (SQLException e) {
+					if (LOGGER.isDebugEnabled()) {
+						LOGGER.debug("Stack_Message_Error", e);
+					}
+				}
+			}
+			this.openedStatements.clear();
+			boolean validate;
+			try {
+				if (!this.connection.getAutoCommit()) {
+					this.connection.rollback();
+				}
+				this.connection.reset();
+				validate = succeed || dataSource.checkConnection(this.connection);
+			} catch (SQLException e) {
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Stack_Message_Error", e);
+				}
+				validate = Boolean.FALSE;
+			}
+			if (!validate) {
+				this.connection.retire();
+				this.returnConnection();
+			}
+		}
+
+		/**
+		 * <h4 class="en-US">Return the owned connection to the data source</h4>
+		 * <h4 class="zh-CN">将持有的连接归还至数据源</h4>
+		 */
+		private void returnConnection() {
+			if (this.connection == null) {
+				return;
+			}
+			try {
+				dataSource.closeConnection(this.connection);
+			} catch (SQLException e) {
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Stack_Message_Error", e);
+				}
+			} finally {
+				this.connection = null;
+			}
+		}
+	}
+}
@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.neurons;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.utils.LoggerUtils;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h2 class="en-US">Heap pressure monitor of data sources</h2>
+ * <p class="en-US">
+ * Measures the heap pressure by the occupancy of heap memory pools after the latest garbage collection,
+ * and converts it to the cache ratio used by the registered data sources to shrink their caches in proportion.
+ * The registered data sources apply the cache ratio in each maintenance cycle. Because the collection usage threshold
+ * of heap memory pools was a JVM-wide setting, it will only be configured after enabled by
+ * {@link #usageThreshold(boolean)}, and the threshold configured by others will be kept. The registered data sources
+ * will be notified immediately when the configured threshold was exceeded.
+ * </p>
+ * <h2 class="zh-CN">数据源的堆内存压力监视器</h2>
+ * <p class="zh-CN">
+ * 根据最近一次垃圾回收后堆内存池的占用率衡量堆内存压力，并将其转换为缓存比例，已注册的数据源按此比例收缩缓存。
+ * 已注册的数据源在每个维护周期中应用缓存比例。由于堆内存池的回收使用阈值是JVM范围的设置，仅在通过{@link #usageThreshold(boolean)}启用后设置该阈值，
+ * 且保留其他程序设置的阈值。超出设置的阈值时立即通知已注册的数据源。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 15:42:08 $
+ */
+public final class HeapPressureMonitor implements NotificationListener {
+
+	/**
+	 * <span class="en-US">Multilingual logger instance object</span>
+	 * <span class="zh-CN">多语言日志实例对象</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(HeapPressureMonitor.class);
+	/**
+	 * <span class="en-US">Heap occupancy after collection which caches start shrinking</span>
+	 * <span class="zh-CN">缓存开始收缩时的回收后堆内存占用率</span>
+	 */
+	private static final double PRESSURE_OCCUPANCY = 0.70d;
+	/**
+	 * <span class="en-US">Heap occupancy after collection which caches were fully shrunk</span>
+	 * <span class="zh-CN">缓存完全收缩时的回收后堆内存占用率</span>
+	 */
+	private static final double CRITICAL_OCCUPANCY = 0.95d;
+
+	/**
+	 * <span class="en-US">Shared monitor instance object</span>
+	 * <span class="zh-CN">共享的监视器实例对象</span>
+	 */
+	private static volatile HeapPressureMonitor SHARED_INSTANCE = null;
+
+	/**
+	 * <span class="en-US">Heap memory pools which support collection usage</span>
+	 * <span class="zh-CN">支持回收使用量的堆内存池</span>
+	 */
+	private final List<MemoryPoolMXBean> memoryPools;
+	/**
+	 * <span class="en-US">Registered data sources</span>
+	 * <span class="zh-CN">已注册的数据源</span>
+	 */
+	private final Set<NeuronsDataSource> registrations;
+	/**
+	 * <span class="en-US">Heap memory pools which collection usage threshold was configured by current monitor</span>
+	 * <span class="zh-CN">由当前监视器设置回收使用阈值的堆内存池</span>
+	 */
+	private final List<MemoryPoolMXBean> thresholdPools;
+
+	/**
+	 * <h4 class="en-US">Private constructor method for heap pressure monitor</h4>
+	 * <h4 class="zh-CN">堆内存压力监视器的私有构造方法</h4>
+	 */
+	private HeapPressureMonitor() {
+		this.memoryPools = new ArrayList<>();
+		this.registrations = ConcurrentHashMap.newKeySet();
+		this.thresholdPools = new ArrayList<>();
+		for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (memoryPool.getType() != MemoryType.HEAP || !memoryPool.isCollectionUsageThresholdSupported()) {
+				continue;
+			}
+			if (memoryPool.getUsage().getMax() > 0L) {
+				this.memoryPools.add(memoryPool);
+			}
+		}
+		if (ManagementFactory.getMemoryMXBean() instanceof NotificationEmitter notificationEmitter) {
+			notificationEmitter.addNotificationListener(this, notification ->
+					MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(notification.getType()),
+					null);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the monitor instance shared by all data sources in current JVM</h4>
+	 * <h4 class="zh-CN">获取当前JVM中所有数据源共享的监视器实例对象</h4>
+	 *
+	 * @return <span class="en-US">Shared monitor instance object</span>
+	 * <span class="zh-CN">共享的监视器实例对象</span>
+	 */
+	public static HeapPressureMonitor shared() {
+		if (SHARED_INSTANCE == null) {
+			synchronized (HeapPressureMonitor.class) {
+				if (SHARED_INSTANCE == null) {
+					SHARED_INSTANCE = new HeapPressureMonitor();
+				}
+			}
+		}
+		return SHARED_INSTANCE;
+	}
+
+	/**
+	 * <h4 class="en-US">Cache ratio of current heap pressure</h4>
+	 * <p class="en-US">
+	 * Ratio is <code>1.0</code> when the heap occupancy after collection was not greater than 70% of maximum size,
+	 * decreases linearly to <code>0.0</code> when the occupancy reaches 95%. The highest occupancy of heap memory
+	 * pools was used.
+	 * </p>
+	 * <h4 class="zh-CN">当前堆内存压力对应的缓存比例</h4>
+	 * <p class="zh-CN">
+	 * 回收后堆内存占用率不大于最大值的70%时比例为<code>1.0</code>，占用率达到95%时线性减少至<code>0.0</code>。
+	 * 使用堆内存池中最高的占用率。
+	 * </p>
+	 *
+	 * @return <span class="en-US">Cache ratio between 0.0 and 1.0</span>
+	 * <span class="zh-CN">0.0至1.0之间的缓存比例</span>
+	 */
+	public double cacheRatio() {
+		double occupancy = 0.0d;
+		for (MemoryPoolMXBean memoryPool : this.memoryPools) {
+			MemoryUsage collectionUsage = memoryPool.getCollectionUsage();
+			if (collectionUsage != null && collectionUsage.getMax() > 0L) {
+				occupancy = Math.max(occupancy, (double) collectionUsage.getUsed() / collectionUsage.getMax());
+			}
+		}
+		return cacheRatio(occupancy);
+	}
+
+	/**
+	 * <h4 class="en-US">Cache ratio of given heap occupancy</h4>
+	 * <h4 class="zh-CN">指定堆内存占用率对应的缓存比例</h4>
+	 *
+	 * @param occupancy <span class="en-US">Heap occupancy after collection between 0.0 and 1.0</span>
+	 *                  <span class="zh-CN">回收后0.0至1.0之间的堆内存占用率</span>
+	 * @return <span class="en-US">Cache ratio between 0.0 and 1.0</span>
+	 * <span class="zh-CN">0.0至1.0之间的缓存比例</span>
+	 */
+	public static double cacheRatio(final double occupancy) {
+		if (occupancy <= PRESSURE_OCCUPANCY) {
+			return 1.0d;
+		}
+		return Math.max(0.0d, (CRITICAL_OCCUPANCY - occupancy) / (CRITICAL_OCCUPANCY - PRESSURE_OCCUPANCY));
+	}
+
+	/**
+	 * <h4 class="en-US">Enable or disable the collection usage threshold of heap memory pools</h4>
+	 * <p class="en-US">
+	 * When enabled, the threshold of heap memory pools which was not configured will be set to 70% of maximum size,
+	 * the registered data sources will shrink caches immediately after the garbage collection instead of waiting
+	 * for the next maintenance cycle. When disabled, only the thresholds configured by current monitor will be cleared.
+	 * Disabled by default because the threshold was shared by all components in current JVM.
+	 * </p>
+	 * <h4 class="zh-CN">启用或禁用堆内存池的回收使用阈值</h4>
+	 * <p class="zh-CN">
+	 * 启用时，未设置阈值的堆内存池的阈值将被设置为最大值的70%，已注册的数据源将在垃圾回收后立即收缩缓存，而不是等待下一个维护周期。
+	 * 禁用时，仅清除由当前监视器设置的阈值。由于该阈值由当前JVM中的所有组件共享，默认为禁用。
+	 * </p>
+	 *
+	 * @param enabled <span class="en-US">Enable the collection usage threshold</span>
+	 *                <span class="zh-CN">启用回收使用阈值</span>
+	 */
+	public synchronized void usageThreshold(final boolean enabled) {
+		if (enabled) {
+			for (MemoryPoolMXBean memoryPool : this.memoryPools) {
+				long maxSize = memoryPool.getUsage().getMax();
+				if (maxSize > 0L && memoryPool.getCollectionUsageThreshold() == 0L) {
+					//	Threshold configured by others will be kept
+					memoryPool.setCollectionUsageThreshold((long) (maxSize * PRESSURE_OCCUPANCY));
+					this.thresholdPools.add(memoryPool);
+				}
+			}
+		} else {
+			this.thresholdPools.forEach(memoryPool -> memoryPool.setCollectionUsageThreshold(0L));
+			this.thresholdPools.clear();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Register data source to receive the heap pressure notifications</h4>
+	 * <h4 class="zh-CN">注册数据源以接收堆内存压力通知</h4>
+	 *
+	 * @param dataSource <span class="en-US">Data source instance object</span>
+	 *                   <span class="zh-CN">数据源实例对象</span>
+	 */
+	void register(@Nonnull final NeuronsDataSource dataSource) {
+		this.registrations.add(dataSource);
+	}
+
+	/**
+	 * <h4 class="en-US">Deregister data source</h4>
+	 * <h4 class="zh-CN">注销数据源</h4>
+	 *
+	 * @param dataSource <span class="en-US">Data source instance object</span>
+	 *                   <span class="zh-CN">数据源实例对象</span>
+	 */
+	void deregister(@Nonnull final NeuronsDataSource dataSource) {
+		this.registrations.remove(dataSource);
+	}
+
+	@Override
+	public void handleNotification(final Notification notification, final Object handback) {
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Heap_Pressure_Debug", this.cacheRatio());
+		}
+		//	Notification thread of JVM should not be blocked, data sources will shrink the caches asynchronously
+		for (NeuronsDataSource dataSource : this.registrations) {
+			try {
+				dataSource.heapPressureExceeded();
+			} catch (RuntimeException e) {
+				//	Failure of one data source should not stop the notification of others
+				LOGGER.error("Heap_Pressure_Notify_Error");
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Stack_Message_Error", e);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,579 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.neurons;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.commons.Globals;
+import org.nervousync.utils.LoggerUtils;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <h2 class="en-US">Maintenance executor of data source</h2>
+ * <p class="en-US">
+ * Schedules the periodic maintenance of registered data sources and runs their connection creation tasks
+ * and queued one-off tasks on a bounded worker pool. Each data source may only occupy a limited number of
+ * workers at a time and resubmits its next step at the tail of the work queue, so a slow database cannot
+ * starve the others.
+ * </p>
+ * <h2 class="zh-CN">数据源维护任务执行器</h2>
+ * <p class="zh-CN">
+ * 调度已注册数据源的周期性维护任务，并在有界的工作线程池中执行创建连接的任务和排队的一次性任务。
+ * 每个数据源同时只能占用有限数量的工作线程，并将后续任务提交至工作队列末尾，避免缓慢的数据库阻塞其他数据源。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 10:12:35 $
+ */
+public final class MaintenanceExecutor {
+
+	/**
+	 * <span class="en-US">Multilingual logger instance object</span>
+	 * <span class="zh-CN">多语言日志实例对象</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(MaintenanceExecutor.class);
+
+	/**
+	 * <span class="en-US">The interval between scheduled task executions</span>
+	 * <span class="zh-CN">调度任务执行的间隔时间</span>
+	 */
+	private static final long SCHEDULE_PERIOD_TIME = 1000L;
+	/**
+	 * <span class="en-US">Keep alive time of idle worker threads</span>
+	 * <span class="zh-CN">空闲工作线程的存活时间</span>
+	 */
+	private static final long KEEP_ALIVE_TIME = 60L;
+	/**
+	 * <span class="en-US">Maximum queued one-off tasks count of each data source</span>
+	 * <span class="zh-CN">每个数据源排队的一次性任务最大数量</span>
+	 */
+	private static final int MAX_QUEUED_TASKS = 1024;
+
+	/**
+	 * <span class="en-US">Shared executor instance object</span>
+	 * <span class="zh-CN">共享的执行器实例对象</span>
+	 */
+	private static volatile MaintenanceExecutor SHARED_INSTANCE = null;
+
+	/**
+	 * <span class="en-US">Executor was shared by data sources</span>
+	 * <span class="zh-CN">执行器由多个数据源共享</span>
+	 */
+	private final boolean shared;
+	/**
+	 * <span class="en-US">Maximum running tasks count of each data source</span>
+	 * <span class="zh-CN">每个数据源同时运行的最大任务数</span>
+	 */
+	private final int poolParallelism;
+	/**
+	 * <span class="en-US">Scheduling service of maintenance tasks</span>
+	 * <span class="zh-CN">维护任务的调度服务</span>
+	 */
+	private final ScheduledThreadPoolExecutor scheduler;
+	/**
+	 * <span class="en-US">Worker thread pool of maintenance and creation tasks</span>
+	 * <span class="zh-CN">维护任务和创建连接任务的工作线程池</span>
+	 */
+	private final ThreadPoolExecutor workers;
+	/**
+	 * <span class="en-US">Registered data sources</span>
+	 * <span class="zh-CN">已注册的数据源</span>
+	 */
+	private final Map<NeuronsDataSource, Registration> registrations;
+
+	/**
+	 * <h4 class="en-US">Constructor method for maintenance executor</h4>
+	 * <h4 class="zh-CN">数据源维护任务执行器的构造方法</h4>
+	 *
+	 * @param shared          <span class="en-US">Executor was shared by data sources</span>
+	 *                        <span class="zh-CN">执行器由多个数据源共享</span>
+	 * @param workerThreads   <span class="en-US">Maximum worker threads count</span>
+	 *                        <span class="zh-CN">最大工作线程数</span>
+	 * @param poolParallelism <span class="en-US">Maximum running tasks count of each data source</span>
+	 *                        <span class="zh-CN">每个数据源同时运行的最大任务数</span>
+	 */
+	private MaintenanceExecutor(final boolean shared, final int workerThreads, final int poolParallelism) {
+		this.shared = shared;
+		this.poolParallelism = poolParallelism;
+		this.scheduler = new ScheduledThreadPoolExecutor(1, new MaintenanceThreadFactory("Neurons-Scheduler"));
+		this.scheduler.setRemoveOnCancelPolicy(Boolean.TRUE);
+		this.workers = new ThreadPoolExecutor(workerThreads, workerThreads, KEEP_ALIVE_TIME, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), new MaintenanceThreadFactory("Neurons-Worker"));
+		this.workers.allowCoreThreadTimeOut(Boolean.TRUE);
+		this.registrations = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the executor instance shared by all data sources in current JVM</h4>
+	 * <p class="en-US">Worker threads count is bounded by the available processors count</p>
+	 * <h4 class="zh-CN">获取当前JVM中所有数据源共享的执行器实例对象</h4>
+	 * <p class="zh-CN">工作线程数以可用处理器数量为上限</p>
+	 *
+	 * @return <span class="en-US">Shared executor instance object</span>
+	 * <span class="zh-CN">共享的执行器实例对象</span>
+	 */
+	public static MaintenanceExecutor shared() {
+		if (SHARED_INSTANCE == null) {
+			synchronized (MaintenanceExecutor.class) {
+				if (SHARED_INSTANCE == null) {
+					int workerThreads = Math.max(2, Runtime.getRuntime().availableProcessors());
+					SHARED_INSTANCE = new MaintenanceExecutor(Boolean.TRUE, workerThreads,
+							Math.max(1, workerThreads / 4));
+				}
+			}
+		}
+		return SHARED_INSTANCE;
+	}
+
+	/**
+	 * <h4 class="en-US">Create executor instance used by only one data source</h4>
+	 * <h4 class="zh-CN">创建仅供一个数据源使用的执行器实例对象</h4>
+	 *
+	 * @return <span class="en-US">Dedicated executor instance object</span>
+	 * <span class="zh-CN">独占的执行器实例对象</span>
+	 */
+	static MaintenanceExecutor dedicated() {
+		int workerThreads = Math.max(2, Runtime.getRuntime().availableProcessors());
+		return new MaintenanceExecutor(Boolean.FALSE, workerThreads, workerThreads);
+	}
+
+	/**
+	 * <h4 class="en-US">Registered data sources count</h4>
+	 * <h4 class="zh-CN">已注册的数据源数量</h4>
+	 *
+	 * @return <span class="en-US">Data sources count</span>
+	 * <span class="zh-CN">数据源数量</span>
+	 */
+	public int registeredCount() {
+		return this.registrations.size();
+	}
+
+	/**
+	 * <h4 class="en-US">Maximum running tasks count of each data source</h4>
+	 * <h4 class="zh-CN">每个数据源同时运行的最大任务数</h4>
+	 *
+	 * @return <span class="en-US">Maximum running tasks count</span>
+	 * <span class="zh-CN">最大运行任务数</span>
+	 */
+	public int poolParallelism() {
+		return this.poolParallelism;
+	}
+
+	/**
+	 * <h4 class="en-US">Register data source and schedule its periodic maintenance</h4>
+	 * <h4 class="zh-CN">注册数据源并调度其周期性维护任务</h4>
+	 *
+	 * @param dataSource <span class="en-US">Data source instance object</span>
+	 *                   <span class="zh-CN">数据源实例对象</span>
+	 */
+	void register(@Nonnull final NeuronsDataSource dataSource) {
+		Registration registration = new Registration(dataSource);
+		if (this.registrations.putIfAbsent(dataSource, registration) == null) {
+			registration.future = this.scheduler.scheduleWithFixedDelay(() -> this.maintain(registration),
+					SCHEDULE_PERIOD_TIME, SCHEDULE_PERIOD_TIME, TimeUnit.MILLISECONDS);
+			this.fill(dataSource, dataSource.guaranteedConnections());
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Deregister data source and cancel its scheduled tasks</h4>
+	 * <p class="en-US">Dedicated executor will be shut down after the data source was deregistered</p>
+	 * <h4 class="zh-CN">注销数据源并取消其调度任务</h4>
+	 * <p class="zh-CN">独占的执行器在数据源注销后将被关闭</p>
+	 *
+	 * @param dataSource <span class="en-US">Data source instance object</span>
+	 *                   <span class="zh-CN">数据源实例对象</span>
+	 */
+	void deregister(@Nonnull final NeuronsDataSource dataSource) {
+		Registration registration = this.registrations.remove(dataSource);
+		if (registration != null) {
+			if (registration.future != null) {
+				registration.future.cancel(Boolean.FALSE);
+			}
+			//	Queued tasks were released with the physical connections of data source
+			registration.tasks.clear();
+		}
+		if (!this.shared) {
+			this.scheduler.shutdownNow();
+			this.workers.shutdownNow();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Submit connection creation tasks of data source</h4>
+	 * <p class="en-US">The running tasks count of data source will not exceed the parallelism limit</p>
+	 * <h4 class="zh-CN">提交数据源的创建连接任务</h4>
+	 * <p class="zh-CN">数据源正在运行的任务数不会超过并行度限制</p>
+	 *
+	 * @param dataSource <span class="en-US">Data source instance object</span>
+	 *                   <span class="zh-CN">数据源实例对象</span>
+	 */
+	void fill(@Nonnull final NeuronsDataSource dataSource) {
+		Registration registration = this.registrations.get(dataSource);
+		if (registration != null) {
+			this.fill(registration);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Submit connection creation tasks of data source in parallel</h4>
+	 * <p class="en-US">The running tasks count of data source will not exceed the parallelism limit</p>
+	 * <h4 class="zh-CN">并行提交数据源的创建连接任务</h4>
+	 * <p class="zh-CN">数据源正在运行的任务数不会超过并行度限制</p>
+	 *
+	 * @param dataSource <span class="en-US">Data source instance object</span>
+	 *                   <span class="zh-CN">数据源实例对象</span>
+	 * @param count      <span class="en-US">Required connections count</span>
+	 *                   <span class="zh-CN">需要的连接数</span>
+	 */
+	void fill(@Nonnull final NeuronsDataSource dataSource, final int count) {
+		Registration registration = this.registrations.get(dataSource);
+		if (registration != null) {
+			for (int i = 0; i < Math.min(count, this.poolParallelism); i++) {
+				this.fill(registration);
+			}
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Submit a one-off task of data source to the worker pool</h4>
+	 * <p class="en-US">
+	 * Task was queued to the bounded task queue of data source, and shares the parallelism limit with the connection
+	 * creation tasks, so the slow tasks of one data source cannot occupy the workers of others. The caller should
+	 * execute the task by itself if the task was not submitted.
+	 * </p>
+	 * <h4 class="zh-CN">将数据源的一次性任务提交至工作线程池</h4>
+	 * <p class="zh-CN">
+	 * 任务将排入数据源的有界任务队列，并与创建连接任务共享并行度限制，避免单个数据源的缓慢任务占用其他数据源的工作线程。
+	 * 如果任务未提交，调用者应自行执行该任务。
+	 * </p>
+	 *
+	 * @param dataSource <span class="en-US">Data source instance object</span>
+	 *                   <span class="zh-CN">数据源实例对象</span>
+	 * @param task       <span class="en-US">Task instance object</span>
+	 *                   <span class="zh-CN">任务实例对象</span>
+	 * @return <span class="en-US">Task was submitted</span>
+	 * <span class="zh-CN">任务已提交</span>
+	 */
+	boolean submit(@Nonnull final NeuronsDataSource dataSource, @Nonnull final Runnable task) {
+		Registration registration = this.registrations.get(dataSource);
+		if (registration == null || this.workers.isShutdown()) {
+			return Boolean.FALSE;
+		}
+		if (registration.queuedCount.incrementAndGet() > MAX_QUEUED_TASKS) {
+			registration.queuedCount.decrementAndGet();
+			return Boolean.FALSE;
+		}
+		registration.tasks.offer(task);
+		this.drain(registration);
+		return Boolean.TRUE;
+	}
+
+	/**
+	 * <h4 class="en-US">Submit connection creation task of registration</h4>
+	 * <h4 class="zh-CN">提交注册信息的创建连接任务</h4>
+	 *
+	 * @param registration <span class="en-US">Registration information</span>
+	 *                     <span class="zh-CN">注册信息</span>
+	 */
+	private void fill(@Nonnull final Registration registration) {
+		if (!this.acquire(registration)) {
+			//	Creation will be resumed when the running task of data source was finished
+			registration.deferred.set(Boolean.TRUE);
+			return;
+		}
+		try {
+			this.workers.execute(() -> this.create(registration));
+		} catch (RejectedExecutionException e) {
+			registration.running.decrementAndGet();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Submit the next queued one-off task of registration</h4>
+	 * <h4 class="zh-CN">提交注册信息的下一个排队的一次性任务</h4>
+	 *
+	 * @param registration <span class="en-US">Registration information</span>
+	 *                     <span class="zh-CN">注册信息</span>
+	 */
+	private void drain(@Nonnull final Registration registration) {
+		if (registration.tasks.isEmpty() || !this.acquire(registration)) {
+			return;
+		}
+		try {
+			this.workers.execute(() -> this.execute(registration));
+		} catch (RejectedExecutionException e) {
+			registration.running.decrementAndGet();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Acquire a running task permit of registration within the parallelism limit</h4>
+	 * <h4 class="zh-CN">在并行度限制内获取注册信息的运行任务许可</h4>
+	 *
+	 * @param registration <span class="en-US">Registration information</span>
+	 *                     <span class="zh-CN">注册信息</span>
+	 * @return <span class="en-US">Permit was acquired</span>
+	 * <span class="zh-CN">已获得许可</span>
+	 */
+	private boolean acquire(@Nonnull final Registration registration) {
+		int current;
+		do {
+			current = registration.running.get();
+			if (current >= this.poolParallelism) {
+				return Boolean.FALSE;
+			}
+		} while (!registration.running.compareAndSet(current, current + 1));
+		return Boolean.TRUE;
+	}
+
+	/**
+	 * <h4 class="en-US">Execute one queued one-off task and resubmit at queue tail if more tasks queued</h4>
+	 * <h4 class="zh-CN">执行一个排队的一次性任务，如果还有排队的任务则重新提交至队列末尾</h4>
+	 *
+	 * @param registration <span class="en-US">Registration information</span>
+	 *                     <span class="zh-CN">注册信息</span>
+	 */
+	private void execute(@Nonnull final Registration registration) {
+		try {
+			Runnable task = registration.tasks.poll();
+			if (task != null) {
+				registration.queuedCount.decrementAndGet();
+				task.run();
+			}
+		} catch (RuntimeException e) {
+			LOGGER.error("Maintain_Data_Source_Error");
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+		} finally {
+			registration.running.decrementAndGet();
+		}
+		this.resume(registration);
+	}
+
+	/**
+	 * <h4 class="en-US">Resume the queued one-off tasks and the deferred connection creation of registration</h4>
+	 * <h4 class="zh-CN">恢复注册信息排队的一次性任务和延迟的创建连接任务</h4>
+	 *
+	 * @param registration <span class="en-US">Registration information</span>
+	 *                     <span class="zh-CN">注册信息</span>
+	 */
+	private void resume(@Nonnull final Registration registration) {
+		if (!this.registrations.containsKey(registration.dataSource)) {
+			return;
+		}
+		this.drain(registration);
+		if (registration.deferred.compareAndSet(Boolean.TRUE, Boolean.FALSE)
+				&& registration.dataSource.needConnections()) {
+			this.fill(registration);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Execute connection creation task and resubmit at queue tail if more connections required</h4>
+	 * <h4 class="zh-CN">执行创建连接任务，如果需要更多连接则重新提交至队列末尾</h4>
+	 *
+	 * @param registration <span class="en-US">Registration information</span>
+	 *                     <span class="zh-CN">注册信息</span>
+	 */
+	private void create(@Nonnull final Registration registration) {
+		boolean created = Boolean.FALSE;
+		try {
+			created = registration.dataSource.createConnection();
+		} catch (RuntimeException e) {
+			LOGGER.error("Create_Connection_Error");
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+		} finally {
+			registration.running.decrementAndGet();
+		}
+		if (!this.registrations.containsKey(registration.dataSource)) {
+			return;
+		}
+		this.drain(registration);
+		if (created) {
+			registration.retryCount.set(Globals.INITIALIZE_INT_VALUE);
+			if (registration.dataSource.needConnections()) {
+				this.fill(registration);
+			}
+		} else if (registration.dataSource.needConnections()
+				&& registration.retryCount.incrementAndGet() <= registration.dataSource.retryLimit()) {
+			//  Wait 1 second and retry, the worker thread will not be blocked
+			try {
+				this.scheduler.schedule(() -> this.fill(registration), SCHEDULE_PERIOD_TIME, TimeUnit.MILLISECONDS);
+			} catch (RejectedExecutionException ignore) {
+			}
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Submit maintenance task of registration if the previous one was finished</h4>
+	 * <p class="en-US">
+	 * The maintenance task occupies one running permit of the data source as the creation tasks, the maintenance will be
+	 * skipped in current period if all permits of the data source were occupied. The retry count of connection creation
+	 * was not reset by the maintenance, it will be reset only after a connection was created.
+	 * </p>
+	 * <h4 class="zh-CN">如果上一次维护任务已完成，则提交注册信息的维护任务</h4>
+	 * <p class="zh-CN">
+	 * 维护任务与创建连接的任务相同，占用数据源的一个运行许可，如果数据源的所有许可均已被占用，则跳过当前周期的维护。
+	 * 维护任务不会重置创建连接的重试次数，仅在成功创建连接后重置。
+	 * </p>
+	 *
+	 * @param registration <span class="en-US">Registration information</span>
+	 *                     <span class="zh-CN">注册信息</span>
+	 */
+	private void maintain(@Nonnull final Registration registration) {
+		if (!registration.maintaining.compareAndSet(Boolean.FALSE, Boolean.TRUE)) {
+			return;
+		}
+		if (!this.acquire(registration)) {
+			registration.maintaining.set(Boolean.FALSE);
+			return;
+		}
+		try {
+			this.workers.execute(() -> {
+				try {
+					registration.dataSource.maintain();
+				} catch (RuntimeException e) {
+					LOGGER.error("Maintain_Data_Source_Error");
+					if (LOGGER.isDebugEnabled()) {
+						LOGGER.debug("Stack_Message_Error", e);
+					}
+				} finally {
+					registration.running.decrementAndGet();
+					registration.maintaining.set(Boolean.FALSE);
+				}
+				if (registration.dataSource.needConnections()) {
+					registration.deferred.set(Boolean.TRUE);
+				}
+				this.resume(registration);
+			});
+		} catch (RejectedExecutionException e) {
+			registration.running.decrementAndGet();
+			registration.maintaining.set(Boolean.FALSE);
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Registration information of data source</h2>
+	 * <h2 class="zh-CN">数据源的注册信息</h2>
+	 */
+	private static final class Registration {
+
+		/**
+		 * <span class="en-US">Data source instance object</span>
+		 * <span class="zh-CN">数据源实例对象</span>
+		 */
+		private final NeuronsDataSource dataSource;
+		/**
+		 * <span class="en-US">Running creation and one-off tasks count</span>
+		 * <span class="zh-CN">正在运行的创建连接任务和一次性任务数</span>
+		 */
+		private final AtomicInteger running;
+		/**
+		 * <span class="en-US">Queued one-off tasks</span>
+		 * <span class="zh-CN">排队的一次性任务</span>
+		 */
+		private final Queue<Runnable> tasks;
+		/**
+		 * <span class="en-US">Queued one-off tasks count</span>
+		 * <span class="zh-CN">排队的一次性任务数</span>
+		 */
+		private final AtomicInteger queuedCount;
+		/**
+		 * <span class="en-US">Connection creation was deferred by the parallelism limit</span>
+		 * <span class="zh-CN">创建连接任务因并行度限制而被延迟</span>
+		 */
+		private final AtomicBoolean deferred;
+		/**
+		 * <span class="en-US">Retry count of creation failed</span>
+		 * <span class="zh-CN">创建连接失败的重试次数</span>
+		 */
+		private final AtomicInteger retryCount;
+		/**
+		 * <span class="en-US">Maintenance task running status</span>
+		 * <span class="zh-CN">维护任务运行状态</span>
+		 */
+		private final AtomicBoolean maintaining;
+		/**
+		 * <span class="en-US">Scheduled future of maintenance task</span>
+		 * <span class="zh-CN">维护任务的调度结果</span>
+		 */
+		private ScheduledFuture<?> future;
+
+		/**
+		 * <h4 class="en-US">Constructor method for registration information of data source</h4>
+		 * <h4 class="zh-CN">数据源的注册信息的构造方法</h4>
+		 *
+		 * @param dataSource <span class="en-US">Data source instance object</span>
+		 *                   <span class="zh-CN">数据源实例对象</span>
+		 */
+		Registration(final NeuronsDataSource dataSource) {
+			this.dataSource = dataSource;
+			this.running = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+			this.tasks = new ConcurrentLinkedQueue<>();
+			this.queuedCount = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+			this.deferred = new AtomicBoolean(Boolean.FALSE);
+			this.retryCount = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+			this.maintaining = new AtomicBoolean(Boolean.FALSE);
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Thread factory of daemon maintenance threads</h2>
+	 * <h2 class="zh-CN">守护维护线程的线程工厂</h2>
+	 */
+	private static final class MaintenanceThreadFactory implements ThreadFactory {
+
+		/**
+		 * <span class="en-US">Thread name prefix</span>
+		 * <span class="zh-CN">线程名称前缀</span>
+		 */
+		private final String namePrefix;
+		/**
+		 * <span class="en-US">Thread sequence number</span>
+		 * <span class="zh-CN">线程序号</span>
+		 */
+		private final AtomicInteger sequence;
+
+		/**
+		 * <h4 class="en-US">Constructor method for thread factory of daemon maintenance threads</h4>
+		 * <h4 class="zh-CN">守护维护线程的线程工厂的构造方法</h4>
+		 *
+		 * @param namePrefix <span class="en-US">Thread name prefix</span>
+		 *                   <span class="zh-CN">线程名称前缀</span>
+		 */
+		MaintenanceThreadFactory(final String namePrefix) {
+			this.namePrefix = namePrefix;
+			this.sequence = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+		}
+
+		@Override
+		public Thread newThread(@Nonnull final Runnable runnable) {
+			Thread thread = new Thread(runnable, this.namePrefix + "-" + this.sequence.incrementAndGet());
+			thread.setDaemon(Boolean.TRUE);
+			return thread;
+		}
+	}
+}
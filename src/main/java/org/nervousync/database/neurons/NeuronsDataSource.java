@@ -1,4 +1,3 @@
-
 /*
  * Licensed to the Nervousync Studio (NSYC) under one or more
  * contributor license agreements. See the NOTICE file distributed with
@@ -21,7 +20,13 @@ package org.nervousync.database.neurons;
 import jakarta.annotation.Nonnull;
 import org.nervousync.annotations.jmx.Monitor;
 import org.nervousync.commons.Globals;
+import org.nervousync.database.neurons.connection.LogicalConnection;
 import org.nervousync.database.neurons.connection.NeuronsConnection;
+import org.nervousync.database.neurons.statement.CachedStatement;
+import org.nervousync.database.neurons.statement.StatementKey;
+import org.nervousync.database.neurons.statement.StatementMetaDataCache;
+import org.nervousync.database.neurons.statement.StatementProfile;
+import org.nervousync.database.neurons.statement.StatementProfileFile;
 import org.nervousync.jmx.AbstractMBean;
 import org.nervousync.utils.ClassUtils;
 import org.nervousync.utils.DateTimeUtils;
@@ -30,16 +35,24 @@ import org.nervousync.utils.StringUtils;
 
 import javax.sql.DataSource;
 import java.io.Closeable;
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 /**
@@ -57,40 +70,134 @@ public final class NeuronsDataSource extends AbstractMBean implements DataSource
 	 * <span class="zh-CN">多语言日志实例对象</span>
 	 */
 	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(NeuronsDataSource.class);
-
 	/**
-	 * <span class="en-US">The interval between scheduled task executions</span>
-	 * <span class="zh-CN">调度任务执行的间隔时间</span>
+	 * <span class="en-US">Interval of saving the statement popularity profile file (Unit: nanoseconds)</span>
+	 * <span class="zh-CN">保存查询热度统计文件的间隔时间（单位：纳秒）</span>
+	 */
+	private static final long PROFILE_SAVE_INTERVAL = TimeUnit.MINUTES.toNanos(1L);
+	/**
+	 * <span class="en-US">Waiting time of borrowers before creating connection again after creation failed (Unit: nanoseconds)</span>
+	 * <span class="zh-CN">建立连接失败后，借出请求再次建立连接前的等待时间（单位：纳秒）</span>
 	 */
-	private static final long SCHEDULE_PERIOD_TIME = 1000L;
+	private static final long CREATE_BACKOFF_TIME = TimeUnit.SECONDS.toNanos(1L);
 
 	/**
 	 * <span class="en-US">Database connection queue</span>
 	 * <span class="zh-CN">数据库连接队列</span>
 	 */
-	private final Queue<NeuronsConnection> connectionPools;
+	private final Deque<NeuronsConnection> connectionPools;
 	/**
 	 * <span class="en-US">Using database connection list</span>
 	 * <span class="zh-CN">使用中的数据库连接列表</span>
 	 */
-	private final List<NeuronsConnection> activeConnections;
+	private final Set<NeuronsConnection> activeConnections;
+	/**
+	 * <span class="en-US">Lock of connection pool status</span>
+	 * <span class="zh-CN">连接池状态锁</span>
+	 */
+	private final ReentrantLock lock;
+	/**
+	 * <span class="en-US">Waiters queues of each priority, connections and capacity will be handed off to the highest priority waiters in FIFO order</span>
+	 * <span class="zh-CN">各优先级的等待者队列，连接和容量将按照先进先出的顺序移交给优先级最高的等待者</span>
+	 */
+	private final Map<Priority, Deque<Waiter>> waiters;
+	/**
+	 * <span class="en-US">Reserved connections count which could only be used by critical borrowers</span>
+	 * <span class="zh-CN">仅能由关键借出请求使用的预留连接数</span>
+	 */
+	private volatile int reservedConnections = Globals.INITIALIZE_INT_VALUE;
+	/**
+	 * <span class="en-US">Registered caller groups</span>
+	 * <span class="zh-CN">已注册的调用者分组</span>
+	 */
+	private final Map<String, CallerGroup> callerGroups;
+	/**
+	 * <span class="en-US">Caller groups of borrowed connections</span>
+	 * <span class="zh-CN">借出连接所属的调用者分组</span>
+	 */
+	private final Map<NeuronsConnection, CallerGroup> borrowedGroups;
+	/**
+	 * <span class="en-US">Borrowed connections which moved into the long-running lane</span>
+	 * <span class="zh-CN">已移入长时间运行通道的借出连接</span>
+	 */
+	private final Set<NeuronsConnection> laneConnections;
+	/**
+	 * <span class="en-US">Condition of waiting for the capacity of long-running lane</span>
+	 * <span class="zh-CN">等待长时间运行通道容量的条件</span>
+	 */
+	private final Condition laneCondition;
+	/**
+	 * <span class="en-US">Connections count which being created or validated</span>
+	 * <span class="zh-CN">正在创建或检查的连接数</span>
+	 */
+	private int pendingCount = Globals.INITIALIZE_INT_VALUE;
+	/**
+	 * <span class="en-US">Connections count which being created for borrowers</span>
+	 * <span class="zh-CN">正在为借出请求创建的连接数</span>
+	 */
+	private int creatingCount = Globals.INITIALIZE_INT_VALUE;
 	/**
 	 * <span class="en-US">Waiting to get count of connections</span>
 	 * <span class="zh-CN">等待获取连接的计数</span>
 	 */
 	private final AtomicInteger waitCount;
+	/**
+	 * <span class="en-US">Opened JDBC statements count of all connections</span>
+	 * <span class="zh-CN">所有连接已打开的JDBC查询分析器数</span>
+	 */
+	private final AtomicInteger statementCount;
+	/**
+	 * <span class="en-US">Statements count which evicted from the statement cache</span>
+	 * <span class="zh-CN">从查询分析器缓存中淘汰的查询分析器数</span>
+	 */
+	private final AtomicLong evictedCount;
+	/**
+	 * <span class="en-US">Estimated memory weight of statement caches of all connections (Unit: bytes)</span>
+	 * <span class="zh-CN">所有连接的查询分析器缓存的估计内存权重（单位：字节）</span>
+	 */
+	private final AtomicLong cacheWeight;
+	/**
+	 * <span class="en-US">Statement metadata cache shared by all connections</span>
+	 * <span class="zh-CN">所有连接共享的查询元数据缓存</span>
+	 */
+	private final StatementMetaDataCache metaDataCache;
+	/**
+	 * <span class="en-US">Statement popularity profile of all connections</span>
+	 * <span class="zh-CN">所有连接的查询热度统计</span>
+	 */
+	private final StatementProfile statementProfile;
+	/**
+	 * <span class="en-US">Local file of statement popularity profile, <code>null</code> for not persisted</span>
+	 * <span class="zh-CN">查询热度统计的本地文件，<code>null</code>表示不持久化</span>
+	 */
+	private volatile StatementProfileFile profileFile = null;
+	/**
+	 * <span class="en-US">Last saved time of profile file (Unit: nanoseconds)</span>
+	 * <span class="zh-CN">统计文件的最后保存时间（单位：纳秒）</span>
+	 */
+	private volatile long profileSavedTime = System.nanoTime();
+	/**
+	 * <span class="en-US">Last connection creation was failed, guarded by the pool lock</span>
+	 * <span class="zh-CN">上次建立连接失败，由连接池锁保护</span>
+	 */
+	private boolean createBackoff = Boolean.FALSE;
+	/**
+	 * <span class="en-US">Time of borrowers could create connection again (Unit: nanoseconds), guarded by the pool lock</span>
+	 * <span class="zh-CN">借出请求可以再次建立连接的时间（单位：纳秒），由连接池锁保护</span>
+	 */
+	private long createRetryTime = System.nanoTime();
 	private PrintWriter logWriter = new PrintWriter(System.out);
 
 	/**
 	 * <span class="en-US">Minimum connection limit</span>
 	 * <span class="zh-CN">最小连接数</span>
 	 */
-	private int minConnections;
+	private volatile int minConnections;
 	/**
 	 * <span class="en-US">Maximum connection limit</span>
 	 * <span class="zh-CN">最大连接数</span>
 	 */
-	private int maxConnections;
+	private volatile int maxConnections;
 	/**
 	 * <span class="en-US">Timeout value of connection validate</span>
 	 * <span class="zh-CN">连接检查超时时间</span>
@@ -106,6 +213,31 @@ public final class NeuronsDataSource extends AbstractMBean implements DataSource
 	 * <span class="zh-CN">最小连接数</span>
 	 */
 	private int cacheLimitSize;
+	/**
+	 * <span class="en-US">Hot statements count which prepared by the new connections, negative value for cache limit size</span>
+	 * <span class="zh-CN">新连接预先创建的热点查询数，负数表示使用缓存最大值</span>
+	 */
+	private volatile int warmUpSize = Globals.DEFAULT_VALUE_INT;
+	/**
+	 * <span class="en-US">Memory budget of statement caches of all connections, negative value for unlimited (Unit: bytes)</span>
+	 * <span class="zh-CN">所有连接的查询分析器缓存的内存预算，负数表示不限制（单位：字节）</span>
+	 */
+	private volatile long cacheMemorySize = Globals.DEFAULT_VALUE_LONG;
+	/**
+	 * <span class="en-US">Ratio of statement cache limits under current heap pressure</span>
+	 * <span class="zh-CN">当前堆内存压力下查询分析器缓存限制的比例</span>
+	 */
+	private volatile double cacheRatio = 1.0d;
+	/**
+	 * <span class="en-US">Plain statements were reused by the statement cache</span>
+	 * <span class="zh-CN">普通查询执行器由查询分析器缓存复用</span>
+	 */
+	private volatile boolean plainStatementCaching = Boolean.FALSE;
+	/**
+	 * <span class="en-US">Retry count if obtains connection has error</span>
+	 * <span class="zh-CN">获取连接的重试次数</span>
+	 */
+	private int retryLimit;
 	/**
 	 * <span class="en-US">Database username</span>
 	 * <span class="zh-CN">数据库用户名</span>
@@ -145,21 +277,58 @@ public final class NeuronsDataSource extends AbstractMBean implements DataSource
 	 * <span class="en-US">Close status of data source</span>
 	 * <span class="zh-CN">数据源关闭状态</span>
 	 */
-	private boolean closed = Boolean.FALSE;
+	private volatile boolean closed = Boolean.FALSE;
+	/**
+	 * <span class="en-US">Suspend status of data source</span>
+	 * <span class="zh-CN">数据源暂停状态</span>
+	 */
+	private volatile boolean suspended = Boolean.FALSE;
+	/**
+	 * <span class="en-US">Executor of maintenance and connection creation tasks</span>
+	 * <span class="zh-CN">维护任务和创建连接任务的执行器</span>
+	 */
+	private final MaintenanceExecutor maintenanceExecutor;
+	/**
+	 * <span class="en-US">Opened connection execution services</span>
+	 * <span class="zh-CN">已打开的连接执行服务</span>
+	 */
+	private final Set<ConnectionExecutor> connectionExecutors;
+	/**
+	 * <span class="en-US">Heap pressure monitor shared with other data sources</span>
+	 * <span class="zh-CN">与其他数据源共享的堆内存压力监视器</span>
+	 */
+	private final HeapPressureMonitor heapPressureMonitor;
+	/**
+	 * <span class="en-US">Physical connection budget shared with other data sources</span>
+	 * <span class="zh-CN">与其他数据源共享的物理连接预算</span>
+	 */
+	private volatile ConnectionBudget connectionBudget = null;
+	/**
+	 * <span class="en-US">Admission controller of borrowers</span>
+	 * <span class="zh-CN">借出请求的准入控制器</span>
+	 */
+	private volatile AdmissionController admissionController = null;
+	/**
+	 * <span class="en-US">Workload classifier of statements</span>
+	 * <span class="zh-CN">查询的工作负载分类器</span>
+	 */
+	private volatile WorkloadClassifier workloadClassifier = null;
 	/**
-	 * <span class="en-US">Thread instance object for create database connections</span>
-	 * <span class="zh-CN">创建数据库连接的线程实例对象</span>
+	 * <span class="en-US">Pooling mode of connections which obtained by <code>getConnection()</code></span>
+	 * <span class="zh-CN">通过<code>getConnection()</code>获取的连接的连接池模式</span>
 	 */
-	private final CreateConnectionThread createConnectionThread;
+	private volatile PoolingMode poolingMode = PoolingMode.SESSION;
 	/**
-	 * <span class="en-US">System scheduling task execution service</span>
-	 * <span class="zh-CN">系统调度任务执行服务</span>
+	 * <span class="en-US">Connection contexts which bound to threads</span>
+	 * <span class="zh-CN">绑定到线程的连接上下文</span>
 	 */
-	private final ScheduledExecutorService executorService;
+	private final ThreadLocal<ConnectionContext> connectionContexts = new ThreadLocal<>();
 
 	/**
 	 * <h4 class="en-US">Constructor method for JDBC data source implement class</h4>
+	 * <p class="en-US">Data source registers to the maintenance executor shared by all data sources in current JVM</p>
 	 * <h4 class="zh-CN">JDBC数据源实现类的构造方法</h4>
+	 * <p class="zh-CN">数据源注册到当前JVM中所有数据源共享的维护任务执行器</p>
 	 *
 	 * @param minConnections  <span class="en-US">Minimum connection limit</span>
 	 *                        <span class="zh-CN">最小连接数</span>
@@ -189,14 +358,68 @@ public final class NeuronsDataSource extends AbstractMBean implements DataSource
 	                         final boolean testOnBorrow, final boolean testOnReturn,
 	                         final int retryLimit, final String jdbcUrl, final Properties jdbcProperties,
 	                         final String username, final String password) {
-		this.connectionPools = new LinkedList<>();
-		this.activeConnections = new ArrayList<>();
+		this(minConnections, maxConnections, validateTimeout, connectTimeout, cacheLimitSize, transactional,
+				testOnBorrow, testOnReturn, retryLimit, jdbcUrl, jdbcProperties, username, password, Boolean.TRUE);
+	}
+
+	/**
+	 * <h4 class="en-US">Constructor method for JDBC data source implement class</h4>
+	 * <h4 class="zh-CN">JDBC数据源实现类的构造方法</h4>
+	 *
+	 * @param minConnections  <span class="en-US">Minimum connection limit</span>
+	 *                        <span class="zh-CN">最小连接数</span>
+	 * @param maxConnections  <span class="en-US">Maximum connection limit</span>
+	 *                        <span class="zh-CN">最大连接数</span>
+	 * @param validateTimeout <span class="en-US">Timeout value of connection validate</span>
+	 *                        <span class="zh-CN">连接检查超时时间</span>
+	 * @param connectTimeout  <span class="en-US">Timeout value of create connection</span>
+	 *                        <span class="zh-CN">建立连接超时时间</span>
+	 * @param testOnBorrow    <span class="en-US">Check connection validate when obtains database connection</span>
+	 *                        <span class="zh-CN">在获取连接时检查连接是否有效</span>
+	 * @param testOnReturn    <span class="en-US">Check connection validate when return database connection</span>
+	 *                        <span class="zh-CN">在归还连接时检查连接是否有效</span>
+	 * @param retryLimit      <span class="en-US">Retry count if obtains connection has error</span>
+	 *                        <span class="zh-CN">获取连接的重试次数</span>
+	 * @param jdbcUrl         <span class="en-US">JDBC connection url string</span>
+	 *                        <span class="zh-CN">JDBC连接字符串</span>
+	 * @param jdbcProperties  <span class="en-US">JDBC properties information</span>
+	 *                        <span class="zh-CN">JDBC配置信息</span>
+	 * @param username        <span class="en-US">Database username</span>
+	 *                        <span class="zh-CN">数据库用户名</span>
+	 * @param password        <span class="en-US">Database password</span>
+	 *                        <span class="zh-CN">数据库密码</span>
+	 * @param sharedExecutor  <span class="en-US">Register to the maintenance executor shared by all data sources in current JVM, or create a dedicated executor</span>
+	 *                        <span class="zh-CN">注册到当前JVM中所有数据源共享的维护任务执行器，或创建专用的执行器</span>
+	 */
+	public NeuronsDataSource(final int minConnections, final int maxConnections, final int validateTimeout,
+	                         final int connectTimeout, final int cacheLimitSize, final boolean transactional,
+	                         final boolean testOnBorrow, final boolean testOnReturn,
+	                         final int retryLimit, final String jdbcUrl, final Properties jdbcProperties,
+	                         final String username, final String password, final boolean sharedExecutor) {
+		this.connectionPools = new ArrayDeque<>();
+		this.activeConnections = ConcurrentHashMap.newKeySet();
+		this.callerGroups = new ConcurrentHashMap<>();
+		this.borrowedGroups = new ConcurrentHashMap<>();
+		this.laneConnections = ConcurrentHashMap.newKeySet();
+		this.connectionExecutors = ConcurrentHashMap.newKeySet();
+		this.lock = new ReentrantLock();
+		this.laneCondition = this.lock.newCondition();
+		this.waiters = new EnumMap<>(Priority.class);
+		for (Priority priority : Priority.values()) {
+			this.waiters.put(priority, new ArrayDeque<>());
+		}
 		this.waitCount = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+		this.statementCount = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+		this.evictedCount = new AtomicLong(Globals.INITIALIZE_INT_VALUE);
+		this.cacheWeight = new AtomicLong(Globals.INITIALIZE_INT_VALUE);
+		this.metaDataCache = new StatementMetaDataCache();
+		this.statementProfile = new StatementProfile();
 		this.minConnections = minConnections;
 		this.maxConnections = maxConnections;
 		this.validateTimeout = validateTimeout;
 		this.connectTimeout = connectTimeout;
 		this.cacheLimitSize = cacheLimitSize;
+		this.retryLimit = retryLimit;
 		this.username = username;
 		this.password = password;
 		this.transactional = transactional;
@@ -204,79 +427,297 @@ public final class NeuronsDataSource extends AbstractMBean implements DataSource
 		this.testOnReturn = testOnReturn;
 		this.jdbcUrl = jdbcUrl;
 		this.jdbcProperties = jdbcProperties;
-		this.createConnectionThread = new CreateConnectionThread(this, retryLimit);
-		this.createConnectionThread.start();
-		this.executorService = Executors.newSingleThreadScheduledExecutor();
-		this.executorService.scheduleWithFixedDelay(() -> {
-					if (!this.createConnectionThread.isAlive()) {
-						this.createConnectionThread.start();
-					}
-				},
-				SCHEDULE_PERIOD_TIME, SCHEDULE_PERIOD_TIME, TimeUnit.MILLISECONDS);
+		this.heapPressureMonitor = HeapPressureMonitor.shared();
+		this.maintenanceExecutor = sharedExecutor ? MaintenanceExecutor.shared() : MaintenanceExecutor.dedicated();
+		this.maintenanceExecutor.register(this);
+		//	Register after the maintenance executor was assigned, notification may arrive at any time
+		this.heapPressureMonitor.register(this);
 	}
 
+	/**
+	 * <h4 class="en-US">Obtain database connection</h4>
+	 * <p class="en-US">
+	 * Returns the reference-counted handle of the bound connection if current thread has an opened connection context.
+	 * Otherwise returns the logical connection which binds physical connection on demand if the pooling mode is not
+	 * session pooling, or returns the borrowed physical connection.
+	 * </p>
+	 * <h4 class="zh-CN">获取数据库连接</h4>
+	 * <p class="zh-CN">
+	 * 如果当前线程存在已开启的连接上下文，则返回绑定连接的引用计数句柄。否则如果连接池模式不是会话模式，
+	 * 则返回按需绑定物理连接的逻辑连接，或返回借出的物理连接。
+	 * </p>
+	 *
+	 * @return <span class="en-US">Database connection instance object</span>
+	 * <span class="zh-CN">数据库连接实例对象</span>
+	 * @throws SQLException <span class="en-US">if data source was closed or obtain database connection failed</span>
+	 *                      <span class="zh-CN">如果数据源已关闭或获取数据库连接失败</span>
+	 */
 	@Override
-	public synchronized Connection getConnection() throws SQLException {
+	public Connection getConnection() throws SQLException {
+		return this.wrapConnection(() -> this.borrowConnection(null, Priority.NORMAL));
+	}
+
+	/**
+	 * <h4 class="en-US">Open connection context on current thread</h4>
+	 * <p class="en-US">
+	 * Within the scope, every <code>getConnection()</code> on current thread returns the handle of one bound
+	 * connection. Nested invocations open nested scopes of the same context.
+	 * </p>
+	 * <h4 class="zh-CN">在当前线程上开启连接上下文</h4>
+	 * <p class="zh-CN">在范围内，当前线程的每次<code>getConnection()</code>调用都将返回同一个绑定连接的句柄。嵌套调用将开启同一上下文的嵌套范围。</p>
+	 *
+	 * @return <span class="en-US">Connection context instance object, close it to end the scope</span>
+	 * <span class="zh-CN">连接上下文实例对象，关闭以结束范围</span>
+	 * @throws SQLException <span class="en-US">if data source was closed</span>
+	 *                      <span class="zh-CN">如果数据源已关闭</span>
+	 */
+	public ConnectionContext openContext() throws SQLException {
 		if (this.closed) {
-			throw new SQLException();
+			throw new SQLException("Data source was closed! ");
+		}
+		ConnectionContext connectionContext = this.connectionContexts.get();
+		if (connectionContext == null) {
+			connectionContext = new ConnectionContext(this);
+			this.connectionContexts.set(connectionContext);
 		}
+		connectionContext.enter();
+		return connectionContext;
+	}
 
-		long beginTime = DateTimeUtils.currentUTCTimeMillis();
-		long timeOutTime = this.connectTimeout * 1000L;
+	/**
+	 * <h4 class="en-US">Unbind the closed connection context from current thread</h4>
+	 * <h4 class="zh-CN">将已关闭的连接上下文与当前线程解除绑定</h4>
+	 *
+	 * @param connectionContext <span class="en-US">Connection context instance object</span>
+	 *                          <span class="zh-CN">连接上下文实例对象</span>
+	 */
+	void contextClosed(@Nonnull final ConnectionContext connectionContext) {
+		if (this.connectionContexts.get() == connectionContext) {
+			this.connectionContexts.remove();
+		}
+	}
 
-		boolean waitCount = Boolean.FALSE;
-		NeuronsConnection connection = null;
+	/**
+	 * <h4 class="en-US">Wrap the borrowing according to the connection context and the pooling mode</h4>
+	 * <p class="en-US">
+	 * Returns the reference-counted handle of the bound connection if current thread has an opened connection context,
+	 * otherwise obtains database connection according to the pooling mode. The physical connection will be borrowed
+	 * by the given binder, so the priority, caller group and deadline of the borrowing were kept.
+	 * </p>
+	 * <h4 class="zh-CN">根据连接上下文和连接池模式包装借出操作</h4>
+	 * <p class="zh-CN">
+	 * 如果当前线程存在已开启的连接上下文，则返回绑定连接的引用计数句柄，否则根据连接池模式获取数据库连接。
+	 * 物理连接将由指定的绑定器借出，因此保留借出操作的优先级、调用者分组和截止时间。
+	 * </p>
+	 *
+	 * @param connectionBinder <span class="en-US">Binder which borrows the physical connection</span>
+	 *                         <span class="zh-CN">借出物理连接的绑定器</span>
+	 * @return <span class="en-US">Database connection instance object</span>
+	 * <span class="zh-CN">数据库连接实例对象</span>
+	 * @throws SQLException <span class="en-US">if data source was closed or obtain database connection failed</span>
+	 *                      <span class="zh-CN">如果数据源已关闭或获取数据库连接失败</span>
+	 */
+	private Connection wrapConnection(@Nonnull final LogicalConnection.ConnectionBinder connectionBinder)
+			throws SQLException {
+		ConnectionContext connectionContext = this.connectionContexts.get();
+		return (connectionContext == null)
+				? this.pooledConnection(connectionBinder)
+				: connectionContext.connection(connectionBinder);
+	}
 
-		if (LOGGER.isDebugEnabled()) {
-			LOGGER.debug("Connection_Wait_Count", this.waitCount.get());
+	/**
+	 * <h4 class="en-US">Obtain database connection according to the pooling mode, ignore the connection context</h4>
+	 * <h4 class="zh-CN">根据连接池模式获取数据库连接，忽略连接上下文</h4>
+	 *
+	 * @param connectionBinder <span class="en-US">Binder which borrows the physical connection</span>
+	 *                         <span class="zh-CN">借出物理连接的绑定器</span>
+	 * @return <span class="en-US">Database connection instance object</span>
+	 * <span class="zh-CN">数据库连接实例对象</span>
+	 * @throws SQLException <span class="en-US">if data source was closed or obtain database connection failed</span>
+	 *                      <span class="zh-CN">如果数据源已关闭或获取数据库连接失败</span>
+	 */
+	Connection pooledConnection(@Nonnull final LogicalConnection.ConnectionBinder connectionBinder)
+			throws SQLException {
+		PoolingMode currentMode = this.poolingMode;
+		if (PoolingMode.SESSION.equals(currentMode)) {
+			return connectionBinder.bind();
 		}
-		while (connection == null) {
-			connection = this.connectionPools.poll();
-			if (connection == null) {
-				connection = this.openConnection();
-			}
+		if (this.closed) {
+			throw new SQLException("Data source was closed! ");
+		}
+		return new LogicalConnection(this, currentMode, connectionBinder);
+	}
 
-			if (this.testOnBorrow && connection != null && !this.checkConnection(connection)) {
-				connection = null;
-			}
+	/**
+	 * <h4 class="en-US">Borrow physical connection with normal priority, ignore the pooling mode and connection context</h4>
+	 * <h4 class="zh-CN">使用普通优先级借出物理连接，忽略连接池模式和连接上下文</h4>
+	 *
+	 * @return <span class="en-US">Physical connection instance object</span>
+	 * <span class="zh-CN">物理连接实例对象</span>
+	 * @throws SQLException <span class="en-US">if obtain database connection failed</span>
+	 *                      <span class="zh-CN">如果获取数据库连接失败</span>
+	 */
+	NeuronsConnection physicalConnection() throws SQLException {
+		return this.borrowConnection(null, Priority.NORMAL);
+	}
 
-			if (connection == null) {
-				if (!waitCount) {
-					this.waitCount.incrementAndGet();
-					waitCount = Boolean.TRUE;
-				}
+	/**
+	 * <h4 class="en-US">Obtain database connection with the given priority</h4>
+	 * <p class="en-US">Connection context and pooling mode were applied as <code>getConnection()</code></p>
+	 * <h4 class="zh-CN">使用指定的优先级获取数据库连接</h4>
+	 * <p class="zh-CN">与<code>getConnection()</code>相同，应用连接上下文和连接池模式</p>
+	 *
+	 * @param priority <span class="en-US">Enumeration value of connection borrowing priority</span>
+	 *                 <span class="zh-CN">借出连接的优先级枚举值</span>
+	 * @return <span class="en-US">Database connection instance object</span>
+	 * <span class="zh-CN">数据库连接实例对象</span>
+	 * @throws SQLException <span class="en-US">if data source was closed or obtains connection timeout</span>
+	 *                      <span class="zh-CN">如果数据源已关闭或获取连接超时</span>
+	 */
+	public Connection getConnection(@Nonnull final Priority priority) throws SQLException {
+		return this.wrapConnection(() -> this.borrowConnection(null, priority));
+	}
 
-				if (timeOutTime < (DateTimeUtils.currentUTCTimeMillis() - beginTime)) {
-					break;
-				}
-			}
-		}
+	/**
+	 * <h4 class="en-US">Obtain database connection for the given caller group with the given priority</h4>
+	 * <p class="en-US">
+	 * Connection context and pooling mode were applied as <code>getConnection()</code>, the caller group will be
+	 * checked again when the physical connection was bound.
+	 * </p>
+	 * <h4 class="zh-CN">使用指定的优先级为指定的调用者分组获取数据库连接</h4>
+	 * <p class="zh-CN">与<code>getConnection()</code>相同，应用连接上下文和连接池模式，绑定物理连接时将再次检查调用者分组。</p>
+	 *
+	 * @param callerGroup <span class="en-US">Caller group which registered to current data source</span>
+	 *                    <span class="zh-CN">已注册到当前数据源的调用者分组</span>
+	 * @param priority    <span class="en-US">Enumeration value of connection borrowing priority</span>
+	 *                    <span class="zh-CN">借出连接的优先级枚举值</span>
+	 * @return <span class="en-US">Database connection instance object</span>
+	 * <span class="zh-CN">数据库连接实例对象</span>
+	 * @throws SQLException <span class="en-US">if data source was closed, caller group was not registered or obtains connection timeout</span>
+	 *                      <span class="zh-CN">如果数据源已关闭、调用者分组未注册或获取连接超时</span>
+	 */
+	public Connection getConnection(@Nonnull final CallerGroup callerGroup, @Nonnull final Priority priority)
+			throws SQLException {
+		this.registeredGroup(callerGroup);
+		return this.wrapConnection(() -> this.borrowConnection(this.registeredGroup(callerGroup), priority));
+	}
 
-		if (waitCount) {
-			this.waitCount.decrementAndGet();
-		}
+	/**
+	 * <h4 class="en-US">Obtain database connection within the given timeout</h4>
+	 * <p class="en-US">
+	 * The remaining time will be the default query timeout of statements created from the connection.
+	 * Connection context and pooling mode were applied as <code>getConnection()</code>, the logical connection binds
+	 * the physical connection before the same deadline.
+	 * </p>
+	 * <h4 class="zh-CN">在指定的超时时间内获取数据库连接</h4>
+	 * <p class="zh-CN">
+	 * 剩余时间将作为使用此连接创建的查询分析器的默认查询超时时间。与<code>getConnection()</code>相同，应用连接上下文和连接池模式，
+	 * 逻辑连接在相同的截止时间前绑定物理连接。
+	 * </p>
+	 *
+	 * @param timeout <span class="en-US">Timeout value of obtains connection</span>
+	 *                <span class="zh-CN">获取连接的超时时间</span>
+	 * @return <span class="en-US">Database connection instance object</span>
+	 * <span class="zh-CN">数据库连接实例对象</span>
+	 * @throws SQLException <span class="en-US">if data source was closed or obtains connection timeout</span>
+	 *                      <span class="zh-CN">如果数据源已关闭或获取连接超时</span>
+	 */
+	public Connection getConnection(@Nonnull final Duration timeout) throws SQLException {
+		return this.getConnectionBefore(System.nanoTime() + timeout.toNanos());
+	}
 
-		if (connection == null) {
-			throw new SQLException("Obtain database connection error! ");
-		}
+	/**
+	 * <h4 class="en-US">Obtain database connection before the given deadline</h4>
+	 * <p class="en-US">
+	 * The deadline was based on <code>System.nanoTime()</code>, the remaining time will be the default query timeout
+	 * of statements created from the connection, and rounded up to seconds.
+	 * </p>
+	 * <h4 class="zh-CN">在指定的截止时间前获取数据库连接</h4>
+	 * <p class="zh-CN">截止时间基于<code>System.nanoTime()</code>，剩余时间将向上取整为秒，作为使用此连接创建的查询分析器的默认查询超时时间</p>
+	 *
+	 * @param nanoDeadline <span class="en-US">Deadline time based on <code>System.nanoTime()</code> (Unit: nanoseconds)</span>
+	 *                     <span class="zh-CN">基于<code>System.nanoTime()</code>的截止时间（单位：纳秒）</span>
+	 * @return <span class="en-US">Database connection instance object</span>
+	 * <span class="zh-CN">数据库连接实例对象</span>
+	 * @throws SQLException <span class="en-US">if data source was closed or obtains connection timeout</span>
+	 *                      <span class="zh-CN">如果数据源已关闭或获取连接超时</span>
+	 */
+	public Connection getConnectionBefore(final long nanoDeadline) throws SQLException {
+		return this.getConnectionBefore(Priority.NORMAL, nanoDeadline);
+	}
 
-		connection.activeConnection();
-		this.activeConnections.add(connection);
+	/**
+	 * <h4 class="en-US">Obtain database connection with the given priority before the given deadline</h4>
+	 * <p class="en-US">
+	 * The deadline was based on <code>System.nanoTime()</code>, the remaining time will be the default query timeout
+	 * of statements created from the connection, and rounded up to seconds.
+	 * </p>
+	 * <h4 class="zh-CN">在指定的截止时间前使用指定的优先级获取数据库连接</h4>
+	 * <p class="zh-CN">截止时间基于<code>System.nanoTime()</code>，剩余时间将向上取整为秒，作为使用此连接创建的查询分析器的默认查询超时时间</p>
+	 *
+	 * @param priority     <span class="en-US">Enumeration value of connection borrowing priority</span>
+	 *                     <span class="zh-CN">借出连接的优先级枚举值</span>
+	 * @param nanoDeadline <span class="en-US">Deadline time based on <code>System.nanoTime()</code> (Unit: nanoseconds)</span>
+	 *                     <span class="zh-CN">基于<code>System.nanoTime()</code>的截止时间（单位：纳秒）</span>
+	 * @return <span class="en-US">Database connection instance object</span>
+	 * <span class="zh-CN">数据库连接实例对象</span>
+	 * @throws SQLException <span class="en-US">if data source was closed or obtains connection timeout</span>
+	 *                      <span class="zh-CN">如果数据源已关闭或获取连接超时</span>
+	 */
+	public Connection getConnectionBefore(@Nonnull final Priority priority, final long nanoDeadline)
+			throws SQLException {
+		return this.wrapConnection(() -> this.borrowConnection(null, priority, nanoDeadline));
+	}
 
-		if (LOGGER.isDebugEnabled()) {
-			if (waitCount) {
-				LOGGER.debug("Connection_From_Create");
-			} else {
-				LOGGER.debug("Connection_From_Pool");
-			}
-			LOGGER.debug("Connection_Used_Time",
-					DateTimeUtils.currentUTCTimeMillis() - beginTime);
-			LOGGER.info("Check_Connection_Debug",
-					DateTimeUtils.formatDateTime(new Date(connection.getConnectedTime())),
-					DateTimeUtils.formatDateTime(new Date(connection.getLastActiveTime())));
-			LOGGER.debug("Pool_Connection_Debug", this.getActiveCount(), this.getPoolCount());
-		}
-		return connection;
+	/**
+	 * <h4 class="en-US">Obtain database connection for the given caller group with the given priority before the given deadline</h4>
+	 * <p class="en-US">
+	 * The deadline was based on <code>System.nanoTime()</code>, the remaining time will be the default query timeout
+	 * of statements created from the connection, and rounded up to seconds.
+	 * </p>
+	 * <h4 class="zh-CN">在指定的截止时间前使用指定的优先级为指定的调用者分组获取数据库连接</h4>
+	 * <p class="zh-CN">截止时间基于<code>System.nanoTime()</code>，剩余时间将向上取整为秒，作为使用此连接创建的查询分析器的默认查询超时时间</p>
+	 *
+	 * @param callerGroup  <span class="en-US">Caller group which registered to current data source</span>
+	 *                     <span class="zh-CN">已注册到当前数据源的调用者分组</span>
+	 * @param priority     <span class="en-US">Enumeration value of connection borrowing priority</span>
+	 *                     <span class="zh-CN">借出连接的优先级枚举值</span>
+	 * @param nanoDeadline <span class="en-US">Deadline time based on <code>System.nanoTime()</code> (Unit: nanoseconds)</span>
+	 *                     <span class="zh-CN">基于<code>System.nanoTime()</code>的截止时间（单位：纳秒）</span>
+	 * @return <span class="en-US">Database connection instance object</span>
+	 * <span class="zh-CN">数据库连接实例对象</span>
+	 * @throws SQLException <span class="en-US">if data source was closed, caller group was not registered or obtains connection timeout</span>
+	 *                      <span class="zh-CN">如果数据源已关闭、调用者分组未注册或获取连接超时</span>
+	 */
+	public Connection getConnectionBefore(@Nonnull final CallerGroup callerGroup, @Nonnull final Priority priority,
+	                                      final long nanoDeadline) throws SQLException {
+		this.registeredGroup(callerGroup);
+		return this.wrapConnection(() ->
+				this.borrowConnection(this.registeredGroup(callerGroup), priority, nanoDeadline));
+	}
+
+	/**
+	 * <h4 class="en-US">Obtain database connection without waiting</h4>
+	 * <p class="en-US">
+	 * Take an idle connection or create a new connection if the capacity was available, return <code>null</code>
+	 * immediately if the pool was saturated, suspended or other borrowers were waiting. In transaction or lazy pooling
+	 * mode, the logical connection will be returned, and binding the physical connection fails with
+	 * <code>SQLTransientConnectionException</code> instead of waiting if no connection was available.
+	 * </p>
+	 * <h4 class="zh-CN">无等待地获取数据库连接</h4>
+	 * <p class="zh-CN">
+	 * 获取空闲连接或在容量可用时创建新连接，如果连接池已饱和、已暂停或存在其他等待者，则立即返回<code>null</code>。
+	 * 在事务或延迟绑定模式下将返回逻辑连接，如果没有可用连接，绑定物理连接时将抛出<code>SQLTransientConnectionException</code>而不会等待。
+	 * </p>
+	 *
+	 * @return <span class="en-US">Database connection instance object or <code>null</code> if no connection available</span>
+	 * <span class="zh-CN">数据库连接实例对象，如果没有可用连接则返回<code>null</code></span>
+	 * @throws SQLException <span class="en-US">if data source was closed</span>
+	 *                      <span class="zh-CN">如果数据源已关闭</span>
+	 */
+	public Connection tryGetConnection() throws SQLException {
+		return this.wrapConnection(() ->
+				this.obtainConnection(Priority.NORMAL, null, System.nanoTime(), Boolean.FALSE));
 	}
 
 	@Override
@@ -328,22 +769,34 @@ public final class NeuronsDataSource extends AbstractMBean implements DataSource
 	@Override
 	public void close() {
 		this.closed = Boolean.TRUE;
-		this.executorService.shutdown();
-		this.createConnectionThread.interrupt();
-		Iterator<NeuronsConnection> iterator = this.activeConnections.iterator();
-		while (iterator.hasNext()) {
-			NeuronsConnection connection = iterator.next();
-			this.destroyConnection(connection);
-			iterator.remove();
+		//	Workers will return the owned connections after the queued units of work were executed
+		new ArrayList<>(this.connectionExecutors).forEach(ConnectionExecutor::close);
+		this.maintenanceExecutor.deregister(this);
+		this.heapPressureMonitor.deregister(this);
+		this.saveProfile();
+		ConnectionBudget currentBudget = this.connectionBudget;
+		if (currentBudget != null) {
+			this.connectionBudget = null;
+			currentBudget.deregister(this);
 		}
-		Connection connection;
-		while ((connection = this.connectionPools.poll()) != null) {
-			try {
-				connection.close();
-			} catch (SQLException ignore) {
-			}
+		List<NeuronsConnection> connections = new ArrayList<>();
+		this.lock.lock();
+		try {
+			connections.addAll(this.activeConnections);
+			this.activeConnections.clear();
+			this.borrowedGroups.clear();
+			this.laneConnections.clear();
+			this.laneCondition.signalAll();
+			connections.addAll(this.connectionPools);
+			this.connectionPools.clear();
+			this.waiters.values().forEach(queue -> {
+				queue.forEach(Waiter::wakeup);
+				queue.clear();
+			});
+		} finally {
+			this.lock.unlock();
 		}
-		this.connectionPools.clear();
+		connections.forEach(this::destroyConnection);
 	}
 
 	@Override
@@ -366,14 +819,67 @@ public final class NeuronsDataSource extends AbstractMBean implements DataSource
 		return this.closed;
 	}
 
+	@Override
+	public int getConcurrencyLimit() {
+		AdmissionController currentController = this.admissionController;
+		return (currentController == null)
+				? this.maxConnections
+				: currentController.limit(this.maxConnections);
+	}
+
+	@Override
+	public long getRejectedCount() {
+		AdmissionController currentController = this.admissionController;
+		return (currentController == null) ? Globals.INITIALIZE_INT_VALUE : currentController.getRejectedCount();
+	}
+
+	@Override
+	public int getLaneCount() {
+		return this.laneConnections.size();
+	}
+
+	@Override
+	public int getStatementCount() {
+		return this.statementCount.get();
+	}
+
+	@Override
+	public long getEvictedCount() {
+		return this.evictedCount.get();
+	}
+
+	@Override
+	public long getCacheWeight() {
+		return this.cacheWeight.get();
+	}
+
+	@Override
+	public double getCacheRatio() {
+		return this.cacheRatio;
+	}
+
 	@Override
 	public void minConnections(int minConnections) {
 		this.minConnections = minConnections;
+		this.resize();
 	}
 
 	@Override
 	public void maxConnections(int maxConnections) {
 		this.maxConnections = maxConnections;
+		this.resize();
+	}
+
+	@Override
+	public void reservedConnections(final int reservedConnections) {
+		this.lock.lock();
+		try {
+			this.reservedConnections = Math.max(Globals.INITIALIZE_INT_VALUE, reservedConnections);
+			//	Reserved capacity may be released for other borrowers
+			this.dispatch();
+		} finally {
+			this.lock.unlock();
+		}
 	}
 
 	@Override
@@ -391,9 +897,24 @@ public final class NeuronsDataSource extends AbstractMBean implements DataSource
 		this.cacheLimitSize = cacheLimitSize;
 	}
 
+	@Override
+	public void warmUpSize(final int warmUpSize) {
+		this.warmUpSize = warmUpSize;
+	}
+
+	@Override
+	public void cacheMemorySize(final long cacheMemorySize) {
+		this.cacheMemorySize = cacheMemorySize;
+	}
+
+	@Override
+	public void plainStatementCaching(final boolean plainStatementCaching) {
+		this.plainStatementCaching = plainStatementCaching;
+	}
+
 	@Override
 	public void retryLimit(final int retryLimit) {
-		this.createConnectionThread.setRetryLimit(retryLimit);
+		this.retryLimit = retryLimit;
 	}
 
 	@Override
@@ -406,44 +927,1441 @@ public final class NeuronsDataSource extends AbstractMBean implements DataSource
 		this.password = password;
 	}
 
-	public void closeConnection(final NeuronsConnection connection) throws SQLException {
-		if (connection == null) {
-			return;
-		}
+	@Override
+	public boolean isSuspended() {
+		return this.suspended;
+	}
 
-		if (this.closed) {
-			if (LOGGER.isDebugEnabled()) {
-				LOGGER.debug("Data_Source_Closed_Destroy_Connection");
+	@Override
+	public void suspend() {
+		List<NeuronsConnection> connections;
+		this.lock.lock();
+		try {
+			if (this.closed || this.suspended) {
+				return;
+			}
+			this.suspended = Boolean.TRUE;
+			connections = new ArrayList<>(this.connectionPools);
+			this.connectionPools.clear();
+		} finally {
+			this.lock.unlock();
+		}
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Data_Source_Suspended", this.getActiveCount(), connections.size());
+		}
+		connections.forEach(this::destroyConnection);
+	}
+
+	@Override
+	public void resume() {
+		int deficit;
+		this.lock.lock();
+		try {
+			if (this.closed || !this.suspended) {
+				return;
+			}
+			this.suspended = Boolean.FALSE;
+			//	Hand off the capacity to the parked waiters in FIFO order, waiters which not granted will restart
+			//	the timeout budget of obtains connection
+			this.dispatch();
+			this.waiters.values().forEach(queue -> queue.forEach(Waiter::wakeup));
+			deficit = Math.min(this.minConnections - this.connectionPools.size() - this.pendingCount,
+					this.maxConnections - this.sharedCount());
+		} finally {
+			this.lock.unlock();
+		}
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Data_Source_Resumed", this.getWaitCount());
+		}
+		if (deficit > 0) {
+			this.maintenanceExecutor.fill(this, deficit);
+		}
+	}
+
+	@Override
+	public void softEvictConnections() {
+		this.lock.lock();
+		try {
+			this.activeConnections.forEach(NeuronsConnection::retire);
+			this.connectionPools.forEach(NeuronsConnection::retire);
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public void drainAndRefill() {
+		this.softEvictConnections();
+		this.maintenanceExecutor.submit(this, this::refillConnections);
+	}
+
+	@Override
+	public void clearMetaDataCache() {
+		this.metaDataCache.clear();
+	}
+
+	/**
+	 * <h4 class="en-US">Configure the physical connection budget shared with other data sources</h4>
+	 * <p class="en-US">Current physical connections will be counted in the new budget, give <code>null</code> to leave the budget</p>
+	 * <h4 class="zh-CN">设置与其他数据源共享的物理连接预算</h4>
+	 * <p class="zh-CN">当前的物理连接将计入新的预算，传入<code>null</code>以退出预算</p>
+	 *
+	 * @param connectionBudget <span class="en-US">Physical connection budget instance object</span>
+	 *                         <span class="zh-CN">物理连接预算实例对象</span>
+	 */
+	public void connectionBudget(final ConnectionBudget connectionBudget) {
+		ConnectionBudget currentBudget;
+		this.lock.lock();
+		try {
+			currentBudget = this.connectionBudget;
+			if (currentBudget == connectionBudget) {
+				return;
+			}
+			if (connectionBudget != null) {
+				connectionBudget.register(this, this.totalCount());
+			}
+			this.connectionBudget = connectionBudget;
+		} finally {
+			this.lock.unlock();
+		}
+		if (currentBudget != null) {
+			currentBudget.deregister(this);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Configure the admission controller of borrowers</h4>
+	 * <p class="en-US">Give <code>null</code> to admit all borrowers to the waiters queue</p>
+	 * <h4 class="zh-CN">设置借出请求的准入控制器</h4>
+	 * <p class="zh-CN">传入<code>null</code>以允许所有借出请求加入等待者队列</p>
+	 *
+	 * @param admissionController <span class="en-US">Admission controller instance object</span>
+	 *                            <span class="zh-CN">准入控制器实例对象</span>
+	 */
+	public void admissionController(final AdmissionController admissionController) {
+		this.lock.lock();
+		try {
+			this.admissionController = admissionController;
+			//	Concurrency limit may be grown
+			this.dispatch();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for pooling mode of connections which obtained by <code>getConnection()</code></h4>
+	 * <h4 class="zh-CN">通过<code>getConnection()</code>获取的连接的连接池模式的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Enumeration value of connection pooling mode</span>
+	 * <span class="zh-CN">连接池模式枚举值</span>
+	 */
+	public PoolingMode getPoolingMode() {
+		return this.poolingMode;
+	}
+
+	/**
+	 * <h4 class="en-US">Configure the pooling mode of connections which obtained by <code>getConnection()</code></h4>
+	 * <p class="en-US">Connections which already obtained keep their pooling mode</p>
+	 * <h4 class="zh-CN">设置通过<code>getConnection()</code>获取的连接的连接池模式</h4>
+	 * <p class="zh-CN">已获取的连接保持其连接池模式</p>
+	 *
+	 * @param poolingMode <span class="en-US">Enumeration value of connection pooling mode</span>
+	 *                    <span class="zh-CN">连接池模式枚举值</span>
+	 */
+	public void poolingMode(@Nonnull final PoolingMode poolingMode) {
+		this.poolingMode = poolingMode;
+	}
+
+	/**
+	 * <h4 class="en-US">Configure the workload classifier of statements</h4>
+	 * <p class="en-US">
+	 * Give <code>null</code> to disable the long-running lane, connections already in the lane stay there until they were returned
+	 * </p>
+	 * <h4 class="zh-CN">设置查询的工作负载分类器</h4>
+	 * <p class="zh-CN">传入<code>null</code>以禁用长时间运行通道，已在通道中的连接将保留至归还</p>
+	 *
+	 * @param workloadClassifier <span class="en-US">Workload classifier instance object</span>
+	 *                           <span class="zh-CN">工作负载分类器实例对象</span>
+	 */
+	public void workloadClassifier(final WorkloadClassifier workloadClassifier) {
+		this.lock.lock();
+		try {
+			this.workloadClassifier = workloadClassifier;
+			//	Lane limit may be grown or the lane was disabled
+			this.laneCondition.signalAll();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Configure the local file of statement popularity profile</h4>
+	 * <p class="en-US">
+	 * The hot statements in the file will be loaded and prepared by the idle connections in the background,
+	 * then the profile will be saved to the file periodically and when the data source was closed.
+	 * Give <code>null</code> to stop persisting the profile.
+	 * </p>
+	 * <h4 class="zh-CN">设置查询热度统计的本地文件</h4>
+	 * <p class="zh-CN">
+	 * 将读取文件中的热点查询并由空闲连接在后台预先创建，此后统计将定期以及在数据源关闭时保存至文件。传入<code>null</code>以停止持久化统计。
+	 * </p>
+	 *
+	 * @param profilePath <span class="en-US">Profile file path</span>
+	 *                    <span class="zh-CN">统计文件路径</span>
+	 */
+	public void profilePath(final String profilePath) {
+		if (StringUtils.isBlank(profilePath)) {
+			this.profileFile = null;
+			return;
+		}
+		StatementProfileFile statementProfileFile = new StatementProfileFile(Path.of(profilePath));
+		try {
+			int loadedCount = statementProfileFile.load(this.statementProfile);
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Profile_Loaded_Debug", loadedCount, profilePath);
+			}
+		} catch (IOException e) {
+			LOGGER.error("Load_Profile_Error", profilePath);
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+		}
+		this.profileSavedTime = System.nanoTime();
+		this.profileFile = statementProfileFile;
+		this.maintenanceExecutor.submit(this, () -> this.idleConnections(this::warmUp));
+	}
+
+	/**
+	 * <h4 class="en-US">Save the statement popularity profile to the local file</h4>
+	 * <h4 class="zh-CN">将查询热度统计保存至本地文件</h4>
+	 */
+	public void saveProfile() {
+		StatementProfileFile statementProfileFile = this.profileFile;
+		if (statementProfileFile == null) {
+			return;
+		}
+		this.profileSavedTime = System.nanoTime();
+		try {
+			statementProfileFile.save(this.statementProfile);
+		} catch (IOException e) {
+			LOGGER.error("Save_Profile_Error", statementProfileFile.getFilePath());
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Create connection execution service, each worker permanently owns one connection of current data source</h4>
+	 * <h4 class="zh-CN">创建连接执行服务，每个工作线程永久持有当前数据源的一个连接</h4>
+	 *
+	 * @param workerCount <span class="en-US">Workers count</span>
+	 *                    <span class="zh-CN">工作线程数</span>
+	 * @return <span class="en-US">Connection execution service instance object</span>
+	 * <span class="zh-CN">连接执行服务实例对象</span>
+	 * @throws SQLException <span class="en-US">if borrow the connection of workers failed</span>
+	 *                      <span class="zh-CN">如果为工作线程借出连接失败</span>
+	 */
+	public ConnectionExecutor connectionExecutor(final int workerCount) throws SQLException {
+		return this.connectionExecutor(workerCount, Globals.DEFAULT_VALUE_INT);
+	}
+
+	/**
+	 * <h4 class="en-US">Create connection execution service, each worker permanently owns one connection of current data source</h4>
+	 * <h4 class="zh-CN">创建连接执行服务，每个工作线程永久持有当前数据源的一个连接</h4>
+	 *
+	 * @param workerCount <span class="en-US">Workers count</span>
+	 *                    <span class="zh-CN">工作线程数</span>
+	 * @param batchSize   <span class="en-US">Maximum units of work count in one batch, use default value if less than or equal to 0</span>
+	 *                    <span class="zh-CN">单批次最大工作单元数，小于等于0时使用默认值</span>
+	 * @return <span class="en-US">Connection execution service instance object</span>
+	 * <span class="zh-CN">连接执行服务实例对象</span>
+	 * @throws SQLException <span class="en-US">if borrow the connection of workers failed</span>
+	 *                      <span class="zh-CN">如果为工作线程借出连接失败</span>
+	 */
+	public ConnectionExecutor connectionExecutor(final int workerCount, final int batchSize) throws SQLException {
+		if (this.closed) {
+			throw new SQLException("Data source was closed! ");
+		}
+		ConnectionExecutor connectionExecutor = new ConnectionExecutor(this, workerCount, batchSize);
+		this.connectionExecutors.add(connectionExecutor);
+		//	Data source was closed during the executor creating
+		if (this.closed) {
+			connectionExecutor.close();
+		}
+		return connectionExecutor;
+	}
+
+	/**
+	 * <h4 class="en-US">Connection execution service was closed</h4>
+	 * <h4 class="zh-CN">连接执行服务已关闭</h4>
+	 *
+	 * @param connectionExecutor <span class="en-US">Connection execution service instance object</span>
+	 *                           <span class="zh-CN">连接执行服务实例对象</span>
+	 */
+	void executorClosed(@Nonnull final ConnectionExecutor connectionExecutor) {
+		this.connectionExecutors.remove(connectionExecutor);
+	}
+
+	/**
+	 * <h4 class="en-US">Register a caller group or update the limits of the registered caller group</h4>
+	 * <p class="en-US">
+	 * The guaranteed connections of all groups could not exceed the maximum connections count of data source,
+	 * otherwise the guarantees could never be satisfied at the same time.
+	 * </p>
+	 * <h4 class="zh-CN">注册调用者分组或更新已注册调用者分组的限制</h4>
+	 * <p class="zh-CN">所有分组的保证连接数之和不能超过数据源的最大连接数，否则无法同时满足所有分组的保证连接数。</p>
+	 *
+	 * @param groupName             <span class="en-US">Group name</span>
+	 *                              <span class="zh-CN">分组名称</span>
+	 * @param maxConnections        <span class="en-US">Maximum borrowed connections count, not limited if less than or equal to 0</span>
+	 *                              <span class="zh-CN">最大借出连接数，小于等于0时不限制</span>
+	 * @param guaranteedConnections <span class="en-US">Guaranteed connections count which could not be used by other groups</span>
+	 *                              <span class="zh-CN">其他分组无法占用的保证连接数</span>
+	 * @return <span class="en-US">Registered caller group instance object</span>
+	 * <span class="zh-CN">已注册的调用者分组实例对象</span>
+	 * @throws IllegalArgumentException <span class="en-US">if the guaranteed connections of all groups exceed the maximum connections count</span>
+	 *                                  <span class="zh-CN">如果所有分组的保证连接数之和超过最大连接数</span>
+	 */
+	public CallerGroup callerGroup(@Nonnull final String groupName, final int maxConnections,
+	                               final int guaranteedConnections) {
+		CallerGroup callerGroup;
+		this.lock.lock();
+		try {
+			int guaranteedTotal = CallerGroup.guaranteed(maxConnections, guaranteedConnections);
+			for (CallerGroup registeredGroup : this.callerGroups.values()) {
+				if (!registeredGroup.getGroupName().equals(groupName)) {
+					guaranteedTotal += registeredGroup.getGuaranteedConnections();
+				}
+			}
+			if (guaranteedTotal > this.maxConnections) {
+				throw new IllegalArgumentException("Guaranteed connections of caller groups exceed the maximum connections! ");
+			}
+			callerGroup = this.callerGroups.computeIfAbsent(groupName,
+					key -> new CallerGroup(key, maxConnections, guaranteedConnections));
+			callerGroup.limits(maxConnections, guaranteedConnections);
+			//	Limits may be grown or the guaranteed connections may be decreased
+			this.dispatch();
+		} finally {
+			this.lock.unlock();
+		}
+		return callerGroup;
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the registered caller group</h4>
+	 * <h4 class="zh-CN">获取已注册的调用者分组</h4>
+	 *
+	 * @param groupName <span class="en-US">Group name</span>
+	 *                  <span class="zh-CN">分组名称</span>
+	 * @return <span class="en-US">Caller group instance object or <code>null</code> if not registered</span>
+	 * <span class="zh-CN">调用者分组实例对象，如果未注册则返回<code>null</code></span>
+	 */
+	public CallerGroup callerGroup(final String groupName) {
+		return (groupName == null) ? null : this.callerGroups.get(groupName);
+	}
+
+	/**
+	 * <h4 class="en-US">Remove the registered caller group</h4>
+	 * <p class="en-US">Connections borrowed by the removed group will not be counted in its limits any more</p>
+	 * <h4 class="zh-CN">移除已注册的调用者分组</h4>
+	 * <p class="zh-CN">被移除分组借出的连接将不再计入其限制</p>
+	 *
+	 * @param groupName <span class="en-US">Group name</span>
+	 *                  <span class="zh-CN">分组名称</span>
+	 */
+	public void removeCallerGroup(final String groupName) {
+		if (groupName == null) {
+			return;
+		}
+		this.lock.lock();
+		try {
+			if (this.callerGroups.remove(groupName) != null) {
+				this.dispatch();
+			}
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Move the borrowed connection into the long-running lane before executing a long-running statement</h4>
+	 * <p class="en-US">
+	 * Wait for the lane capacity if the lane was full, the connection stays in the lane until it was returned
+	 * and does not occupy the capacity of main pool. Waiting was limited by the connect timeout if the borrowing
+	 * has no deadline.
+	 * </p>
+	 * <h4 class="zh-CN">在执行长时间运行查询前将借出的连接移入长时间运行通道</h4>
+	 * <p class="zh-CN">
+	 * 如果通道已满则等待通道容量，连接在归还前一直保留在通道中，且不占用主连接池的容量。如果借出没有截止时间，则等待时间受连接超时限制。
+	 * </p>
+	 *
+	 * @param connection  <span class="en-US">Database connection instance object</span>
+	 *                    <span class="zh-CN">数据库连接实例对象</span>
+	 * @param identifyKey <span class="en-US">Identification code of statement</span>
+	 *                    <span class="zh-CN">查询的唯一识别代码</span>
+	 * @param deadline    <span class="en-US">Deadline time based on <code>System.nanoTime()</code>, -1 for limited by the connect timeout</span>
+	 *                    <span class="zh-CN">基于<code>System.nanoTime()</code>的截止时间，-1表示受连接超时限制</span>
+	 * @throws SQLException <span class="en-US">if the deadline time was exceeded or waiting was interrupted</span>
+	 *                      <span class="zh-CN">如果已超过截止时间或等待被中断</span>
+	 */
+	public void statementExecuting(@Nonnull final NeuronsConnection connection, final StatementKey identifyKey,
+	                               final long deadline) throws SQLException {
+		WorkloadClassifier currentClassifier = this.workloadClassifier;
+		if (currentClassifier == null || !currentClassifier.isLongRunning(identifyKey)
+				|| this.laneConnections.contains(connection)) {
+			return;
+		}
+		long waitDeadline = (deadline == Globals.DEFAULT_VALUE_LONG)
+				? System.nanoTime() + TimeUnit.SECONDS.toNanos(this.connectTimeout)
+				: deadline;
+		this.lock.lock();
+		try {
+			while (this.activeConnections.contains(connection) && !this.laneConnections.contains(connection)) {
+				currentClassifier = this.workloadClassifier;
+				if (currentClassifier == null) {
+					return;
+				}
+				if (this.laneConnections.size() < currentClassifier.getMaxConnections()) {
+					this.laneConnections.add(connection);
+					currentClassifier.laned();
+					if (LOGGER.isDebugEnabled()) {
+						LOGGER.debug("Connection_Laned_Debug", identifyKey, this.laneConnections.size());
+					}
+					//	Capacity of main pool was released by the laned connection
+					this.dispatch();
+					return;
+				}
+				long remaining = waitDeadline - System.nanoTime();
+				if (remaining <= 0L) {
+					throw new SQLTimeoutException("Wait for long-running lane timeout! ");
+				}
+				this.laneCondition.awaitNanos(remaining);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("Wait for long-running lane interrupted! ", e);
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Record the latency of statement which executed by the borrowed connection</h4>
+	 * <h4 class="zh-CN">记录借出连接所执行查询的延迟</h4>
+	 *
+	 * @param identifyKey <span class="en-US">Identification code of statement</span>
+	 *                    <span class="zh-CN">查询的唯一识别代码</span>
+	 * @param elapsedTime <span class="en-US">Latency of statement (Unit: nanoseconds)</span>
+	 *                    <span class="zh-CN">查询延迟（单位：纳秒）</span>
+	 */
+	public void statementExecuted(final StatementKey identifyKey, final long elapsedTime) {
+		AdmissionController currentController = this.admissionController;
+		if (currentController != null) {
+			currentController.latency(elapsedTime, this.maxConnections);
+		}
+		WorkloadClassifier currentClassifier = this.workloadClassifier;
+		if (currentClassifier != null) {
+			currentClassifier.executed(identifyKey, elapsedTime);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for statement metadata cache shared by all connections</h4>
+	 * <h4 class="zh-CN">所有连接共享的查询元数据缓存的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Statement metadata cache instance object</span>
+	 * <span class="zh-CN">查询元数据缓存实例对象</span>
+	 */
+	public StatementMetaDataCache getMetaDataCache() {
+		return this.metaDataCache;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for statement popularity profile of all connections</h4>
+	 * <h4 class="zh-CN">所有连接的查询热度统计的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Statement popularity profile instance object</span>
+	 * <span class="zh-CN">查询热度统计实例对象</span>
+	 */
+	public StatementProfile getStatementProfile() {
+		return this.statementProfile;
+	}
+
+	/**
+	 * <h4 class="en-US">Statement was requested by the borrower of connection</h4>
+	 * <h4 class="zh-CN">连接的借用者请求了查询分析器</h4>
+	 *
+	 * @param identifyKey <span class="en-US">Identification code of statement</span>
+	 *                    <span class="zh-CN">查询的唯一识别代码</span>
+	 */
+	public void statementRequested(@Nonnull final StatementKey identifyKey) {
+		this.statementProfile.record(identifyKey);
+	}
+
+	/**
+	 * <h4 class="en-US">JDBC statement was prepared by the connection</h4>
+	 * <h4 class="zh-CN">连接已创建JDBC查询分析器</h4>
+	 */
+	public void statementPrepared() {
+		this.statementCount.incrementAndGet();
+	}
+
+	/**
+	 * <h4 class="en-US">JDBC statement was closed by the connection</h4>
+	 * <h4 class="zh-CN">连接已关闭JDBC查询分析器</h4>
+	 */
+	public void statementClosed() {
+		this.statementCount.decrementAndGet();
+	}
+
+	/**
+	 * <h4 class="en-US">Statement was evicted from the statement cache of connection</h4>
+	 * <h4 class="zh-CN">查询分析器已从连接的查询分析器缓存中淘汰</h4>
+	 */
+	public void statementEvicted() {
+		this.evictedCount.incrementAndGet();
+	}
+
+	/**
+	 * <h4 class="en-US">Estimated memory weight of statement cache of connection was changed</h4>
+	 * <h4 class="zh-CN">连接的查询分析器缓存的估计内存权重已改变</h4>
+	 *
+	 * @param weight <span class="en-US">Changed weight, negative value for released (Unit: bytes)</span>
+	 *               <span class="zh-CN">改变的权重，负数表示已释放（单位：字节）</span>
+	 */
+	public void cacheWeightChanged(final long weight) {
+		this.cacheWeight.addAndGet(weight);
+	}
+
+	/**
+	 * <h4 class="en-US">Check the plain statements were reused by the statement cache</h4>
+	 * <h4 class="zh-CN">检查普通查询执行器是否由查询分析器缓存复用</h4>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	public boolean isPlainStatementCaching() {
+		return this.plainStatementCaching;
+	}
+
+	/**
+	 * <h4 class="en-US">Memory weight limit of statement cache for each connection</h4>
+	 * <p class="en-US">
+	 * The memory budget was shared fairly by the opened connections. The connections count was read without
+	 * the pool lock, the over-used share will be trimmed by the maintenance task after the connections grown.
+	 * </p>
+	 * <h4 class="zh-CN">每个连接的查询分析器缓存内存权重限制</h4>
+	 * <p class="zh-CN">内存预算由已打开的连接平均分享。连接数在未持有连接池锁的情况下读取，连接增加后超出的份额将由维护任务淘汰。</p>
+	 *
+	 * @return <span class="en-US">Memory weight limit, negative value for unlimited (Unit: bytes)</span>
+	 * <span class="zh-CN">内存权重限制，负数表示不限制（单位：字节）</span>
+	 */
+	public long cacheWeightLimit() {
+		long memorySize = this.cacheMemorySize;
+		if (memorySize < 0) {
+			return Globals.DEFAULT_VALUE_LONG;
+		}
+		return (long) (memorySize * this.cacheRatio) / Math.max(1, this.getActiveCount() + this.getPoolCount());
+	}
+
+	/**
+	 * <h4 class="en-US">Cached statements count limit for each connection under current heap pressure</h4>
+	 * <h4 class="zh-CN">当前堆内存压力下每个连接的已缓存查询分析器数量限制</h4>
+	 *
+	 * @return <span class="en-US">Cached statements count limit</span>
+	 * <span class="zh-CN">已缓存查询分析器数量限制</span>
+	 */
+	public int cacheSizeLimit() {
+		return (int) (this.cacheLimitSize * this.cacheRatio);
+	}
+
+	/**
+	 * <h4 class="en-US">Heap usage threshold was exceeded after garbage collection</h4>
+	 * <p class="en-US">
+	 * The shared statement metadata snapshots will be shrunk by the cache ratio of current heap pressure, and the
+	 * statement caches of idle connections will be shrunk by the maintenance executor.
+	 * </p>
+	 * <h4 class="zh-CN">垃圾回收后堆内存使用超出阈值</h4>
+	 * <p class="zh-CN">按当前堆内存压力对应的缓存比例收缩共享的查询元数据快照，并由维护任务执行器收缩空闲连接的查询分析器缓存。</p>
+	 */
+	void heapPressureExceeded() {
+		if (this.closed) {
+			return;
+		}
+		this.metaDataCache.trim(this.heapPressureMonitor.cacheRatio());
+		this.maintenanceExecutor.submit(this, this::resizeCaches);
+	}
+
+	/**
+	 * <h4 class="en-US">Close the JDBC statement of given cached statement asynchronously</h4>
+	 * <p class="en-US">
+	 * The statement will be closed by the maintenance executor, avoid blocking the statement preparing of borrower.
+	 * The statement will be closed in current thread if the maintenance executor was not available.
+	 * </p>
+	 * <h4 class="zh-CN">异步关闭指定的可缓存查询分析器中的JDBC查询分析器</h4>
+	 * <p class="zh-CN">查询分析器将由维护任务执行器关闭，避免阻塞借用者创建查询分析器。如果维护任务执行器不可用，将在当前线程中关闭。</p>
+	 *
+	 * @param cachedStatement <span class="en-US">Cached statement instance object</span>
+	 *                        <span class="zh-CN">可缓存的查询分析器实例对象</span>
+	 */
+	public void releaseStatement(@Nonnull final CachedStatement cachedStatement) {
+		if (!this.maintenanceExecutor.submit(this, () -> this.closeStatement(cachedStatement))) {
+			this.closeStatement(cachedStatement);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Return the borrowed connection to the connection pool</h4>
+	 * <p class="en-US">Connection will be destroyed if it was invalid or the pool has enough idle connections</p>
+	 * <h4 class="zh-CN">将借出的连接归还至连接池</h4>
+	 * <p class="zh-CN">如果连接无效或连接池中已有足够的空闲连接，则销毁连接</p>
+	 *
+	 * @param connection <span class="en-US">Database connection instance object</span>
+	 *                   <span class="zh-CN">数据库连接实例对象</span>
+	 * @throws SQLException <span class="en-US">if a database access error occurs</span>
+	 *                      <span class="zh-CN">如果发生数据库访问错误</span>
+	 */
+	public void closeConnection(final NeuronsConnection connection) throws SQLException {
+		if (connection == null || !this.activeConnections.contains(connection)) {
+			return;
+		}
+
+		AdmissionController currentController = this.admissionController;
+		if (currentController != null) {
+			currentController.holdTime(System.nanoTime() - connection.getBorrowedTime());
+		}
+
+		if (this.closed) {
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Data_Source_Closed_Destroy_Connection");
+			}
+			if (this.activeConnections.remove(connection)) {
+				this.borrowedGroups.remove(connection);
+				this.laneConnections.remove(connection);
+				this.destroyConnection(connection);
+			}
+			return;
+		}
+
+		boolean validate = !connection.isClosed();
+		if (validate && connection.isRetired()) {
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Retired_Destroy_Connection");
+			}
+			validate = Boolean.FALSE;
+		}
+		if (validate && this.testOnReturn && !this.checkConnection(connection)) {
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Invalid_Destroy_Connection");
+			}
+			validate = Boolean.FALSE;
+		}
+		if (validate) {
+			try {
+				connection.reset();
+			} catch (SQLException e) {
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Stack_Message_Error", e);
+				}
+				validate = Boolean.FALSE;
+			}
+		}
+
+		boolean destroy = Boolean.TRUE;
+		this.lock.lock();
+		try {
+			if (!this.activeConnections.remove(connection)) {
+				return;
+			}
+			CallerGroup callerGroup = this.borrowedGroups.remove(connection);
+			if (callerGroup != null) {
+				callerGroup.release();
+				callerGroup.returned(System.nanoTime() - connection.getBorrowedTime());
+			}
+			if (this.laneConnections.remove(connection)) {
+				this.laneCondition.signal();
+			}
+			//	Keep the connection for waiters even if the pool has enough idle connections,
+			//	surplus connections above the maximum limit will be closed after the pool was shrunk,
+			//	returned connections will be closed when the data source was suspended
+			if (validate && !this.suspended && this.sharedCount() < this.maxConnections
+					&& (this.connectionPools.size() < this.minConnections || this.waitersCount() > 0)) {
+				this.connectionPools.offerLast(connection);
+				this.dispatch();
+				destroy = Boolean.FALSE;
+			}
+		} finally {
+			this.lock.unlock();
+		}
+		if (destroy) {
+			if (validate && LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Pool_Full_Destroy_Connection");
 			}
 			this.destroyConnection(connection);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Check current connections count in connection pool is less than the pool maximum connections</h4>
+	 * <h4 class="zh-CN">检查当前连接池中的连接数是否小于连接池最大连接数</h4>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	boolean needConnections() {
+		return !this.closed && !this.suspended && !this.limitConnections()
+				&& (this.connectionPools.size() + this.pendingCount < this.minConnections);
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for retry count if obtains connection has error</h4>
+	 * <h4 class="zh-CN">获取连接的重试次数的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Retry count if obtains connection has error</span>
+	 * <span class="zh-CN">获取连接的重试次数</span>
+	 */
+	int retryLimit() {
+		return this.retryLimit;
+	}
+
+	/**
+	 * <h4 class="en-US">Guaranteed physical connections count in the shared connection budget</h4>
+	 * <h4 class="zh-CN">在共享连接预算中保证的物理连接数</h4>
+	 *
+	 * @return <span class="en-US">Guaranteed connections count</span>
+	 * <span class="zh-CN">保证的连接数</span>
+	 */
+	int guaranteedConnections() {
+		return Math.min(this.minConnections, this.maxConnections);
+	}
+
+	/**
+	 * <h4 class="en-US">Hand off the capacity to waiters because the capacity of connection budget was released</h4>
+	 * <h4 class="zh-CN">由于连接预算的容量已释放，将容量移交给等待者</h4>
+	 */
+	void capacityAvailable() {
+		this.lock.lock();
+		try {
+			this.dispatch();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Close an idle connection to return the capacity to the connection budget</h4>
+	 * <h4 class="zh-CN">关闭一个空闲连接，将容量归还至连接预算</h4>
+	 *
+	 * @return <span class="en-US">An idle connection was closed</span>
+	 * <span class="zh-CN">已关闭一个空闲连接</span>
+	 */
+	boolean releaseIdleConnection() {
+		NeuronsConnection connection;
+		this.lock.lock();
+		try {
+			connection = this.connectionPools.pollLast();
+		} finally {
+			this.lock.unlock();
+		}
+		if (connection == null) {
+			return Boolean.FALSE;
+		}
+		this.destroyConnection(connection);
+		return Boolean.TRUE;
+	}
+
+	/**
+	 * <h4 class="en-US">Periodic maintenance task, check the connections in pool</h4>
+	 * <h4 class="zh-CN">周期性维护任务，检查连接池中的连接</h4>
+	 */
+	void maintain() {
+		if (this.closed) {
+			return;
+		}
+		this.checkConnections();
+		//	Replace one idle retired connection per cycle, avoid the latency spike from closing all at once
+		this.replaceRetiredConnection();
+		this.retryCreation();
+		if (this.profileFile != null && System.nanoTime() - this.profileSavedTime >= PROFILE_SAVE_INTERVAL) {
+			this.saveProfile();
+		}
+		this.resizeCaches();
+	}
+
+	/**
+	 * <h4 class="en-US">Apply the cache ratio of current heap pressure to the statement caches</h4>
+	 * <p class="en-US">
+	 * The statement caches of idle connections will be trimmed when the ratio was decreased or the memory budget
+	 * was exceeded. Borrowed connections will trim the statement cache when the next statement was cached,
+	 * the caches grow back naturally after the heap pressure subsides.
+	 * </p>
+	 * <h4 class="zh-CN">将当前堆内存压力对应的缓存比例应用至查询分析器缓存</h4>
+	 * <p class="zh-CN">
+	 * 比例减少或超出内存预算时将收缩空闲连接的查询分析器缓存。借出的连接将在下次缓存查询分析器时收缩缓存，
+	 * 堆内存压力缓解后缓存将自然恢复增长。
+	 * </p>
+	 */
+	private void resizeCaches() {
+		double cacheRatio = this.heapPressureMonitor.cacheRatio();
+		boolean shrink = cacheRatio < this.cacheRatio;
+		this.cacheRatio = cacheRatio;
+		long memorySize = this.cacheMemorySize;
+		if (shrink || (memorySize >= 0 && this.cacheWeight.get() > memorySize)) {
+			this.idleConnections(NeuronsConnection::trimCache);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Apply the updated minimum and maximum connection limit immediately</h4>
+	 * <p class="en-US">
+	 * Close the idle connections above the limits, hand off to the waiters because the capacity may be grown,
+	 * and create the missing connections in parallel. The borrowed connections will never be closed,
+	 * surplus connections will be closed when they were returned.
+	 * </p>
+	 * <h4 class="zh-CN">立即应用更新后的最小和最大连接数</h4>
+	 * <p class="zh-CN">关闭超出限制的空闲连接，由于容量可能增加而将容量移交给等待者，并行创建缺少的连接。借出的连接不会被关闭，多余的连接将在归还时关闭。</p>
+	 */
+	private void resize() {
+		if (this.closed) {
 			return;
 		}
+		List<NeuronsConnection> surplus = new ArrayList<>();
+		int deficit;
+		this.lock.lock();
+		try {
+			while (!this.connectionPools.isEmpty()
+					&& (this.sharedCount() > this.maxConnections
+					|| (this.connectionPools.size() > this.minConnections && this.waitersCount() == 0))) {
+				surplus.add(this.connectionPools.pollLast());
+			}
+			deficit = Math.min(this.minConnections - this.connectionPools.size() - this.pendingCount,
+					this.maxConnections - this.sharedCount());
+			this.dispatch();
+		} finally {
+			this.lock.unlock();
+		}
+		surplus.forEach(this::destroyConnection);
+		if (deficit > 0) {
+			this.maintenanceExecutor.fill(this, deficit);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Replace all idle retired connections one by one, then resubmit if more retired connections exist</h4>
+	 * <h4 class="zh-CN">逐个替换所有空闲的待退役连接，如果仍存在待退役连接则重新提交任务</h4>
+	 */
+	private void refillConnections() {
+		if (this.replaceRetiredConnection()) {
+			this.maintenanceExecutor.submit(this, this::refillConnections);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Replace an idle retired connection with new connection</h4>
+	 * <p class="en-US">
+	 * The new connection will be created before the retired connection was closed if the capacity was available,
+	 * so the idle connections count will not decrease during the replacement.
+	 * </p>
+	 * <h4 class="zh-CN">使用新连接替换一个空闲的待退役连接</h4>
+	 * <p class="zh-CN">如果容量可用，将在关闭待退役连接前创建新连接，替换期间空闲连接数不会减少。</p>
+	 *
+	 * @return <span class="en-US">An idle retired connection was replaced</span>
+	 * <span class="zh-CN">已替换一个空闲的待退役连接</span>
+	 */
+	private boolean replaceRetiredConnection() {
+		if (this.closed) {
+			return Boolean.FALSE;
+		}
+		NeuronsConnection retired;
+		boolean reserved;
+		this.lock.lock();
+		try {
+			retired = this.connectionPools.stream().filter(NeuronsConnection::isRetired).findFirst().orElse(null);
+			if (retired == null) {
+				return Boolean.FALSE;
+			}
+			reserved = this.reserveConnection();
+			if (!reserved) {
+				this.connectionPools.remove(retired);
+			}
+		} finally {
+			this.lock.unlock();
+		}
+		if (!reserved) {
+			//	Pool was full, close the retired connection first to release the capacity
+			this.destroyConnection(retired);
+			this.lock.lock();
+			try {
+				if (!this.reserveConnection()) {
+					return Boolean.TRUE;
+				}
+			} finally {
+				this.lock.unlock();
+			}
+			return this.openConnection(Boolean.FALSE) != null;
+		}
+		if (this.openConnection(Boolean.FALSE) == null) {
+			return Boolean.FALSE;
+		}
+		boolean removed;
+		this.lock.lock();
+		try {
+			removed = this.connectionPools.remove(retired);
+		} finally {
+			this.lock.unlock();
+		}
+		if (removed) {
+			this.destroyConnection(retired);
+		}
+		return Boolean.TRUE;
+	}
+
+	/**
+	 * <h4 class="en-US">Create a database connection and add to the pool if current pool need connections</h4>
+	 * <h4 class="zh-CN">如果当前连接池需要连接，则创建数据库连接并加入连接池</h4>
+	 *
+	 * @return <span class="en-US">Connection was created and added to the pool</span>
+	 * <span class="zh-CN">连接已创建并加入连接池</span>
+	 */
+	boolean createConnection() {
+		this.lock.lock();
+		try {
+			if (!this.needConnections() || !this.reserveConnection()) {
+				return Boolean.FALSE;
+			}
+		} finally {
+			this.lock.unlock();
+		}
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Create_Connection_Begin_Debug");
+		}
+		boolean created = this.openConnection(Boolean.FALSE) != null;
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Create_Connection_End_Debug");
+		}
+		return created;
+	}
+
+	/**
+	 * <h4 class="en-US">Obtain database connection within the connect timeout</h4>
+	 * <h4 class="zh-CN">在连接超时时间内获取数据库连接</h4>
+	 *
+	 * @param callerGroup <span class="en-US">Caller group instance object, <code>null</code> for not grouped</span>
+	 *                    <span class="zh-CN">调用者分组实例对象，<code>null</code>表示不分组</span>
+	 * @param priority    <span class="en-US">Enumeration value of connection borrowing priority</span>
+	 *                    <span class="zh-CN">借出连接的优先级枚举值</span>
+	 * @return <span class="en-US">Database connection instance object</span>
+	 * <span class="zh-CN">数据库连接实例对象</span>
+	 * @throws SQLException <span class="en-US">if data source was closed or obtains connection timeout</span>
+	 *                      <span class="zh-CN">如果数据源已关闭或获取连接超时</span>
+	 */
+	private NeuronsConnection borrowConnection(final CallerGroup callerGroup, @Nonnull final Priority priority)
+			throws SQLException {
+		NeuronsConnection connection = this.obtainConnection(priority, callerGroup,
+				System.nanoTime() + TimeUnit.SECONDS.toNanos(this.connectTimeout), Boolean.TRUE);
+		if (connection == null) {
+			throw new SQLException("Obtain database connection error! ");
+		}
+		return connection;
+	}
+
+	/**
+	 * <h4 class="en-US">Obtain database connection before the given deadline</h4>
+	 * <h4 class="zh-CN">在指定的截止时间前获取数据库连接</h4>
+	 *
+	 * @param callerGroup <span class="en-US">Caller group instance object, <code>null</code> for not grouped</span>
+	 *                    <span class="zh-CN">调用者分组实例对象，<code>null</code>表示不分组</span>
+	 * @param priority    <span class="en-US">Enumeration value of connection borrowing priority</span>
+	 *                    <span class="zh-CN">借出连接的优先级枚举值</span>
+	 * @param deadline    <span class="en-US">Deadline time of obtains connection (Unit: nanoseconds)</span>
+	 *                    <span class="zh-CN">获取连接的截止时间（单位：纳秒）</span>
+	 * @return <span class="en-US">Database connection instance object</span>
+	 * <span class="zh-CN">数据库连接实例对象</span>
+	 * @throws SQLException <span class="en-US">if data source was closed or obtains connection timeout</span>
+	 *                      <span class="zh-CN">如果数据源已关闭或获取连接超时</span>
+	 */
+	private NeuronsConnection borrowConnection(final CallerGroup callerGroup, @Nonnull final Priority priority,
+	                                           final long deadline) throws SQLException {
+		NeuronsConnection connection = this.obtainConnection(priority, callerGroup, deadline, Boolean.FALSE);
+		if (connection == null) {
+			throw new SQLTimeoutException("Obtain database connection timeout! ");
+		}
+		connection.deadline(deadline);
+		return connection;
+	}
+
+	/**
+	 * <h4 class="en-US">Check the caller group was registered to current data source</h4>
+	 * <h4 class="zh-CN">检查调用者分组是否已注册到当前数据源</h4>
+	 *
+	 * @param callerGroup <span class="en-US">Caller group instance object</span>
+	 *                    <span class="zh-CN">调用者分组实例对象</span>
+	 * @return <span class="en-US">Registered caller group instance object</span>
+	 * <span class="zh-CN">已注册的调用者分组实例对象</span>
+	 * @throws SQLException <span class="en-US">if the caller group was not registered</span>
+	 *                      <span class="zh-CN">如果调用者分组未注册</span>
+	 */
+	private CallerGroup registeredGroup(@Nonnull final CallerGroup callerGroup) throws SQLException {
+		if (this.callerGroups.get(callerGroup.getGroupName()) != callerGroup) {
+			throw new SQLException("Caller group was not registered to current data source! ");
+		}
+		return callerGroup;
+	}
+
+	/**
+	 * <h4 class="en-US">Obtain database connection before the deadline</h4>
+	 * <p class="en-US">
+	 * Take an idle connection from the pool, or create a new connection if the capacity was available,
+	 * otherwise join the waiters queue until a connection or capacity was handed off. When the data source was
+	 * suspended, waiters with restartable deadline will be parked without timeout and the connect timeout restarts
+	 * after resumed, other waiters still wait until the given deadline.
+	 * </p>
+	 * <h4 class="zh-CN">在截止时间前获取数据库连接</h4>
+	 * <p class="zh-CN">
+	 * 从连接池中获取空闲连接，如果容量可用则创建新连接，否则加入等待者队列直至连接或容量被移交。
+	 * 数据源暂停时，可重新计时的等待者将无超时地挂起，并在恢复后重新开始计算连接超时时间，其他等待者仍等待至指定的截止时间。
+	 * </p>
+	 *
+	 * @param priority    <span class="en-US">Enumeration value of connection borrowing priority</span>
+	 *                    <span class="zh-CN">借出连接的优先级枚举值</span>
+	 * @param callerGroup <span class="en-US">Caller group instance object, <code>null</code> for not grouped</span>
+	 *                    <span class="zh-CN">调用者分组实例对象，<code>null</code>表示不分组</span>
+	 * @param deadline    <span class="en-US">Deadline time of obtains connection (Unit: nanoseconds)</span>
+	 *                    <span class="zh-CN">获取连接的截止时间（单位：纳秒）</span>
+	 * @param restart     <span class="en-US">Restart the connect timeout after the data source was resumed</span>
+	 *                    <span class="zh-CN">数据源恢复后重新开始计算连接超时时间</span>
+	 * @return <span class="en-US">Database connection instance object or <code>null</code> if obtains connection timeout</span>
+	 * <span class="zh-CN">数据库连接实例对象，如果获取连接超时则返回<code>null</code></span>
+	 * @throws SQLException <span class="en-US">if data source was closed or obtains connection interrupted</span>
+	 *                      <span class="zh-CN">如果数据源已关闭或获取连接被中断</span>
+	 */
+	private NeuronsConnection obtainConnection(@Nonnull final Priority priority, final CallerGroup callerGroup,
+	                                           final long deadline, final boolean restart) throws SQLException {
+		if (this.closed) {
+			throw new SQLException("Data source was closed! ");
+		}
+
+		long beginTime = DateTimeUtils.currentUTCTimeMillis(), beginNanos = System.nanoTime();
+		long currentDeadline = deadline;
+		boolean waitCount = Boolean.FALSE, created = Boolean.FALSE;
+		boolean rejected = Boolean.FALSE;
+		NeuronsConnection connection = null;
+		Waiter waiter = null;
+		InterruptedException interrupted = null;
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Connection_Wait_Count", this.waitCount.get());
+		}
+		try {
+			while (connection == null && !this.closed) {
+				boolean create = Boolean.FALSE, reclaim = Boolean.FALSE;
+				this.lock.lock();
+				try {
+					if (waiter == null) {
+						//	Connections and capacity belong to the waiters first, new caller could not barge in
+						//	unless all admissible waiters have lower priority
+						if (!this.suspended && !this.hasWaiterAhead(priority)
+								&& this.admitted(priority, callerGroup)) {
+							connection = this.connectionPools.pollFirst();
+							if (connection != null) {
+								this.activeConnections.add(connection);
+							} else if (this.reserveCreation()) {
+								this.creatingCount++;
+								create = Boolean.TRUE;
+							}
+							if (callerGroup != null && (connection != null || create)) {
+								callerGroup.acquire();
+							}
+						}
+						if (connection == null && !create) {
+							long remaining = (this.suspended && restart)
+									? Long.MAX_VALUE
+									: currentDeadline - System.nanoTime();
+							if (remaining <= 0L) {
+								break;
+							}
+							if (this.rejectWaiter(priority, remaining)) {
+								rejected = Boolean.TRUE;
+								break;
+							}
+							waiter = new Waiter(this.lock.newCondition(), priority, callerGroup);
+							this.waiters.get(priority).offerLast(waiter);
+							if (!waitCount) {
+								this.waitCount.incrementAndGet();
+								if (callerGroup != null) {
+									callerGroup.waiting(Boolean.TRUE);
+								}
+								waitCount = Boolean.TRUE;
+							}
+							//	Waiters ahead may be blocked by the limits of their caller groups
+							this.dispatch();
+						}
+					}
+					if (waiter != null) {
+						if (waiter.connection != null) {
+							connection = waiter.connection;
+							waiter = null;
+						} else if (waiter.permit) {
+							create = Boolean.TRUE;
+							waiter = null;
+						} else if (this.suspended && restart) {
+							waiter.condition.await();
+							currentDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(this.connectTimeout);
+						} else {
+							long remaining = currentDeadline - System.nanoTime();
+							if (remaining <= 0L) {
+								this.removeWaiter(waiter);
+								waiter = null;
+								break;
+							}
+							if (!this.suspended && !waiter.reclaimed
+									&& this.connectionBudget != null && !this.limitConnections()) {
+								//	Limited by the shared budget, try to flow the idle capacity from other data source
+								waiter.reclaimed = Boolean.TRUE;
+								reclaim = Boolean.TRUE;
+							} else {
+								waiter.condition.awaitNanos(remaining);
+								waiter.reclaimed = Boolean.FALSE;
+							}
+						}
+					}
+				} catch (InterruptedException e) {
+					this.removeWaiter(waiter);
+					interrupted = e;
+				} finally {
+					this.lock.unlock();
+				}
+
+				if (interrupted != null) {
+					this.abandon(waiter);
+					if (callerGroup != null) {
+						callerGroup.borrowed(Boolean.FALSE, System.nanoTime() - beginNanos);
+					}
+					Thread.currentThread().interrupt();
+					throw new SQLException("Obtain database connection interrupted! ", interrupted);
+				}
+
+				if (reclaim) {
+					ConnectionBudget currentBudget = this.connectionBudget;
+					if (currentBudget != null) {
+						currentBudget.reclaim(this);
+					}
+				} else if (create) {
+					connection = this.openConnection(Boolean.TRUE);
+					created = Boolean.TRUE;
+					if (connection == null) {
+						//	Creation was backed off, park as waiter for the refilled or returned connections
+						this.releaseGroup(callerGroup);
+						if (currentDeadline <= System.nanoTime()) {
+							break;
+						}
+					}
+				} else if (connection != null && this.testOnBorrow && !this.checkConnection(connection)) {
+					if (this.activeConnections.remove(connection)) {
+						this.releaseGroup(callerGroup);
+						this.destroyConnection(connection);
+					}
+					connection = null;
+				}
+			}
+		} finally {
+			if (waitCount) {
+				this.waitCount.decrementAndGet();
+				if (callerGroup != null) {
+					callerGroup.waiting(Boolean.FALSE);
+				}
+			}
+		}
 
-		this.activeConnections.remove(connection);
-		if (connection.isClosed()) {
-			return;
+		if (callerGroup != null) {
+			callerGroup.borrowed(connection != null, System.nanoTime() - beginNanos);
+			if (connection != null) {
+				this.borrowedGroups.put(connection, callerGroup);
+			}
 		}
 
-		if (this.testOnReturn && !this.checkConnection(connection)) {
+		if (rejected) {
 			if (LOGGER.isDebugEnabled()) {
-				LOGGER.debug("Invalid_Destroy_Connection");
+				LOGGER.debug("Connection_Rejected_Debug", this.getWaitCount(), this.getConcurrencyLimit());
 			}
-			this.destroyConnection(connection);
+			throw new SQLTransientConnectionException("Obtain database connection rejected by admission control! ");
+		}
+
+		if (connection == null) {
+			return null;
+		}
+
+		connection.activeConnection();
+		connection.borrowed();
+
+		if (LOGGER.isDebugEnabled()) {
+			if (created) {
+				LOGGER.debug("Connection_From_Create");
+			} else {
+				LOGGER.debug("Connection_From_Pool");
+			}
+			LOGGER.debug("Connection_Used_Time",
+					DateTimeUtils.currentUTCTimeMillis() - beginTime);
+			LOGGER.info("Check_Connection_Debug",
+					DateTimeUtils.formatDateTime(new Date(connection.getConnectedTime())),
+					DateTimeUtils.formatDateTime(new Date(connection.getLastActiveTime())));
+			LOGGER.debug("Pool_Connection_Debug", this.getActiveCount(), this.getPoolCount());
+		}
+		return connection;
+	}
+
+	/**
+	 * <h4 class="en-US">Hand off idle connections or reserved capacity to the highest priority waiters in FIFO order</h4>
+	 * <p class="en-US">Must be invoked with the pool lock held, nothing will be handed off when the data source was suspended</p>
+	 * <h4 class="zh-CN">按照先进先出的顺序将空闲连接或预留的容量移交给优先级最高的等待者</h4>
+	 * <p class="zh-CN">必须在持有连接池锁时调用，数据源暂停时不移交任何连接或容量</p>
+	 */
+	private void dispatch() {
+		if (this.suspended || this.closed) {
 			return;
 		}
+		Waiter waiter;
+		while ((waiter = this.nextWaiter(null)) != null) {
+			NeuronsConnection connection = this.connectionPools.pollFirst();
+			if (connection != null) {
+				this.activeConnections.add(connection);
+				waiter.connection = connection;
+			} else if (this.reserveCreation()) {
+				this.creatingCount++;
+				waiter.permit = Boolean.TRUE;
+			} else {
+				break;
+			}
+			if (waiter.callerGroup != null) {
+				waiter.callerGroup.acquire();
+			}
+			this.removeWaiter(waiter);
+			waiter.wakeup();
+		}
+	}
 
-		this.addConnection(connection);
+	/**
+	 * <h4 class="en-US">The highest priority admissible waiter which waiting for the longest time</h4>
+	 * <p class="en-US">
+	 * Waiters which blocked by the limits of their caller groups will be skipped, must be invoked with the pool lock held
+	 * </p>
+	 * <h4 class="zh-CN">等待时间最长的最高优先级可准入等待者</h4>
+	 * <p class="zh-CN">将跳过受调用者分组限制而阻塞的等待者，必须在持有连接池锁时调用</p>
+	 *
+	 * @param priority <span class="en-US">Lowest priority to find, <code>null</code> for all priorities</span>
+	 *                 <span class="zh-CN">查找的最低优先级，<code>null</code>表示所有优先级</span>
+	 * @return <span class="en-US">Waiter instance object or <code>null</code> if no admissible waiters</span>
+	 * <span class="zh-CN">等待者实例对象，如果没有可准入的等待者则返回<code>null</code></span>
+	 */
+	private Waiter nextWaiter(final Priority priority) {
+		for (Map.Entry<Priority, Deque<Waiter>> entry : this.waiters.entrySet()) {
+			if (priority != null && entry.getKey().compareTo(priority) > 0) {
+				break;
+			}
+			for (Waiter waiter : entry.getValue()) {
+				if (this.admitted(waiter.priority, waiter.callerGroup)) {
+					return waiter;
+				}
+			}
+		}
+		return null;
 	}
 
 	/**
-	 * <h4 class="en-US">Check current connections count in connection pool is less than the pool maximum connections</h4>
-	 * <h4 class="zh-CN">检查当前连接池中的连接数是否小于连接池最大连接数</h4>
+	 * <h4 class="en-US">Check any admissible waiter has the same or higher priority</h4>
+	 * <h4 class="zh-CN">检查是否存在相同或更高优先级的可准入等待者</h4>
+	 *
+	 * @param priority <span class="en-US">Enumeration value of connection borrowing priority</span>
+	 *                 <span class="zh-CN">借出连接的优先级枚举值</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	private boolean hasWaiterAhead(@Nonnull final Priority priority) {
+		return this.nextWaiter(priority) != null;
+	}
+
+	/**
+	 * <h4 class="en-US">Release the connection count of caller group and hand off to the waiters</h4>
+	 * <h4 class="zh-CN">释放调用者分组的连接计数并移交给等待者</h4>
+	 *
+	 * @param callerGroup <span class="en-US">Caller group instance object</span>
+	 *                    <span class="zh-CN">调用者分组实例对象</span>
+	 */
+	private void releaseGroup(final CallerGroup callerGroup) {
+		if (callerGroup == null) {
+			return;
+		}
+		this.lock.lock();
+		try {
+			callerGroup.release();
+			this.dispatch();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Remove the waiter from the waiters queue, must be invoked with the pool lock held</h4>
+	 * <h4 class="zh-CN">将等待者从等待者队列中移除，必须在持有连接池锁时调用</h4>
+	 *
+	 * @param waiter <span class="en-US">Waiter instance object</span>
+	 *               <span class="zh-CN">等待者实例对象</span>
+	 */
+	private void removeWaiter(final Waiter waiter) {
+		if (waiter != null) {
+			this.waiters.get(waiter.priority).remove(waiter);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Total waiters count, must be invoked with the pool lock held</h4>
+	 * <h4 class="zh-CN">等待者总数，必须在持有连接池锁时调用</h4>
+	 *
+	 * @return <span class="en-US">Waiters count</span>
+	 * <span class="zh-CN">等待者数量</span>
+	 */
+	private int waitersCount() {
+		return this.waiters.values().stream().mapToInt(Deque::size).sum();
+	}
+
+	/**
+	 * <h4 class="en-US">Waiters count which will be served before the borrower with given priority</h4>
+	 * <p class="en-US">Must be invoked with the pool lock held</p>
+	 * <h4 class="zh-CN">将在指定优先级的借出请求之前获取连接的等待者数量</h4>
+	 * <p class="zh-CN">必须在持有连接池锁时调用</p>
 	 *
+	 * @param priority <span class="en-US">Enumeration value of connection borrowing priority</span>
+	 *                 <span class="zh-CN">借出连接的优先级枚举值</span>
+	 * @return <span class="en-US">Waiters count</span>
+	 * <span class="zh-CN">等待者数量</span>
+	 */
+	private int waitersAhead(@Nonnull final Priority priority) {
+		int waitersCount = Globals.INITIALIZE_INT_VALUE;
+		for (Map.Entry<Priority, Deque<Waiter>> entry : this.waiters.entrySet()) {
+			if (entry.getKey().compareTo(priority) <= 0) {
+				waitersCount += entry.getValue().size();
+			}
+		}
+		return waitersCount;
+	}
+
+	/**
+	 * <h4 class="en-US">Check the borrower with given priority and caller group could be admitted</h4>
+	 * <p class="en-US">
+	 * The borrowed connections count of caller group must be less than its maximum limit, the reserved connections
+	 * could only be used by critical borrowers, and the unused guaranteed connections of other caller groups could
+	 * not be used. Must be invoked with the pool lock held.
+	 * </p>
+	 * <h4 class="zh-CN">检查指定优先级和调用者分组的借出请求是否可以准入</h4>
+	 * <p class="zh-CN">
+	 * 调用者分组借出的连接数必须小于其最大限制，预留的连接仅能由关键借出请求使用，且不能使用其他调用者分组未使用的保证连接。
+	 * 必须在持有连接池锁时调用。
+	 * </p>
+	 *
+	 * @param priority    <span class="en-US">Enumeration value of connection borrowing priority</span>
+	 *                    <span class="zh-CN">借出连接的优先级枚举值</span>
+	 * @param callerGroup <span class="en-US">Caller group instance object, <code>null</code> for not grouped</span>
+	 *                    <span class="zh-CN">调用者分组实例对象，<code>null</code>表示不分组</span>
 	 * @return <span class="en-US">Check result</span>
 	 * <span class="zh-CN">检查结果</span>
 	 */
-	private boolean needConnections() {
-		return !this.limitConnections() && (this.connectionPools.size() < this.minConnections);
+	private boolean admitted(@Nonnull final Priority priority, final CallerGroup callerGroup) {
+		if (callerGroup != null && !callerGroup.available()) {
+			return Boolean.FALSE;
+		}
+		int concurrencyLimit = this.getConcurrencyLimit();
+		if (priority != Priority.CRITICAL) {
+			concurrencyLimit -= this.reservedConnections;
+		}
+		for (CallerGroup registered : this.callerGroups.values()) {
+			if (registered != callerGroup) {
+				concurrencyLimit -= registered.unusedGuarantee();
+			}
+		}
+		return this.activeConnections.size() - this.laneConnections.size() + this.creatingCount < concurrencyLimit;
+	}
+
+	/**
+	 * <h4 class="en-US">Check the borrower should be rejected instead of joining the waiters queue</h4>
+	 * <p class="en-US">Must be invoked with the pool lock held</p>
+	 * <h4 class="zh-CN">检查借出请求是否应被拒绝而不是加入等待者队列</h4>
+	 * <p class="zh-CN">必须在持有连接池锁时调用</p>
+	 *
+	 * @param priority  <span class="en-US">Enumeration value of connection borrowing priority</span>
+	 *                  <span class="zh-CN">借出连接的优先级枚举值</span>
+	 * @param remaining <span class="en-US">Remaining time of borrower (Unit: nanoseconds)</span>
+	 *                  <span class="zh-CN">借出请求的剩余时间（单位：纳秒）</span>
+	 * @return <span class="en-US">Borrower was rejected</span>
+	 * <span class="zh-CN">借出请求已被拒绝</span>
+	 */
+	private boolean rejectWaiter(@Nonnull final Priority priority, final long remaining) {
+		AdmissionController currentController = this.admissionController;
+		return currentController != null
+				&& currentController.reject(this.waitersCount(), this.waitersAhead(priority),
+				this.getConcurrencyLimit(), this.suspended ? Long.MAX_VALUE : remaining);
+	}
+
+	/**
+	 * <h4 class="en-US">Give back the connection or capacity which was handed off to the interrupted waiter</h4>
+	 * <p class="en-US">Waiter must be removed from the waiters queue before invoke this method</p>
+	 * <h4 class="zh-CN">归还已移交给被中断等待者的连接或容量</h4>
+	 * <p class="zh-CN">调用此方法前必须将等待者从等待者队列中移除</p>
+	 *
+	 * @param waiter <span class="en-US">Interrupted waiter instance object</span>
+	 *               <span class="zh-CN">被中断的等待者实例对象</span>
+	 */
+	private void abandon(@Nonnull final Waiter waiter) {
+		NeuronsConnection connection = null;
+		boolean release = Boolean.FALSE;
+		this.lock.lock();
+		try {
+			if ((waiter.connection != null || waiter.permit) && waiter.callerGroup != null) {
+				waiter.callerGroup.release();
+			}
+			if (waiter.connection != null && this.activeConnections.remove(waiter.connection)) {
+				if (this.suspended || this.closed) {
+					connection = waiter.connection;
+				} else {
+					this.connectionPools.offerFirst(waiter.connection);
+					this.dispatch();
+				}
+			} else if (waiter.permit) {
+				this.pendingCount--;
+				this.creatingCount--;
+				release = Boolean.TRUE;
+			}
+		} finally {
+			this.lock.unlock();
+		}
+		if (connection != null) {
+			this.destroyConnection(connection);
+		} else if (release) {
+			this.releaseCapacity();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Total physical connections count, include the connections which being created or validated</h4>
+	 * <h4 class="zh-CN">物理连接总数，包含正在创建或检查的连接</h4>
+	 *
+	 * @return <span class="en-US">Total connections count</span>
+	 * <span class="zh-CN">连接总数</span>
+	 */
+	private int totalCount() {
+		return this.activeConnections.size() + this.connectionPools.size() + this.pendingCount;
+	}
+
+	/**
+	 * <h4 class="en-US">Physical connections count of main pool, exclude the connections in the long-running lane</h4>
+	 * <h4 class="zh-CN">主连接池的物理连接数，不包含长时间运行通道中的连接</h4>
+	 *
+	 * @return <span class="en-US">Shared connections count</span>
+	 * <span class="zh-CN">共享的连接数</span>
+	 */
+	private int sharedCount() {
+		return this.totalCount() - this.laneConnections.size();
 	}
 
 	/**
@@ -454,20 +2372,97 @@ public final class NeuronsDataSource extends AbstractMBean implements DataSource
 	 * <span class="zh-CN">检查结果</span>
 	 */
 	private boolean limitConnections() {
-		return this.maxConnections < (this.getActiveCount() + this.getPoolCount());
+		return this.maxConnections <= this.sharedCount();
 	}
 
 	/**
-	 * <h4 class="en-US">Create database connection</h4>
-	 * <h4 class="zh-CN">建立数据库连接</h4>
+	 * <h4 class="en-US">Reserve capacity for creating a new connection, must be invoked with the pool lock held</h4>
+	 * <h4 class="zh-CN">为创建新连接预留容量，必须在持有连接池锁时调用</h4>
 	 *
-	 * @return <span class="en-US">Database connection instance object</span>
-	 * <span class="zh-CN">数据库连接实例对象</span>
+	 * @return <span class="en-US">Capacity was reserved</span>
+	 * <span class="zh-CN">已预留容量</span>
 	 */
-	private NeuronsConnection openConnection() {
+	private boolean reserveConnection() {
 		if (this.limitConnections()) {
-			return null;
+			return Boolean.FALSE;
+		}
+		ConnectionBudget currentBudget = this.connectionBudget;
+		if (currentBudget != null && !currentBudget.acquire(this)) {
+			return Boolean.FALSE;
+		}
+		this.pendingCount++;
+		return Boolean.TRUE;
+	}
+
+	/**
+	 * <h4 class="en-US">Reserve capacity for the borrower to create a new connection, must be invoked with the pool lock held</h4>
+	 * <p class="en-US">
+	 * After connection creation failed, borrowers will not create connection until the backoff time elapsed and only one
+	 * borrower will retry in each backoff time, the others wait for the connections refilled by the maintenance executor.
+	 * </p>
+	 * <h4 class="zh-CN">为借出请求建立新连接预留容量，必须在持有连接池锁时调用</h4>
+	 * <p class="zh-CN">建立连接失败后，借出请求在等待时间结束前不会建立连接，且每个等待时间内仅有一个借出请求重试，其他借出请求等待维护执行器补充连接。</p>
+	 *
+	 * @return <span class="en-US">Capacity was reserved</span>
+	 * <span class="zh-CN">已预留容量</span>
+	 */
+	private boolean reserveCreation() {
+		if (this.createBackoff) {
+			long currentTime = System.nanoTime();
+			if (currentTime - this.createRetryTime < 0L) {
+				return Boolean.FALSE;
+			}
+			if (!this.reserveConnection()) {
+				return Boolean.FALSE;
+			}
+			this.createRetryTime = currentTime + CREATE_BACKOFF_TIME;
+			return Boolean.TRUE;
+		}
+		return this.reserveConnection();
+	}
+
+	/**
+	 * <h4 class="en-US">Hand off to the waiters which were parked by the connection creation backoff</h4>
+	 * <h4 class="zh-CN">移交给因建立连接等待时间而等待的等待者</h4>
+	 */
+	private void retryCreation() {
+		this.lock.lock();
+		try {
+			if (this.createBackoff && System.nanoTime() - this.createRetryTime >= 0L) {
+				this.dispatch();
+			}
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Release capacity to the connection budget and wake up a waiter</h4>
+	 * <h4 class="zh-CN">将容量归还至连接预算并唤醒一个等待者</h4>
+	 */
+	private void releaseCapacity() {
+		ConnectionBudget currentBudget = this.connectionBudget;
+		if (currentBudget != null) {
+			currentBudget.release(this);
 		}
+		this.capacityAvailable();
+	}
+
+	/**
+	 * <h4 class="en-US">Create database connection using the reserved capacity</h4>
+	 * <p class="en-US">
+	 * The reserved capacity will be released and the creation of borrowers will be backed off if create connection
+	 * failed
+	 * </p>
+	 * <h4 class="zh-CN">使用已预留的容量建立数据库连接</h4>
+	 * <p class="zh-CN">如果建立连接失败，将释放已预留的容量并推迟借出请求建立连接</p>
+	 *
+	 * @param active <span class="en-US">Add connection to using list, otherwise add to the pool</span>
+	 *               <span class="zh-CN">将连接加入使用中列表，否则加入连接池</span>
+	 * @return <span class="en-US">Database connection instance object</span>
+	 * <span class="zh-CN">数据库连接实例对象</span>
+	 */
+	private NeuronsConnection openConnection(final boolean active) {
 		Properties jdbcProperties = new Properties();
 		jdbcProperties.putAll(this.jdbcProperties);
 		if (StringUtils.notBlank(this.username)) {
@@ -476,24 +2471,139 @@ public final class NeuronsDataSource extends AbstractMBean implements DataSource
 				jdbcProperties.put("password", this.password);
 			}
 		}
+		NeuronsConnection connection = null;
 		try {
-			NeuronsConnection connection =
-					new NeuronsConnection(this, DriverManager.getConnection(this.jdbcUrl, jdbcProperties),
-							this.transactional, this.cacheLimitSize);
-			if (this.testOnBorrow && !this.checkConnection(connection)) {
-				connection = null;
-			}
-			return connection;
+			connection = new NeuronsConnection(this, DriverManager.getConnection(this.jdbcUrl, jdbcProperties),
+					this.transactional, this.cacheLimitSize);
 		} catch (SQLException e) {
 			if (LOGGER.isDebugEnabled()) {
 				LOGGER.error("Create_Connection_Error");
 				LOGGER.debug("Stack_Message_Error", e);
 			}
-			return null;
+		}
+		if (connection != null && !active) {
+			//	Connection created for the pool, borrowers are not waiting for it
+			this.warmUp(connection);
+		}
+		boolean destroy = Boolean.FALSE;
+		this.lock.lock();
+		try {
+			this.pendingCount--;
+			if (active) {
+				this.creatingCount--;
+			}
+			if (connection == null) {
+				this.createBackoff = Boolean.TRUE;
+				this.createRetryTime = System.nanoTime() + CREATE_BACKOFF_TIME;
+			} else {
+				if (this.closed || (!active && (this.suspended || this.sharedCount() >= this.maxConnections))) {
+					//	Data source was closed, suspended or the pool was shrunk during creating
+					destroy = Boolean.TRUE;
+				} else if (active) {
+					this.activeConnections.add(connection);
+				} else {
+					this.connectionPools.offerLast(connection);
+					this.dispatch();
+				}
+				if (this.createBackoff) {
+					//	Database was recovered, the waiters parked by the backoff could create connection
+					this.createBackoff = Boolean.FALSE;
+					this.dispatch();
+				}
+			}
+		} finally {
+			this.lock.unlock();
+		}
+		if (connection == null) {
+			this.releaseCapacity();
+		} else if (destroy) {
+			this.destroyConnection(connection);
+			connection = null;
+		}
+		return connection;
+	}
+
+	/**
+	 * <h4 class="en-US">Process the idle connections one by one</h4>
+	 * <p class="en-US">
+	 * The idle connection will be taken out of the pool and counted as pending during the processing,
+	 * so the borrowers will not obtain it and the connections count will not be changed.
+	 * </p>
+	 * <h4 class="zh-CN">逐个处理空闲连接</h4>
+	 * <p class="zh-CN">处理期间空闲连接将从连接池中取出并计为待创建连接，因此借出请求不会获取该连接且连接数不会改变。</p>
+	 *
+	 * @param consumer <span class="en-US">Process operator of idle connection</span>
+	 *                 <span class="zh-CN">空闲连接的处理操作</span>
+	 */
+	private void idleConnections(@Nonnull final Consumer<NeuronsConnection> consumer) {
+		List<NeuronsConnection> connections;
+		this.lock.lock();
+		try {
+			connections = new ArrayList<>(this.connectionPools);
+		} finally {
+			this.lock.unlock();
+		}
+		for (NeuronsConnection connection : connections) {
+			this.lock.lock();
+			try {
+				if (this.closed || !this.connectionPools.remove(connection)) {
+					continue;
+				}
+				this.pendingCount++;
+			} finally {
+				this.lock.unlock();
+			}
+			consumer.accept(connection);
+			boolean destroy = Boolean.FALSE;
+			this.lock.lock();
+			try {
+				this.pendingCount--;
+				if (this.closed) {
+					destroy = Boolean.TRUE;
+				} else {
+					this.connectionPools.offerLast(connection);
+					this.dispatch();
+				}
+			} finally {
+				this.lock.unlock();
+			}
+			if (destroy) {
+				this.destroyConnection(connection);
+			}
 		}
 	}
 
-	private boolean checkConnection(@Nonnull final NeuronsConnection connection) {
+	/**
+	 * <h4 class="en-US">Prepare the hot statements of the popularity profile by given connection</h4>
+	 * <h4 class="zh-CN">使用指定连接预先创建热度统计中的热点查询</h4>
+	 *
+	 * @param connection <span class="en-US">Database connection instance object</span>
+	 *                   <span class="zh-CN">数据库连接实例对象</span>
+	 */
+	private void warmUp(@Nonnull final NeuronsConnection connection) {
+		int warmUpCount = (this.warmUpSize < 0)
+				? this.cacheSizeLimit()
+				: Math.min(this.warmUpSize, this.cacheSizeLimit());
+		List<StatementKey> hotStatements = this.statementProfile.hotStatements(warmUpCount);
+		if (hotStatements.isEmpty()) {
+			return;
+		}
+		int preparedCount = connection.warmUp(hotStatements);
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Connection_Warm_Up_Debug", preparedCount);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Validate given connection</h4>
+	 * <h4 class="zh-CN">检查指定的连接</h4>
+	 *
+	 * @param connection <span class="en-US">Database connection instance object</span>
+	 *                   <span class="zh-CN">数据库连接实例对象</span>
+	 * @return <span class="en-US">Connection was valid</span>
+	 * <span class="zh-CN">连接有效</span>
+	 */
+	boolean checkConnection(@Nonnull final NeuronsConnection connection) {
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug("Check_Connection_Debug",
 					DateTimeUtils.formatDateTime(new Date(connection.getConnectedTime())),
@@ -508,173 +2618,159 @@ public final class NeuronsDataSource extends AbstractMBean implements DataSource
 			}
 			validate = Boolean.FALSE;
 		}
-
-		if (!validate) {
-			this.destroyConnection(connection);
-		}
 		return validate;
 	}
 
-	private void destroyConnection(final NeuronsConnection connection) {
+	/**
+	 * <h4 class="en-US">Close the JDBC statement of given cached statement</h4>
+	 * <h4 class="zh-CN">关闭指定的可缓存查询分析器中的JDBC查询分析器</h4>
+	 *
+	 * @param cachedStatement <span class="en-US">Cached statement instance object</span>
+	 *                        <span class="zh-CN">可缓存的查询分析器实例对象</span>
+	 */
+	private void closeStatement(@Nonnull final CachedStatement cachedStatement) {
 		try {
-			if (connection == null || connection.isClosed()) {
-				return;
-			}
-			connection.closeConnection();
+			cachedStatement.closeStatement();
 		} catch (SQLException e) {
-			LOGGER.error("Close_Connection_Error");
+			LOGGER.error("Close_Statement_Error");
 			if (LOGGER.isDebugEnabled()) {
 				LOGGER.debug("Stack_Message_Error", e);
 			}
 		}
 	}
 
-	private void addConnection(@Nonnull final NeuronsConnection connection) throws SQLException {
-		boolean destroy = Boolean.TRUE;
-		synchronized (this.connectionPools) {
-			if ((this.connectionPools.size() < this.minConnections)) {
-				connection.reset();
-				destroy = !this.connectionPools.offer(connection);
-			}
+	/**
+	 * <h4 class="en-US">Close the physical connection and release its capacity</h4>
+	 * <p class="en-US">Connection must be removed from the pool or using list before invoke this method</p>
+	 * <h4 class="zh-CN">关闭物理连接并释放其容量</h4>
+	 * <p class="zh-CN">调用此方法前必须将连接从连接池或使用中列表中移除</p>
+	 *
+	 * @param connection <span class="en-US">Database connection instance object</span>
+	 *                   <span class="zh-CN">数据库连接实例对象</span>
+	 */
+	private void destroyConnection(final NeuronsConnection connection) {
+		if (connection == null) {
+			return;
 		}
-		if (destroy) {
+		try {
+			if (!connection.isClosed()) {
+				connection.closeConnection();
+			}
+		} catch (SQLException e) {
+			LOGGER.error("Close_Connection_Error");
 			if (LOGGER.isDebugEnabled()) {
-				LOGGER.debug("Pool_Full_Destroy_Connection");
+				LOGGER.debug("Stack_Message_Error", e);
 			}
-			this.destroyConnection(connection);
+		} finally {
+			this.releaseCapacity();
 		}
 	}
 
 	private void checkConnections() {
-		synchronized (this.connectionPools) {
-			int poolSize = this.connectionPools.size(), count = Globals.INITIALIZE_INT_VALUE;
-			while (count < poolSize) {
-				NeuronsConnection connection = this.connectionPools.poll();
+		int poolSize;
+		this.lock.lock();
+		try {
+			poolSize = this.connectionPools.size();
+		} finally {
+			this.lock.unlock();
+		}
+		int count = Globals.INITIALIZE_INT_VALUE;
+		while (count < poolSize) {
+			NeuronsConnection connection;
+			this.lock.lock();
+			try {
+				connection = this.connectionPools.pollFirst();
 				if (connection == null) {
 					break;
 				}
-				if (this.checkConnection(connection)) {
-					this.connectionPools.offer(connection);
-				} else {
-					this.destroyConnection(connection);
+				//	Counted as pending connection during validate, the pool lock will not be held
+				this.pendingCount++;
+			} finally {
+				this.lock.unlock();
+			}
+			boolean validate = this.checkConnection(connection);
+			this.lock.lock();
+			try {
+				this.pendingCount--;
+				if (validate && (this.closed || this.suspended)) {
+					validate = Boolean.FALSE;
+				}
+				if (validate) {
+					this.connectionPools.offerLast(connection);
+					this.dispatch();
 				}
-				count++;
+			} finally {
+				this.lock.unlock();
 			}
+			if (!validate) {
+				this.destroyConnection(connection);
+			}
+			count++;
 		}
 	}
 
 	/**
-	 * <h2 class="en-US">Task thread to establish database connection</h2>
-	 * <h2 class="zh-CN">建立数据库连接的任务线程</h2>
-	 *
-	 * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
-	 * @version $Revision: 1.0.0 $ $Date: Nov 12, 2020 12:48:49 $
+	 * <h2 class="en-US">Waiter of obtains connection</h2>
+	 * <p class="en-US">Idle connection or reserved capacity will be handed off to the waiter with the pool lock held</p>
+	 * <h2 class="zh-CN">获取连接的等待者</h2>
+	 * <p class="zh-CN">空闲连接或预留的容量将在持有连接池锁时移交给等待者</p>
 	 */
-	private static final class CreateConnectionThread extends Thread {
+	private static final class Waiter {
 
 		/**
-		 * <span class="en-US">Data source instance object</span>
-		 * <span class="zh-CN">数据源实例对象</span>
+		 * <span class="en-US">Condition of current waiter</span>
+		 * <span class="zh-CN">当前等待者的条件</span>
 		 */
-		private final NeuronsDataSource dataSource;
+		private final Condition condition;
 		/**
-		 * <span class="en-US">Retry count if obtains connection has error</span>
-		 * <span class="zh-CN">获取连接的重试次数</span>
+		 * <span class="en-US">Enumeration value of connection borrowing priority</span>
+		 * <span class="zh-CN">借出连接的优先级枚举值</span>
 		 */
-		private int retryLimit;
+		private final Priority priority;
 		/**
-		 * <span class="en-US">Task stopped status</span>
-		 * <span class="zh-CN">任务停止运行状态</span>
+		 * <span class="en-US">Caller group instance object, <code>null</code> for not grouped</span>
+		 * <span class="zh-CN">调用者分组实例对象，<code>null</code>表示不分组</span>
 		 */
-		private boolean stopped = Boolean.FALSE;
+		private final CallerGroup callerGroup;
+		/**
+		 * <span class="en-US">Idle connection which handed off to current waiter</span>
+		 * <span class="zh-CN">移交给当前等待者的空闲连接</span>
+		 */
+		private NeuronsConnection connection = null;
+		/**
+		 * <span class="en-US">Capacity was reserved for current waiter to create new connection</span>
+		 * <span class="zh-CN">已为当前等待者预留创建新连接的容量</span>
+		 */
+		private boolean permit = Boolean.FALSE;
+		/**
+		 * <span class="en-US">Capacity was reclaimed from the shared budget during current wait</span>
+		 * <span class="zh-CN">当前等待期间已从共享预算中回收容量</span>
+		 */
+		private boolean reclaimed = Boolean.FALSE;
 
 		/**
-		 * <h4 class="en-US">Constructor method for task thread to establish database connection</h4>
-		 * <h4 class="zh-CN">建立数据库连接的任务线程的构造方法</h4>
+		 * <h4 class="en-US">Constructor method for waiter of obtains connection</h4>
+		 * <h4 class="zh-CN">获取连接的等待者的构造方法</h4>
 		 *
-		 * @param retryLimit <span class="en-US">Retry count if obtains connection has error</span>
-		 *                   <span class="zh-CN">获取连接的重试次数</span>
-		 * @param dataSource <span class="en-US">Data source instance object</span>
-		 *                   <span class="zh-CN">数据源实例对象</span>
+		 * @param condition   <span class="en-US">Condition of current waiter</span>
+		 *                    <span class="zh-CN">当前等待者的条件</span>
+		 * @param priority    <span class="en-US">Enumeration value of connection borrowing priority</span>
+		 *                    <span class="zh-CN">借出连接的优先级枚举值</span>
+		 * @param callerGroup <span class="en-US">Caller group instance object, <code>null</code> for not grouped</span>
+		 *                    <span class="zh-CN">调用者分组实例对象，<code>null</code>表示不分组</span>
 		 */
-		CreateConnectionThread(final NeuronsDataSource dataSource, final int retryLimit) {
-			this.setDaemon(Boolean.TRUE);
-			this.dataSource = dataSource;
-			this.retryLimit = retryLimit;
-		}
-
-		@Override
-		public void run() {
-			if (this.dataSource.limitConnections()) {
-				return;
-			}
-			if (LOGGER.isDebugEnabled()) {
-				LOGGER.debug("Create_Connection_Begin_Debug");
-			}
-			this.dataSource.checkConnections();
-			int retryCount = Globals.INITIALIZE_INT_VALUE;
-			boolean process = Boolean.TRUE;
-			while (process) {
-				if (this.stopped) {
-					break;
-				}
-				if (this.dataSource.needConnections()) {
-					boolean waitConnect = Boolean.FALSE;
-					NeuronsConnection connection = this.dataSource.openConnection();
-					if (connection == null) {
-						waitConnect = Boolean.TRUE;
-					} else {
-						try {
-							this.dataSource.addConnection(connection);
-						} catch (SQLException e) {
-							LOGGER.error("Create_Connection_Error");
-							if (LOGGER.isDebugEnabled()) {
-								LOGGER.debug("Stack_Message_Error", e);
-							}
-							waitConnect = Boolean.TRUE;
-						}
-					}
-					if (waitConnect) {
-						if (retryCount < this.retryLimit) {
-							try {
-								//  Wait 1 second and retry
-								Thread.sleep(1000L);
-							} catch (InterruptedException e) {
-								LOGGER.error("Thread_Sleep_Error");
-								if (LOGGER.isDebugEnabled()) {
-									LOGGER.debug("Stack_Message_Error", e);
-								}
-								process = Boolean.FALSE;
-							}
-						} else {
-							process = Boolean.FALSE;
-						}
-					}
-				} else {
-					process = Boolean.FALSE;
-				}
-			}
-
-			if (LOGGER.isDebugEnabled()) {
-				LOGGER.debug("Create_Connection_End_Debug");
-			}
-		}
-
-		@Override
-		public void interrupt() {
-			super.interrupt();
-			this.stopped = Boolean.TRUE;
+		Waiter(@Nonnull final Condition condition, @Nonnull final Priority priority, final CallerGroup callerGroup) {
+			this.condition = condition;
+			this.priority = priority;
+			this.callerGroup = callerGroup;
 		}
 
 		/**
-		 * <h4 class="en-US">Setter method for retry count if obtains connection has error</h4>
-		 * <h4 class="zh-CN">获取连接的重试次数的Setter方法</h4>
-		 *
-		 * @param retryLimit <span class="en-US">Retry count if obtains connection has error</span>
-		 *                   <span class="zh-CN">获取连接的重试次数</span>
+		 * <h4 class="en-US">Wake up current waiter, must be invoked with the pool lock held</h4>
+		 * <h4 class="zh-CN">唤醒当前等待者，必须在持有连接池锁时调用</h4>
 		 */
-		public void setRetryLimit(int retryLimit) {
-			this.retryLimit = retryLimit;
+		void wakeup() {
+			this.condition.signal();
 		}
 	}
 }
@@ -55,6 +55,80 @@ public interface NeuronsDataSourceMBean {
 	 */
 	boolean isClosed();
 
+	/**
+	 * <h4 class="en-US">Data source was suspended</h4>
+	 * <h4 class="zh-CN">数据源已经暂停</h4>
+	 *
+	 * @return <span class="en-US">Suspend status of data source</span>
+	 * <span class="zh-CN">数据源暂停状态</span>
+	 */
+	boolean isSuspended();
+
+	/**
+	 * <h4 class="en-US">Current concurrency limit of borrowed connections</h4>
+	 * <h4 class="zh-CN">借出连接的当前并发限制</h4>
+	 *
+	 * @return <span class="en-US">Concurrency limit</span>
+	 * <span class="zh-CN">并发限制</span>
+	 */
+	int getConcurrencyLimit();
+
+	/**
+	 * <h4 class="en-US">Borrowers count which rejected by admission control</h4>
+	 * <h4 class="zh-CN">被准入控制拒绝的借出请求数</h4>
+	 *
+	 * @return <span class="en-US">Rejected borrowers count</span>
+	 * <span class="zh-CN">已拒绝的借出请求数</span>
+	 */
+	long getRejectedCount();
+
+	/**
+	 * <h4 class="en-US">Borrowed connections count in the long-running lane</h4>
+	 * <h4 class="zh-CN">长时间运行通道中的借出连接数</h4>
+	 *
+	 * @return <span class="en-US">Connections count of long-running lane</span>
+	 * <span class="zh-CN">长时间运行通道的连接数</span>
+	 */
+	int getLaneCount();
+
+	/**
+	 * <h4 class="en-US">Opened JDBC statements count of all connections</h4>
+	 * <h4 class="zh-CN">所有连接已打开的JDBC查询分析器数</h4>
+	 *
+	 * @return <span class="en-US">Opened statements count</span>
+	 * <span class="zh-CN">已打开的查询分析器数</span>
+	 */
+	int getStatementCount();
+
+	/**
+	 * <h4 class="en-US">Statements count which evicted from the statement cache</h4>
+	 * <h4 class="zh-CN">从查询分析器缓存中淘汰的查询分析器数</h4>
+	 *
+	 * @return <span class="en-US">Evicted statements count</span>
+	 * <span class="zh-CN">已淘汰的查询分析器数</span>
+	 */
+	long getEvictedCount();
+
+	/**
+	 * <h4 class="en-US">Estimated memory weight of statement caches of all connections</h4>
+	 * <h4 class="zh-CN">所有连接的查询分析器缓存的估计内存权重</h4>
+	 *
+	 * @return <span class="en-US">Estimated memory weight (Unit: bytes)</span>
+	 * <span class="zh-CN">估计的内存权重（单位：字节）</span>
+	 */
+	long getCacheWeight();
+
+	/**
+	 * <h4 class="en-US">Ratio of statement cache limits under current heap pressure</h4>
+	 * <p class="en-US">The cached limit value and the memory budget of statement were shrunk by the ratio</p>
+	 * <h4 class="zh-CN">当前堆内存压力下查询分析器缓存限制的比例</h4>
+	 * <p class="zh-CN">缓存的查询分析器最大值和内存预算将按此比例收缩</p>
+	 *
+	 * @return <span class="en-US">Cache ratio between 0.0 and 1.0</span>
+	 * <span class="zh-CN">0.0至1.0之间的缓存比例</span>
+	 */
+	double getCacheRatio();
+
 	/**
 	 * <h4 class="en-US">Configure minimum connection limit of database connection pool</h4>
 	 * <h4 class="zh-CN">设置数据库连接池最小连接数</h4>
@@ -73,6 +147,15 @@ public interface NeuronsDataSourceMBean {
 	 */
 	void maxConnections(final int maxConnections);
 
+	/**
+	 * <h4 class="en-US">Configure reserved connections count which could only be used by critical borrowers</h4>
+	 * <h4 class="zh-CN">设置仅能由关键借出请求使用的预留连接数</h4>
+	 *
+	 * @param reservedConnections <span class="en-US">Reserved connections count</span>
+	 *                            <span class="zh-CN">预留连接数</span>
+	 */
+	void reservedConnections(final int reservedConnections);
+
 	/**
 	 * <h4 class="en-US">Configure timeout value of database connection validate check</h4>
 	 * <h4 class="zh-CN">设置连接检查超时时间</h4>
@@ -100,6 +183,45 @@ public interface NeuronsDataSourceMBean {
 	 */
 	void cacheLimitSize(int cacheLimitSize);
 
+	/**
+	 * <h4 class="en-US">Configure hot statements count which prepared by the new connections before entering the pool</h4>
+	 * <p class="en-US">Negative value for the cached limit value of statement, <code>0</code> for disable the warm-up</p>
+	 * <h4 class="zh-CN">设置新连接加入连接池前预先创建的热点查询数</h4>
+	 * <p class="zh-CN">负数表示使用缓存的查询分析器最大值，<code>0</code>表示禁用预热</p>
+	 *
+	 * @param warmUpSize <span class="en-US">Hot statements count</span>
+	 *                   <span class="zh-CN">热点查询数</span>
+	 */
+	void warmUpSize(final int warmUpSize);
+
+	/**
+	 * <h4 class="en-US">Configure memory budget of statement caches of all connections</h4>
+	 * <p class="en-US">
+	 * The budget was shared fairly by the opened connections, the cached statements above the share will be evicted.
+	 * Negative value for unlimited, the statement caches were only limited by the cached limit value of statement.
+	 * </p>
+	 * <h4 class="zh-CN">设置所有连接的查询分析器缓存的内存预算</h4>
+	 * <p class="zh-CN">预算由已打开的连接平均分享，超出份额的已缓存查询分析器将被淘汰。负数表示不限制，查询分析器缓存仅受缓存的查询分析器最大值限制。</p>
+	 *
+	 * @param cacheMemorySize <span class="en-US">Memory budget (Unit: bytes)</span>
+	 *                        <span class="zh-CN">内存预算（单位：字节）</span>
+	 */
+	void cacheMemorySize(final long cacheMemorySize);
+
+	/**
+	 * <h4 class="en-US">Configure the plain statements were reused by the statement cache</h4>
+	 * <p class="en-US">
+	 * Plain statements were reused by the result set type, concurrency and holdability, and reset when the borrower
+	 * closes it. The plain statements will be passed through to the driver if disabled.
+	 * </p>
+	 * <h4 class="zh-CN">设置普通查询执行器是否由查询分析器缓存复用</h4>
+	 * <p class="zh-CN">普通查询执行器按结果集类型、并发性和可保持性复用，借用者关闭时重置。禁用时普通查询执行器直接由驱动创建。</p>
+	 *
+	 * @param plainStatementCaching <span class="en-US">Plain statements were reused</span>
+	 *                              <span class="zh-CN">普通查询执行器被复用</span>
+	 */
+	void plainStatementCaching(final boolean plainStatementCaching);
+
 	/**
 	 * <h4 class="en-US">Configure retry limit value of create connection if failed</h4>
 	 * <h4 class="zh-CN">设置获取数据库连接的最大重试次数</h4>
@@ -126,4 +248,51 @@ public interface NeuronsDataSourceMBean {
 	 *                 <span class="zh-CN">密码</span>
 	 */
 	void password(final String password);
+
+	/**
+	 * <h4 class="en-US">Mark all current connections for retirement</h4>
+	 * <p class="en-US">
+	 * Retired connections will be closed on return instead of being reused,
+	 * the idle retired connections will be replaced gradually by the maintenance task.
+	 * </p>
+	 * <h4 class="zh-CN">将当前所有连接标记为待退役</h4>
+	 * <p class="zh-CN">待退役的连接在归还时将被关闭而不再重用，空闲的待退役连接将由维护任务逐步替换。</p>
+	 */
+	void softEvictConnections();
+
+	/**
+	 * <h4 class="en-US">Replace all connections of the pool in the background</h4>
+	 * <p class="en-US">
+	 * Mark all current connections for retirement, and replace the idle retired connections with new connections
+	 * one by one in the background. The borrowers will not be rejected during the replacement.
+	 * </p>
+	 * <h4 class="zh-CN">在后台替换连接池中的所有连接</h4>
+	 * <p class="zh-CN">将当前所有连接标记为待退役，并在后台使用新连接逐个替换空闲的待退役连接。替换期间不会拒绝借出请求。</p>
+	 */
+	void drainAndRefill();
+
+	/**
+	 * <h4 class="en-US">Remove all cached statement metadata, should be invoked after the database schema was changed</h4>
+	 * <h4 class="zh-CN">移除所有已缓存的查询元数据，应在数据库结构变更后调用</h4>
+	 */
+	void clearMetaDataCache();
+
+	/**
+	 * <h4 class="en-US">Suspend the connection admission for maintenance window</h4>
+	 * <p class="en-US">
+	 * New borrowers will be parked without timeout until resumed, the borrowed connections could be used until
+	 * they were returned, idle and returned connections will be closed during the suspension.
+	 * </p>
+	 * <h4 class="zh-CN">在维护窗口期间暂停连接的借出</h4>
+	 * <p class="zh-CN">新的借出请求将无超时地挂起直至恢复，已借出的连接可继续使用直至归还，暂停期间空闲和归还的连接将被关闭。</p>
+	 */
+	void suspend();
+
+	/**
+	 * <h4 class="en-US">Resume the connection admission</h4>
+	 * <p class="en-US">Refill the pool in parallel and hand off the connections to the parked borrowers in FIFO order.</p>
+	 * <h4 class="zh-CN">恢复连接的借出</h4>
+	 * <p class="zh-CN">并行填充连接池，并按照先进先出的顺序将连接移交给挂起的借出请求。</p>
+	 */
+	void resume();
 }
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.neurons;
+
+/**
+ * <h2 class="en-US">Enumeration value of connection pooling mode</h2>
+ * <p class="en-US">Pooling mode determines how long the physical connection was bound to the connection obtained by application</p>
+ * <h2 class="zh-CN">连接池模式枚举值</h2>
+ * <p class="zh-CN">连接池模式决定物理连接绑定到应用程序获取的连接上的时长</p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 19:46:13 $
+ */
+public enum PoolingMode {
+	/**
+	 * <span class="en-US">Session pooling, physical connection was bound until the connection was closed</span>
+	 * <span class="zh-CN">会话模式，物理连接绑定至连接关闭</span>
+	 */
+	SESSION,
+	/**
+	 * <span class="en-US">
+	 * Transaction pooling, physical connection was bound only while a transaction is open or an autocommit
+	 * statement is not closed, and returned to the pool as soon as the transaction ends
+	 * </span>
+	 * <span class="zh-CN">事务模式，物理连接仅在事务进行中或自动提交的查询未关闭时绑定，事务结束后立即归还至连接池</span>
+	 */
+	TRANSACTION,
+	/**
+	 * <span class="en-US">
+	 * Lazy session pooling, physical connection was bound when the first statement was prepared or executed,
+	 * and bound until the connection was closed
+	 * </span>
+	 * <span class="zh-CN">延迟会话模式，物理连接在准备或执行第一个查询时绑定，并绑定至连接关闭</span>
+	 */
+	LAZY
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.neurons;
+
+/**
+ * <h2 class="en-US">Enumeration value of connection borrowing priority</h2>
+ * <p class="en-US">
+ * When the pool was saturated, the returned connections will be handed off to the waiter with the highest priority,
+ * waiters with the same priority were served in FIFO order.
+ * </p>
+ * <h2 class="zh-CN">借出连接的优先级枚举值</h2>
+ * <p class="zh-CN">当连接池已饱和时，归还的连接将移交给优先级最高的等待者，相同优先级的等待者按照先进先出的顺序获取连接。</p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 16:52:07 $
+ */
+public enum Priority {
+	/**
+	 * <span class="en-US">Critical priority, could use the reserved connections</span>
+	 * <span class="zh-CN">关键优先级，可以使用预留的连接</span>
+	 */
+	CRITICAL,
+	/**
+	 * <span class="en-US">Normal priority</span>
+	 * <span class="zh-CN">普通优先级</span>
+	 */
+	NORMAL,
+	/**
+	 * <span class="en-US">Batch priority, served after other waiters</span>
+	 * <span class="zh-CN">批处理优先级，在其他等待者之后获取连接</span>
+	 */
+	BATCH
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.neurons;
+
+import jakarta.annotation.Nonnull;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * <h2 class="en-US">Invocation handler of JDBC resources created through a connection handle</h2>
+ * <p class="en-US">
+ * Statements, result sets and database metadata created through a connection handle report their owner
+ * (the connection handle or the statement handle) instead of the pooled connection, so the borrower could not
+ * reach and close the pooled connection which was owned by the handle.
+ * </p>
+ * <h2 class="zh-CN">通过连接句柄创建的JDBC资源的调用处理器</h2>
+ * <p class="zh-CN">
+ * 通过连接句柄创建的查询、结果集和数据库元数据返回其所有者（连接句柄或查询句柄）而非连接池中的连接，
+ * 因此借用者无法获取并关闭由句柄持有的连接池连接。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 21:12:40 $
+ */
+final class ResourceHandler implements InvocationHandler {
+
+	/**
+	 * <span class="en-US">Owner handle which reported by <code>getConnection()</code> or <code>getStatement()</code></span>
+	 * <span class="zh-CN">由<code>getConnection()</code>或<code>getStatement()</code>返回的所有者句柄</span>
+	 */
+	private final Object owner;
+	/**
+	 * <span class="en-US">Target resource instance object</span>
+	 * <span class="zh-CN">目标资源实例对象</span>
+	 */
+	private final Object target;
+	/**
+	 * <span class="en-US">Opened statements set of owner connection, <code>null</code> for not tracked</span>
+	 * <span class="zh-CN">所有者连接已打开的查询集合，<code>null</code>表示不跟踪</span>
+	 */
+	private final Set<Statement> openedStatements;
+
+	/**
+	 * <h4 class="en-US">Constructor method for invocation handler of JDBC resources</h4>
+	 * <h4 class="zh-CN">JDBC资源的调用处理器的构造方法</h4>
+	 *
+	 * @param owner            <span class="en-US">Owner handle instance object</span>
+	 *                         <span class="zh-CN">所有者句柄实例对象</span>
+	 * @param target           <span class="en-US">Target resource instance object</span>
+	 *                         <span class="zh-CN">目标资源实例对象</span>
+	 * @param openedStatements <span class="en-US">Opened statements set, <code>null</code> for not tracked</span>
+	 *                         <span class="zh-CN">已打开的查询集合，<code>null</code>表示不跟踪</span>
+	 */
+	private ResourceHandler(@Nonnull final Object owner, @Nonnull final Object target,
+	                        final Set<Statement> openedStatements) {
+		this.owner = owner;
+		this.target = target;
+		this.openedStatements = openedStatements;
+	}
+
+	/**
+	 * <h4 class="en-US">Wrap the result of method invoked on the connection through the connection handle</h4>
+	 * <h4 class="zh-CN">包装通过连接句柄调用连接方法的返回结果</h4>
+	 *
+	 * @param handle           <span class="en-US">Connection handle instance object</span>
+	 *                         <span class="zh-CN">连接句柄实例对象</span>
+	 * @param method           <span class="en-US">Invoked method</span>
+	 *                         <span class="zh-CN">调用的方法</span>
+	 * @param result           <span class="en-US">Result of invoked method</span>
+	 *                         <span class="zh-CN">调用方法的返回结果</span>
+	 * @param openedStatements <span class="en-US">Opened statements set, <code>null</code> for not tracked</span>
+	 *                         <span class="zh-CN">已打开的查询集合，<code>null</code>表示不跟踪</span>
+	 * @return <span class="en-US">Wrapped resource if the result is a statement or database metadata, otherwise the result</span>
+	 * <span class="zh-CN">如果返回结果为查询或数据库元数据则返回包装后的资源，否则返回原结果</span>
+	 */
+	static Object wrap(@Nonnull final Connection handle, @Nonnull final Method method, final Object result,
+	                   final Set<Statement> openedStatements) {
+		if (result instanceof Statement statement) {
+			if (openedStatements != null) {
+				openedStatements.add(statement);
+			}
+			return proxy(method.getReturnType(), handle, statement, openedStatements);
+		}
+		if (result instanceof DatabaseMetaData) {
+			return proxy(DatabaseMetaData.class, handle, result, null);
+		}
+		return result;
+	}
+
+	@Override
+	public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+		switch (method.getName()) {
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "getConnection", "getStatement":
+				if (method.getParameterCount() == 0) {
+					return this.owner;
+				}
+				break;
+			case "close":
+				if (this.openedStatements != null && this.target instanceof Statement statement) {
+					this.openedStatements.remove(statement);
+				}
+				break;
+			default:
+				break;
+		}
+		Object result;
+		try {
+			result = method.invoke(this.target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+		if (this.target instanceof Statement && result instanceof ResultSet) {
+			return proxy(ResultSet.class, proxy, result, null);
+		}
+		return result;
+	}
+
+	/**
+	 * <h4 class="en-US">Create proxy instance of the resource</h4>
+	 * <h4 class="zh-CN">创建资源的代理实例</h4>
+	 *
+	 * @param interfaceClass   <span class="en-US">Interface class of the resource</span>
+	 *                         <span class="zh-CN">资源的接口类</span>
+	 * @param owner            <span class="en-US">Owner handle instance object</span>
+	 *                         <span class="zh-CN">所有者句柄实例对象</span>
+	 * @param target           <span class="en-US">Target resource instance object</span>
+	 *                         <span class="zh-CN">目标资源实例对象</span>
+	 * @param openedStatements <span class="en-US">Opened statements set, <code>null</code> for not tracked</span>
+	 *                         <span class="zh-CN">已打开的查询集合，<code>null</code>表示不跟踪</span>
+	 * @return <span class="en-US">Proxy instance object</span>
+	 * <span class="zh-CN">代理实例对象</span>
+	 */
+	private static Object proxy(@Nonnull final Class<?> interfaceClass, @Nonnull final Object owner,
+	                            @Nonnull final Object target, final Set<Statement> openedStatements) {
+		return Proxy.newProxyInstance(interfaceClass.getClassLoader(), new Class<?>[]{interfaceClass},
+				new ResourceHandler(owner, target, openedStatements));
+	}
+}
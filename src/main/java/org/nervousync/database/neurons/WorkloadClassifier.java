@@ -0,0 +1,317 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.neurons;
+
+import org.nervousync.commons.Globals;
+import org.nervousync.database.neurons.statement.StatementKey;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2 class="en-US">Workload classifier of statements</h2>
+ * <p class="en-US">
+ * Learns the average execution time of each statement identity from the historical executions. Connections which
+ * execute the long-running statements will be moved into the long-running lane, the lane has its own connections
+ * limit and does not occupy the capacity of main pool, so the short queries never queue behind the analytics queries.
+ * Connection stays in the lane until it was returned. Execution frequencies of tracked statements were halved
+ * periodically, the rarely executed statements will be removed to make room for the new statements.
+ * </p>
+ * <h2 class="zh-CN">查询的工作负载分类器</h2>
+ * <p class="zh-CN">
+ * 根据历史执行记录学习每个查询标识的平均执行时间。执行长时间运行查询的连接将被移入长时间运行通道，通道拥有独立的连接数限制，
+ * 且不占用主连接池的容量，因此短查询不会排在分析查询之后。连接在归还前一直保留在通道中。
+ * 已跟踪查询的执行频率将定期减半，很少执行的查询将被移除以便为新的查询腾出空间。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 18:12:35 $
+ */
+public final class WorkloadClassifier {
+
+	/**
+	 * <span class="en-US">Smoothing factor of average execution time</span>
+	 * <span class="zh-CN">平均执行时间的平滑系数</span>
+	 */
+	private static final double SMOOTHING = 0.2d;
+	/**
+	 * <span class="en-US">Default maximum count of tracked statement identities</span>
+	 * <span class="zh-CN">默认的最大跟踪查询标识数量</span>
+	 */
+	private static final int DEFAULT_MAX_STATEMENTS = 1024;
+
+	/**
+	 * <span class="en-US">Threshold of average execution time for long-running statements (Unit: nanoseconds)</span>
+	 * <span class="zh-CN">长时间运行查询的平均执行时间阈值（单位：纳秒）</span>
+	 */
+	private final long thresholdTime;
+	/**
+	 * <span class="en-US">Maximum connections count of long-running lane</span>
+	 * <span class="zh-CN">长时间运行通道的最大连接数</span>
+	 */
+	private final int maxConnections;
+	/**
+	 * <span class="en-US">Maximum count of tracked statement identities</span>
+	 * <span class="zh-CN">最大跟踪查询标识数量</span>
+	 */
+	private final int maxStatements;
+	/**
+	 * <span class="en-US">Recorded count which triggers the aging</span>
+	 * <span class="zh-CN">触发老化的记录次数</span>
+	 */
+	private final int sampleSize;
+	/**
+	 * <span class="en-US">Recorded count since last aging</span>
+	 * <span class="zh-CN">上次老化后的记录次数</span>
+	 */
+	private final AtomicInteger recordCount;
+	/**
+	 * <span class="en-US">Execution records of statement identities</span>
+	 * <span class="zh-CN">查询标识的执行记录</span>
+	 */
+	private final Map<StatementKey, Execution> executionTimes;
+	/**
+	 * <span class="en-US">Count of connections which moved into the long-running lane</span>
+	 * <span class="zh-CN">移入长时间运行通道的连接次数</span>
+	 */
+	private final AtomicLong laneTotal;
+
+	/**
+	 * <h4 class="en-US">Constructor method for workload classifier of statements</h4>
+	 * <h4 class="zh-CN">查询的工作负载分类器的构造方法</h4>
+	 *
+	 * @param thresholdTime  <span class="en-US">Threshold of average execution time for long-running statements (Unit: milliseconds)</span>
+	 *                       <span class="zh-CN">长时间运行查询的平均执行时间阈值（单位：毫秒）</span>
+	 * @param maxConnections <span class="en-US">Maximum connections count of long-running lane</span>
+	 *                       <span class="zh-CN">长时间运行通道的最大连接数</span>
+	 */
+	public WorkloadClassifier(final long thresholdTime, final int maxConnections) {
+		this(thresholdTime, maxConnections, DEFAULT_MAX_STATEMENTS);
+	}
+
+	/**
+	 * <h4 class="en-US">Constructor method for workload classifier of statements</h4>
+	 * <h4 class="zh-CN">查询的工作负载分类器的构造方法</h4>
+	 *
+	 * @param thresholdTime  <span class="en-US">Threshold of average execution time for long-running statements (Unit: milliseconds)</span>
+	 *                       <span class="zh-CN">长时间运行查询的平均执行时间阈值（单位：毫秒）</span>
+	 * @param maxConnections <span class="en-US">Maximum connections count of long-running lane</span>
+	 *                       <span class="zh-CN">长时间运行通道的最大连接数</span>
+	 * @param maxStatements  <span class="en-US">Maximum count of tracked statement identities</span>
+	 *                       <span class="zh-CN">最大跟踪查询标识数量</span>
+	 */
+	public WorkloadClassifier(final long thresholdTime, final int maxConnections, final int maxStatements) {
+		if (thresholdTime <= 0L) {
+			throw new IllegalArgumentException("Threshold time of long-running statements must be greater than 0! ");
+		}
+		if (maxConnections <= 0) {
+			throw new IllegalArgumentException("Maximum connections of long-running lane must be greater than 0! ");
+		}
+		this.thresholdTime = TimeUnit.MILLISECONDS.toNanos(thresholdTime);
+		this.maxConnections = maxConnections;
+		this.maxStatements = Math.max(maxStatements, 1);
+		this.sampleSize = this.maxStatements * 10;
+		this.recordCount = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+		this.executionTimes = new ConcurrentHashMap<>();
+		this.laneTotal = new AtomicLong(Globals.INITIALIZE_INT_VALUE);
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for threshold of average execution time for long-running statements</h4>
+	 * <h4 class="zh-CN">长时间运行查询的平均执行时间阈值的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Threshold time (Unit: milliseconds)</span>
+	 * <span class="zh-CN">阈值时间（单位：毫秒）</span>
+	 */
+	public long getThresholdTime() {
+		return TimeUnit.NANOSECONDS.toMillis(this.thresholdTime);
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for maximum connections count of long-running lane</h4>
+	 * <h4 class="zh-CN">长时间运行通道的最大连接数的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Maximum connections count</span>
+	 * <span class="zh-CN">最大连接数</span>
+	 */
+	public int getMaxConnections() {
+		return this.maxConnections;
+	}
+
+	/**
+	 * <h4 class="en-US">Count of tracked statement identities</h4>
+	 * <h4 class="zh-CN">已跟踪的查询标识数量</h4>
+	 *
+	 * @return <span class="en-US">Tracked statements count</span>
+	 * <span class="zh-CN">已跟踪的查询数量</span>
+	 */
+	public int getStatementsCount() {
+		return this.executionTimes.size();
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for count of connections which moved into the long-running lane</h4>
+	 * <h4 class="zh-CN">移入长时间运行通道的连接次数的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Moved connections count</span>
+	 * <span class="zh-CN">移入的连接次数</span>
+	 */
+	public long getLaneTotal() {
+		return this.laneTotal.get();
+	}
+
+	/**
+	 * <h4 class="en-US">Average execution time of given statement identity</h4>
+	 * <h4 class="zh-CN">指定查询标识的平均执行时间</h4>
+	 *
+	 * @param identifyKey <span class="en-US">Identification code of statement</span>
+	 *                    <span class="zh-CN">查询的唯一识别代码</span>
+	 * @return <span class="en-US">Average execution time (Unit: milliseconds), -1 if the statement was not tracked</span>
+	 * <span class="zh-CN">平均执行时间（单位：毫秒），如果查询未被跟踪则返回-1</span>
+	 */
+	public long getExecutionTime(final StatementKey identifyKey) {
+		Execution execution = (identifyKey == null) ? null : this.executionTimes.get(identifyKey);
+		return (execution == null)
+				? Globals.DEFAULT_VALUE_LONG
+				: TimeUnit.NANOSECONDS.toMillis((long) execution.executionTime);
+	}
+
+	/**
+	 * <h4 class="en-US">Check the given statement identity was classified as long-running</h4>
+	 * <h4 class="zh-CN">检查指定的查询标识是否被分类为长时间运行</h4>
+	 *
+	 * @param identifyKey <span class="en-US">Identification code of statement</span>
+	 *                    <span class="zh-CN">查询的唯一识别代码</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	public boolean isLongRunning(final StatementKey identifyKey) {
+		Execution execution = (identifyKey == null) ? null : this.executionTimes.get(identifyKey);
+		return execution != null && execution.executionTime >= this.thresholdTime;
+	}
+
+	/**
+	 * <h4 class="en-US">Record the execution time of given statement identity</h4>
+	 * <p class="en-US">
+	 * New statement identities will not be tracked when the tracked count reaches the limit, until the rarely executed
+	 * statements were removed by the aging. Plain statements share one identity for any SQL command, they will not
+	 * be tracked, so one slow ad-hoc query could not classify all dynamic SQL as long-running.
+	 * </p>
+	 * <h4 class="zh-CN">记录指定查询标识的执行时间</h4>
+	 * <p class="zh-CN">
+	 * 当跟踪数量达到上限时，在老化移除很少执行的查询之前，将不再跟踪新的查询标识。普通查询执行器的任意SQL语句共享同一个标识，
+	 * 因此不进行跟踪，避免一个缓慢的临时查询将所有动态SQL分类为长时间运行。
+	 * </p>
+	 *
+	 * @param identifyKey <span class="en-US">Identification code of statement</span>
+	 *                    <span class="zh-CN">查询的唯一识别代码</span>
+	 * @param elapsedTime <span class="en-US">Execution time of statement (Unit: nanoseconds)</span>
+	 *                    <span class="zh-CN">查询执行时间（单位：纳秒）</span>
+	 */
+	void executed(final StatementKey identifyKey, final long elapsedTime) {
+		if (identifyKey == null || identifyKey.isPlainStatement() || elapsedTime < 0L) {
+			return;
+		}
+		if (this.executionTimes.containsKey(identifyKey) || this.executionTimes.size() < this.maxStatements) {
+			this.executionTimes.merge(identifyKey, new Execution(elapsedTime, 1L), Execution::merge);
+		}
+		//	Only one thread reaches the sample size exactly
+		if (this.recordCount.incrementAndGet() == this.sampleSize) {
+			this.recordCount.addAndGet(-this.sampleSize);
+			this.age();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Record a connection was moved into the long-running lane</h4>
+	 * <h4 class="zh-CN">记录一个连接已移入长时间运行通道</h4>
+	 */
+	void laned() {
+		this.laneTotal.incrementAndGet();
+	}
+
+	/**
+	 * <h4 class="en-US">Halve the execution frequencies and remove the statements which frequency reaches zero</h4>
+	 * <h4 class="zh-CN">将执行频率减半，并移除频率为零的查询</h4>
+	 */
+	private void age() {
+		this.executionTimes.replaceAll((identifyKey, execution) -> execution.age());
+		this.executionTimes.values().removeIf(execution -> execution.frequency == 0L);
+	}
+
+	/**
+	 * <h2 class="en-US">Execution record of statement identity</h2>
+	 * <p class="en-US">Immutable record, replaced on each update so the aging removal will not drop the updated record</p>
+	 * <h2 class="zh-CN">查询标识的执行记录</h2>
+	 * <p class="zh-CN">不可变记录，每次更新时替换，避免老化移除已更新的记录</p>
+	 */
+	private static final class Execution {
+
+		/**
+		 * <span class="en-US">Average execution time (Unit: nanoseconds)</span>
+		 * <span class="zh-CN">平均执行时间（单位：纳秒）</span>
+		 */
+		private final double executionTime;
+		/**
+		 * <span class="en-US">Execution frequency since tracked, halved by aging</span>
+		 * <span class="zh-CN">开始跟踪以来的执行频率，老化时减半</span>
+		 */
+		private final long frequency;
+
+		/**
+		 * <h4 class="en-US">Constructor method for execution record of statement identity</h4>
+		 * <h4 class="zh-CN">查询标识的执行记录的构造方法</h4>
+		 *
+		 * @param executionTime <span class="en-US">Average execution time (Unit: nanoseconds)</span>
+		 *                      <span class="zh-CN">平均执行时间（单位：纳秒）</span>
+		 * @param frequency     <span class="en-US">Execution frequency</span>
+		 *                      <span class="zh-CN">执行频率</span>
+		 */
+		Execution(final double executionTime, final long frequency) {
+			this.executionTime = executionTime;
+			this.frequency = frequency;
+		}
+
+		/**
+		 * <h4 class="en-US">Merge the current execution into the record</h4>
+		 * <h4 class="zh-CN">将当前执行合并至记录</h4>
+		 *
+		 * @param current <span class="en-US">Current execution record</span>
+		 *                <span class="zh-CN">当前执行记录</span>
+		 * @return <span class="en-US">Merged execution record</span>
+		 * <span class="zh-CN">合并后的执行记录</span>
+		 */
+		Execution merge(final Execution current) {
+			return new Execution(this.executionTime + SMOOTHING * (current.executionTime - this.executionTime),
+					this.frequency + current.frequency);
+		}
+
+		/**
+		 * <h4 class="en-US">Halve the execution frequency</h4>
+		 * <h4 class="zh-CN">将执行频率减半</h4>
+		 *
+		 * @return <span class="en-US">Aged execution record</span>
+		 * <span class="zh-CN">老化后的执行记录</span>
+		 */
+		Execution age() {
+			return new Execution(this.executionTime, this.frequency >>> 1);
+		}
+	}
+}
@@ -0,0 +1,1416 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.neurons.connection;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.commons.Globals;
+import org.nervousync.database.neurons.NeuronsDataSource;
+import org.nervousync.database.neurons.PoolingMode;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+/**
+ * <h2 class="en-US">Logical connection implement class</h2>
+ * <p class="en-US">
+ * Lightweight connection handle held by application, the physical connection will be borrowed from the data source
+ * when the first statement was created, and returned to the pool according to the pooling mode. Borrowing the logical
+ * connection does not occupy the pool, so the handlers which never issue SQL do not count in the active connections.
+ * Session settings
+ * (autocommit, read-only, transaction isolation, catalog, schema, holdability, type map and client info) were
+ * recorded and replayed when the physical connection was bound.
+ * </p>
+ * <h2 class="zh-CN">逻辑连接实现类</h2>
+ * <p class="zh-CN">
+ * 应用程序持有的轻量连接句柄，在创建第一个查询时从数据源借出物理连接，并根据连接池模式归还至连接池。
+ * 获取逻辑连接不占用连接池，因此从不执行SQL的处理程序不会计入使用中的连接数。
+ * 会话设置（自动提交、只读、事务隔离级别、目录、模式、结果集保持性、类型映射和客户端信息）将被记录，并在绑定物理连接时重新应用。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 19:58:42 $
+ */
+public final class LogicalConnection implements Connection {
+
+	/**
+	 * <span class="en-US">Data source instance object</span>
+	 * <span class="zh-CN">数据源实例对象</span>
+	 */
+	private final NeuronsDataSource dataSource;
+	/**
+	 * <span class="en-US">Binder which borrows the physical connection with the priority and caller group captured when the logical connection was obtained</span>
+	 * <span class="zh-CN">使用获取逻辑连接时记录的优先级和调用者分组借出物理连接的绑定器</span>
+	 */
+	private final ConnectionBinder connectionBinder;
+	/**
+	 * <span class="en-US">Enumeration value of connection pooling mode</span>
+	 * <span class="zh-CN">连接池模式枚举值</span>
+	 */
+	private final PoolingMode poolingMode;
+	/**
+	 * <span class="en-US">Bound physical connection, <code>null</code> if not bound</span>
+	 * <span class="zh-CN">绑定的物理连接，未绑定时为<code>null</code></span>
+	 */
+	private NeuronsConnection connection = null;
+	/**
+	 * <span class="en-US">Opened statements count of bound physical connection</span>
+	 * <span class="zh-CN">绑定的物理连接中已打开的查询数</span>
+	 */
+	private int openedCount = Globals.INITIALIZE_INT_VALUE;
+	/**
+	 * <span class="en-US">Transaction was opened on bound physical connection</span>
+	 * <span class="zh-CN">绑定的物理连接中已开启事务</span>
+	 */
+	private boolean transactionActive = Boolean.FALSE;
+	/**
+	 * <span class="en-US">Close status of logical connection</span>
+	 * <span class="zh-CN">逻辑连接关闭状态</span>
+	 */
+	private volatile boolean closed = Boolean.FALSE;
+	/**
+	 * <span class="en-US">Session setting of autocommit</span>
+	 * <span class="zh-CN">自动提交的会话设置</span>
+	 */
+	private boolean autoCommit = Boolean.TRUE;
+	/**
+	 * <span class="en-US">Session setting of read-only, <code>null</code> if not configured</span>
+	 * <span class="zh-CN">只读的会话设置，未设置时为<code>null</code></span>
+	 */
+	private Boolean readOnly = null;
+	/**
+	 * <span class="en-US">Session setting of transaction isolation, -1 if not configured</span>
+	 * <span class="zh-CN">事务隔离级别的会话设置，未设置时为-1</span>
+	 */
+	private int transactionIsolation = Globals.DEFAULT_VALUE_INT;
+	/**
+	 * <span class="en-US">Session setting of result set holdability, -1 if not configured</span>
+	 * <span class="zh-CN">结果集保持性的会话设置，未设置时为-1</span>
+	 */
+	private int holdability = Globals.DEFAULT_VALUE_INT;
+	/**
+	 * <span class="en-US">Session setting of catalog, <code>null</code> if not configured</span>
+	 * <span class="zh-CN">目录的会话设置，未设置时为<code>null</code></span>
+	 */
+	private String catalog = null;
+	/**
+	 * <span class="en-US">Session setting of schema, <code>null</code> if not configured</span>
+	 * <span class="zh-CN">模式的会话设置，未设置时为<code>null</code></span>
+	 */
+	private String schema = null;
+	/**
+	 * <span class="en-US">Session setting of type map, <code>null</code> if not configured</span>
+	 * <span class="zh-CN">类型映射的会话设置，未设置时为<code>null</code></span>
+	 */
+	private Map<String, Class<?>> typeMap = null;
+	/**
+	 * <span class="en-US">Session setting of client info</span>
+	 * <span class="zh-CN">客户端信息的会话设置</span>
+	 */
+	private final Properties clientInfo;
+	/**
+	 * <span class="en-US">Original values of the session settings changed on bound physical connection</span>
+	 * <span class="zh-CN">绑定的物理连接上已修改的会话设置的原始值</span>
+	 */
+	private final Map<SessionSetting, Object> physicalDefaults;
+	/**
+	 * <span class="en-US">Default values of the session settings read without the bound physical connection</span>
+	 * <span class="zh-CN">未绑定物理连接时读取的会话设置默认值</span>
+	 */
+	private final Map<SessionSetting, Object> sessionDefaults;
+
+	/**
+	 * <h4 class="en-US">Constructor method for logical connection implement class</h4>
+	 * <h4 class="zh-CN">逻辑连接实现类的构造方法</h4>
+	 *
+	 * @param dataSource       <span class="en-US">Data source instance object</span>
+	 *                         <span class="zh-CN">数据源实例对象</span>
+	 * @param poolingMode      <span class="en-US">Enumeration value of connection pooling mode</span>
+	 *                         <span class="zh-CN">连接池模式枚举值</span>
+	 * @param connectionBinder <span class="en-US">Binder which borrows the physical connection</span>
+	 *                         <span class="zh-CN">借出物理连接的绑定器</span>
+	 */
+	public LogicalConnection(@Nonnull final NeuronsDataSource dataSource, @Nonnull final PoolingMode poolingMode,
+	                         @Nonnull final ConnectionBinder connectionBinder) {
+		this.dataSource = dataSource;
+		this.poolingMode = poolingMode;
+		this.connectionBinder = connectionBinder;
+		this.clientInfo = new Properties();
+		this.physicalDefaults = new EnumMap<>(SessionSetting.class);
+		this.sessionDefaults = new EnumMap<>(SessionSetting.class);
+	}
+
+	/**
+	 * <h4 class="en-US">Check the physical connection was bound</h4>
+	 * <h4 class="zh-CN">检查物理连接是否已绑定</h4>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	public synchronized boolean isBound() {
+		return this.connection != null;
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#createStatement()
+	 */
+	@Override
+	public Statement createStatement() throws SQLException {
+		return this.statement(Statement.class, NeuronsConnection::createStatement);
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#prepareStatement(String)
+	 */
+	@Override
+	public PreparedStatement prepareStatement(String sql) throws SQLException {
+		return this.statement(PreparedStatement.class, connection -> connection.prepareStatement(sql));
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#prepareCall(String)
+	 */
+	@Override
+	public CallableStatement prepareCall(String sql) throws SQLException {
+		return this.statement(CallableStatement.class, connection -> connection.prepareCall(sql));
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#nativeSQL(String)
+	 */
+	@Override
+	public synchronized String nativeSQL(String sql) throws SQLException {
+		return this.inspect(connection -> connection.nativeSQL(sql));
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#setAutoCommit(boolean)
+	 */
+	@Override
+	public synchronized void setAutoCommit(boolean autoCommit) throws SQLException {
+		this.checkClosed();
+		if (this.connection != null) {
+			this.connection.setAutoCommit(autoCommit);
+			this.transactionActive = !autoCommit;
+		}
+		this.autoCommit = autoCommit;
+		this.releaseIdle();
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#getAutoCommit()
+	 */
+	@Override
+	public synchronized boolean getAutoCommit() throws SQLException {
+		this.checkClosed();
+		return this.autoCommit;
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#commit()
+	 */
+	@Override
+	public synchronized void commit() throws SQLException {
+		this.checkClosed();
+		if (this.connection != null) {
+			this.connection.commit();
+			this.transactionActive = Boolean.FALSE;
+			this.releaseIdle();
+		}
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#rollback()
+	 */
+	@Override
+	public synchronized void rollback() throws SQLException {
+		this.checkClosed();
+		if (this.connection != null) {
+			this.connection.rollback();
+			this.transactionActive = Boolean.FALSE;
+			this.releaseIdle();
+		}
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#close()
+	 */
+	@Override
+	public synchronized void close() throws SQLException {
+		if (this.closed) {
+			return;
+		}
+		this.closed = Boolean.TRUE;
+		this.release();
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#isClosed()
+	 */
+	@Override
+	public boolean isClosed() {
+		return this.closed;
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#getMetaData()
+	 */
+	@Override
+	public synchronized DatabaseMetaData getMetaData() throws SQLException {
+		this.checkClosed();
+		return (DatabaseMetaData) Proxy.newProxyInstance(DatabaseMetaData.class.getClassLoader(),
+				new Class<?>[]{DatabaseMetaData.class}, new MetaDataHandler(this));
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#setReadOnly(boolean)
+	 */
+	@Override
+	public synchronized void setReadOnly(boolean readOnly) throws SQLException {
+		this.checkClosed();
+		if (this.connection != null) {
+			this.capture(this.connection, SessionSetting.READ_ONLY);
+			this.connection.setReadOnly(readOnly);
+		}
+		this.readOnly = readOnly;
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#isReadOnly()
+	 */
+	@Override
+	public synchronized boolean isReadOnly() throws SQLException {
+		this.checkClosed();
+		if (this.readOnly == null) {
+			return (this.connection != null) && this.connection.isReadOnly();
+		}
+		return this.readOnly;
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#setCatalog(String)
+	 */
+	@Override
+	public synchronized void setCatalog(String catalog) throws SQLException {
+		this.checkClosed();
+		if (this.connection != null) {
+			this.capture(this.connection, SessionSetting.CATALOG);
+			this.connection.setCatalog(catalog);
+		}
+		this.catalog = catalog;
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#getCatalog()
+	 */
+	@Override
+	public synchronized String getCatalog() throws SQLException {
+		return (this.catalog == null) ? (String) this.sessionDefault(SessionSetting.CATALOG) : this.catalog;
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#setTransactionIsolation(int)
+	 */
+	@Override
+	public synchronized void setTransactionIsolation(int level) throws SQLException {
+		this.checkClosed();
+		if (this.connection != null) {
+			this.capture(this.connection, SessionSetting.TRANSACTION_ISOLATION);
+			this.connection.setTransactionIsolation(level);
+		}
+		this.transactionIsolation = level;
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#getTransactionIsolation()
+	 */
+	@Override
+	public synchronized int getTransactionIsolation() throws SQLException {
+		return (this.transactionIsolation == Globals.DEFAULT_VALUE_INT)
+				? (Integer) this.sessionDefault(SessionSetting.TRANSACTION_ISOLATION)
+				: this.transactionIsolation;
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#getWarnings()
+	 */
+	@Override
+	public synchronized SQLWarning getWarnings() throws SQLException {
+		this.checkClosed();
+		return (this.connection == null) ? null : this.connection.getWarnings();
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#clearWarnings()
+	 */
+	@Override
+	public synchronized void clearWarnings() throws SQLException {
+		this.checkClosed();
+		if (this.connection != null) {
+			this.connection.clearWarnings();
+		}
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#createStatement(int, int)
+	 */
+	@Override
+	public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+		return this.statement(Statement.class,
+				connection -> connection.createStatement(resultSetType, resultSetConcurrency));
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#prepareStatement(String, int, int)
+	 */
+	@Override
+	public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency)
+			throws SQLException {
+		return this.statement(PreparedStatement.class,
+				connection -> connection.prepareStatement(sql, resultSetType, resultSetConcurrency));
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#prepareCall(String, int, int)
+	 */
+	@Override
+	public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency)
+			throws SQLException {
+		return this.statement(CallableStatement.class,
+				connection -> connection.prepareCall(sql, resultSetType, resultSetConcurrency));
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#getTypeMap()
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public synchronized Map<String, Class<?>> getTypeMap() throws SQLException {
+		return (this.typeMap == null)
+				? (Map<String, Class<?>>) this.sessionDefault(SessionSetting.TYPE_MAP)
+				: this.typeMap;
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#setTypeMap(Map)
+	 */
+	@Override
+	public synchronized void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+		this.checkClosed();
+		if (this.connection != null) {
+			this.capture(this.connection, SessionSetting.TYPE_MAP);
+			this.connection.setTypeMap(map);
+		}
+		this.typeMap = map;
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#setHoldability(int)
+	 */
+	@Override
+	public synchronized void setHoldability(int holdability) throws SQLException {
+		this.checkClosed();
+		if (this.connection != null) {
+			this.capture(this.connection, SessionSetting.HOLDABILITY);
+			this.connection.setHoldability(holdability);
+		}
+		this.holdability = holdability;
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#getHoldability()
+	 */
+	@Override
+	public synchronized int getHoldability() throws SQLException {
+		return (this.holdability == Globals.DEFAULT_VALUE_INT)
+				? (Integer) this.sessionDefault(SessionSetting.HOLDABILITY)
+				: this.holdability;
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#setSavepoint()
+	 */
+	@Override
+	public synchronized Savepoint setSavepoint() throws SQLException {
+		return this.inspect(Connection::setSavepoint);
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#setSavepoint(String)
+	 */
+	@Override
+	public synchronized Savepoint setSavepoint(String name) throws SQLException {
+		return this.inspect(connection -> connection.setSavepoint(name));
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#rollback(Savepoint)
+	 */
+	@Override
+	public synchronized void rollback(Savepoint savepoint) throws SQLException {
+		this.inspect(connection -> {
+			connection.rollback(savepoint);
+			return null;
+		});
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#releaseSavepoint(Savepoint)
+	 */
+	@Override
+	public synchronized void releaseSavepoint(Savepoint savepoint) throws SQLException {
+		this.inspect(connection -> {
+			connection.releaseSavepoint(savepoint);
+			return null;
+		});
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#createStatement(int, int, int)
+	 */
+	@Override
+	public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability)
+			throws SQLException {
+		return this.statement(Statement.class,
+				connection -> connection.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability));
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#prepareStatement(String, int, int, int)
+	 */
+	@Override
+	public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency,
+	                                          int resultSetHoldability) throws SQLException {
+		return this.statement(PreparedStatement.class,
+				connection -> connection.prepareStatement(sql, resultSetType, resultSetConcurrency,
+						resultSetHoldability));
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#prepareCall(String, int, int, int)
+	 */
+	@Override
+	public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency,
+	                                     int resultSetHoldability) throws SQLException {
+		return this.statement(CallableStatement.class,
+				connection -> connection.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#prepareStatement(String, int)
+	 */
+	@Override
+	public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+		return this.statement(PreparedStatement.class, connection -> connection.prepareStatement(sql, autoGeneratedKeys));
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#prepareStatement(String, int[])
+	 */
+	@Override
+	public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+		return this.statement(PreparedStatement.class, connection -> connection.prepareStatement(sql, columnIndexes));
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#prepareStatement(String, String[])
+	 */
+	@Override
+	public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+		return this.statement(PreparedStatement.class, connection -> connection.prepareStatement(sql, columnNames));
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#createClob()
+	 */
+	@Override
+	public synchronized Clob createClob() throws SQLException {
+		return this.physicalConnection().createClob();
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#createBlob()
+	 */
+	@Override
+	public synchronized Blob createBlob() throws SQLException {
+		return this.physicalConnection().createBlob();
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#createNClob()
+	 */
+	@Override
+	public synchronized NClob createNClob() throws SQLException {
+		return this.physicalConnection().createNClob();
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#createSQLXML()
+	 */
+	@Override
+	public synchronized SQLXML createSQLXML() throws SQLException {
+		return this.physicalConnection().createSQLXML();
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#isValid(int)
+	 */
+	@Override
+	public synchronized boolean isValid(int timeout) throws SQLException {
+		if (this.closed) {
+			return Boolean.FALSE;
+		}
+		//	Logical connection was valid until closed, avoid binding physical connection only for validation
+		return (this.connection == null) || this.connection.isValid(timeout);
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#setClientInfo(String, String)
+	 */
+	@Override
+	public synchronized void setClientInfo(String name, String value) throws SQLClientInfoException {
+		if (this.connection != null) {
+			this.captureClientInfo();
+			this.connection.setClientInfo(name, value);
+		}
+		if (value == null) {
+			this.clientInfo.remove(name);
+		} else {
+			this.clientInfo.setProperty(name, value);
+		}
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#setClientInfo(Properties)
+	 */
+	@Override
+	public synchronized void setClientInfo(Properties properties) throws SQLClientInfoException {
+		if (this.connection != null) {
+			this.captureClientInfo();
+			this.connection.setClientInfo(properties);
+		}
+		this.clientInfo.clear();
+		this.clientInfo.putAll(properties);
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#getClientInfo(String)
+	 */
+	@Override
+	public synchronized String getClientInfo(String name) throws SQLException {
+		this.checkClosed();
+		return (this.connection == null) ? this.clientInfo.getProperty(name) : this.connection.getClientInfo(name);
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#getClientInfo()
+	 */
+	@Override
+	public synchronized Properties getClientInfo() throws SQLException {
+		this.checkClosed();
+		if (this.connection == null) {
+			Properties properties = new Properties();
+			properties.putAll(this.clientInfo);
+			return properties;
+		}
+		return this.connection.getClientInfo();
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#createArrayOf(String, Object[])
+	 */
+	@Override
+	public synchronized Array createArrayOf(String typeName, Object[] elements) throws SQLException {
+		return this.physicalConnection().createArrayOf(typeName, elements);
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#createStruct(String, Object[])
+	 */
+	@Override
+	public synchronized Struct createStruct(String typeName, Object[] attributes) throws SQLException {
+		return this.physicalConnection().createStruct(typeName, attributes);
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#setSchema(String)
+	 */
+	@Override
+	public synchronized void setSchema(String schema) throws SQLException {
+		this.checkClosed();
+		if (this.connection != null) {
+			this.capture(this.connection, SessionSetting.SCHEMA);
+			this.connection.setSchema(schema);
+		}
+		this.schema = schema;
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#getSchema()
+	 */
+	@Override
+	public synchronized String getSchema() throws SQLException {
+		return (this.schema == null) ? (String) this.sessionDefault(SessionSetting.SCHEMA) : this.schema;
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#abort(Executor)
+	 */
+	@Override
+	public synchronized void abort(Executor executor) throws SQLException {
+		if (this.closed) {
+			return;
+		}
+		this.closed = Boolean.TRUE;
+		if (this.connection != null) {
+			this.connection.abort(executor);
+			this.release();
+		}
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#setNetworkTimeout(Executor, int)
+	 */
+	@Override
+	public synchronized void setNetworkTimeout(Executor executor, int milliseconds) throws SQLException {
+		this.physicalConnection().setNetworkTimeout(executor, milliseconds);
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#getNetworkTimeout()
+	 */
+	@Override
+	public synchronized int getNetworkTimeout() throws SQLException {
+		return this.inspect(Connection::getNetworkTimeout);
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#unwrap(Class)
+	 */
+	@Override
+	public synchronized <T> T unwrap(Class<T> clazz) throws SQLException {
+		if (clazz != null && clazz.isInstance(this)) {
+			return clazz.cast(this);
+		}
+		NeuronsConnection physicalConnection = this.physicalConnection();
+		if (clazz != null && clazz.isInstance(physicalConnection)) {
+			return clazz.cast(physicalConnection);
+		}
+		return physicalConnection.unwrap(clazz);
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Connection#isWrapperFor(Class)
+	 */
+	@Override
+	public synchronized boolean isWrapperFor(Class<?> clazz) throws SQLException {
+		if (clazz != null && clazz.isInstance(this)) {
+			return Boolean.TRUE;
+		}
+		return this.inspect(connection -> (clazz != null && clazz.isInstance(connection)) || connection.isWrapperFor(clazz));
+	}
+
+	/**
+	 * <h4 class="en-US">Create statement on the bound physical connection</h4>
+	 * <p class="en-US">The physical connection will be bound if not bound yet, and will not be released before the statement was closed</p>
+	 * <h4 class="zh-CN">在绑定的物理连接上创建查询</h4>
+	 * <p class="zh-CN">如果尚未绑定物理连接则进行绑定，在查询关闭前不会释放物理连接</p>
+	 *
+	 * @param <T>            <span class="en-US">Statement type</span>
+	 *                       <span class="zh-CN">查询类型</span>
+	 * @param statementClass <span class="en-US">Statement interface class</span>
+	 *                       <span class="zh-CN">查询接口类</span>
+	 * @param creator        <span class="en-US">Statement creator</span>
+	 *                       <span class="zh-CN">查询创建器</span>
+	 * @return <span class="en-US">Statement instance object bound to current logical connection</span>
+	 * <span class="zh-CN">绑定到当前逻辑连接的查询实例对象</span>
+	 * @throws SQLException <span class="en-US">if obtain physical connection failed or a database access error occurs</span>
+	 *                      <span class="zh-CN">如果获取物理连接失败或发生数据库访问错误</span>
+	 */
+	private synchronized <T extends Statement> T statement(@Nonnull final Class<T> statementClass,
+	                                                       @Nonnull final StatementCreator<T> creator)
+			throws SQLException {
+		NeuronsConnection physicalConnection = this.physicalConnection();
+		T statement;
+		try {
+			statement = creator.create(physicalConnection);
+		} catch (SQLException e) {
+			this.releaseIdle();
+			throw e;
+		}
+		this.openedCount++;
+		return statementClass.cast(Proxy.newProxyInstance(statementClass.getClassLoader(),
+				new Class<?>[]{statementClass}, new StatementHandler(this, statement)));
+	}
+
+	/**
+	 * <h4 class="en-US">Statement created by current logical connection was closed</h4>
+	 * <h4 class="zh-CN">当前逻辑连接创建的查询已关闭</h4>
+	 *
+	 * @throws SQLException <span class="en-US">if return physical connection failed</span>
+	 *                      <span class="zh-CN">如果归还物理连接失败</span>
+	 */
+	private synchronized void statementClosed() throws SQLException {
+		if (this.openedCount > 0) {
+			this.openedCount--;
+		}
+		this.releaseIdle();
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the bound physical connection, borrow and replay the session settings if not bound</h4>
+	 * <h4 class="zh-CN">获取绑定的物理连接，如果未绑定则借出连接并重新应用会话设置</h4>
+	 *
+	 * @return <span class="en-US">Bound physical connection</span>
+	 * <span class="zh-CN">绑定的物理连接</span>
+	 * @throws SQLException <span class="en-US">if logical connection was closed or obtain physical connection failed</span>
+	 *                      <span class="zh-CN">如果逻辑连接已关闭或获取物理连接失败</span>
+	 */
+	private NeuronsConnection physicalConnection() throws SQLException {
+		this.checkClosed();
+		if (this.connection == null) {
+			NeuronsConnection physicalConnection = this.connectionBinder.bind();
+			if (physicalConnection == null) {
+				throw new SQLTransientConnectionException("No database connection available! ");
+			}
+			try {
+				this.replay(physicalConnection);
+			} catch (SQLException e) {
+				this.physicalDefaults.clear();
+				//	Session settings were partially replayed, the connection should not be reused
+				physicalConnection.retire();
+				this.dataSource.closeConnection(physicalConnection);
+				throw e;
+			}
+			this.connection = physicalConnection;
+			this.transactionActive = !this.autoCommit;
+		}
+		return this.connection;
+	}
+
+	/**
+	 * <h4 class="en-US">Replay the recorded session settings on given physical connection</h4>
+	 * <p class="en-US">The original values of replayed settings were captured and will be restored on release</p>
+	 * <h4 class="zh-CN">在指定的物理连接上重新应用已记录的会话设置</h4>
+	 * <p class="zh-CN">重新应用的设置的原始值将被记录，并在释放时恢复</p>
+	 *
+	 * @param physicalConnection <span class="en-US">Physical connection instance object</span>
+	 *                           <span class="zh-CN">物理连接实例对象</span>
+	 * @throws SQLException <span class="en-US">if a database access error occurs</span>
+	 *                      <span class="zh-CN">如果发生数据库访问错误</span>
+	 */
+	private void replay(@Nonnull final NeuronsConnection physicalConnection) throws SQLException {
+		if (!this.autoCommit) {
+			physicalConnection.setAutoCommit(Boolean.FALSE);
+		}
+		if (this.readOnly != null) {
+			this.capture(physicalConnection, SessionSetting.READ_ONLY);
+			physicalConnection.setReadOnly(this.readOnly);
+		}
+		if (this.transactionIsolation != Globals.DEFAULT_VALUE_INT) {
+			this.capture(physicalConnection, SessionSetting.TRANSACTION_ISOLATION);
+			physicalConnection.setTransactionIsolation(this.transactionIsolation);
+		}
+		if (this.holdability != Globals.DEFAULT_VALUE_INT) {
+			this.capture(physicalConnection, SessionSetting.HOLDABILITY);
+			physicalConnection.setHoldability(this.holdability);
+		}
+		if (this.catalog != null) {
+			this.capture(physicalConnection, SessionSetting.CATALOG);
+			physicalConnection.setCatalog(this.catalog);
+		}
+		if (this.schema != null) {
+			this.capture(physicalConnection, SessionSetting.SCHEMA);
+			physicalConnection.setSchema(this.schema);
+		}
+		if (this.typeMap != null) {
+			this.capture(physicalConnection, SessionSetting.TYPE_MAP);
+			physicalConnection.setTypeMap(this.typeMap);
+		}
+		if (!this.clientInfo.isEmpty()) {
+			this.capture(physicalConnection, SessionSetting.CLIENT_INFO);
+			physicalConnection.setClientInfo(this.clientInfo);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Return the physical connection to the pool if it was idle in transaction pooling mode</h4>
+	 * <p class="en-US">Physical connection was idle when no transaction was opened and all statements were closed</p>
+	 * <h4 class="zh-CN">在事务模式下，如果物理连接空闲则将其归还至连接池</h4>
+	 * <p class="zh-CN">当没有开启的事务且所有查询均已关闭时，物理连接为空闲状态</p>
+	 *
+	 * @throws SQLException <span class="en-US">if return physical connection failed</span>
+	 *                      <span class="zh-CN">如果归还物理连接失败</span>
+	 */
+	private void releaseIdle() throws SQLException {
+		if (PoolingMode.TRANSACTION.equals(this.poolingMode) && !this.transactionActive && this.openedCount == 0) {
+			this.release();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Return the bound physical connection to the pool</h4>
+	 * <p class="en-US">
+	 * The changed session settings will be restored to the original values before returning, the physical connection
+	 * will be retired if restore failed.
+	 * </p>
+	 * <h4 class="zh-CN">将绑定的物理连接归还至连接池</h4>
+	 * <p class="zh-CN">归还前将已修改的会话设置恢复为原始值，如果恢复失败则淘汰该物理连接。</p>
+	 *
+	 * @throws SQLException <span class="en-US">if restore session settings or return physical connection failed</span>
+	 *                      <span class="zh-CN">如果恢复会话设置或归还物理连接失败</span>
+	 */
+	private void release() throws SQLException {
+		NeuronsConnection physicalConnection = this.connection;
+		if (physicalConnection == null) {
+			return;
+		}
+		this.connection = null;
+		this.openedCount = Globals.INITIALIZE_INT_VALUE;
+		this.transactionActive = Boolean.FALSE;
+		SQLException exception = null;
+		try {
+			if (!physicalConnection.isClosed()) {
+				this.restore(physicalConnection);
+			}
+		} catch (SQLException e) {
+			physicalConnection.retire();
+			exception = e;
+		} finally {
+			this.physicalDefaults.clear();
+		}
+		this.dataSource.closeConnection(physicalConnection);
+		if (exception != null) {
+			throw exception;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Capture the original value of given session setting before it was changed on physical connection</h4>
+	 * <p class="en-US">Only the first change was captured, the value will be restored when the physical connection was released</p>
+	 * <h4 class="zh-CN">在物理连接上修改给定的会话设置前记录其原始值</h4>
+	 * <p class="zh-CN">仅记录第一次修改，释放物理连接时将恢复该值</p>
+	 *
+	 * @param physicalConnection <span class="en-US">Physical connection instance object</span>
+	 *                           <span class="zh-CN">物理连接实例对象</span>
+	 * @param sessionSetting     <span class="en-US">Enumeration value of session setting</span>
+	 *                           <span class="zh-CN">会话设置枚举值</span>
+	 * @throws SQLException <span class="en-US">if a database access error occurs</span>
+	 *                      <span class="zh-CN">如果发生数据库访问错误</span>
+	 */
+	private void capture(@Nonnull final NeuronsConnection physicalConnection,
+	                     @Nonnull final SessionSetting sessionSetting) throws SQLException {
+		if (!this.physicalDefaults.containsKey(sessionSetting)) {
+			this.physicalDefaults.put(sessionSetting, read(physicalConnection, sessionSetting));
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Read the default value of given session setting without pinning the physical connection</h4>
+	 * <p class="en-US">
+	 * Read from the bound physical connection if bound, otherwise returns the default value cached by the previous
+	 * reading. The physical connection bound only for reading the default value will be released in any pooling mode,
+	 * so the reading does not pin the physical connection in lazy pooling mode.
+	 * </p>
+	 * <h4 class="zh-CN">在不固定占用物理连接的情况下读取给定会话设置的默认值</h4>
+	 * <p class="zh-CN">
+	 * 如果已绑定则从绑定的物理连接读取，否则返回之前读取时缓存的默认值。仅为读取默认值而绑定的物理连接在任何连接池模式下都将被释放，
+	 * 因此在延迟绑定模式下读取操作不会固定占用物理连接。
+	 * </p>
+	 *
+	 * @param sessionSetting <span class="en-US">Enumeration value of session setting</span>
+	 *                       <span class="zh-CN">会话设置枚举值</span>
+	 * @return <span class="en-US">Default value of session setting</span>
+	 * <span class="zh-CN">会话设置的默认值</span>
+	 * @throws SQLException <span class="en-US">if obtain physical connection failed or a database access error occurs</span>
+	 *                      <span class="zh-CN">如果获取物理连接失败或发生数据库访问错误</span>
+	 */
+	private synchronized Object sessionDefault(@Nonnull final SessionSetting sessionSetting) throws SQLException {
+		this.checkClosed();
+		if (this.connection != null) {
+			return read(this.connection, sessionSetting);
+		}
+		if (this.sessionDefaults.containsKey(sessionSetting)) {
+			return this.sessionDefaults.get(sessionSetting);
+		}
+		NeuronsConnection physicalConnection = this.physicalConnection();
+		try {
+			Object defaultValue = read(physicalConnection, sessionSetting);
+			this.sessionDefaults.put(sessionSetting, defaultValue);
+			return defaultValue;
+		} finally {
+			if (this.openedCount == 0) {
+				this.release();
+			}
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Read the current value of given session setting from the physical connection</h4>
+	 * <h4 class="zh-CN">从物理连接读取给定会话设置的当前值</h4>
+	 *
+	 * @param physicalConnection <span class="en-US">Physical connection instance object</span>
+	 *                           <span class="zh-CN">物理连接实例对象</span>
+	 * @param sessionSetting     <span class="en-US">Enumeration value of session setting</span>
+	 *                           <span class="zh-CN">会话设置枚举值</span>
+	 * @return <span class="en-US">Current value of session setting, the mutable values were copied</span>
+	 * <span class="zh-CN">会话设置的当前值，可变的值将被复制</span>
+	 * @throws SQLException <span class="en-US">if a database access error occurs</span>
+	 *                      <span class="zh-CN">如果发生数据库访问错误</span>
+	 */
+	private static Object read(@Nonnull final NeuronsConnection physicalConnection,
+	                           @Nonnull final SessionSetting sessionSetting) throws SQLException {
+		return switch (sessionSetting) {
+			case READ_ONLY -> physicalConnection.isReadOnly();
+			case TRANSACTION_ISOLATION -> physicalConnection.getTransactionIsolation();
+			case HOLDABILITY -> physicalConnection.getHoldability();
+			case CATALOG -> physicalConnection.getCatalog();
+			case SCHEMA -> physicalConnection.getSchema();
+			case TYPE_MAP -> {
+				Map<String, Class<?>> typeMap = physicalConnection.getTypeMap();
+				yield (typeMap == null) ? new HashMap<>() : new HashMap<>(typeMap);
+			}
+			case CLIENT_INFO -> {
+				Properties properties = new Properties();
+				properties.putAll(physicalConnection.getClientInfo());
+				yield properties;
+			}
+		};
+	}
+
+	/**
+	 * <h4 class="en-US">Capture the original client info of bound physical connection</h4>
+	 * <h4 class="zh-CN">记录绑定的物理连接的原始客户端信息</h4>
+	 *
+	 * @throws SQLClientInfoException <span class="en-US">if a database access error occurs</span>
+	 *                                <span class="zh-CN">如果发生数据库访问错误</span>
+	 */
+	private void captureClientInfo() throws SQLClientInfoException {
+		try {
+			this.capture(this.connection, SessionSetting.CLIENT_INFO);
+		} catch (SQLClientInfoException e) {
+			throw e;
+		} catch (SQLException e) {
+			throw new SQLClientInfoException(e.getMessage(), Map.of(), e);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Restore the captured original values of session settings on given physical connection</h4>
+	 * <h4 class="zh-CN">在给定的物理连接上恢复已记录的会话设置原始值</h4>
+	 *
+	 * @param physicalConnection <span class="en-US">Physical connection instance object</span>
+	 *                           <span class="zh-CN">物理连接实例对象</span>
+	 * @throws SQLException <span class="en-US">if a database access error occurs</span>
+	 *                      <span class="zh-CN">如果发生数据库访问错误</span>
+	 */
+	@SuppressWarnings("unchecked")
+	private void restore(@Nonnull final NeuronsConnection physicalConnection) throws SQLException {
+		for (Map.Entry<SessionSetting, Object> entry : this.physicalDefaults.entrySet()) {
+			Object originalValue = entry.getValue();
+			switch (entry.getKey()) {
+				case READ_ONLY -> physicalConnection.setReadOnly((Boolean) originalValue);
+				case TRANSACTION_ISOLATION -> physicalConnection.setTransactionIsolation((Integer) originalValue);
+				case HOLDABILITY -> physicalConnection.setHoldability((Integer) originalValue);
+				case CATALOG -> physicalConnection.setCatalog((String) originalValue);
+				case SCHEMA -> physicalConnection.setSchema((String) originalValue);
+				case TYPE_MAP -> physicalConnection.setTypeMap((Map<String, Class<?>>) originalValue);
+				case CLIENT_INFO -> physicalConnection.setClientInfo((Properties) originalValue);
+			}
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Execute the given action on the physical connection and release it if idle</h4>
+	 * <p class="en-US">Used by the methods which do not create any statement, to avoid pinning the physical connection in transaction pooling mode</p>
+	 * <h4 class="zh-CN">在物理连接上执行给定的操作，如果空闲则释放物理连接</h4>
+	 * <p class="zh-CN">用于不创建查询的方法，避免在事务模式下固定占用物理连接</p>
+	 *
+	 * @param <T>    <span class="en-US">Result type</span>
+	 *               <span class="zh-CN">结果类型</span>
+	 * @param action <span class="en-US">Connection action</span>
+	 *               <span class="zh-CN">连接操作</span>
+	 * @return <span class="en-US">Action result</span>
+	 * <span class="zh-CN">操作结果</span>
+	 * @throws SQLException <span class="en-US">if obtain physical connection failed or a database access error occurs</span>
+	 *                      <span class="zh-CN">如果获取物理连接失败或发生数据库访问错误</span>
+	 */
+	private synchronized <T> T inspect(@Nonnull final ConnectionAction<T> action) throws SQLException {
+		NeuronsConnection physicalConnection = this.physicalConnection();
+		try {
+			return action.apply(physicalConnection);
+		} finally {
+			this.releaseIdle();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Invoke the database metadata method on the physical connection</h4>
+	 * <p class="en-US">
+	 * Result set returned by the metadata method holds the physical connection as a statement until it was closed,
+	 * otherwise the physical connection will be released if idle.
+	 * </p>
+	 * <h4 class="zh-CN">在物理连接上调用数据库元数据方法</h4>
+	 * <p class="zh-CN">元数据方法返回的结果集在关闭前如同查询一样占用物理连接，否则如果物理连接空闲则释放。</p>
+	 *
+	 * @param method <span class="en-US">Metadata method</span>
+	 *               <span class="zh-CN">元数据方法</span>
+	 * @param args   <span class="en-US">Method arguments</span>
+	 *               <span class="zh-CN">方法参数</span>
+	 * @return <span class="en-US">Invoke result</span>
+	 * <span class="zh-CN">调用结果</span>
+	 * @throws Throwable <span class="en-US">if obtain physical connection failed or invoke failed</span>
+	 *                   <span class="zh-CN">如果获取物理连接失败或调用失败</span>
+	 */
+	private synchronized Object metaData(@Nonnull final Method method, final Object[] args) throws Throwable {
+		NeuronsConnection physicalConnection = this.physicalConnection();
+		Object result;
+		try {
+			result = method.invoke(physicalConnection.getMetaData(), args);
+		} catch (InvocationTargetException e) {
+			this.releaseIdle();
+			throw e.getTargetException();
+		}
+		if (result instanceof ResultSet resultSet) {
+			this.openedCount++;
+			return Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+					new Class<?>[]{ResultSet.class}, new StatementHandler(this, resultSet));
+		}
+		this.releaseIdle();
+		return result;
+	}
+
+	/**
+	 * <h4 class="en-US">Check current logical connection was not closed</h4>
+	 * <h4 class="zh-CN">检查当前逻辑连接未关闭</h4>
+	 *
+	 * @throws SQLException <span class="en-US">if logical connection was closed</span>
+	 *                      <span class="zh-CN">如果逻辑连接已关闭</span>
+	 */
+	private void checkClosed() throws SQLException {
+		if (this.closed) {
+			throw new SQLException("Connection was closed! ");
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Statement creator</h2>
+	 * <h2 class="zh-CN">查询创建器</h2>
+	 *
+	 * @param <T> <span class="en-US">Statement type</span>
+	 *            <span class="zh-CN">查询类型</span>
+	 */
+	@FunctionalInterface
+	private interface StatementCreator<T extends Statement> {
+
+		/**
+		 * <h4 class="en-US">Create statement on given physical connection</h4>
+		 * <h4 class="zh-CN">在指定的物理连接上创建查询</h4>
+		 *
+		 * @param connection <span class="en-US">Physical connection instance object</span>
+		 *                   <span class="zh-CN">物理连接实例对象</span>
+		 * @return <span class="en-US">Statement instance object</span>
+		 * <span class="zh-CN">查询实例对象</span>
+		 * @throws SQLException <span class="en-US">if a database access error occurs</span>
+		 *                      <span class="zh-CN">如果发生数据库访问错误</span>
+		 */
+		T create(@Nonnull final NeuronsConnection connection) throws SQLException;
+	}
+
+	/**
+	 * <h2 class="en-US">Action executed on physical connection</h2>
+	 * <h2 class="zh-CN">在物理连接上执行的操作</h2>
+	 *
+	 * @param <T> <span class="en-US">Result type</span>
+	 *            <span class="zh-CN">结果类型</span>
+	 */
+	@FunctionalInterface
+	private interface ConnectionAction<T> {
+
+		/**
+		 * <h4 class="en-US">Execute action on given physical connection</h4>
+		 * <h4 class="zh-CN">在指定的物理连接上执行操作</h4>
+		 *
+		 * @param connection <span class="en-US">Physical connection instance object</span>
+		 *                   <span class="zh-CN">物理连接实例对象</span>
+		 * @return <span class="en-US">Action result</span>
+		 * <span class="zh-CN">操作结果</span>
+		 * @throws SQLException <span class="en-US">if a database access error occurs</span>
+		 *                      <span class="zh-CN">如果发生数据库访问错误</span>
+		 */
+		T apply(@Nonnull final NeuronsConnection connection) throws SQLException;
+	}
+
+	/**
+	 * <h2 class="en-US">Enumeration of session settings restored on release and read as default values</h2>
+	 * <h2 class="zh-CN">释放时恢复及作为默认值读取的会话设置枚举</h2>
+	 */
+	private enum SessionSetting {
+		READ_ONLY, TRANSACTION_ISOLATION, HOLDABILITY, CATALOG, SCHEMA, TYPE_MAP, CLIENT_INFO
+	}
+
+	/**
+	 * <h2 class="en-US">Invocation handler of database metadata of logical connection</h2>
+	 * <p class="en-US">Each invocation binds the physical connection and releases it if idle, and return the logical connection as metadata connection</p>
+	 * <h2 class="zh-CN">逻辑连接的数据库元数据的调用处理器</h2>
+	 * <p class="zh-CN">每次调用时绑定物理连接并在空闲时释放，并将逻辑连接作为元数据所属的连接返回</p>
+	 */
+	private static final class MetaDataHandler implements InvocationHandler {
+
+		/**
+		 * <span class="en-US">Logical connection instance object</span>
+		 * <span class="zh-CN">逻辑连接实例对象</span>
+		 */
+		private final LogicalConnection logicalConnection;
+
+		/**
+		 * <h4 class="en-US">Constructor method for invocation handler of database metadata</h4>
+		 * <h4 class="zh-CN">数据库元数据的调用处理器的构造方法</h4>
+		 *
+		 * @param logicalConnection <span class="en-US">Logical connection instance object</span>
+		 *                          <span class="zh-CN">逻辑连接实例对象</span>
+		 */
+		MetaDataHandler(@Nonnull final LogicalConnection logicalConnection) {
+			this.logicalConnection = logicalConnection;
+		}
+
+		@Override
+		public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+			return switch (method.getName()) {
+				case "equals" -> proxy == args[0];
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "toString" -> DatabaseMetaData.class.getName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+				case "getConnection" -> this.logicalConnection;
+				default -> this.logicalConnection.metaData(method, args);
+			};
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Invocation handler of statements created by logical connection</h2>
+	 * <p class="en-US">
+	 * Notify the logical connection when statement or metadata result set was closed, and return the logical connection
+	 * as statement connection
+	 * </p>
+	 * <h2 class="zh-CN">逻辑连接创建的查询的调用处理器</h2>
+	 * <p class="zh-CN">查询或元数据结果集关闭时通知逻辑连接，并将逻辑连接作为查询所属的连接返回</p>
+	 */
+	private static final class StatementHandler implements InvocationHandler {
+
+		/**
+		 * <span class="en-US">Logical connection instance object</span>
+		 * <span class="zh-CN">逻辑连接实例对象</span>
+		 */
+		private final LogicalConnection logicalConnection;
+		/**
+		 * <span class="en-US">Statement or metadata result set instance object created by physical connection</span>
+		 * <span class="zh-CN">物理连接创建的查询或元数据结果集实例对象</span>
+		 */
+		private final AutoCloseable statement;
+		/**
+		 * <span class="en-US">Close status of statement</span>
+		 * <span class="zh-CN">查询关闭状态</span>
+		 */
+		private boolean closed = Boolean.FALSE;
+
+		/**
+		 * <h4 class="en-US">Constructor method for invocation handler of statements</h4>
+		 * <h4 class="zh-CN">查询的调用处理器的构造方法</h4>
+		 *
+		 * @param logicalConnection <span class="en-US">Logical connection instance object</span>
+		 *                          <span class="zh-CN">逻辑连接实例对象</span>
+		 * @param statement         <span class="en-US">Statement or metadata result set instance object created by physical connection</span>
+		 *                          <span class="zh-CN">物理连接创建的查询或元数据结果集实例对象</span>
+		 */
+		StatementHandler(@Nonnull final LogicalConnection logicalConnection, @Nonnull final AutoCloseable statement) {
+			this.logicalConnection = logicalConnection;
+			this.statement = statement;
+		}
+
+		@Override
+		public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+			switch (method.getName()) {
+				case "equals":
+					return proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "getConnection":
+					return this.logicalConnection;
+				case "isClosed":
+					return this.closed;
+				case "close":
+					if (!this.closed) {
+						this.closed = Boolean.TRUE;
+						try {
+							this.statement.close();
+						} finally {
+							this.logicalConnection.statementClosed();
+						}
+					}
+					return null;
+				default:
+					if (this.closed && method.getDeclaringClass() != Object.class) {
+						throw new SQLException("Statement was closed! ");
+					}
+			}
+			try {
+				return method.invoke(this.statement, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Binder of physical connection</h2>
+	 * <p class="en-US">
+	 * Borrows the physical connection from the data source with the priority, caller group and deadline of
+	 * the original borrowing, so the logical connection keeps the priority lanes and bulkhead quotas of its caller.
+	 * </p>
+	 * <h2 class="zh-CN">物理连接的绑定器</h2>
+	 * <p class="zh-CN">使用原始借出的优先级、调用者分组和截止时间从数据源借出物理连接，因此逻辑连接保留其调用者的优先级通道和隔离配额。</p>
+	 */
+	@FunctionalInterface
+	public interface ConnectionBinder {
+
+		/**
+		 * <h4 class="en-US">Borrow the physical connection</h4>
+		 * <h4 class="zh-CN">借出物理连接</h4>
+		 *
+		 * @return <span class="en-US">Physical connection instance object, <code>null</code> if no connection available for the try-acquire borrowing</span>
+		 * <span class="zh-CN">物理连接实例对象，如果尝试获取时没有可用连接则返回<code>null</code></span>
+		 * @throws SQLException <span class="en-US">if obtain database connection failed</span>
+		 *                      <span class="zh-CN">如果获取数据库连接失败</span>
+		 */
+		NeuronsConnection bind() throws SQLException;
+	}
+}
@@ -21,14 +21,21 @@ import jakarta.annotation.Nonnull;
 import org.nervousync.commons.Globals;
 import org.nervousync.database.neurons.NeuronsDataSource;
 import org.nervousync.database.neurons.statement.CachedStatement;
+import org.nervousync.database.neurons.statement.StatementCache;
+import org.nervousync.database.neurons.statement.StatementKey;
+import org.nervousync.database.neurons.statement.StatementMetaDataCache;
+import org.nervousync.database.neurons.statement.StatementKey.KeyType;
 import org.nervousync.database.neurons.statement.impl.CachedCallableStatement;
+import org.nervousync.database.neurons.statement.impl.CachedPlainStatement;
 import org.nervousync.database.neurons.statement.impl.CachedPreparedStatement;
 import org.nervousync.utils.*;
 
 import javax.sql.*;
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <h2 class="en-US">Database connection implement class</h2>
@@ -39,6 +46,27 @@ import java.util.concurrent.Executor;
  */
 public final class NeuronsConnection implements PooledConnection, Connection {
 
+	/**
+	 * <span class="en-US">Estimated memory weight of driver statement object and its buffers (Unit: bytes)</span>
+	 * <span class="zh-CN">驱动查询分析器对象及其缓冲区的估计内存权重（单位：字节）</span>
+	 */
+	private static final long STATEMENT_WEIGHT = 1024L;
+	/**
+	 * <span class="en-US">Estimated memory weight of each parameter binding (Unit: bytes)</span>
+	 * <span class="zh-CN">每个参数绑定的估计内存权重（单位：字节）</span>
+	 */
+	private static final long PARAMETER_WEIGHT = 128L;
+	/**
+	 * <span class="en-US">Shared empty array of column indices for the statements which not return generated keys by indices</span>
+	 * <span class="zh-CN">不按列索引返回生成键的查询分析器使用的共享空列索引数组</span>
+	 */
+	private static final int[] NO_COLUMN_INDEXES = new int[0];
+	/**
+	 * <span class="en-US">Shared empty array of column names for the statements which not return generated keys by names</span>
+	 * <span class="zh-CN">不按列名称返回生成键的查询分析器使用的共享空列名称数组</span>
+	 */
+	private static final String[] NO_COLUMN_NAMES = new String[0];
+
 	private transient final LoggerUtils.Logger logger = LoggerUtils.getLogger(this.getClass());
 
 	/**
@@ -62,10 +90,15 @@ public final class NeuronsConnection implements PooledConnection, Connection {
 	 */
 	private final int cachedLimitSize;
 	/**
-	 * <span class="en-US">Cached prepared statement mapping</span>
-	 * <span class="zh-CN">缓存的查询分析器映射表</span>
+	 * <span class="en-US">Cached prepared statement mapping, <code>null</code> if cache was disabled</span>
+	 * <span class="zh-CN">缓存的查询分析器映射表，禁用缓存时为<code>null</code></span>
+	 */
+	private final StatementCache statementCache;
+	/**
+	 * <span class="en-US">Statements which detached from the cache and still using by the borrower</span>
+	 * <span class="zh-CN">已脱离缓存但仍被借用者使用的查询分析器</span>
 	 */
-	private final List<CachedStatement> cachedStatements;
+	private final Set<CachedStatement> detachedStatements;
 	/**
 	 * <span class="en-US">Registered event listener list of connection</span>
 	 * <span class="zh-CN">注册的连接事件监听器</span>
@@ -86,6 +119,26 @@ public final class NeuronsConnection implements PooledConnection, Connection {
 	 * <span class="zh-CN">最后一次使用连接的时间</span>
 	 */
 	private long lastActiveTime;
+	/**
+	 * <span class="en-US">Borrowed time of current connection (Unit: nanoseconds)</span>
+	 * <span class="zh-CN">当前连接的借出时间（单位：纳秒）</span>
+	 */
+	private long borrowedTime = Globals.DEFAULT_VALUE_LONG;
+	/**
+	 * <span class="en-US">Connection was marked for retirement</span>
+	 * <span class="zh-CN">连接已被标记为待退役</span>
+	 */
+	private volatile boolean retired = Boolean.FALSE;
+	/**
+	 * <span class="en-US">Deadline time of current borrowing (Unit: nanoseconds)</span>
+	 * <span class="zh-CN">当前借出的截止时间（单位：纳秒）</span>
+	 */
+	private long deadline = Globals.DEFAULT_VALUE_LONG;
+	/**
+	 * <span class="en-US">Current borrowing was limited by the deadline time</span>
+	 * <span class="zh-CN">当前借出受截止时间限制</span>
+	 */
+	private boolean limitDeadline = Boolean.FALSE;
 
 	/**
 	 * <h4 class="en-US">Constructor method for database connection implement class</h4>
@@ -106,11 +159,8 @@ public final class NeuronsConnection implements PooledConnection, Connection {
 		this.connection = connection;
 		this.transactional = transactional;
 		this.cachedLimitSize = cachedLimitSize;
-		if (this.cachedLimitSize < 0) {
-			this.cachedStatements = Collections.emptyList();
-		} else {
-			this.cachedStatements = new ArrayList<>();
-		}
+		this.statementCache = (this.cachedLimitSize > 0) ? new StatementCache(this.cachedLimitSize) : null;
+		this.detachedStatements = ConcurrentHashMap.newKeySet();
 		this.connectionEventListeners = new ArrayList<>();
 		this.statementEventListeners = new ArrayList<>();
 		this.connectedTime = this.lastActiveTime = DateTimeUtils.currentUTCTimeMillis();
@@ -146,6 +196,120 @@ public final class NeuronsConnection implements PooledConnection, Connection {
 		this.lastActiveTime = DateTimeUtils.currentUTCTimeMillis();
 	}
 
+	/**
+	 * <h4 class="en-US">Update borrowed time of current connection</h4>
+	 * <h4 class="zh-CN">更新当前连接的借出时间</h4>
+	 */
+	public void borrowed() {
+		this.borrowedTime = System.nanoTime();
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for borrowed time of current connection</h4>
+	 * <h4 class="zh-CN">当前连接的借出时间的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Borrowed time of current connection (Unit: nanoseconds)</span>
+	 * <span class="zh-CN">当前连接的借出时间（单位：纳秒）</span>
+	 */
+	public long getBorrowedTime() {
+		return this.borrowedTime;
+	}
+
+	/**
+	 * <h4 class="en-US">Notify the data source that the statement will be executed</h4>
+	 * <p class="en-US">Current connection will be moved into the long-running lane if the statement was classified as long-running</p>
+	 * <h4 class="zh-CN">通知数据源即将执行查询</h4>
+	 * <p class="zh-CN">如果查询被分类为长时间运行，当前连接将被移入长时间运行通道</p>
+	 *
+	 * @param identifyKey <span class="en-US">Identification code of statement</span>
+	 *                    <span class="zh-CN">查询的唯一识别代码</span>
+	 * @throws SQLException <span class="en-US">if the deadline time was exceeded or waiting was interrupted</span>
+	 *                      <span class="zh-CN">如果已超过截止时间或等待被中断</span>
+	 */
+	public void statementExecuting(final StatementKey identifyKey) throws SQLException {
+		this.dataSource.statementExecuting(this, identifyKey,
+				this.limitDeadline ? this.deadline : Globals.DEFAULT_VALUE_LONG);
+	}
+
+	/**
+	 * <h4 class="en-US">Report the latency of executed statement to the data source</h4>
+	 * <h4 class="zh-CN">向数据源报告已执行查询的延迟</h4>
+	 *
+	 * @param identifyKey <span class="en-US">Identification code of statement</span>
+	 *                    <span class="zh-CN">查询的唯一识别代码</span>
+	 * @param elapsedTime <span class="en-US">Latency of statement (Unit: nanoseconds)</span>
+	 *                    <span class="zh-CN">查询延迟（单位：纳秒）</span>
+	 */
+	public void statementExecuted(final StatementKey identifyKey, final long elapsedTime) {
+		this.dataSource.statementExecuted(identifyKey, elapsedTime);
+	}
+
+	/**
+	 * <h4 class="en-US">Release the detached statement which no longer used by the borrower</h4>
+	 * <p class="en-US">The JDBC statement will be closed asynchronously by the data source</p>
+	 * <h4 class="zh-CN">释放借用者不再使用的已脱离缓存的查询分析器</h4>
+	 * <p class="zh-CN">JDBC查询分析器将由数据源异步关闭</p>
+	 *
+	 * @param cachedStatement <span class="en-US">Cached statement instance object</span>
+	 *                        <span class="zh-CN">可缓存的查询分析器实例对象</span>
+	 */
+	public void releaseStatement(@Nonnull final CachedStatement cachedStatement) {
+		this.detachedStatements.remove(cachedStatement);
+		this.dataSource.releaseStatement(cachedStatement);
+	}
+
+	/**
+	 * <h4 class="en-US">Statement metadata cache shared by all connections of the data source</h4>
+	 * <h4 class="zh-CN">数据源所有连接共享的查询元数据缓存</h4>
+	 *
+	 * @return <span class="en-US">Statement metadata cache instance object</span>
+	 * <span class="zh-CN">查询元数据缓存实例对象</span>
+	 */
+	public StatementMetaDataCache metaDataCache() {
+		return this.dataSource.getMetaDataCache();
+	}
+
+	/**
+	 * <h4 class="en-US">Notify the data source that the JDBC statement was closed</h4>
+	 * <h4 class="zh-CN">通知数据源JDBC查询分析器已关闭</h4>
+	 */
+	public void statementClosed() {
+		this.dataSource.statementClosed();
+	}
+
+	/**
+	 * <h4 class="en-US">Mark current connection for retirement, it will be closed on return instead of being reused</h4>
+	 * <h4 class="zh-CN">将当前连接标记为待退役，归还时将被关闭而不再重用</h4>
+	 */
+	public void retire() {
+		this.retired = Boolean.TRUE;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for connection was marked for retirement</h4>
+	 * <h4 class="zh-CN">连接已被标记为待退役的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Connection was marked for retirement</span>
+	 * <span class="zh-CN">连接已被标记为待退役</span>
+	 */
+	public boolean isRetired() {
+		return this.retired;
+	}
+
+	/**
+	 * <h4 class="en-US">Configure deadline time of current borrowing</h4>
+	 * <p class="en-US">The remaining time will be the default query timeout of statements, and rounded up to seconds</p>
+	 * <h4 class="zh-CN">设置当前借出的截止时间</h4>
+	 * <p class="zh-CN">剩余时间将向上取整为秒，作为查询分析器的默认查询超时时间</p>
+	 *
+	 * @param deadline <span class="en-US">Deadline time based on <code>System.nanoTime()</code> (Unit: nanoseconds)</span>
+	 *                 <span class="zh-CN">基于<code>System.nanoTime()</code>的截止时间（单位：纳秒）</span>
+	 */
+	public void deadline(final long deadline) {
+		this.deadline = deadline;
+		this.limitDeadline = Boolean.TRUE;
+	}
+
 	/**
 	 * <h4 class="en-US">Reset current connection</h4>
 	 * <h4 class="zh-CN">重置当前连接</h4>
@@ -155,6 +319,31 @@ public final class NeuronsConnection implements PooledConnection, Connection {
 		if (this.transactional) {
 			this.connection.setTransactionIsolation(Connection.TRANSACTION_NONE);
 		}
+		//	Borrower was returned the connection, the handles of detached statements will not be used anymore
+		Iterator<CachedStatement> iterator = this.detachedStatements.iterator();
+		while (iterator.hasNext()) {
+			CachedStatement cachedStatement = iterator.next();
+			iterator.remove();
+			if (cachedStatement.reclaim()) {
+				this.dataSource.releaseStatement(cachedStatement);
+			}
+		}
+		for (CachedStatement cachedStatement : this.cachedStatements()) {
+			if (cachedStatement.getUsingCount() > 0) {
+				//	Plain statement was not closed by the borrower, reset it before handing to the next borrower
+				if (cachedStatement instanceof CachedPlainStatement plainStatement) {
+					plainStatement.reset();
+				}
+				cachedStatement.discardHandles();
+			}
+		}
+		if (this.limitDeadline) {
+			this.limitDeadline = Boolean.FALSE;
+			this.deadline = Globals.DEFAULT_VALUE_LONG;
+			for (CachedStatement cachedStatement : this.cachedStatements()) {
+				cachedStatement.setQueryTimeout(Globals.INITIALIZE_INT_VALUE);
+			}
+		}
 	}
 
 	/**
@@ -164,7 +353,12 @@ public final class NeuronsConnection implements PooledConnection, Connection {
 	 */
 	@Override
 	public Statement createStatement() throws SQLException {
-		return this.connection.createStatement();
+		if (!this.dataSource.isPlainStatementCaching()) {
+			return this.applyDeadline(this.connection.createStatement());
+		}
+		return this.createStatement(KeyType.STATEMENT_ONLY, Globals.DEFAULT_VALUE_STRING, Globals.DEFAULT_VALUE_INT,
+				Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT,
+				NO_COLUMN_INDEXES, NO_COLUMN_NAMES, CachedPlainStatement.class);
 	}
 
 	/**
@@ -176,7 +370,7 @@ public final class NeuronsConnection implements PooledConnection, Connection {
 	public PreparedStatement prepareStatement(String sql) throws SQLException {
 		return this.createStatement(KeyType.SQL_ONLY, sql, Globals.DEFAULT_VALUE_INT,
 				Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT,
-				new int[0], new String[0], CachedPreparedStatement.class);
+				NO_COLUMN_INDEXES, NO_COLUMN_NAMES, CachedPreparedStatement.class);
 	}
 
 	/**
@@ -188,7 +382,7 @@ public final class NeuronsConnection implements PooledConnection, Connection {
 	public CallableStatement prepareCall(String sql) throws SQLException {
 		return this.createStatement(KeyType.CALL_ONLY, sql, Globals.DEFAULT_VALUE_INT,
 				Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT,
-				new int[0], new String[0], CachedCallableStatement.class);
+				NO_COLUMN_INDEXES, NO_COLUMN_NAMES, CachedCallableStatement.class);
 	}
 
 	/**
@@ -354,7 +548,12 @@ public final class NeuronsConnection implements PooledConnection, Connection {
 	 */
 	@Override
 	public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
-		return this.connection.createStatement(resultSetType, resultSetConcurrency);
+		if (!this.dataSource.isPlainStatementCaching()) {
+			return this.applyDeadline(this.connection.createStatement(resultSetType, resultSetConcurrency));
+		}
+		return this.createStatement(KeyType.STATEMENT_CONCURRENCY, Globals.DEFAULT_VALUE_STRING, resultSetType,
+				resultSetConcurrency, Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT,
+				NO_COLUMN_INDEXES, NO_COLUMN_NAMES, CachedPlainStatement.class);
 	}
 
 	/**
@@ -367,7 +566,7 @@ public final class NeuronsConnection implements PooledConnection, Connection {
 			throws SQLException {
 		return this.createStatement(KeyType.SQL_CONCURRENCY, sql, resultSetType, resultSetConcurrency,
 				Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT,
-				new int[0], new String[0], CachedPreparedStatement.class);
+				NO_COLUMN_INDEXES, NO_COLUMN_NAMES, CachedPreparedStatement.class);
 	}
 
 	/**
@@ -380,7 +579,7 @@ public final class NeuronsConnection implements PooledConnection, Connection {
 			throws SQLException {
 		return this.createStatement(KeyType.CALL_CONCURRENCY, sql, resultSetType, resultSetConcurrency,
 				Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT,
-				new int[0], new String[0], CachedCallableStatement.class);
+				NO_COLUMN_INDEXES, NO_COLUMN_NAMES, CachedCallableStatement.class);
 	}
 
 	/**
@@ -471,7 +670,13 @@ public final class NeuronsConnection implements PooledConnection, Connection {
 	@Override
 	public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability)
 			throws SQLException {
-		return this.connection.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+		if (!this.dataSource.isPlainStatementCaching()) {
+			return this.applyDeadline(
+					this.connection.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability));
+		}
+		return this.createStatement(KeyType.STATEMENT_HOLDABILITY, Globals.DEFAULT_VALUE_STRING, resultSetType,
+				resultSetConcurrency, resultSetHoldability, Globals.DEFAULT_VALUE_INT,
+				NO_COLUMN_INDEXES, NO_COLUMN_NAMES, CachedPlainStatement.class);
 	}
 
 	/**
@@ -484,7 +689,7 @@ public final class NeuronsConnection implements PooledConnection, Connection {
 	                                          int resultSetHoldability) throws SQLException {
 		return this.createStatement(KeyType.SQL_HOLDABILITY, sql, resultSetType,
 				resultSetConcurrency, resultSetHoldability, Globals.DEFAULT_VALUE_INT,
-				new int[0], new String[0], CachedPreparedStatement.class);
+				NO_COLUMN_INDEXES, NO_COLUMN_NAMES, CachedPreparedStatement.class);
 	}
 
 	/**
@@ -497,7 +702,7 @@ public final class NeuronsConnection implements PooledConnection, Connection {
 	                                     int resultSetHoldability) throws SQLException {
 		return this.createStatement(KeyType.CALL_HOLDABILITY, sql, resultSetType,
 				resultSetConcurrency, resultSetHoldability, Globals.DEFAULT_VALUE_INT,
-				new int[0], new String[0], CallableStatement.class);
+				NO_COLUMN_INDEXES, NO_COLUMN_NAMES, CallableStatement.class);
 	}
 
 	/**
@@ -509,7 +714,7 @@ public final class NeuronsConnection implements PooledConnection, Connection {
 	public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
 		return this.createStatement(KeyType.SQL_AUTO_GENERATED_KEYS, sql, Globals.DEFAULT_VALUE_INT,
 				Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT, autoGeneratedKeys,
-				new int[0], new String[0], CachedPreparedStatement.class);
+				NO_COLUMN_INDEXES, NO_COLUMN_NAMES, CachedPreparedStatement.class);
 	}
 
 	/**
@@ -521,7 +726,7 @@ public final class NeuronsConnection implements PooledConnection, Connection {
 	public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
 		return this.createStatement(KeyType.SQL_COLUMN_INDEXES, sql, Globals.DEFAULT_VALUE_INT,
 				Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT,
-				columnIndexes, new String[0], CachedPreparedStatement.class);
+				columnIndexes, NO_COLUMN_NAMES, CachedPreparedStatement.class);
 	}
 
 	/**
@@ -533,7 +738,7 @@ public final class NeuronsConnection implements PooledConnection, Connection {
 	public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
 		return this.createStatement(KeyType.SQL_COLUMN_NAMES, sql, Globals.DEFAULT_VALUE_INT,
 				Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT,
-				new int[0], columnNames, CachedPreparedStatement.class);
+				NO_COLUMN_INDEXES, columnNames, CachedPreparedStatement.class);
 	}
 
 	/**
@@ -733,14 +938,6 @@ public final class NeuronsConnection implements PooledConnection, Connection {
 	 */
 	@Override
 	public void close() throws SQLException {
-		if (this.cachedLimitSize < this.cachedStatements.size()) {
-			Iterator<CachedStatement> iterator = this.cachedStatements.iterator();
-			while (iterator.hasNext()) {
-				CachedStatement cachedStatement = iterator.next();
-				cachedStatement.close();
-				iterator.remove();
-			}
-		}
 		this.dataSource.closeConnection(this);
 	}
 
@@ -752,27 +949,54 @@ public final class NeuronsConnection implements PooledConnection, Connection {
 	 *                      <span class="zh-CN">如果发生数据库访问错误</span>
 	 */
 	public void closeConnection() throws SQLException {
-		for (CachedStatement cachedStatement : this.cachedStatements) {
+		List<CachedStatement> cachedStatements = new ArrayList<>(this.detachedStatements);
+		this.detachedStatements.clear();
+		if (this.statementCache != null) {
+			this.dataSource.cacheWeightChanged(-this.statementCache.getWeight());
+			cachedStatements.addAll(this.statementCache.clear());
+		}
+		//	Statements of dead connection usually fail to close, keep closing the others and the physical connection
+		SQLException closeException = null;
+		try {
+			for (CachedStatement cachedStatement : cachedStatements) {
+				try {
+					cachedStatement.reclaim();
+					cachedStatement.closeStatement();
+					//	Statement event only supports the prepared statements
+					if (cachedStatement instanceof PreparedStatement preparedStatement) {
+						this.statementEventListeners.forEach(statementEventListener ->
+								statementEventListener.statementClosed(new StatementEvent(this, preparedStatement)));
+					}
+				} catch (SQLException e) {
+					if (cachedStatement instanceof PreparedStatement preparedStatement) {
+						this.statementEventListeners.forEach(statementEventListener ->
+								statementEventListener.statementErrorOccurred(
+										new StatementEvent(this, preparedStatement, e)));
+					}
+					if (closeException == null) {
+						closeException = e;
+					} else {
+						closeException.addSuppressed(e);
+					}
+				}
+			}
+		} finally {
 			try {
-				cachedStatement.close();
-				this.statementEventListeners.forEach(statementEventListener ->
-						statementEventListener.statementClosed(
-								new StatementEvent(this, (PreparedStatement) cachedStatement)));
+				this.connectionEventListeners.forEach(connectionEventListener ->
+						connectionEventListener.connectionClosed(new ConnectionEvent(this)));
+				this.connection.close();
 			} catch (SQLException e) {
-				this.statementEventListeners.forEach(statementEventListener ->
-						statementEventListener.statementErrorOccurred(
-								new StatementEvent(this, (PreparedStatement) cachedStatement)));
-				throw e;
+				this.connectionEventListeners.forEach(connectionEventListener ->
+						connectionEventListener.connectionErrorOccurred(new ConnectionEvent(this, e)));
+				if (closeException == null) {
+					closeException = e;
+				} else {
+					closeException.addSuppressed(e);
+				}
 			}
 		}
-		try {
-			this.connectionEventListeners.forEach(connectionEventListener ->
-					connectionEventListener.connectionClosed(new ConnectionEvent(this)));
-			this.connection.close();
-		} catch (SQLException e) {
-			this.connectionEventListeners.forEach(connectionEventListener ->
-					connectionEventListener.connectionErrorOccurred(new ConnectionEvent(this)));
-			throw e;
+		if (closeException != null) {
+			throw closeException;
 		}
 	}
 
@@ -816,49 +1040,6 @@ public final class NeuronsConnection implements PooledConnection, Connection {
 		this.statementEventListeners.remove(listener);
 	}
 
-	/**
-	 * <h2 class="en-US">Enumeration value of SQL command type</h2>
-	 * <h2 class="zh-CN">SQL语句类型枚举值</h2>
-	 */
-	enum KeyType {
-		/**
-		 * Sql only key type.
-		 */
-		SQL_ONLY,
-		/**
-		 * Sql concurrency key type.
-		 */
-		SQL_CONCURRENCY,
-		/**
-		 * Sql holdability key type.
-		 */
-		SQL_HOLDABILITY,
-		/**
-		 * Sql auto generated key type.
-		 */
-		SQL_AUTO_GENERATED_KEYS,
-		/**
-		 * Sql column indexes key type.
-		 */
-		SQL_COLUMN_INDEXES,
-		/**
-		 * Sql column names key type.
-		 */
-		SQL_COLUMN_NAMES,
-		/**
-		 * Call only key type.
-		 */
-		CALL_ONLY,
-		/**
-		 * Call concurrency key type.
-		 */
-		CALL_CONCURRENCY,
-		/**
-		 * Call holdability key type.
-		 */
-		CALL_HOLDABILITY
-	}
-
 	/**
 	 * <h4 class="en-US">Generate statement instance object</h4>
 	 * <h4 class="zh-CN">生成查询分析器实例对象</h4>
@@ -893,108 +1074,266 @@ public final class NeuronsConnection implements PooledConnection, Connection {
 	                              final int resultSetHoldability, final int autoGeneratedKeys,
 	                              final int[] columnIndexes, final String[] columnNames, final Class<T> statementType)
 			throws SQLException {
-		String cacheKey = this.cacheKey(keyType, sql, resultSetType, resultSetConcurrency,
+		StatementKey cacheKey = new StatementKey(keyType, sql, resultSetType, resultSetConcurrency,
 				resultSetHoldability, autoGeneratedKeys, columnIndexes, columnNames);
-		CachedStatement cachedStatement = null;
-		if (this.cachedLimitSize > 0) {
-			cachedStatement = this.cachedStatements.stream()
-					.filter(existStatement -> ObjectUtils.nullSafeEquals(cacheKey, existStatement.getIdentifyKey()))
-					.findFirst()
-					.orElse(null);
+		if (!cacheKey.isPlainStatement()) {
+			//	Plain statements were shared by all dynamic SQL, only the prepared statements were profiled
+			this.dataSource.statementRequested(cacheKey);
 		}
+		CachedStatement cachedStatement = (this.statementCache == null) ? null : this.statementCache.get(cacheKey);
 		if (cachedStatement == null) {
-			cachedStatement = switch (keyType) {
-				case CALL_ONLY -> new CachedCallableStatement(this, cacheKey,
-						this.connection.prepareCall(sql));
-				case CALL_CONCURRENCY -> new CachedCallableStatement(this, cacheKey,
-						this.connection.prepareCall(sql, resultSetType, resultSetConcurrency));
-				case CALL_HOLDABILITY -> new CachedCallableStatement(this, cacheKey,
-						this.connection.prepareCall(sql, resultSetType,
-								resultSetConcurrency, resultSetHoldability));
-				case SQL_ONLY -> new CachedPreparedStatement(this, cacheKey,
-						this.connection.prepareStatement(sql));
-				case SQL_CONCURRENCY -> new CachedPreparedStatement(this, cacheKey,
-						this.connection.prepareStatement(sql, resultSetType, resultSetConcurrency));
-				case SQL_HOLDABILITY -> new CachedPreparedStatement(this, cacheKey,
-						this.connection.prepareStatement(sql, resultSetType,
-								resultSetConcurrency, resultSetHoldability));
-				case SQL_AUTO_GENERATED_KEYS -> new CachedPreparedStatement(this, cacheKey,
-						this.connection.prepareStatement(sql, autoGeneratedKeys));
-				case SQL_COLUMN_INDEXES -> new CachedPreparedStatement(this, cacheKey,
-						this.connection.prepareStatement(sql, columnIndexes));
-				case SQL_COLUMN_NAMES -> new CachedPreparedStatement(this, cacheKey,
-						this.connection.prepareStatement(sql, columnNames));
-			};
-			if (this.cachedLimitSize > 0) {
-				this.cachedStatements.add(cachedStatement);
-			}
-		}
-		if (this.cachedLimitSize > 0) {
-			cachedStatement.incrementHitCount();
-			this.cachedStatements.sort((o1, o2) -> Integer.compare(o2.getHitCount(), o1.getHitCount()));
-			while (this.cachedLimitSize < this.cachedStatements.size()) {
-				this.cachedStatements.remove(this.cachedStatements.size() - 1);
+			cachedStatement = this.prepare(cacheKey);
+			cachedStatement.borrow();
+			if (this.statementCache == null) {
+				//	Statement was not cached, the JDBC statement will be closed when the borrower closes it
+				this.detachStatement(cachedStatement);
+			} else {
+				this.cacheStatement(cachedStatement);
 			}
+		} else if (cacheKey.isPlainStatement() && cachedStatement.getUsingCount() > 0) {
+			//	Executing on the shared JDBC statement will close the result set of other handle, use a new statement
+			cachedStatement = this.prepare(cacheKey);
+			cachedStatement.borrow();
+			this.detachStatement(cachedStatement);
+		} else {
+			cachedStatement.borrow();
 		}
 		this.activeConnection();
-		return statementType.cast(cachedStatement);
+		return statementType.cast(this.applyDeadline(cachedStatement));
 	}
 
 	/**
-	 * <h4 class="en-US">Generate identification code of statement instance</h4>
-	 * <h4 class="zh-CN">生成查询分析器缓存唯一识别代码</h4>
+	 * <h4 class="en-US">Prepare the statements into the statement cache before current connection was used</h4>
+	 * <p class="en-US">
+	 * Statements were prepared in the given order, the statements which already cached or failed to prepare will be
+	 * skipped. The preparing will not be recorded to the statement popularity profile of data source.
+	 * </p>
+	 * <h4 class="zh-CN">在当前连接被使用前将查询分析器预先创建至查询分析器缓存</h4>
+	 * <p class="zh-CN">按指定顺序创建查询分析器，已缓存或创建失败的查询将被跳过。预先创建不会记录至数据源的查询热度统计。</p>
 	 *
-	 * @param keyType              <span class="en-US">Enumeration value of SQL command type</span>
-	 *                             <span class="zh-CN">SQL语句类型枚举值</span>
-	 * @param sql                  <span class="en-US">SQL command</span>
-	 *                             <span class="zh-CN">SQL语句</span>
-	 * @param resultSetType        <span class="en-US">Result set type code</span>
-	 *                             <span class="zh-CN">结果集类型代码</span>
-	 * @param resultSetConcurrency <span class="en-US">Result set data type code</span>
-	 *                             <span class="zh-CN">结果集数据类型代码</span>
-	 * @param resultSetHoldability <span class="en-US">Result set transactional type code</span>
-	 *                             <span class="zh-CN">结果集事务类型代码</span>
-	 * @param autoGeneratedKeys    <span class="en-US">Returns the flag for automatically generated key values</span>
-	 *                             <span class="zh-CN">返回自动生成键值的标志</span>
-	 * @param columnIndexes        <span class="en-US">Array of column indices that can be used to get the inserted row</span>
-	 *                             <span class="zh-CN">可用于获取的插入行中的列索引数组</span>
-	 * @param columnNames          <span class="en-US">Can be used to get an array of column names in the inserted row</span>
-	 *                             <span class="zh-CN">可用于获取的插入行中的列名称数组</span>
-	 * @return <span class="en-US">Generated identification code</span>
-	 * <span class="zh-CN">生成的唯一识别代码</span>
-	 */
-	private String cacheKey(KeyType keyType, String sql, int resultSetType,
-	                        int resultSetConcurrency, int resultSetHoldability, int autoGeneratedKeys,
-	                        int[] columnIndexes, String[] columnNames) {
-		TreeMap<String, Object> cacheMap = new TreeMap<>();
-		cacheMap.put("KeyType", keyType.toString().toUpperCase());
-		cacheMap.put("SQLCmd", sql);
-		switch (keyType) {
-			case SQL_CONCURRENCY:
-			case CALL_CONCURRENCY:
-				cacheMap.put("ResultSetType", resultSetType);
-				cacheMap.put("ResultSetConcurrency", resultSetConcurrency);
-				break;
-			case SQL_HOLDABILITY:
-			case CALL_HOLDABILITY:
-				cacheMap.put("ResultSetType", resultSetType);
-				cacheMap.put("ResultSetConcurrency", resultSetConcurrency);
-				cacheMap.put("ResultSetHoldability", resultSetHoldability);
-				break;
-			case SQL_AUTO_GENERATED_KEYS:
-				cacheMap.put("AutoGeneratedKeys", autoGeneratedKeys);
-				break;
-			case SQL_COLUMN_INDEXES:
-				cacheMap.put("ColumnIndexes", columnIndexes);
-				break;
-			case SQL_COLUMN_NAMES:
-				cacheMap.put("ColumnNames", columnNames);
+	 * @param statementKeys <span class="en-US">Identification code list of statements</span>
+	 *                      <span class="zh-CN">查询的唯一识别代码列表</span>
+	 * @return <span class="en-US">Prepared statements count</span>
+	 * <span class="zh-CN">已创建的查询分析器数</span>
+	 */
+	public int warmUp(@Nonnull final Collection<StatementKey> statementKeys) {
+		if (this.statementCache == null) {
+			return Globals.INITIALIZE_INT_VALUE;
+		}
+		int preparedCount = Globals.INITIALIZE_INT_VALUE;
+		for (StatementKey statementKey : statementKeys) {
+			long weightLimit = this.dataSource.cacheWeightLimit();
+			if ((weightLimit >= 0 && this.statementCache.getWeight() >= weightLimit)
+					|| this.statementCache.size() >= this.dataSource.cacheSizeLimit()) {
+				//	Share of memory budget or heap pressure limit was used up, the following statements will be evicted immediately
 				break;
+			}
+			if (this.statementCache.get(statementKey) != null) {
+				continue;
+			}
+			CachedStatement cachedStatement;
+			try {
+				cachedStatement = this.prepare(statementKey);
+			} catch (SQLException e) {
+				//	Statement may be invalid after the database schema was changed
+				if (this.logger.isDebugEnabled()) {
+					this.logger.debug("Stack_Message_Error", e);
+				}
+				continue;
+			}
+			this.cacheStatement(cachedStatement);
+			preparedCount++;
+		}
+		return preparedCount;
+	}
+
+	/**
+	 * <h4 class="en-US">Prepare the JDBC statement of given identification code</h4>
+	 * <h4 class="zh-CN">创建指定唯一识别代码的JDBC查询分析器</h4>
+	 *
+	 * @param statementKey <span class="en-US">Identification code of statement</span>
+	 *                     <span class="zh-CN">查询的唯一识别代码</span>
+	 * @return <span class="en-US">Cached statement instance object</span>
+	 * <span class="zh-CN">可缓存的查询分析器实例对象</span>
+	 * @throws SQLException <span class="en-US">if a database access error occurs or this method is called on a closed connection</span>
+	 *                      <span class="zh-CN">如果发生数据库访问错误或在关闭的连接上调用此方法</span>
+	 */
+	private CachedStatement prepare(@Nonnull final StatementKey statementKey) throws SQLException {
+		String sql = statementKey.getSql();
+		CachedStatement cachedStatement = switch (statementKey.getKeyType()) {
+			case CALL_ONLY -> new CachedCallableStatement(this, statementKey,
+					this.connection.prepareCall(sql));
+			case CALL_CONCURRENCY -> new CachedCallableStatement(this, statementKey,
+					this.connection.prepareCall(sql, statementKey.getResultSetType(),
+							statementKey.getResultSetConcurrency()));
+			case CALL_HOLDABILITY -> new CachedCallableStatement(this, statementKey,
+					this.connection.prepareCall(sql, statementKey.getResultSetType(),
+							statementKey.getResultSetConcurrency(), statementKey.getResultSetHoldability()));
+			case SQL_ONLY -> new CachedPreparedStatement(this, statementKey,
+					this.connection.prepareStatement(sql));
+			case SQL_CONCURRENCY -> new CachedPreparedStatement(this, statementKey,
+					this.connection.prepareStatement(sql, statementKey.getResultSetType(),
+							statementKey.getResultSetConcurrency()));
+			case SQL_HOLDABILITY -> new CachedPreparedStatement(this, statementKey,
+					this.connection.prepareStatement(sql, statementKey.getResultSetType(),
+							statementKey.getResultSetConcurrency(), statementKey.getResultSetHoldability()));
+			case SQL_AUTO_GENERATED_KEYS -> new CachedPreparedStatement(this, statementKey,
+					this.connection.prepareStatement(sql, statementKey.getAutoGeneratedKeys()));
+			case SQL_COLUMN_INDEXES -> new CachedPreparedStatement(this, statementKey,
+					this.connection.prepareStatement(sql, statementKey.getColumnIndexes()));
+			case SQL_COLUMN_NAMES -> new CachedPreparedStatement(this, statementKey,
+					this.connection.prepareStatement(sql, statementKey.getColumnNames()));
+			case STATEMENT_ONLY -> new CachedPlainStatement(this, statementKey,
+					this.connection.createStatement());
+			case STATEMENT_CONCURRENCY -> new CachedPlainStatement(this, statementKey,
+					this.connection.createStatement(statementKey.getResultSetType(),
+							statementKey.getResultSetConcurrency()));
+			case STATEMENT_HOLDABILITY -> new CachedPlainStatement(this, statementKey,
+					this.connection.createStatement(statementKey.getResultSetType(),
+							statementKey.getResultSetConcurrency(), statementKey.getResultSetHoldability()));
+		};
+		cachedStatement.weight(this.estimateWeight(statementKey));
+		this.dataSource.statementPrepared();
+		return cachedStatement;
+	}
+
+	/**
+	 * <h4 class="en-US">Evict the cached statements above the share of memory budget or the heap pressure limit</h4>
+	 * <p class="en-US">Should be invoked by the owner of current connection, the statement cache is not thread safe</p>
+	 * <h4 class="zh-CN">淘汰超出内存预算份额或堆内存压力限制的已缓存查询分析器</h4>
+	 * <p class="zh-CN">应由当前连接的持有者调用，查询分析器缓存不是线程安全的</p>
+	 */
+	public void trimCache() {
+		if (this.statementCache == null) {
+			return;
 		}
-		String jsonData = StringUtils.objectToString(cacheMap, StringUtils.StringType.JSON, Boolean.FALSE);
-		if (this.logger.isDebugEnabled()) {
-			this.logger.debug("Cache_Statement_Map", jsonData);
+		long weightLimit = this.dataSource.cacheWeightLimit();
+		List<CachedStatement> evictedStatements =
+				this.statementCache.trim((weightLimit < 0) ? Long.MAX_VALUE : weightLimit,
+						this.dataSource.cacheSizeLimit());
+		for (CachedStatement evictedStatement : evictedStatements) {
+			this.dataSource.cacheWeightChanged(-evictedStatement.getWeight());
+			this.dataSource.statementEvicted();
+			this.detachStatement(evictedStatement);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Put the prepared statement into the statement cache</h4>
+	 * <p class="en-US">
+	 * The statement which evicted by the cache admission and the statements above the share of memory budget
+	 * will be detached from current connection.
+	 * </p>
+	 * <h4 class="zh-CN">将已创建的查询分析器放入查询分析器缓存</h4>
+	 * <p class="zh-CN">被缓存准入策略淘汰的查询分析器以及超出内存预算份额的查询分析器将从当前连接中脱离。</p>
+	 *
+	 * @param cachedStatement <span class="en-US">Cached statement instance object</span>
+	 *                        <span class="zh-CN">可缓存的查询分析器实例对象</span>
+	 */
+	private void cacheStatement(@Nonnull final CachedStatement cachedStatement) {
+		this.dataSource.cacheWeightChanged(cachedStatement.getWeight());
+		CachedStatement evictedStatement = this.statementCache.put(cachedStatement);
+		if (evictedStatement != null) {
+			this.dataSource.cacheWeightChanged(-evictedStatement.getWeight());
+			this.dataSource.statementEvicted();
+			this.detachStatement(evictedStatement);
+		}
+		this.trimCache();
+	}
+
+	/**
+	 * <h4 class="en-US">Estimate the memory weight of statement</h4>
+	 * <p class="en-US">
+	 * The weight was estimated by the SQL length, the parameters count and the generated keys columns.
+	 * Parameters count will be read from the shared parameter metadata if it was cached, otherwise it will be
+	 * counted by the placeholders of SQL, avoid the round trip to the database.
+	 * </p>
+	 * <h4 class="zh-CN">估计查询分析器的内存权重</h4>
+	 * <p class="zh-CN">
+	 * 根据SQL长度、参数数量以及自动生成键的列估计权重。如果共享的参数元数据已缓存，则从中读取参数数量，
+	 * 否则通过SQL中的占位符计数，避免访问数据库。
+	 * </p>
+	 *
+	 * @param statementKey <span class="en-US">Identification code of statement</span>
+	 *                     <span class="zh-CN">查询的唯一识别代码</span>
+	 * @return <span class="en-US">Estimated memory weight (Unit: bytes)</span>
+	 * <span class="zh-CN">估计的内存权重（单位：字节）</span>
+	 */
+	private long estimateWeight(@Nonnull final StatementKey statementKey) {
+		String sql = statementKey.getSql();
+		int parameterCount = this.metaDataCache().parameterCount(statementKey);
+		if (parameterCount < 0) {
+			parameterCount = (int) sql.chars().filter(character -> character == '?').count();
+		}
+		//	SQL was kept by both of the cache key and the driver statement
+		long weight = STATEMENT_WEIGHT + (long) sql.length() * 2 * Character.BYTES
+				+ (long) parameterCount * PARAMETER_WEIGHT;
+		int[] columnIndexes = statementKey.getColumnIndexes();
+		if (columnIndexes != null) {
+			weight += (long) columnIndexes.length * Integer.BYTES;
+		}
+		String[] columnNames = statementKey.getColumnNames();
+		if (columnNames != null) {
+			for (String columnName : columnNames) {
+				weight += (long) columnName.length() * Character.BYTES;
+			}
+		}
+		return weight;
+	}
+
+	/**
+	 * <h4 class="en-US">Detach the statement from current connection</h4>
+	 * <p class="en-US">
+	 * Statement which not using by any borrower will be closed asynchronously, otherwise it will be closed after
+	 * the last handle was closed or the connection was returned.
+	 * </p>
+	 * <h4 class="zh-CN">将查询分析器从当前连接中脱离</h4>
+	 * <p class="zh-CN">没有被借用者使用的查询分析器将被异步关闭，否则将在最后一个句柄关闭或连接归还后关闭。</p>
+	 *
+	 * @param cachedStatement <span class="en-US">Cached statement instance object</span>
+	 *                        <span class="zh-CN">可缓存的查询分析器实例对象</span>
+	 */
+	private void detachStatement(@Nonnull final CachedStatement cachedStatement) {
+		if (cachedStatement.detach()) {
+			this.dataSource.releaseStatement(cachedStatement);
+		} else {
+			this.detachedStatements.add(cachedStatement);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">All cached statements of current connection</h4>
+	 * <h4 class="zh-CN">当前连接中所有已缓存的查询分析器</h4>
+	 *
+	 * @return <span class="en-US">Cached statements list</span>
+	 * <span class="zh-CN">已缓存的查询分析器列表</span>
+	 */
+	private List<CachedStatement> cachedStatements() {
+		return (this.statementCache == null) ? Collections.emptyList() : this.statementCache.values();
+	}
+
+	/**
+	 * <h4 class="en-US">Apply the remaining time of current borrowing as the query timeout of given statement</h4>
+	 * <h4 class="zh-CN">将当前借出的剩余时间设置为指定查询分析器的查询超时时间</h4>
+	 *
+	 * @param <T>       <span class="en-US">Statement instance object type</span>
+	 *                  <span class="zh-CN">查询分析器实例对象类型</span>
+	 * @param statement <span class="en-US">Statement instance object</span>
+	 *                  <span class="zh-CN">查询分析器实例对象</span>
+	 * @return <span class="en-US">Given statement instance object</span>
+	 * <span class="zh-CN">指定的查询分析器实例对象</span>
+	 * @throws SQLException <span class="en-US">if the deadline time was exceeded or a database access error occurs</span>
+	 *                      <span class="zh-CN">如果已超过截止时间或发生数据库访问错误</span>
+	 */
+	private <T extends Statement> T applyDeadline(final T statement) throws SQLException {
+		if (this.limitDeadline) {
+			long remaining = this.deadline - System.nanoTime();
+			if (remaining <= 0L) {
+				throw new SQLTimeoutException("Deadline of database connection exceeded! ");
+			}
+			long timeout = (remaining + TimeUnit.SECONDS.toNanos(1L) - 1L) / TimeUnit.SECONDS.toNanos(1L);
+			statement.setQueryTimeout((int) Math.min(timeout, Integer.MAX_VALUE));
 		}
-		return ConvertUtils.toHex(SecurityUtils.SHA256(jsonData));
+		return statement;
 	}
 }
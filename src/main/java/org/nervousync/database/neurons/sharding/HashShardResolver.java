@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.neurons.sharding;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <h2 class="en-US">Shard resolver using the hash code of shard key</h2>
+ * <h2 class="zh-CN">使用分片键哈希值的分片解析器</h2>
+ *
+ * @param <K> <span class="en-US">Shard key type</span>
+ *            <span class="zh-CN">分片键类型</span>
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 14:08:52 $
+ */
+public final class HashShardResolver<K> implements ShardResolver<K> {
+
+	/**
+	 * <span class="en-US">Shard name list</span>
+	 * <span class="zh-CN">分片名称列表</span>
+	 */
+	private final List<String> shardNames;
+
+	/**
+	 * <h4 class="en-US">Constructor method for shard resolver using the hash code of shard key</h4>
+	 * <h4 class="zh-CN">使用分片键哈希值的分片解析器的构造方法</h4>
+	 *
+	 * @param shardNames <span class="en-US">Shard name list</span>
+	 *                   <span class="zh-CN">分片名称列表</span>
+	 */
+	public HashShardResolver(@Nonnull final List<String> shardNames) {
+		if (shardNames.isEmpty()) {
+			throw new IllegalArgumentException("Shard names could not be empty! ");
+		}
+		this.shardNames = List.copyOf(shardNames);
+	}
+
+	@Override
+	public String resolve(final K shardKey) {
+		if (shardKey == null) {
+			return null;
+		}
+		//	Spread the high bits to avoid the poor distribution of hash codes
+		int hashCode = Objects.hashCode(shardKey);
+		hashCode ^= (hashCode >>> 16);
+		return this.shardNames.get(Math.floorMod(hashCode, this.shardNames.size()));
+	}
+}
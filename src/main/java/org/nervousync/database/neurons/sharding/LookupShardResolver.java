@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.neurons.sharding;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h2 class="en-US">Shard resolver using the lookup table</h2>
+ * <p class="en-US">The lookup table could be updated at runtime, to move the shard key to another shard</p>
+ * <h2 class="zh-CN">使用查找表的分片解析器</h2>
+ * <p class="zh-CN">查找表可在运行时更新，用于将分片键迁移至其他分片</p>
+ *
+ * @param <K> <span class="en-US">Shard key type</span>
+ *            <span class="zh-CN">分片键类型</span>
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 14:15:43 $
+ */
+public final class LookupShardResolver<K> implements ShardResolver<K> {
+
+	/**
+	 * <span class="en-US">Lookup table of shard key and shard name</span>
+	 * <span class="zh-CN">分片键与分片名称的查找表</span>
+	 */
+	private final Map<K, String> lookupTable;
+	/**
+	 * <span class="en-US">Default shard name if shard key not found in lookup table</span>
+	 * <span class="zh-CN">分片键不在查找表中时使用的默认分片名称</span>
+	 */
+	private final String defaultShard;
+
+	/**
+	 * <h4 class="en-US">Constructor method for shard resolver using the lookup table</h4>
+	 * <h4 class="zh-CN">使用查找表的分片解析器的构造方法</h4>
+	 *
+	 * @param lookupTable  <span class="en-US">Lookup table of shard key and shard name</span>
+	 *                     <span class="zh-CN">分片键与分片名称的查找表</span>
+	 * @param defaultShard <span class="en-US">Default shard name if shard key not found in lookup table</span>
+	 *                     <span class="zh-CN">分片键不在查找表中时使用的默认分片名称</span>
+	 */
+	public LookupShardResolver(@Nonnull final Map<K, String> lookupTable, final String defaultShard) {
+		this.lookupTable = new ConcurrentHashMap<>(lookupTable);
+		this.defaultShard = defaultShard;
+	}
+
+	/**
+	 * <h4 class="en-US">Update shard name of given shard key</h4>
+	 * <h4 class="zh-CN">更新指定分片键的分片名称</h4>
+	 *
+	 * @param shardKey  <span class="en-US">Shard key</span>
+	 *                  <span class="zh-CN">分片键</span>
+	 * @param shardName <span class="en-US">Shard name</span>
+	 *                  <span class="zh-CN">分片名称</span>
+	 */
+	public void update(@Nonnull final K shardKey, @Nonnull final String shardName) {
+		this.lookupTable.put(shardKey, shardName);
+	}
+
+	@Override
+	public String resolve(final K shardKey) {
+		if (shardKey == null) {
+			return this.defaultShard;
+		}
+		return this.lookupTable.getOrDefault(shardKey, this.defaultShard);
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.neurons.sharding;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <h2 class="en-US">Shard resolver using the range of shard key</h2>
+ * <p class="en-US">Each shard was mapped by the lower bound (inclusive) of its shard key range</p>
+ * <h2 class="zh-CN">使用分片键范围的分片解析器</h2>
+ * <p class="zh-CN">每个分片以其分片键范围的下限（包含）进行映射</p>
+ *
+ * @param <K> <span class="en-US">Shard key type</span>
+ *            <span class="zh-CN">分片键类型</span>
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 14:12:07 $
+ */
+public final class RangeShardResolver<K extends Comparable<K>> implements ShardResolver<K> {
+
+	/**
+	 * <span class="en-US">Mapping of range lower bound and shard name</span>
+	 * <span class="zh-CN">范围下限与分片名称的映射表</span>
+	 */
+	private final TreeMap<K, String> rangeMap;
+
+	/**
+	 * <h4 class="en-US">Constructor method for shard resolver using the range of shard key</h4>
+	 * <h4 class="zh-CN">使用分片键范围的分片解析器的构造方法</h4>
+	 *
+	 * @param rangeMap <span class="en-US">Mapping of range lower bound and shard name</span>
+	 *                 <span class="zh-CN">范围下限与分片名称的映射表</span>
+	 */
+	public RangeShardResolver(@Nonnull final Map<K, String> rangeMap) {
+		if (rangeMap.isEmpty()) {
+			throw new IllegalArgumentException("Range mapping could not be empty! ");
+		}
+		this.rangeMap = new TreeMap<>(rangeMap);
+	}
+
+	@Override
+	public String resolve(final K shardKey) {
+		if (shardKey == null) {
+			return null;
+		}
+		Map.Entry<K, String> entry = this.rangeMap.floorEntry(shardKey);
+		return entry == null ? null : entry.getValue();
+	}
+}
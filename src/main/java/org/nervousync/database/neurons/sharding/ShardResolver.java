@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.neurons.sharding;
+
+/**
+ * <h2 class="en-US">Interface of shard resolver</h2>
+ * <h2 class="zh-CN">分片解析器接口</h2>
+ *
+ * @param <K> <span class="en-US">Shard key type</span>
+ *            <span class="zh-CN">分片键类型</span>
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 14:05:27 $
+ */
+@FunctionalInterface
+public interface ShardResolver<K> {
+
+	/**
+	 * <h4 class="en-US">Resolve shard name by given shard key</h4>
+	 * <h4 class="zh-CN">根据给定的分片键解析分片名称</h4>
+	 *
+	 * @param shardKey <span class="en-US">Shard key</span>
+	 *                 <span class="zh-CN">分片键</span>
+	 * @return <span class="en-US">Resolved shard name or <code>null</code> if not found</span>
+	 * <span class="zh-CN">解析的分片名称，如果未找到返回<code>null</code></span>
+	 */
+	String resolve(final K shardKey);
+}
@@ -0,0 +1,448 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.neurons.sharding;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.commons.Globals;
+import org.nervousync.database.neurons.NeuronsDataSource;
+import org.nervousync.utils.ClassUtils;
+import org.nervousync.utils.LoggerUtils;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * <h2 class="en-US">Routing data source of sharding databases</h2>
+ * <p class="en-US">
+ * Resolve the shard by the shard key and obtains the connection from the pool of the shard with one call.
+ * Connections of multiple shards could be borrowed in parallel by the scatter method. The shard data sources were
+ * owned by the caller and should be closed by the caller.
+ * </p>
+ * <h2 class="zh-CN">分片数据库的路由数据源</h2>
+ * <p class="zh-CN">
+ * 根据分片键解析分片，并通过一次调用从分片的连接池中获取连接。可通过分散方法并行借出多个分片的连接。
+ * 分片数据源由调用者持有，应由调用者关闭。
+ * </p>
+ *
+ * @param <K> <span class="en-US">Shard key type</span>
+ *            <span class="zh-CN">分片键类型</span>
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 14:26:18 $
+ */
+public final class ShardingDataSource<K> implements DataSource, Closeable {
+
+	/**
+	 * <span class="en-US">Multilingual logger instance object</span>
+	 * <span class="zh-CN">多语言日志实例对象</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(ShardingDataSource.class);
+
+	/**
+	 * <span class="en-US">Mapping of shard name and data source instance object</span>
+	 * <span class="zh-CN">分片名称与数据源实例对象的映射表</span>
+	 */
+	private final Map<String, NeuronsDataSource> shards;
+	/**
+	 * <span class="en-US">Borrowed connections count of each shard</span>
+	 * <span class="zh-CN">每个分片借出的连接数</span>
+	 */
+	private final Map<String, LongAdder> borrowCounts;
+	/**
+	 * <span class="en-US">Failed borrow count of each shard</span>
+	 * <span class="zh-CN">每个分片借出连接失败的次数</span>
+	 */
+	private final Map<String, LongAdder> errorCounts;
+	/**
+	 * <span class="en-US">Shard resolver instance object</span>
+	 * <span class="zh-CN">分片解析器实例对象</span>
+	 */
+	private final ShardResolver<K> shardResolver;
+	/**
+	 * <span class="en-US">Executor of parallel borrow tasks</span>
+	 * <span class="zh-CN">并行借出连接任务的执行器</span>
+	 */
+	private final ExecutorService scatterExecutor;
+	private PrintWriter logWriter = new PrintWriter(System.out);
+
+	/**
+	 * <h4 class="en-US">Constructor method for routing data source of sharding databases</h4>
+	 * <h4 class="zh-CN">分片数据库的路由数据源的构造方法</h4>
+	 *
+	 * @param shards        <span class="en-US">Mapping of shard name and data source instance object</span>
+	 *                      <span class="zh-CN">分片名称与数据源实例对象的映射表</span>
+	 * @param shardResolver <span class="en-US">Shard resolver instance object</span>
+	 *                      <span class="zh-CN">分片解析器实例对象</span>
+	 */
+	public ShardingDataSource(@Nonnull final Map<String, NeuronsDataSource> shards,
+	                          @Nonnull final ShardResolver<K> shardResolver) {
+		if (shards.isEmpty()) {
+			throw new IllegalArgumentException("Shard data sources could not be empty! ");
+		}
+		this.shards = Collections.unmodifiableMap(new LinkedHashMap<>(shards));
+		this.borrowCounts = new HashMap<>();
+		this.errorCounts = new HashMap<>();
+		this.shards.keySet().forEach(shardName -> {
+			this.borrowCounts.put(shardName, new LongAdder());
+			this.errorCounts.put(shardName, new LongAdder());
+		});
+		this.shardResolver = shardResolver;
+		AtomicInteger sequence = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+		ThreadPoolExecutor threadPoolExecutor =
+				new ThreadPoolExecutor(this.shards.size(), this.shards.size(), 60L, TimeUnit.SECONDS,
+						new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, "Neurons-Scatter-" + sequence.incrementAndGet());
+					thread.setDaemon(Boolean.TRUE);
+					return thread;
+				});
+		threadPoolExecutor.allowCoreThreadTimeOut(Boolean.TRUE);
+		this.scatterExecutor = threadPoolExecutor;
+	}
+
+	/**
+	 * <h4 class="en-US">Shard names</h4>
+	 * <h4 class="zh-CN">分片名称</h4>
+	 *
+	 * @return <span class="en-US">Shard name set</span>
+	 * <span class="zh-CN">分片名称集合</span>
+	 */
+	public Set<String> shardNames() {
+		return this.shards.keySet();
+	}
+
+	/**
+	 * <h4 class="en-US">Resolve shard name by given shard key</h4>
+	 * <h4 class="zh-CN">根据给定的分片键解析分片名称</h4>
+	 *
+	 * @param shardKey <span class="en-US">Shard key</span>
+	 *                 <span class="zh-CN">分片键</span>
+	 * @return <span class="en-US">Resolved shard name</span>
+	 * <span class="zh-CN">解析的分片名称</span>
+	 * @throws SQLException <span class="en-US">if the shard was not found</span>
+	 *                      <span class="zh-CN">如果未找到分片</span>
+	 */
+	public String shardName(final K shardKey) throws SQLException {
+		String shardName = this.shardResolver.resolve(shardKey);
+		if (shardName == null || !this.shards.containsKey(shardName)) {
+			throw new SQLException("Shard not found by key: " + shardKey);
+		}
+		return shardName;
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the data source of shard which given shard key belongs to</h4>
+	 * <h4 class="zh-CN">获取给定分片键所属分片的数据源</h4>
+	 *
+	 * @param shardKey <span class="en-US">Shard key</span>
+	 *                 <span class="zh-CN">分片键</span>
+	 * @return <span class="en-US">Data source instance object</span>
+	 * <span class="zh-CN">数据源实例对象</span>
+	 * @throws SQLException <span class="en-US">if the shard was not found</span>
+	 *                      <span class="zh-CN">如果未找到分片</span>
+	 */
+	public NeuronsDataSource dataSource(final K shardKey) throws SQLException {
+		return this.shards.get(this.shardName(shardKey));
+	}
+
+	/**
+	 * <h4 class="en-US">Obtains connection from the shard which given shard key belongs to</h4>
+	 * <h4 class="zh-CN">从给定分片键所属的分片中获取连接</h4>
+	 *
+	 * @param shardKey <span class="en-US">Shard key</span>
+	 *                 <span class="zh-CN">分片键</span>
+	 * @return <span class="en-US">Database connection instance object</span>
+	 * <span class="zh-CN">数据库连接实例对象</span>
+	 * @throws SQLException <span class="en-US">if the shard was not found or obtains connection failed</span>
+	 *                      <span class="zh-CN">如果未找到分片或获取连接失败</span>
+	 */
+	public Connection getConnection(final K shardKey) throws SQLException {
+		return this.borrow(this.shardName(shardKey));
+	}
+
+	/**
+	 * <h4 class="en-US">Obtains connections from the shards which given shard keys belong to in parallel</h4>
+	 * <p class="en-US">
+	 * Only one connection will be borrowed from each shard. If any borrow failed, the borrowed connections will be
+	 * returned to the pools and the exception will be thrown.
+	 * </p>
+	 * <h4 class="zh-CN">并行从给定分片键所属的分片中获取连接</h4>
+	 * <p class="zh-CN">每个分片仅借出一个连接。如果任一借出失败，已借出的连接将归还至连接池并抛出异常。</p>
+	 *
+	 * @param shardKeys <span class="en-US">Shard key collection</span>
+	 *                  <span class="zh-CN">分片键集合</span>
+	 * @return <span class="en-US">Mapping of shard name and connection instance object</span>
+	 * <span class="zh-CN">分片名称与连接实例对象的映射表</span>
+	 * @throws SQLException <span class="en-US">if the shard was not found or obtains connection failed</span>
+	 *                      <span class="zh-CN">如果未找到分片或获取连接失败</span>
+	 */
+	public Map<String, Connection> scatter(@Nonnull final Collection<K> shardKeys) throws SQLException {
+		Set<String> shardNames = new LinkedHashSet<>();
+		for (K shardKey : shardKeys) {
+			shardNames.add(this.shardName(shardKey));
+		}
+		Map<String, CompletableFuture<Connection>> futures = new LinkedHashMap<>();
+		SQLException exception = null;
+		for (String shardName : shardNames) {
+			ScatterTask scatterTask = new ScatterTask(this, shardName);
+			try {
+				this.scatterExecutor.execute(scatterTask);
+				futures.put(shardName, scatterTask.future);
+			} catch (RejectedExecutionException e) {
+				exception = new SQLException("Sharding data source was closed! ", e);
+				break;
+			}
+		}
+
+		Map<String, Connection> connections = new LinkedHashMap<>();
+		Iterator<Map.Entry<String, CompletableFuture<Connection>>> iterator = futures.entrySet().iterator();
+		while (exception == null && iterator.hasNext()) {
+			Map.Entry<String, CompletableFuture<Connection>> entry = iterator.next();
+			try {
+				connections.put(entry.getKey(), entry.getValue().get());
+			} catch (ExecutionException | CancellationException e) {
+				exception = (e.getCause() instanceof SQLException sqlException)
+						? sqlException
+						: new SQLException("Obtain shard connection error! ", e);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				exception = new SQLException("Obtain shard connection interrupted! ", e);
+			}
+		}
+		if (exception != null) {
+			connections.values().forEach(ShardingDataSource::release);
+			futures.forEach((shardName, future) -> {
+				//	Cancel the pending borrow tasks, the connections borrowed later will be released by the task
+				if (!connections.containsKey(shardName) && !future.cancel(Boolean.FALSE)) {
+					future.thenAccept(ShardingDataSource::release);
+				}
+			});
+			throw exception;
+		}
+		return connections;
+	}
+
+	/**
+	 * <h4 class="en-US">Borrowed connections count of given shard</h4>
+	 * <h4 class="zh-CN">给定分片借出的连接数</h4>
+	 *
+	 * @param shardName <span class="en-US">Shard name</span>
+	 *                  <span class="zh-CN">分片名称</span>
+	 * @return <span class="en-US">Borrowed connections count</span>
+	 * <span class="zh-CN">借出的连接数</span>
+	 */
+	public long borrowCount(final String shardName) {
+		return Optional.ofNullable(this.borrowCounts.get(shardName)).map(LongAdder::sum).orElse(0L);
+	}
+
+	/**
+	 * <h4 class="en-US">Failed borrow count of given shard</h4>
+	 * <h4 class="zh-CN">给定分片借出连接失败的次数</h4>
+	 *
+	 * @param shardName <span class="en-US">Shard name</span>
+	 *                  <span class="zh-CN">分片名称</span>
+	 * @return <span class="en-US">Failed borrow count</span>
+	 * <span class="zh-CN">借出连接失败的次数</span>
+	 */
+	public long errorCount(final String shardName) {
+		return Optional.ofNullable(this.errorCounts.get(shardName)).map(LongAdder::sum).orElse(0L);
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see DataSource#getConnection()
+	 */
+	@Override
+	public Connection getConnection() throws SQLException {
+		throw new SQLFeatureNotSupportedException("Shard key is required for obtains connection! ");
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see DataSource#getConnection(String, String)
+	 */
+	@Override
+	public Connection getConnection(final String username, final String password) throws SQLException {
+		throw new SQLFeatureNotSupportedException("Shard key is required for obtains connection! ");
+	}
+
+	@Override
+	public PrintWriter getLogWriter() {
+		return this.logWriter;
+	}
+
+	@Override
+	public void setLogWriter(final PrintWriter logWriter) {
+		this.logWriter = logWriter;
+	}
+
+	@Override
+	public void setLoginTimeout(int seconds) {
+		DriverManager.setLoginTimeout(seconds);
+	}
+
+	@Override
+	public int getLoginTimeout() {
+		return DriverManager.getLoginTimeout();
+	}
+
+	@Override
+	public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+		throw new SQLFeatureNotSupportedException();
+	}
+
+	@Override
+	public <T> T unwrap(final Class<T> clazz) throws SQLException {
+		try {
+			return clazz.cast(this);
+		} catch (ClassCastException e) {
+			throw new SQLException(e);
+		}
+	}
+
+	@Override
+	public boolean isWrapperFor(final Class<?> clazz) {
+		return ClassUtils.isAssignable(clazz, this.getClass());
+	}
+
+	/**
+	 * <h4 class="en-US">Close the scatter executor</h4>
+	 * <p class="en-US">Shard data sources were owned by the caller, they will not be closed by current data source</p>
+	 * <h4 class="zh-CN">关闭分散执行器</h4>
+	 * <p class="zh-CN">分片数据源由调用者持有，不会被当前数据源关闭</p>
+	 */
+	@Override
+	public void close() {
+		this.scatterExecutor.shutdownNow()
+				.stream()
+				.filter(runnable -> runnable instanceof ScatterTask)
+				.forEach(runnable -> ((ScatterTask) runnable).future.cancel(Boolean.FALSE));
+	}
+
+	/**
+	 * <h4 class="en-US">Close the given connection and ignore the exception</h4>
+	 * <h4 class="zh-CN">关闭给定的连接并忽略异常</h4>
+	 *
+	 * @param connection <span class="en-US">Database connection instance object</span>
+	 *                   <span class="zh-CN">数据库连接实例对象</span>
+	 */
+	private static void release(final Connection connection) {
+		try {
+			connection.close();
+		} catch (SQLException e) {
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Obtains connection from the data source of given shard</h4>
+	 * <h4 class="zh-CN">从给定分片的数据源中获取连接</h4>
+	 *
+	 * @param shardName <span class="en-US">Shard name</span>
+	 *                  <span class="zh-CN">分片名称</span>
+	 * @return <span class="en-US">Database connection instance object</span>
+	 * <span class="zh-CN">数据库连接实例对象</span>
+	 * @throws SQLException <span class="en-US">if obtains connection failed</span>
+	 *                      <span class="zh-CN">如果获取连接失败</span>
+	 */
+	private Connection borrow(final String shardName) throws SQLException {
+		try {
+			Connection connection = this.shards.get(shardName).getConnection();
+			this.borrowCounts.get(shardName).increment();
+			return connection;
+		} catch (SQLException e) {
+			this.errorCounts.get(shardName).increment();
+			throw e;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Parallel borrow task of shard</h2>
+	 * <p class="en-US">
+	 * Borrow will be skipped if the future was cancelled before the task started, and the connection borrowed after
+	 * the future was cancelled will be returned to the pool.
+	 * </p>
+	 * <h2 class="zh-CN">分片的并行借出连接任务</h2>
+	 * <p class="zh-CN">如果任务开始前已取消则跳过借出，取消后借出的连接将归还至连接池。</p>
+	 */
+	private static final class ScatterTask implements Runnable {
+
+		/**
+		 * <span class="en-US">Sharding data source instance object</span>
+		 * <span class="zh-CN">分片数据源实例对象</span>
+		 */
+		private final ShardingDataSource<?> dataSource;
+
+		/**
+		 * <span class="en-US">Shard name</span>
+		 * <span class="zh-CN">分片名称</span>
+		 */
+		private final String shardName;
+		/**
+		 * <span class="en-US">Future of borrowed connection</span>
+		 * <span class="zh-CN">借出连接的异步结果</span>
+		 */
+		private final CompletableFuture<Connection> future;
+
+		/**
+		 * <h4 class="en-US">Constructor method for parallel borrow task of shard</h4>
+		 * <h4 class="zh-CN">分片的并行借出连接任务的构造方法</h4>
+		 *
+		 * @param dataSource <span class="en-US">Sharding data source instance object</span>
+		 *                   <span class="zh-CN">分片数据源实例对象</span>
+		 * @param shardName  <span class="en-US">Shard name</span>
+		 *                   <span class="zh-CN">分片名称</span>
+		 */
+		ScatterTask(@Nonnull final ShardingDataSource<?> dataSource, final String shardName) {
+			this.dataSource = dataSource;
+			this.shardName = shardName;
+			this.future = new CompletableFuture<>();
+		}
+
+		/**
+		 * (Non-Javadoc)
+		 *
+		 * @see Runnable#run()
+		 */
+		@Override
+		public void run() {
+			if (this.future.isDone()) {
+				return;
+			}
+			try {
+				Connection connection = this.dataSource.borrow(this.shardName);
+				if (!this.future.complete(connection)) {
+					release(connection);
+				}
+			} catch (SQLException | RuntimeException e) {
+				this.future.completeExceptionally(e);
+			}
+		}
+	}
+}
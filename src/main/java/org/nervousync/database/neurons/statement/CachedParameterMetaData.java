@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.neurons.statement;
+
+import jakarta.annotation.Nonnull;
+
+import java.sql.ParameterMetaData;
+import java.sql.SQLException;
+
+/**
+ * <h2 class="en-US">Snapshot of parameter metadata</h2>
+ * <p class="en-US">
+ * All parameter information was copied from the driver's metadata when the snapshot was created, so the snapshot
+ * could be shared by all connections of the data source without any database access.
+ * </p>
+ * <h2 class="zh-CN">参数元数据快照</h2>
+ * <p class="zh-CN">创建快照时从驱动程序的元数据中复制所有参数信息，因此快照可以在数据源的所有连接间共享而无需访问数据库。</p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 22:21:05 $
+ */
+public final class CachedParameterMetaData implements ParameterMetaData {
+
+	/**
+	 * <span class="en-US">Parameters count</span>
+	 * <span class="zh-CN">参数数量</span>
+	 */
+	private final int parameterCount;
+	/**
+	 * <span class="en-US">Parameter modes of parameters</span>
+	 * <span class="zh-CN">各参数的参数模式</span>
+	 */
+	private final int[] parameterModes;
+	/**
+	 * <span class="en-US">SQL type codes of parameters</span>
+	 * <span class="zh-CN">各参数的SQL类型代码</span>
+	 */
+	private final int[] parameterTypes;
+	/**
+	 * <span class="en-US">Database type names of parameters</span>
+	 * <span class="zh-CN">各参数的数据库类型名称</span>
+	 */
+	private final String[] parameterTypeNames;
+	/**
+	 * <span class="en-US">Java class names of parameters</span>
+	 * <span class="zh-CN">各参数的Java类名称</span>
+	 */
+	private final String[] parameterClassNames;
+	/**
+	 * <span class="en-US">Precisions of parameters</span>
+	 * <span class="zh-CN">各参数的精度</span>
+	 */
+	private final int[] precisions;
+	/**
+	 * <span class="en-US">Scales of parameters</span>
+	 * <span class="zh-CN">各参数的小数位数</span>
+	 */
+	private final int[] scales;
+	/**
+	 * <span class="en-US">Nullable status codes of parameters</span>
+	 * <span class="zh-CN">各参数的可为空状态代码</span>
+	 */
+	private final int[] nullables;
+	/**
+	 * <span class="en-US">Signed status of parameters</span>
+	 * <span class="zh-CN">各参数的有符号状态</span>
+	 */
+	private final boolean[] signeds;
+
+	/**
+	 * <h4 class="en-US">Constructor method for snapshot of parameter metadata</h4>
+	 * <h4 class="zh-CN">参数元数据快照的构造方法</h4>
+	 *
+	 * @param metaData <span class="en-US">Parameter metadata instance object of driver</span>
+	 *                 <span class="zh-CN">驱动程序的参数元数据实例对象</span>
+	 * @throws SQLException <span class="en-US">if a database access error occurs</span>
+	 *                      <span class="zh-CN">如果发生数据库访问错误</span>
+	 */
+	public CachedParameterMetaData(@Nonnull final ParameterMetaData metaData) throws SQLException {
+		this.parameterCount = metaData.getParameterCount();
+		this.parameterModes = new int[this.parameterCount];
+		this.parameterTypes = new int[this.parameterCount];
+		this.parameterTypeNames = new String[this.parameterCount];
+		this.parameterClassNames = new String[this.parameterCount];
+		this.precisions = new int[this.parameterCount];
+		this.scales = new int[this.parameterCount];
+		this.nullables = new int[this.parameterCount];
+		this.signeds = new boolean[this.parameterCount];
+		for (int i = 0; i < this.parameterCount; i++) {
+			this.parameterModes[i] = metaData.getParameterMode(i + 1);
+			this.parameterTypes[i] = metaData.getParameterType(i + 1);
+			this.parameterTypeNames[i] = metaData.getParameterTypeName(i + 1);
+			this.parameterClassNames[i] = metaData.getParameterClassName(i + 1);
+			this.precisions[i] = metaData.getPrecision(i + 1);
+			this.scales[i] = metaData.getScale(i + 1);
+			this.nullables[i] = metaData.isNullable(i + 1);
+			this.signeds[i] = metaData.isSigned(i + 1);
+		}
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ParameterMetaData#getParameterCount()
+	 */
+	@Override
+	public int getParameterCount() {
+		return this.parameterCount;
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ParameterMetaData#getParameterMode(int)
+	 */
+	@Override
+	public int getParameterMode(int param) throws SQLException {
+		return this.parameterModes[this.index(param)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ParameterMetaData#getParameterType(int)
+	 */
+	@Override
+	public int getParameterType(int param) throws SQLException {
+		return this.parameterTypes[this.index(param)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ParameterMetaData#getParameterTypeName(int)
+	 */
+	@Override
+	public String getParameterTypeName(int param) throws SQLException {
+		return this.parameterTypeNames[this.index(param)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ParameterMetaData#getParameterClassName(int)
+	 */
+	@Override
+	public String getParameterClassName(int param) throws SQLException {
+		return this.parameterClassNames[this.index(param)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ParameterMetaData#getPrecision(int)
+	 */
+	@Override
+	public int getPrecision(int param) throws SQLException {
+		return this.precisions[this.index(param)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ParameterMetaData#getScale(int)
+	 */
+	@Override
+	public int getScale(int param) throws SQLException {
+		return this.scales[this.index(param)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ParameterMetaData#isNullable(int)
+	 */
+	@Override
+	public int isNullable(int param) throws SQLException {
+		return this.nullables[this.index(param)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ParameterMetaData#isSigned(int)
+	 */
+	@Override
+	public boolean isSigned(int param) throws SQLException {
+		return this.signeds[this.index(param)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ParameterMetaData#unwrap(Class)
+	 */
+	@Override
+	public <T> T unwrap(Class<T> clazz) throws SQLException {
+		if (this.isWrapperFor(clazz)) {
+			return clazz.cast(this);
+		}
+		throw new SQLException("Not a wrapper for " + clazz);
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ParameterMetaData#isWrapperFor(Class)
+	 */
+	@Override
+	public boolean isWrapperFor(Class<?> clazz) {
+		return clazz != null && clazz.isInstance(this);
+	}
+
+	/**
+	 * <h4 class="en-US">Convert the parameter index to array index</h4>
+	 * <h4 class="zh-CN">将参数索引转换为数组索引</h4>
+	 *
+	 * @param param <span class="en-US">Parameter index (begin with 1)</span>
+	 *              <span class="zh-CN">参数索引（从1开始）</span>
+	 * @return <span class="en-US">Array index</span>
+	 * <span class="zh-CN">数组索引</span>
+	 * @throws SQLException <span class="en-US">if the parameter index was invalid</span>
+	 *                      <span class="zh-CN">如果参数索引无效</span>
+	 */
+	private int index(final int param) throws SQLException {
+		if (param < 1 || param > this.parameterCount) {
+			throw new SQLException("Invalid parameter index: " + param);
+		}
+		return param - 1;
+	}
+}
@@ -0,0 +1,495 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.neurons.statement;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.commons.Globals;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <h2 class="en-US">Snapshot of result set metadata</h2>
+ * <p class="en-US">
+ * All column information was copied from the driver's metadata when the snapshot was created, so the snapshot
+ * could be shared by all connections of the data source without any database access.
+ * The column label mapping is case-insensitive and the first column wins if the labels were duplicated.
+ * </p>
+ * <h2 class="zh-CN">结果集元数据快照</h2>
+ * <p class="zh-CN">
+ * 创建快照时从驱动程序的元数据中复制所有列信息，因此快照可以在数据源的所有连接间共享而无需访问数据库。
+ * 列标签映射不区分大小写，如果标签重复则使用第一列。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 22:14:37 $
+ */
+public final class CachedResultSetMetaData implements ResultSetMetaData {
+
+	/**
+	 * <span class="en-US">Columns count</span>
+	 * <span class="zh-CN">列数</span>
+	 */
+	private final int columnCount;
+	/**
+	 * <span class="en-US">Catalog names of columns</span>
+	 * <span class="zh-CN">各列的目录名称</span>
+	 */
+	private final String[] catalogNames;
+	/**
+	 * <span class="en-US">Schema names of columns</span>
+	 * <span class="zh-CN">各列的模式名称</span>
+	 */
+	private final String[] schemaNames;
+	/**
+	 * <span class="en-US">Table names of columns</span>
+	 * <span class="zh-CN">各列的表名称</span>
+	 */
+	private final String[] tableNames;
+	/**
+	 * <span class="en-US">Column names of columns</span>
+	 * <span class="zh-CN">各列的列名称</span>
+	 */
+	private final String[] columnNames;
+	/**
+	 * <span class="en-US">Column labels of columns</span>
+	 * <span class="zh-CN">各列的列标签</span>
+	 */
+	private final String[] columnLabels;
+	/**
+	 * <span class="en-US">SQL type codes of columns</span>
+	 * <span class="zh-CN">各列的SQL类型代码</span>
+	 */
+	private final int[] columnTypes;
+	/**
+	 * <span class="en-US">Database type names of columns</span>
+	 * <span class="zh-CN">各列的数据库类型名称</span>
+	 */
+	private final String[] columnTypeNames;
+	/**
+	 * <span class="en-US">Java class names of columns</span>
+	 * <span class="zh-CN">各列的Java类名称</span>
+	 */
+	private final String[] columnClassNames;
+	/**
+	 * <span class="en-US">Display sizes of columns</span>
+	 * <span class="zh-CN">各列的显示宽度</span>
+	 */
+	private final int[] displaySizes;
+	/**
+	 * <span class="en-US">Precisions of columns</span>
+	 * <span class="zh-CN">各列的精度</span>
+	 */
+	private final int[] precisions;
+	/**
+	 * <span class="en-US">Scales of columns</span>
+	 * <span class="zh-CN">各列的小数位数</span>
+	 */
+	private final int[] scales;
+	/**
+	 * <span class="en-US">Nullable status codes of columns</span>
+	 * <span class="zh-CN">各列的可为空状态代码</span>
+	 */
+	private final int[] nullables;
+	/**
+	 * <span class="en-US">Auto increment status of columns</span>
+	 * <span class="zh-CN">各列的自增状态</span>
+	 */
+	private final boolean[] autoIncrements;
+	/**
+	 * <span class="en-US">Case sensitive status of columns</span>
+	 * <span class="zh-CN">各列的大小写敏感状态</span>
+	 */
+	private final boolean[] caseSensitives;
+	/**
+	 * <span class="en-US">Searchable status of columns</span>
+	 * <span class="zh-CN">各列的可搜索状态</span>
+	 */
+	private final boolean[] searchables;
+	/**
+	 * <span class="en-US">Currency status of columns</span>
+	 * <span class="zh-CN">各列的货币值状态</span>
+	 */
+	private final boolean[] currencies;
+	/**
+	 * <span class="en-US">Signed status of columns</span>
+	 * <span class="zh-CN">各列的有符号状态</span>
+	 */
+	private final boolean[] signeds;
+	/**
+	 * <span class="en-US">Read only status of columns</span>
+	 * <span class="zh-CN">各列的只读状态</span>
+	 */
+	private final boolean[] readOnlys;
+	/**
+	 * <span class="en-US">Writable status of columns</span>
+	 * <span class="zh-CN">各列的可写状态</span>
+	 */
+	private final boolean[] writables;
+	/**
+	 * <span class="en-US">Definitely writable status of columns</span>
+	 * <span class="zh-CN">各列的确定可写状态</span>
+	 */
+	private final boolean[] definitelyWritables;
+	/**
+	 * <span class="en-US">Column index mapping of column labels</span>
+	 * <span class="zh-CN">列标签的列索引映射表</span>
+	 */
+	private final Map<String, Integer> labelIndexes;
+
+	/**
+	 * <h4 class="en-US">Constructor method for snapshot of result set metadata</h4>
+	 * <h4 class="zh-CN">结果集元数据快照的构造方法</h4>
+	 *
+	 * @param metaData <span class="en-US">Result set metadata instance object of driver</span>
+	 *                 <span class="zh-CN">驱动程序的结果集元数据实例对象</span>
+	 * @throws SQLException <span class="en-US">if a database access error occurs</span>
+	 *                      <span class="zh-CN">如果发生数据库访问错误</span>
+	 */
+	public CachedResultSetMetaData(@Nonnull final ResultSetMetaData metaData) throws SQLException {
+		this.columnCount = metaData.getColumnCount();
+		this.catalogNames = new String[this.columnCount];
+		this.schemaNames = new String[this.columnCount];
+		this.tableNames = new String[this.columnCount];
+		this.columnNames = new String[this.columnCount];
+		this.columnLabels = new String[this.columnCount];
+		this.columnTypes = new int[this.columnCount];
+		this.columnTypeNames = new String[this.columnCount];
+		this.columnClassNames = new String[this.columnCount];
+		this.displaySizes = new int[this.columnCount];
+		this.precisions = new int[this.columnCount];
+		this.scales = new int[this.columnCount];
+		this.nullables = new int[this.columnCount];
+		this.autoIncrements = new boolean[this.columnCount];
+		this.caseSensitives = new boolean[this.columnCount];
+		this.searchables = new boolean[this.columnCount];
+		this.currencies = new boolean[this.columnCount];
+		this.signeds = new boolean[this.columnCount];
+		this.readOnlys = new boolean[this.columnCount];
+		this.writables = new boolean[this.columnCount];
+		this.definitelyWritables = new boolean[this.columnCount];
+		Map<String, Integer> labelIndexes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		for (int i = 0; i < this.columnCount; i++) {
+			this.catalogNames[i] = metaData.getCatalogName(i + 1);
+			this.schemaNames[i] = metaData.getSchemaName(i + 1);
+			this.tableNames[i] = metaData.getTableName(i + 1);
+			this.columnNames[i] = metaData.getColumnName(i + 1);
+			this.columnLabels[i] = metaData.getColumnLabel(i + 1);
+			this.columnTypes[i] = metaData.getColumnType(i + 1);
+			this.columnTypeNames[i] = metaData.getColumnTypeName(i + 1);
+			this.columnClassNames[i] = metaData.getColumnClassName(i + 1);
+			this.displaySizes[i] = metaData.getColumnDisplaySize(i + 1);
+			this.precisions[i] = metaData.getPrecision(i + 1);
+			this.scales[i] = metaData.getScale(i + 1);
+			this.nullables[i] = metaData.isNullable(i + 1);
+			this.autoIncrements[i] = metaData.isAutoIncrement(i + 1);
+			this.caseSensitives[i] = metaData.isCaseSensitive(i + 1);
+			this.searchables[i] = metaData.isSearchable(i + 1);
+			this.currencies[i] = metaData.isCurrency(i + 1);
+			this.signeds[i] = metaData.isSigned(i + 1);
+			this.readOnlys[i] = metaData.isReadOnly(i + 1);
+			this.writables[i] = metaData.isWritable(i + 1);
+			this.definitelyWritables[i] = metaData.isDefinitelyWritable(i + 1);
+			if (this.columnLabels[i] != null) {
+				labelIndexes.putIfAbsent(this.columnLabels[i], i + 1);
+			}
+		}
+		this.labelIndexes = Collections.unmodifiableMap(labelIndexes);
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve column index by column label</h4>
+	 * <h4 class="zh-CN">根据列标签获取列索引</h4>
+	 *
+	 * @param columnLabel <span class="en-US">Column label, case-insensitive</span>
+	 *                    <span class="zh-CN">列标签，不区分大小写</span>
+	 * @return <span class="en-US">Column index (begin with 1) or <code>Globals.DEFAULT_VALUE_INT</code> if not found</span>
+	 * <span class="zh-CN">列索引（从1开始），如果未找到则返回<code>Globals.DEFAULT_VALUE_INT</code></span>
+	 */
+	public int columnIndex(final String columnLabel) {
+		if (columnLabel == null) {
+			return Globals.DEFAULT_VALUE_INT;
+		}
+		return this.labelIndexes.getOrDefault(columnLabel, Globals.DEFAULT_VALUE_INT);
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for column index mapping of column labels</h4>
+	 * <h4 class="zh-CN">列标签的列索引映射表的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Read-only column index mapping</span>
+	 * <span class="zh-CN">只读的列索引映射表</span>
+	 */
+	public Map<String, Integer> getLabelIndexes() {
+		return this.labelIndexes;
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ResultSetMetaData#getColumnCount()
+	 */
+	@Override
+	public int getColumnCount() {
+		return this.columnCount;
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ResultSetMetaData#getCatalogName(int)
+	 */
+	@Override
+	public String getCatalogName(int column) throws SQLException {
+		return this.catalogNames[this.index(column)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ResultSetMetaData#getSchemaName(int)
+	 */
+	@Override
+	public String getSchemaName(int column) throws SQLException {
+		return this.schemaNames[this.index(column)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ResultSetMetaData#getTableName(int)
+	 */
+	@Override
+	public String getTableName(int column) throws SQLException {
+		return this.tableNames[this.index(column)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ResultSetMetaData#getColumnName(int)
+	 */
+	@Override
+	public String getColumnName(int column) throws SQLException {
+		return this.columnNames[this.index(column)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ResultSetMetaData#getColumnLabel(int)
+	 */
+	@Override
+	public String getColumnLabel(int column) throws SQLException {
+		return this.columnLabels[this.index(column)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ResultSetMetaData#getColumnType(int)
+	 */
+	@Override
+	public int getColumnType(int column) throws SQLException {
+		return this.columnTypes[this.index(column)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ResultSetMetaData#getColumnTypeName(int)
+	 */
+	@Override
+	public String getColumnTypeName(int column) throws SQLException {
+		return this.columnTypeNames[this.index(column)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ResultSetMetaData#getColumnClassName(int)
+	 */
+	@Override
+	public String getColumnClassName(int column) throws SQLException {
+		return this.columnClassNames[this.index(column)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ResultSetMetaData#getColumnDisplaySize(int)
+	 */
+	@Override
+	public int getColumnDisplaySize(int column) throws SQLException {
+		return this.displaySizes[this.index(column)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ResultSetMetaData#getPrecision(int)
+	 */
+	@Override
+	public int getPrecision(int column) throws SQLException {
+		return this.precisions[this.index(column)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ResultSetMetaData#getScale(int)
+	 */
+	@Override
+	public int getScale(int column) throws SQLException {
+		return this.scales[this.index(column)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ResultSetMetaData#isNullable(int)
+	 */
+	@Override
+	public int isNullable(int column) throws SQLException {
+		return this.nullables[this.index(column)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ResultSetMetaData#isAutoIncrement(int)
+	 */
+	@Override
+	public boolean isAutoIncrement(int column) throws SQLException {
+		return this.autoIncrements[this.index(column)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ResultSetMetaData#isCaseSensitive(int)
+	 */
+	@Override
+	public boolean isCaseSensitive(int column) throws SQLException {
+		return this.caseSensitives[this.index(column)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ResultSetMetaData#isSearchable(int)
+	 */
+	@Override
+	public boolean isSearchable(int column) throws SQLException {
+		return this.searchables[this.index(column)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ResultSetMetaData#isCurrency(int)
+	 */
+	@Override
+	public boolean isCurrency(int column) throws SQLException {
+		return this.currencies[this.index(column)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ResultSetMetaData#isSigned(int)
+	 */
+	@Override
+	public boolean isSigned(int column) throws SQLException {
+		return this.signeds[this.index(column)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ResultSetMetaData#isReadOnly(int)
+	 */
+	@Override
+	public boolean isReadOnly(int column) throws SQLException {
+		return this.readOnlys[this.index(column)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ResultSetMetaData#isWritable(int)
+	 */
+	@Override
+	public boolean isWritable(int column) throws SQLException {
+		return this.writables[this.index(column)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ResultSetMetaData#isDefinitelyWritable(int)
+	 */
+	@Override
+	public boolean isDefinitelyWritable(int column) throws SQLException {
+		return this.definitelyWritables[this.index(column)];
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ResultSetMetaData#unwrap(Class)
+	 */
+	@Override
+	public <T> T unwrap(Class<T> clazz) throws SQLException {
+		if (this.isWrapperFor(clazz)) {
+			return clazz.cast(this);
+		}
+		throw new SQLException("Not a wrapper for " + clazz);
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see ResultSetMetaData#isWrapperFor(Class)
+	 */
+	@Override
+	public boolean isWrapperFor(Class<?> clazz) {
+		return clazz != null && clazz.isInstance(this);
+	}
+
+	/**
+	 * <h4 class="en-US">Convert the column index to array index</h4>
+	 * <h4 class="zh-CN">将列索引转换为数组索引</h4>
+	 *
+	 * @param column <span class="en-US">Column index (begin with 1)</span>
+	 *               <span class="zh-CN">列索引（从1开始）</span>
+	 * @return <span class="en-US">Array index</span>
+	 * <span class="zh-CN">数组索引</span>
+	 * @throws SQLException <span class="en-US">if the column index was invalid</span>
+	 *                      <span class="zh-CN">如果列索引无效</span>
+	 */
+	private int index(final int column) throws SQLException {
+		if (column < 1 || column > this.columnCount) {
+			throw new SQLException("Invalid column index: " + column);
+		}
+		return column - 1;
+	}
+}
@@ -21,6 +21,7 @@ import org.nervousync.commons.Globals;
 import org.nervousync.database.neurons.connection.NeuronsConnection;
 
 import java.sql.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -51,7 +52,27 @@ public abstract class CachedStatement implements Statement {
 	 * <span class="en-US">Identification code</span>
 	 * <span class="zh-CN">唯一识别代码</span>
 	 */
-	private final String identifyKey;
+	private final StatementKey identifyKey;
+	/**
+	 * <span class="en-US">Handles count which returned to the borrowers and not closed yet</span>
+	 * <span class="zh-CN">已返回给借用者但尚未关闭的句柄数</span>
+	 */
+	private final AtomicInteger usingCount;
+	/**
+	 * <span class="en-US">JDBC statement was closed</span>
+	 * <span class="zh-CN">JDBC查询执行器已关闭</span>
+	 */
+	private final AtomicBoolean released;
+	/**
+	 * <span class="en-US">Statement was detached from the cache and should be closed when no longer used</span>
+	 * <span class="zh-CN">查询执行器已脱离缓存，不再使用时应当关闭</span>
+	 */
+	private volatile boolean detached = Boolean.FALSE;
+	/**
+	 * <span class="en-US">Estimated memory weight of statement (Unit: bytes)</span>
+	 * <span class="zh-CN">查询执行器的估计内存权重（单位：字节）</span>
+	 */
+	private long weight = Globals.INITIALIZE_INT_VALUE;
 
 	/**
 	 * <h4 class="en-US">Constructor method for abstract class for cached statement</h4>
@@ -64,11 +85,123 @@ public abstract class CachedStatement implements Statement {
 	 * @param statement   <span class="en-US">JDBC statement instance object</span>
 	 *                    <span class="zh-CN">查询执行器实例对象</span>
 	 */
-	protected CachedStatement(final NeuronsConnection connection, final String identifyKey, final Statement statement) {
+	protected CachedStatement(final NeuronsConnection connection, final StatementKey identifyKey,
+	                          final Statement statement) {
 		this.connection = connection;
 		this.statement = statement;
 		this.hitCount = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
 		this.identifyKey = identifyKey;
+		this.usingCount = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+		this.released = new AtomicBoolean(Boolean.FALSE);
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for estimated memory weight of statement</h4>
+	 * <h4 class="zh-CN">查询执行器的估计内存权重的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Estimated memory weight (Unit: bytes)</span>
+	 * <span class="zh-CN">估计的内存权重（单位：字节）</span>
+	 */
+	public long getWeight() {
+		return this.weight;
+	}
+
+	/**
+	 * <h4 class="en-US">Configure estimated memory weight of statement, should be invoked before caching</h4>
+	 * <h4 class="zh-CN">设置查询执行器的估计内存权重，应在缓存前调用</h4>
+	 *
+	 * @param weight <span class="en-US">Estimated memory weight (Unit: bytes)</span>
+	 *               <span class="zh-CN">估计的内存权重（单位：字节）</span>
+	 */
+	public void weight(final long weight) {
+		this.weight = weight;
+	}
+
+	/**
+	 * <h4 class="en-US">Statement handle was returned to the borrower</h4>
+	 * <h4 class="zh-CN">查询执行器句柄已返回给借用者</h4>
+	 */
+	public void borrow() {
+		this.usingCount.incrementAndGet();
+	}
+
+	/**
+	 * <h4 class="en-US">Statement handles count which using by the borrowers</h4>
+	 * <h4 class="zh-CN">借用者正在使用的查询执行器句柄数</h4>
+	 *
+	 * @return <span class="en-US">Using handles count</span>
+	 * <span class="zh-CN">正在使用的句柄数</span>
+	 */
+	public int getUsingCount() {
+		return this.usingCount.get();
+	}
+
+	/**
+	 * <h4 class="en-US">Detach current statement from the cache</h4>
+	 * <p class="en-US">The JDBC statement could be closed immediately only if no borrower was using it</p>
+	 * <h4 class="zh-CN">将当前查询执行器脱离缓存</h4>
+	 * <p class="zh-CN">仅当没有借用者正在使用时，JDBC查询执行器才可以立即关闭</p>
+	 *
+	 * @return <span class="en-US">JDBC statement could be closed now</span>
+	 * <span class="zh-CN">JDBC查询执行器现在可以关闭</span>
+	 */
+	public boolean detach() {
+		this.detached = Boolean.TRUE;
+		return this.releasable();
+	}
+
+	/**
+	 * <h4 class="en-US">Detach current statement and discard all handles of the borrowers</h4>
+	 * <p class="en-US">Invoke this method only when the connection was returned or closed</p>
+	 * <h4 class="zh-CN">将当前查询执行器脱离缓存并丢弃借用者的所有句柄</h4>
+	 * <p class="zh-CN">仅在连接已归还或已关闭时调用此方法</p>
+	 *
+	 * @return <span class="en-US">JDBC statement could be closed now</span>
+	 * <span class="zh-CN">JDBC查询执行器现在可以关闭</span>
+	 */
+	public boolean reclaim() {
+		this.discardHandles();
+		return this.detach();
+	}
+
+	/**
+	 * <h4 class="en-US">Discard all handles of the borrowers which not closed</h4>
+	 * <p class="en-US">Invoke this method only when the connection was returned or closed</p>
+	 * <h4 class="zh-CN">丢弃借用者未关闭的所有句柄</h4>
+	 * <p class="zh-CN">仅在连接已归还或已关闭时调用此方法</p>
+	 */
+	public void discardHandles() {
+		this.usingCount.set(Globals.INITIALIZE_INT_VALUE);
+	}
+
+	/**
+	 * <h4 class="en-US">Close the JDBC statement, only the first invocation will take effect</h4>
+	 * <h4 class="zh-CN">关闭JDBC查询执行器，仅首次调用生效</h4>
+	 *
+	 * @throws SQLException <span class="en-US">if a database access error occurs</span>
+	 *                      <span class="zh-CN">如果发生数据库访问错误</span>
+	 */
+	public void closeStatement() throws SQLException {
+		if (this.released.compareAndSet(Boolean.FALSE, Boolean.TRUE)) {
+			try {
+				this.statement.close();
+			} finally {
+				this.connection.statementClosed();
+			}
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Borrower closed the statement handle</h4>
+	 * <p class="en-US">The detached statement will be released by the connection when the last handle was closed</p>
+	 * <h4 class="zh-CN">借用者关闭了查询执行器句柄</h4>
+	 * <p class="zh-CN">当最后一个句柄关闭时，已脱离缓存的查询执行器将由连接释放</p>
+	 */
+	protected final void returned() {
+		if (this.usingCount.updateAndGet(current -> Math.max(current - 1, Globals.INITIALIZE_INT_VALUE))
+				== Globals.INITIALIZE_INT_VALUE && this.releasable()) {
+			this.connection.releaseStatement(this);
+		}
 	}
 
 	/**
@@ -97,10 +230,72 @@ public abstract class CachedStatement implements Statement {
 	 * @return <span class="en-US">Identification code</span>
 	 * <span class="zh-CN">唯一识别代码</span>
 	 */
-	public String getIdentifyKey() {
+	public StatementKey getIdentifyKey() {
 		return this.identifyKey;
 	}
 
+	/**
+	 * <h4 class="en-US">Execute the statement and report the latency to the connection</h4>
+	 * <p class="en-US">Connection will be moved into the long-running lane before executing if the statement was classified as long-running</p>
+	 * <h4 class="zh-CN">执行查询并向连接报告查询延迟</h4>
+	 * <p class="zh-CN">如果查询被分类为长时间运行，执行前将连接移入长时间运行通道</p>
+	 *
+	 * @param <T>       <span class="en-US">Execute result type</span>
+	 *                  <span class="zh-CN">执行结果类型</span>
+	 * @param execution <span class="en-US">Statement execution</span>
+	 *                  <span class="zh-CN">查询执行操作</span>
+	 * @return <span class="en-US">Execute result</span>
+	 * <span class="zh-CN">执行结果</span>
+	 * @throws SQLException <span class="en-US">if a database access error occurs</span>
+	 *                      <span class="zh-CN">如果发生数据库访问错误</span>
+	 */
+	protected final <T> T measure(final Execution<T> execution) throws SQLException {
+		this.connection.statementExecuting(this.identifyKey);
+		long beginTime = System.nanoTime();
+		try {
+			return execution.execute();
+		} finally {
+			this.connection.statementExecuted(this.identifyKey, System.nanoTime() - beginTime);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Result set metadata of current statement which shared by all connections</h4>
+	 * <h4 class="zh-CN">所有连接共享的当前查询的结果集元数据</h4>
+	 *
+	 * @return <span class="en-US">Result set metadata or <code>null</code> if not available</span>
+	 * <span class="zh-CN">结果集元数据，如果不可用则返回<code>null</code></span>
+	 * @throws SQLException <span class="en-US">if a database access error occurs</span>
+	 *                      <span class="zh-CN">如果发生数据库访问错误</span>
+	 */
+	protected final ResultSetMetaData resultSetMetaData() throws SQLException {
+		return this.connection.metaDataCache().resultSetMetaData(this.identifyKey, (PreparedStatement) this.statement);
+	}
+
+	/**
+	 * <h4 class="en-US">Parameter metadata of current statement which shared by all connections</h4>
+	 * <h4 class="zh-CN">所有连接共享的当前查询的参数元数据</h4>
+	 *
+	 * @return <span class="en-US">Parameter metadata</span>
+	 * <span class="zh-CN">参数元数据</span>
+	 * @throws SQLException <span class="en-US">if a database access error occurs</span>
+	 *                      <span class="zh-CN">如果发生数据库访问错误</span>
+	 */
+	protected final ParameterMetaData parameterMetaData() throws SQLException {
+		return this.connection.metaDataCache().parameterMetaData(this.identifyKey, (PreparedStatement) this.statement);
+	}
+
+	/**
+	 * <h4 class="en-US">Check the JDBC statement could be closed</h4>
+	 * <h4 class="zh-CN">检查JDBC查询执行器是否可以关闭</h4>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	private boolean releasable() {
+		return this.detached && this.usingCount.get() == Globals.INITIALIZE_INT_VALUE && !this.released.get();
+	}
+
 	/**
 	 * (Non-Javadoc)
 	 * 
@@ -148,7 +343,7 @@ public abstract class CachedStatement implements Statement {
 	 */
 	@Override
 	public ResultSet executeQuery(String sql) throws SQLException {
-		return this.statement.executeQuery(sql);
+		return this.measure(() -> this.statement.executeQuery(sql));
 	}
 
 	/**
@@ -158,7 +353,7 @@ public abstract class CachedStatement implements Statement {
 	 */
 	@Override
 	public int executeUpdate(String sql) throws SQLException {
-		return this.statement.executeUpdate(sql);
+		return this.measure(() -> this.statement.executeUpdate(sql));
 	}
 
 	/**
@@ -168,7 +363,11 @@ public abstract class CachedStatement implements Statement {
 	 */
 	@Override
 	public void close() throws SQLException {
-		this.clearBatch();
+		try {
+			this.clearBatch();
+		} finally {
+			this.returned();
+		}
 	}
 
 	/**
@@ -288,7 +487,7 @@ public abstract class CachedStatement implements Statement {
 	 */
 	@Override
 	public boolean execute(String sql) throws SQLException {
-		return this.statement.execute(sql);
+		return this.measure(() -> this.statement.execute(sql));
 	}
 
 	/**
@@ -408,7 +607,7 @@ public abstract class CachedStatement implements Statement {
 	 */
 	@Override
 	public int[] executeBatch() throws SQLException {
-		return this.statement.executeBatch();
+		return this.measure(() -> this.statement.executeBatch());
 	}
 
 	/**
@@ -448,7 +647,7 @@ public abstract class CachedStatement implements Statement {
 	 */
 	@Override
 	public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
-		return this.statement.executeUpdate(sql, autoGeneratedKeys);
+		return this.measure(() -> this.statement.executeUpdate(sql, autoGeneratedKeys));
 	}
 
 	/**
@@ -458,7 +657,7 @@ public abstract class CachedStatement implements Statement {
 	 */
 	@Override
 	public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
-		return this.statement.executeUpdate(sql, columnIndexes);
+		return this.measure(() -> this.statement.executeUpdate(sql, columnIndexes));
 	}
 
 	/**
@@ -468,7 +667,7 @@ public abstract class CachedStatement implements Statement {
 	 */
 	@Override
 	public int executeUpdate(String sql, String[] columnNames) throws SQLException {
-		return this.statement.executeUpdate(sql, columnNames);
+		return this.measure(() -> this.statement.executeUpdate(sql, columnNames));
 	}
 
 	/**
@@ -478,7 +677,7 @@ public abstract class CachedStatement implements Statement {
 	 */
 	@Override
 	public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
-		return this.statement.execute(sql, autoGeneratedKeys);
+		return this.measure(() -> this.statement.execute(sql, autoGeneratedKeys));
 	}
 
 	/**
@@ -488,7 +687,7 @@ public abstract class CachedStatement implements Statement {
 	 */
 	@Override
 	public boolean execute(String sql, int[] columnIndexes) throws SQLException {
-		return this.statement.execute(sql, columnIndexes);
+		return this.measure(() -> this.statement.execute(sql, columnIndexes));
 	}
 
 	/**
@@ -498,7 +697,7 @@ public abstract class CachedStatement implements Statement {
 	 */
 	@Override
 	public boolean execute(String sql, String[] columnNames) throws SQLException {
-		return this.statement.execute(sql, columnNames);
+		return this.measure(() -> this.statement.execute(sql, columnNames));
 	}
 
 	/**
@@ -598,7 +797,7 @@ public abstract class CachedStatement implements Statement {
 	 */
 	@Override
 	public long[] executeLargeBatch() throws SQLException {
-		return this.statement.executeLargeBatch();
+		return this.measure(() -> this.statement.executeLargeBatch());
 	}
 
 	/**
@@ -608,7 +807,7 @@ public abstract class CachedStatement implements Statement {
 	 */
 	@Override
 	public long executeLargeUpdate(String sql) throws SQLException {
-		return this.statement.executeLargeUpdate(sql);
+		return this.measure(() -> this.statement.executeLargeUpdate(sql));
 	}
 
 	/**
@@ -618,7 +817,7 @@ public abstract class CachedStatement implements Statement {
 	 */
 	@Override
 	public long executeLargeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
-		return this.statement.executeLargeUpdate(sql, autoGeneratedKeys);
+		return this.measure(() -> this.statement.executeLargeUpdate(sql, autoGeneratedKeys));
 	}
 
 	/**
@@ -628,7 +827,7 @@ public abstract class CachedStatement implements Statement {
 	 */
 	@Override
 	public long executeLargeUpdate(String sql, int[] columnIndexes) throws SQLException {
-		return this.statement.executeLargeUpdate(sql, columnIndexes);
+		return this.measure(() -> this.statement.executeLargeUpdate(sql, columnIndexes));
 	}
 
 	/**
@@ -638,6 +837,28 @@ public abstract class CachedStatement implements Statement {
 	 */
 	@Override
 	public long executeLargeUpdate(String sql, String[] columnNames) throws SQLException {
-		return this.statement.executeLargeUpdate(sql, columnNames);
+		return this.measure(() -> this.statement.executeLargeUpdate(sql, columnNames));
+	}
+
+	/**
+	 * <h2 class="en-US">Statement execution</h2>
+	 * <h2 class="zh-CN">查询执行操作</h2>
+	 *
+	 * @param <T> <span class="en-US">Execute result type</span>
+	 *            <span class="zh-CN">执行结果类型</span>
+	 */
+	@FunctionalInterface
+	protected interface Execution<T> {
+
+		/**
+		 * <h4 class="en-US">Execute the statement</h4>
+		 * <h4 class="zh-CN">执行查询</h4>
+		 *
+		 * @return <span class="en-US">Execute result</span>
+		 * <span class="zh-CN">执行结果</span>
+		 * @throws SQLException <span class="en-US">if a database access error occurs</span>
+		 *                      <span class="zh-CN">如果发生数据库访问错误</span>
+		 */
+		T execute() throws SQLException;
 	}
 }
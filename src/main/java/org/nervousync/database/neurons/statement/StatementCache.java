@@ -0,0 +1,477 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.neurons.statement;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.commons.Globals;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * <h2 class="en-US">Frequency-aware cache of statements (W-TinyLFU)</h2>
+ * <p class="en-US">
+ * Statements were indexed by identification code, new statements enter a small admission window in LRU order.
+ * Statement leaves the admission window will be admitted to the main region only if its estimated access frequency
+ * is greater than the frequency of the main region's eviction victim, so the bursts of one-off statements could not
+ * flush the hot statements. The main region is a segmented LRU, statements in the probation segment will be promoted
+ * to the protected segment when hit again. Access frequencies were recorded by a count-min sketch which will be
+ * halved periodically, so the statements which were hot long ago will be aged out. All operations are O(1).
+ * The cache is not thread-safe and should only be used by its owner connection.
+ * </p>
+ * <h2 class="zh-CN">基于访问频率的查询分析器缓存（W-TinyLFU）</h2>
+ * <p class="zh-CN">
+ * 查询分析器按唯一识别代码建立索引，新的查询分析器按LRU顺序进入较小的准入窗口。离开准入窗口的查询分析器，
+ * 仅当其估计访问频率大于主区域待淘汰查询分析器的访问频率时才会被主区域接纳，因此大量一次性的查询分析器无法冲刷热点查询分析器。
+ * 主区域为分段LRU，试用段中的查询分析器再次命中时晋升至保护段。访问频率由Count-Min Sketch记录并定期减半，
+ * 因此很久以前的热点查询分析器将逐渐老化。所有操作的时间复杂度均为O(1)。缓存不是线程安全的，仅应由其所属的连接使用。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 21:06:18 $
+ */
+public final class StatementCache {
+
+	/**
+	 * <span class="en-US">Ratio of admission window in the cache</span>
+	 * <span class="zh-CN">准入窗口在缓存中的比例</span>
+	 */
+	private static final double WINDOW_RATIO = 0.01d;
+	/**
+	 * <span class="en-US">Ratio of protected segment in the main region</span>
+	 * <span class="zh-CN">保护段在主区域中的比例</span>
+	 */
+	private static final double PROTECTED_RATIO = 0.8d;
+
+	/**
+	 * <span class="en-US">Maximum size of cached statements</span>
+	 * <span class="zh-CN">缓存的查询分析器的最大数量</span>
+	 */
+	private final int limitSize;
+	/**
+	 * <span class="en-US">Maximum size of admission window</span>
+	 * <span class="zh-CN">准入窗口的最大数量</span>
+	 */
+	private final int windowSize;
+	/**
+	 * <span class="en-US">Maximum size of main region</span>
+	 * <span class="zh-CN">主区域的最大数量</span>
+	 */
+	private final int mainSize;
+	/**
+	 * <span class="en-US">Maximum size of protected segment</span>
+	 * <span class="zh-CN">保护段的最大数量</span>
+	 */
+	private final int protectedSize;
+	/**
+	 * <span class="en-US">Access frequency sketch</span>
+	 * <span class="zh-CN">访问频率统计</span>
+	 */
+	private final FrequencySketch frequencySketch;
+	/**
+	 * <span class="en-US">Admission window in access order</span>
+	 * <span class="zh-CN">按访问顺序排列的准入窗口</span>
+	 */
+	private final LinkedHashMap<StatementKey, CachedStatement> windowSegment;
+	/**
+	 * <span class="en-US">Probation segment in access order</span>
+	 * <span class="zh-CN">按访问顺序排列的试用段</span>
+	 */
+	private final LinkedHashMap<StatementKey, CachedStatement> probationSegment;
+	/**
+	 * <span class="en-US">Protected segment in access order</span>
+	 * <span class="zh-CN">按访问顺序排列的保护段</span>
+	 */
+	private final LinkedHashMap<StatementKey, CachedStatement> protectedSegment;
+	/**
+	 * <span class="en-US">Estimated memory weight of cached statements (Unit: bytes)</span>
+	 * <span class="zh-CN">已缓存查询分析器的估计内存权重（单位：字节）</span>
+	 */
+	private long weight = Globals.INITIALIZE_INT_VALUE;
+
+	/**
+	 * <h4 class="en-US">Constructor method for segmented LRU cache of statements</h4>
+	 * <h4 class="zh-CN">查询分析器的分段LRU缓存的构造方法</h4>
+	 *
+	 * @param limitSize <span class="en-US">Maximum size of cached statements</span>
+	 *                  <span class="zh-CN">缓存的查询分析器的最大数量</span>
+	 */
+	public StatementCache(final int limitSize) {
+		this.limitSize = Math.max(limitSize, 1);
+		this.windowSize = Math.max((int) (this.limitSize * WINDOW_RATIO), 1);
+		this.mainSize = this.limitSize - this.windowSize;
+		this.protectedSize = (int) (this.mainSize * PROTECTED_RATIO);
+		this.frequencySketch = new FrequencySketch(this.limitSize);
+		this.windowSegment = new LinkedHashMap<>(16, 0.75f, Boolean.TRUE);
+		this.probationSegment = new LinkedHashMap<>(16, 0.75f, Boolean.TRUE);
+		this.protectedSegment = new LinkedHashMap<>(16, 0.75f, Boolean.TRUE);
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for maximum size of cached statements</h4>
+	 * <h4 class="zh-CN">缓存的查询分析器的最大数量的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Maximum size</span>
+	 * <span class="zh-CN">最大数量</span>
+	 */
+	public int getLimitSize() {
+		return this.limitSize;
+	}
+
+	/**
+	 * <h4 class="en-US">Estimated memory weight of cached statements</h4>
+	 * <h4 class="zh-CN">已缓存查询分析器的估计内存权重</h4>
+	 *
+	 * @return <span class="en-US">Estimated memory weight (Unit: bytes)</span>
+	 * <span class="zh-CN">估计的内存权重（单位：字节）</span>
+	 */
+	public long getWeight() {
+		return this.weight;
+	}
+
+	/**
+	 * <h4 class="en-US">Cached statements count</h4>
+	 * <h4 class="zh-CN">已缓存的查询分析器数量</h4>
+	 *
+	 * @return <span class="en-US">Cached statements count</span>
+	 * <span class="zh-CN">已缓存的查询分析器数量</span>
+	 */
+	public int size() {
+		return this.windowSegment.size() + this.probationSegment.size() + this.protectedSegment.size();
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve cached statement by identification code and increment its hit count</h4>
+	 * <p class="en-US">
+	 * The access frequency will be recorded even if the statement was not cached,
+	 * statement in the probation segment will be promoted to the protected segment.
+	 * </p>
+	 * <h4 class="zh-CN">根据唯一识别代码获取缓存的查询分析器并增加其命中次数</h4>
+	 * <p class="zh-CN">即使查询分析器未被缓存也会记录访问频率，试用段中的查询分析器将晋升至保护段</p>
+	 *
+	 * @param identifyKey <span class="en-US">Identification code</span>
+	 *                    <span class="zh-CN">唯一识别代码</span>
+	 * @return <span class="en-US">Cached statement instance object or <code>null</code> if not cached</span>
+	 * <span class="zh-CN">缓存的查询分析器实例对象，如果未缓存则返回<code>null</code></span>
+	 */
+	public CachedStatement get(@Nonnull final StatementKey identifyKey) {
+		this.frequencySketch.increment(identifyKey);
+		CachedStatement cachedStatement = this.windowSegment.get(identifyKey);
+		if (cachedStatement == null) {
+			cachedStatement = this.protectedSegment.get(identifyKey);
+		}
+		if (cachedStatement == null) {
+			cachedStatement = this.probationSegment.remove(identifyKey);
+			if (cachedStatement == null) {
+				return null;
+			}
+			this.protectedSegment.put(identifyKey, cachedStatement);
+			this.demote();
+		}
+		cachedStatement.incrementHitCount();
+		return cachedStatement;
+	}
+
+	/**
+	 * <h4 class="en-US">Add statement to the admission window</h4>
+	 * <p class="en-US">
+	 * The least recently used statement of the admission window competes with the eviction victim of the main region
+	 * if the window was full, the statement which has lower access frequency will be evicted.
+	 * </p>
+	 * <h4 class="zh-CN">将查询分析器加入准入窗口</h4>
+	 * <p class="zh-CN">如果准入窗口已满，窗口中最近最少使用的查询分析器将与主区域的待淘汰查询分析器竞争，访问频率较低者将被淘汰。</p>
+	 *
+	 * @param cachedStatement <span class="en-US">Cached statement instance object</span>
+	 *                        <span class="zh-CN">可缓存的查询分析器实例对象</span>
+	 * @return <span class="en-US">Evicted statement instance object or <code>null</code> if nothing was evicted</span>
+	 * <span class="zh-CN">被淘汰的查询分析器实例对象，如果没有淘汰则返回<code>null</code></span>
+	 */
+	public CachedStatement put(@Nonnull final CachedStatement cachedStatement) {
+		cachedStatement.incrementHitCount();
+		this.windowSegment.put(cachedStatement.getIdentifyKey(), cachedStatement);
+		this.weight += cachedStatement.getWeight();
+		if (this.windowSegment.size() <= this.windowSize) {
+			return null;
+		}
+		CachedStatement candidate = removeEldest(this.windowSegment);
+		if (this.probationSegment.size() + this.protectedSegment.size() < this.mainSize) {
+			this.probationSegment.put(candidate.getIdentifyKey(), candidate);
+			return null;
+		}
+		CachedStatement evicted;
+		if (this.probationSegment.isEmpty()) {
+			evicted = candidate;
+		} else {
+			CachedStatement victim = this.probationSegment.values().iterator().next();
+			if (this.frequencySketch.frequency(candidate.getIdentifyKey())
+					<= this.frequencySketch.frequency(victim.getIdentifyKey())) {
+				evicted = candidate;
+			} else {
+				this.probationSegment.remove(victim.getIdentifyKey());
+				this.probationSegment.put(candidate.getIdentifyKey(), candidate);
+				evicted = victim;
+			}
+		}
+		this.weight -= evicted.getWeight();
+		return evicted;
+	}
+
+	/**
+	 * <h4 class="en-US">Evict statements until the estimated memory weight and the size not greater than given limits</h4>
+	 * <p class="en-US">
+	 * Statements were evicted in the order of admission window, probation segment and protected segment,
+	 * the least recently used statement of each segment will be evicted first.
+	 * </p>
+	 * <h4 class="zh-CN">淘汰查询分析器直至估计内存权重和数量不大于指定的限制</h4>
+	 * <p class="zh-CN">按准入窗口、试用段、保护段的顺序淘汰查询分析器，每个分段中最近最少使用的查询分析器将首先被淘汰。</p>
+	 *
+	 * @param weightLimit <span class="en-US">Memory weight limit (Unit: bytes)</span>
+	 *                    <span class="zh-CN">内存权重限制（单位：字节）</span>
+	 * @param sizeLimit   <span class="en-US">Cached statements count limit</span>
+	 *                    <span class="zh-CN">已缓存查询分析器数量限制</span>
+	 * @return <span class="en-US">Evicted statements list</span>
+	 * <span class="zh-CN">被淘汰的查询分析器列表</span>
+	 */
+	public List<CachedStatement> trim(final long weightLimit, final int sizeLimit) {
+		List<CachedStatement> evictedStatements = new ArrayList<>();
+		while ((this.weight > weightLimit || this.size() > sizeLimit) && this.size() > 0) {
+			LinkedHashMap<StatementKey, CachedStatement> segment;
+			if (!this.windowSegment.isEmpty()) {
+				segment = this.windowSegment;
+			} else if (!this.probationSegment.isEmpty()) {
+				segment = this.probationSegment;
+			} else {
+				segment = this.protectedSegment;
+			}
+			CachedStatement evicted = removeEldest(segment);
+			this.weight -= evicted.getWeight();
+			evictedStatements.add(evicted);
+		}
+		return evictedStatements;
+	}
+
+	/**
+	 * <h4 class="en-US">All cached statements</h4>
+	 * <h4 class="zh-CN">所有已缓存的查询分析器</h4>
+	 *
+	 * @return <span class="en-US">Cached statements list</span>
+	 * <span class="zh-CN">已缓存的查询分析器列表</span>
+	 */
+	public List<CachedStatement> values() {
+		List<CachedStatement> cachedStatements = new ArrayList<>(this.size());
+		cachedStatements.addAll(this.protectedSegment.values());
+		cachedStatements.addAll(this.probationSegment.values());
+		cachedStatements.addAll(this.windowSegment.values());
+		return cachedStatements;
+	}
+
+	/**
+	 * <h4 class="en-US">Remove all cached statements</h4>
+	 * <h4 class="zh-CN">移除所有已缓存的查询分析器</h4>
+	 *
+	 * @return <span class="en-US">Removed statements list</span>
+	 * <span class="zh-CN">已移除的查询分析器列表</span>
+	 */
+	public List<CachedStatement> clear() {
+		List<CachedStatement> cachedStatements = this.values();
+		this.protectedSegment.clear();
+		this.probationSegment.clear();
+		this.windowSegment.clear();
+		this.weight = Globals.INITIALIZE_INT_VALUE;
+		return cachedStatements;
+	}
+
+	/**
+	 * <h4 class="en-US">Demote the least recently used statement of protected segment if the segment was full</h4>
+	 * <h4 class="zh-CN">如果保护段已满，则将保护段中最近最少使用的查询分析器降级</h4>
+	 */
+	private void demote() {
+		if (this.protectedSegment.size() <= this.protectedSize) {
+			return;
+		}
+		CachedStatement cachedStatement = removeEldest(this.protectedSegment);
+		this.probationSegment.put(cachedStatement.getIdentifyKey(), cachedStatement);
+	}
+
+	/**
+	 * <h4 class="en-US">Remove the least recently used statement of given segment</h4>
+	 * <h4 class="zh-CN">移除指定分段中最近最少使用的查询分析器</h4>
+	 *
+	 * @param segment <span class="en-US">Segment in access order</span>
+	 *                <span class="zh-CN">按访问顺序排列的分段</span>
+	 * @return <span class="en-US">Removed statement instance object</span>
+	 * <span class="zh-CN">已移除的查询分析器实例对象</span>
+	 */
+	private static CachedStatement removeEldest(@Nonnull final LinkedHashMap<StatementKey, CachedStatement> segment) {
+		Iterator<CachedStatement> iterator = segment.values().iterator();
+		CachedStatement cachedStatement = iterator.next();
+		iterator.remove();
+		return cachedStatement;
+	}
+
+	/**
+	 * <h2 class="en-US">Count-min sketch of access frequency</h2>
+	 * <p class="en-US">
+	 * Each statement was counted by 4 counters in different rows, the minimum value is the estimated frequency.
+	 * Counters were limited to 15, and all counters will be halved when the recorded accesses count reached
+	 * the sample size, so the historical frequency decays over time.
+	 * </p>
+	 * <h2 class="zh-CN">访问频率的Count-Min Sketch</h2>
+	 * <p class="zh-CN">
+	 * 每个查询分析器由不同行中的4个计数器计数，最小值为估计的访问频率。计数器上限为15，
+	 * 当记录的访问次数达到采样数量时所有计数器减半，因此历史访问频率会随时间衰减。
+	 * </p>
+	 */
+	private static final class FrequencySketch {
+
+		/**
+		 * <span class="en-US">Rows count of counters</span>
+		 * <span class="zh-CN">计数器的行数</span>
+		 */
+		private static final int DEPTH = 4;
+		/**
+		 * <span class="en-US">Maximum value of counter</span>
+		 * <span class="zh-CN">计数器的最大值</span>
+		 */
+		private static final int MAX_FREQUENCY = 15;
+		/**
+		 * <span class="en-US">Seeds of row hash functions</span>
+		 * <span class="zh-CN">行哈希函数的种子</span>
+		 */
+		private static final int[] SEEDS = {0x97CB3127, 0xB1A4F2E3, 0x7A2D5F91, 0xC3E6D82B};
+
+		/**
+		 * <span class="en-US">Counters of each row</span>
+		 * <span class="zh-CN">每行的计数器</span>
+		 */
+		private final byte[][] counters;
+		/**
+		 * <span class="en-US">Index mask of counters row</span>
+		 * <span class="zh-CN">计数器行的索引掩码</span>
+		 */
+		private final int mask;
+		/**
+		 * <span class="en-US">Recorded accesses count which triggers the aging</span>
+		 * <span class="zh-CN">触发老化的访问记录数</span>
+		 */
+		private final int sampleSize;
+		/**
+		 * <span class="en-US">Recorded accesses count since last aging</span>
+		 * <span class="zh-CN">上次老化后记录的访问次数</span>
+		 */
+		private int recordCount = Globals.INITIALIZE_INT_VALUE;
+
+		/**
+		 * <h4 class="en-US">Constructor method for count-min sketch of access frequency</h4>
+		 * <h4 class="zh-CN">访问频率的Count-Min Sketch的构造方法</h4>
+		 *
+		 * @param limitSize <span class="en-US">Maximum size of cached statements</span>
+		 *                  <span class="zh-CN">缓存的查询分析器的最大数量</span>
+		 */
+		FrequencySketch(final int limitSize) {
+			int width = Integer.highestOneBit(Math.max(limitSize, 8) * 2 - 1) << 1;
+			this.counters = new byte[DEPTH][width];
+			this.mask = width - 1;
+			this.sampleSize = limitSize * 10;
+		}
+
+		/**
+		 * <h4 class="en-US">Estimated access frequency of given statement</h4>
+		 * <h4 class="zh-CN">指定查询分析器的估计访问频率</h4>
+		 *
+		 * @param identifyKey <span class="en-US">Identification code</span>
+		 *                    <span class="zh-CN">唯一识别代码</span>
+		 * @return <span class="en-US">Estimated access frequency</span>
+		 * <span class="zh-CN">估计的访问频率</span>
+		 */
+		int frequency(@Nonnull final StatementKey identifyKey) {
+			int hashCode = spread(identifyKey.hashCode());
+			int frequency = MAX_FREQUENCY;
+			for (int i = 0; i < DEPTH; i++) {
+				frequency = Math.min(frequency, this.counters[i][this.index(hashCode, i)]);
+			}
+			return frequency;
+		}
+
+		/**
+		 * <h4 class="en-US">Record an access of given statement</h4>
+		 * <h4 class="zh-CN">记录指定查询分析器的一次访问</h4>
+		 *
+		 * @param identifyKey <span class="en-US">Identification code</span>
+		 *                    <span class="zh-CN">唯一识别代码</span>
+		 */
+		void increment(@Nonnull final StatementKey identifyKey) {
+			int hashCode = spread(identifyKey.hashCode());
+			boolean added = Boolean.FALSE;
+			for (int i = 0; i < DEPTH; i++) {
+				int index = this.index(hashCode, i);
+				if (this.counters[i][index] < MAX_FREQUENCY) {
+					this.counters[i][index]++;
+					added = Boolean.TRUE;
+				}
+			}
+			if (added && ++this.recordCount >= this.sampleSize) {
+				this.age();
+			}
+		}
+
+		/**
+		 * <h4 class="en-US">Halve all counters</h4>
+		 * <h4 class="zh-CN">将所有计数器减半</h4>
+		 */
+		private void age() {
+			for (byte[] row : this.counters) {
+				for (int i = 0; i < row.length; i++) {
+					row[i] = (byte) (row[i] >>> 1);
+				}
+			}
+			this.recordCount >>>= 1;
+		}
+
+		/**
+		 * <h4 class="en-US">Counter index of given hash code in given row</h4>
+		 * <h4 class="zh-CN">指定哈希值在指定行中的计数器索引</h4>
+		 *
+		 * @param hashCode <span class="en-US">Spread hash code</span>
+		 *                 <span class="zh-CN">扩散后的哈希值</span>
+		 * @param row      <span class="en-US">Row index</span>
+		 *                 <span class="zh-CN">行索引</span>
+		 * @return <span class="en-US">Counter index</span>
+		 * <span class="zh-CN">计数器索引</span>
+		 */
+		private int index(final int hashCode, final int row) {
+			int hash = (hashCode ^ SEEDS[row]) * 0x9E3779B9;
+			return (hash ^ (hash >>> 16)) & this.mask;
+		}
+
+		/**
+		 * <h4 class="en-US">Spread the hash code of statement key</h4>
+		 * <h4 class="zh-CN">扩散查询分析器唯一识别代码的哈希值</h4>
+		 *
+		 * @param hashCode <span class="en-US">Original hash code</span>
+		 *                 <span class="zh-CN">原始哈希值</span>
+		 * @return <span class="en-US">Spread hash code</span>
+		 * <span class="zh-CN">扩散后的哈希值</span>
+		 */
+		private static int spread(final int hashCode) {
+			int hash = hashCode * 0x85EBCA6B;
+			return hash ^ (hash >>> 15);
+		}
+	}
+}
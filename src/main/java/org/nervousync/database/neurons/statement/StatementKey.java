@@ -0,0 +1,354 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.neurons.statement;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.commons.Globals;
+
+import java.util.Arrays;
+
+/**
+ * <h2 class="en-US">Immutable identification key of cached statement</h2>
+ * <p class="en-US">
+ * Compares the SQL command and the options of SQL command type directly, the hash code was calculated when the key
+ * was created. Empty column arrays share one instance and were not copied.
+ * </p>
+ * <h2 class="zh-CN">缓存查询分析器的不可变识别键</h2>
+ * <p class="zh-CN">
+ * 直接比较SQL语句和SQL语句类型的选项，哈希值在创建识别键时计算。空的列数组共享同一实例且不会被复制。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 21:34:05 $
+ */
+public final class StatementKey {
+
+	/**
+	 * <span class="en-US">Shared empty array of column indices</span>
+	 * <span class="zh-CN">共享的空列索引数组</span>
+	 */
+	private static final int[] EMPTY_COLUMN_INDEXES = new int[0];
+	/**
+	 * <span class="en-US">Shared empty array of column names</span>
+	 * <span class="zh-CN">共享的空列名称数组</span>
+	 */
+	private static final String[] EMPTY_COLUMN_NAMES = new String[0];
+
+	/**
+	 * <span class="en-US">Enumeration value of SQL command type</span>
+	 * <span class="zh-CN">SQL语句类型枚举值</span>
+	 */
+	private final KeyType keyType;
+	/**
+	 * <span class="en-US">SQL command</span>
+	 * <span class="zh-CN">SQL语句</span>
+	 */
+	private final String sql;
+	/**
+	 * <span class="en-US">Result set type code</span>
+	 * <span class="zh-CN">结果集类型代码</span>
+	 */
+	private final int resultSetType;
+	/**
+	 * <span class="en-US">Result set data type code</span>
+	 * <span class="zh-CN">结果集数据类型代码</span>
+	 */
+	private final int resultSetConcurrency;
+	/**
+	 * <span class="en-US">Result set transactional type code</span>
+	 * <span class="zh-CN">结果集事务类型代码</span>
+	 */
+	private final int resultSetHoldability;
+	/**
+	 * <span class="en-US">Returns the flag for automatically generated key values</span>
+	 * <span class="zh-CN">返回自动生成键值的标志</span>
+	 */
+	private final int autoGeneratedKeys;
+	/**
+	 * <span class="en-US">Array of column indices that can be used to get the inserted row</span>
+	 * <span class="zh-CN">可用于获取的插入行中的列索引数组</span>
+	 */
+	private final int[] columnIndexes;
+	/**
+	 * <span class="en-US">Can be used to get an array of column names in the inserted row</span>
+	 * <span class="zh-CN">可用于获取的插入行中的列名称数组</span>
+	 */
+	private final String[] columnNames;
+	/**
+	 * <span class="en-US">Precomputed hash code</span>
+	 * <span class="zh-CN">预先计算的哈希值</span>
+	 */
+	private final int hashCode;
+
+	/**
+	 * <h4 class="en-US">Constructor method for identification key of statement which has no options</h4>
+	 * <h4 class="zh-CN">无选项查询分析器识别键的构造方法</h4>
+	 *
+	 * @param keyType <span class="en-US">Enumeration value of SQL command type</span>
+	 *                <span class="zh-CN">SQL语句类型枚举值</span>
+	 * @param sql     <span class="en-US">SQL command</span>
+	 *                <span class="zh-CN">SQL语句</span>
+	 */
+	public StatementKey(@Nonnull final KeyType keyType, @Nonnull final String sql) {
+		this(keyType, sql, Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT,
+				Globals.DEFAULT_VALUE_INT, null, null);
+	}
+
+	/**
+	 * <h4 class="en-US">Constructor method for identification key of statement</h4>
+	 * <p class="en-US">Options which not used by the SQL command type will be ignored</p>
+	 * <h4 class="zh-CN">查询分析器识别键的构造方法</h4>
+	 * <p class="zh-CN">SQL语句类型未使用的选项将被忽略</p>
+	 *
+	 * @param keyType              <span class="en-US">Enumeration value of SQL command type</span>
+	 *                             <span class="zh-CN">SQL语句类型枚举值</span>
+	 * @param sql                  <span class="en-US">SQL command</span>
+	 *                             <span class="zh-CN">SQL语句</span>
+	 * @param resultSetType        <span class="en-US">Result set type code</span>
+	 *                             <span class="zh-CN">结果集类型代码</span>
+	 * @param resultSetConcurrency <span class="en-US">Result set data type code</span>
+	 *                             <span class="zh-CN">结果集数据类型代码</span>
+	 * @param resultSetHoldability <span class="en-US">Result set transactional type code</span>
+	 *                             <span class="zh-CN">结果集事务类型代码</span>
+	 * @param autoGeneratedKeys    <span class="en-US">Returns the flag for automatically generated key values</span>
+	 *                             <span class="zh-CN">返回自动生成键值的标志</span>
+	 * @param columnIndexes        <span class="en-US">Array of column indices that can be used to get the inserted row</span>
+	 *                             <span class="zh-CN">可用于获取的插入行中的列索引数组</span>
+	 * @param columnNames          <span class="en-US">Can be used to get an array of column names in the inserted row</span>
+	 *                             <span class="zh-CN">可用于获取的插入行中的列名称数组</span>
+	 */
+	public StatementKey(@Nonnull final KeyType keyType, @Nonnull final String sql, final int resultSetType,
+	                    final int resultSetConcurrency, final int resultSetHoldability, final int autoGeneratedKeys,
+	                    final int[] columnIndexes, final String[] columnNames) {
+		this.keyType = keyType;
+		this.sql = sql;
+		boolean concurrency = switch (keyType) {
+			case SQL_CONCURRENCY, SQL_HOLDABILITY, CALL_CONCURRENCY, CALL_HOLDABILITY,
+			     STATEMENT_CONCURRENCY, STATEMENT_HOLDABILITY -> Boolean.TRUE;
+			default -> Boolean.FALSE;
+		};
+		boolean holdability = (keyType == KeyType.SQL_HOLDABILITY || keyType == KeyType.CALL_HOLDABILITY
+				|| keyType == KeyType.STATEMENT_HOLDABILITY);
+		this.resultSetType = concurrency ? resultSetType : Globals.DEFAULT_VALUE_INT;
+		this.resultSetConcurrency = concurrency ? resultSetConcurrency : Globals.DEFAULT_VALUE_INT;
+		this.resultSetHoldability = holdability ? resultSetHoldability : Globals.DEFAULT_VALUE_INT;
+		this.autoGeneratedKeys =
+				(keyType == KeyType.SQL_AUTO_GENERATED_KEYS) ? autoGeneratedKeys : Globals.DEFAULT_VALUE_INT;
+		this.columnIndexes = (keyType == KeyType.SQL_COLUMN_INDEXES && columnIndexes != null)
+				? ((columnIndexes.length == 0) ? EMPTY_COLUMN_INDEXES : columnIndexes.clone())
+				: null;
+		this.columnNames = (keyType == KeyType.SQL_COLUMN_NAMES && columnNames != null)
+				? ((columnNames.length == 0) ? EMPTY_COLUMN_NAMES : columnNames.clone())
+				: null;
+		int result = 31 * this.keyType.ordinal() + this.sql.hashCode();
+		result = 31 * result + this.resultSetType;
+		result = 31 * result + this.resultSetConcurrency;
+		result = 31 * result + this.resultSetHoldability;
+		result = 31 * result + this.autoGeneratedKeys;
+		result = 31 * result + Arrays.hashCode(this.columnIndexes);
+		this.hashCode = 31 * result + Arrays.hashCode(this.columnNames);
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for enumeration value of SQL command type</h4>
+	 * <h4 class="zh-CN">SQL语句类型枚举值的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Enumeration value of SQL command type</span>
+	 * <span class="zh-CN">SQL语句类型枚举值</span>
+	 */
+	public KeyType getKeyType() {
+		return this.keyType;
+	}
+
+	/**
+	 * <h4 class="en-US">Check the key identifies a plain statement which was not prepared by SQL command</h4>
+	 * <h4 class="zh-CN">检查唯一识别代码是否标识未使用SQL语句预编译的普通查询执行器</h4>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	public boolean isPlainStatement() {
+		return switch (this.keyType) {
+			case STATEMENT_ONLY, STATEMENT_CONCURRENCY, STATEMENT_HOLDABILITY -> Boolean.TRUE;
+			default -> Boolean.FALSE;
+		};
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for SQL command</h4>
+	 * <h4 class="zh-CN">SQL语句的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">SQL command</span>
+	 * <span class="zh-CN">SQL语句</span>
+	 */
+	public String getSql() {
+		return this.sql;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for result set type code</h4>
+	 * <h4 class="zh-CN">结果集类型代码的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Result set type code</span>
+	 * <span class="zh-CN">结果集类型代码</span>
+	 */
+	public int getResultSetType() {
+		return this.resultSetType;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for result set data type code</h4>
+	 * <h4 class="zh-CN">结果集数据类型代码的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Result set data type code</span>
+	 * <span class="zh-CN">结果集数据类型代码</span>
+	 */
+	public int getResultSetConcurrency() {
+		return this.resultSetConcurrency;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for result set transactional type code</h4>
+	 * <h4 class="zh-CN">结果集事务类型代码的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Result set transactional type code</span>
+	 * <span class="zh-CN">结果集事务类型代码</span>
+	 */
+	public int getResultSetHoldability() {
+		return this.resultSetHoldability;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for flag for automatically generated key values</h4>
+	 * <h4 class="zh-CN">自动生成键值的标志的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Flag for automatically generated key values</span>
+	 * <span class="zh-CN">自动生成键值的标志</span>
+	 */
+	public int getAutoGeneratedKeys() {
+		return this.autoGeneratedKeys;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for array of column indices that can be used to get the inserted row</h4>
+	 * <h4 class="zh-CN">可用于获取的插入行中的列索引数组的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Copy of column indices array, the shared empty array if no column given, or <code>null</code> if not used</span>
+	 * <span class="zh-CN">列索引数组的副本，未指定列时返回共享的空数组，如果未使用则返回<code>null</code></span>
+	 */
+	public int[] getColumnIndexes() {
+		return (this.columnIndexes == null || this.columnIndexes.length == 0)
+				? this.columnIndexes
+				: this.columnIndexes.clone();
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for array of column names that can be used to get the inserted row</h4>
+	 * <h4 class="zh-CN">可用于获取的插入行中的列名称数组的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Copy of column names array, the shared empty array if no column given, or <code>null</code> if not used</span>
+	 * <span class="zh-CN">列名称数组的副本，未指定列时返回共享的空数组，如果未使用则返回<code>null</code></span>
+	 */
+	public String[] getColumnNames() {
+		return (this.columnNames == null || this.columnNames.length == 0)
+				? this.columnNames
+				: this.columnNames.clone();
+	}
+
+	@Override
+	public boolean equals(final Object o) {
+		if (this == o) {
+			return Boolean.TRUE;
+		}
+		if (!(o instanceof StatementKey that)) {
+			return Boolean.FALSE;
+		}
+		return this.hashCode == that.hashCode && this.keyType == that.keyType
+				&& this.sql.equals(that.sql)
+				&& this.resultSetType == that.resultSetType
+				&& this.resultSetConcurrency == that.resultSetConcurrency
+				&& this.resultSetHoldability == that.resultSetHoldability
+				&& this.autoGeneratedKeys == that.autoGeneratedKeys
+				&& Arrays.equals(this.columnIndexes, that.columnIndexes)
+				&& Arrays.equals(this.columnNames, that.columnNames);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return this.keyType + ": " + this.sql;
+	}
+
+	/**
+	 * <h2 class="en-US">Enumeration value of SQL command type</h2>
+	 * <h2 class="zh-CN">SQL语句类型枚举值</h2>
+	 */
+	public enum KeyType {
+		/**
+		 * Sql only key type.
+		 */
+		SQL_ONLY,
+		/**
+		 * Sql concurrency key type.
+		 */
+		SQL_CONCURRENCY,
+		/**
+		 * Sql holdability key type.
+		 */
+		SQL_HOLDABILITY,
+		/**
+		 * Sql auto generated key type.
+		 */
+		SQL_AUTO_GENERATED_KEYS,
+		/**
+		 * Sql column indexes key type.
+		 */
+		SQL_COLUMN_INDEXES,
+		/**
+		 * Sql column names key type.
+		 */
+		SQL_COLUMN_NAMES,
+		/**
+		 * Call only key type.
+		 */
+		CALL_ONLY,
+		/**
+		 * Call concurrency key type.
+		 */
+		CALL_CONCURRENCY,
+		/**
+		 * Call holdability key type.
+		 */
+		CALL_HOLDABILITY,
+		/**
+		 * Plain statement key type.
+		 */
+		STATEMENT_ONLY,
+		/**
+		 * Plain statement concurrency key type.
+		 */
+		STATEMENT_CONCURRENCY,
+		/**
+		 * Plain statement holdability key type.
+		 */
+		STATEMENT_HOLDABILITY
+	}
+}
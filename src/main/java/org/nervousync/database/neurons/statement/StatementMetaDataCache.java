@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.neurons.statement;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.commons.Globals;
+
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h2 class="en-US">Statement metadata cache shared by all connections of data source</h2>
+ * <p class="en-US">
+ * Snapshots of result set metadata and parameter metadata were indexed by statement identification code, the first
+ * fetch from any connection will be served to all connections of the data source. If the driver's metadata could not
+ * be copied completely, the driver's metadata will be returned and not cached. Cached snapshots should be cleared
+ * after the database schema was changed.
+ * </p>
+ * <h2 class="zh-CN">数据源所有连接共享的查询元数据缓存</h2>
+ * <p class="zh-CN">
+ * 结果集元数据和参数元数据的快照按查询的唯一识别代码建立索引，任意连接首次获取后将提供给数据源的所有连接。
+ * 如果无法完整复制驱动程序的元数据，将返回驱动程序的元数据且不进行缓存。数据库结构变更后应清除缓存的快照。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 22:32:48 $
+ */
+public final class StatementMetaDataCache {
+
+	/**
+	 * <span class="en-US">Default maximum size of each metadata mapping</span>
+	 * <span class="zh-CN">每个元数据映射表的默认最大数量</span>
+	 */
+	private static final int DEFAULT_LIMIT_SIZE = 1024;
+
+	/**
+	 * <span class="en-US">Maximum size of each metadata mapping</span>
+	 * <span class="zh-CN">每个元数据映射表的最大数量</span>
+	 */
+	private final int limitSize;
+	/**
+	 * <span class="en-US">Result set metadata mapping</span>
+	 * <span class="zh-CN">结果集元数据映射表</span>
+	 */
+	private final Map<StatementKey, CachedResultSetMetaData> resultSetMetaData;
+	/**
+	 * <span class="en-US">Parameter metadata mapping</span>
+	 * <span class="zh-CN">参数元数据映射表</span>
+	 */
+	private final Map<StatementKey, CachedParameterMetaData> parameterMetaData;
+
+	/**
+	 * <h4 class="en-US">Constructor method for statement metadata cache with default maximum size</h4>
+	 * <h4 class="zh-CN">使用默认最大数量的查询元数据缓存的构造方法</h4>
+	 */
+	public StatementMetaDataCache() {
+		this(DEFAULT_LIMIT_SIZE);
+	}
+
+	/**
+	 * <h4 class="en-US">Constructor method for statement metadata cache</h4>
+	 * <h4 class="zh-CN">查询元数据缓存的构造方法</h4>
+	 *
+	 * @param limitSize <span class="en-US">Maximum size of each metadata mapping</span>
+	 *                  <span class="zh-CN">每个元数据映射表的最大数量</span>
+	 */
+	public StatementMetaDataCache(final int limitSize) {
+		this.limitSize = Math.max(limitSize, 1);
+		this.resultSetMetaData = new ConcurrentHashMap<>();
+		this.parameterMetaData = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve result set metadata of given statement</h4>
+	 * <h4 class="zh-CN">获取指定查询的结果集元数据</h4>
+	 *
+	 * @param identifyKey <span class="en-US">Identification code of statement</span>
+	 *                    <span class="zh-CN">查询的唯一识别代码</span>
+	 * @param statement   <span class="en-US">JDBC prepared statement instance object</span>
+	 *                    <span class="zh-CN">预编译查询执行器实例对象</span>
+	 * @return <span class="en-US">Result set metadata or <code>null</code> if not available</span>
+	 * <span class="zh-CN">结果集元数据，如果不可用则返回<code>null</code></span>
+	 * @throws SQLException <span class="en-US">if a database access error occurs</span>
+	 *                      <span class="zh-CN">如果发生数据库访问错误</span>
+	 */
+	public ResultSetMetaData resultSetMetaData(@Nonnull final StatementKey identifyKey,
+	                                           @Nonnull final PreparedStatement statement) throws SQLException {
+		CachedResultSetMetaData cachedMetaData = this.resultSetMetaData.get(identifyKey);
+		if (cachedMetaData != null) {
+			return cachedMetaData;
+		}
+		ResultSetMetaData metaData = statement.getMetaData();
+		if (metaData == null) {
+			return null;
+		}
+		try {
+			cachedMetaData = new CachedResultSetMetaData(metaData);
+		} catch (SQLException e) {
+			return metaData;
+		}
+		this.store(this.resultSetMetaData, identifyKey, cachedMetaData);
+		return cachedMetaData;
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve parameter metadata of given statement</h4>
+	 * <h4 class="zh-CN">获取指定查询的参数元数据</h4>
+	 *
+	 * @param identifyKey <span class="en-US">Identification code of statement</span>
+	 *                    <span class="zh-CN">查询的唯一识别代码</span>
+	 * @param statement   <span class="en-US">JDBC prepared statement instance object</span>
+	 *                    <span class="zh-CN">预编译查询执行器实例对象</span>
+	 * @return <span class="en-US">Parameter metadata</span>
+	 * <span class="zh-CN">参数元数据</span>
+	 * @throws SQLException <span class="en-US">if a database access error occurs</span>
+	 *                      <span class="zh-CN">如果发生数据库访问错误</span>
+	 */
+	public ParameterMetaData parameterMetaData(@Nonnull final StatementKey identifyKey,
+	                                           @Nonnull final PreparedStatement statement) throws SQLException {
+		CachedParameterMetaData cachedMetaData = this.parameterMetaData.get(identifyKey);
+		if (cachedMetaData != null) {
+			return cachedMetaData;
+		}
+		ParameterMetaData metaData = statement.getParameterMetaData();
+		if (metaData == null) {
+			return null;
+		}
+		try {
+			cachedMetaData = new CachedParameterMetaData(metaData);
+		} catch (SQLException e) {
+			return metaData;
+		}
+		this.store(this.parameterMetaData, identifyKey, cachedMetaData);
+		return cachedMetaData;
+	}
+
+	/**
+	 * <h4 class="en-US">Parameters count of given statement from the cached parameter metadata</h4>
+	 * <h4 class="zh-CN">从已缓存的参数元数据中获取指定查询的参数数量</h4>
+	 *
+	 * @param identifyKey <span class="en-US">Identification code of statement</span>
+	 *                    <span class="zh-CN">查询的唯一识别代码</span>
+	 * @return <span class="en-US">Parameters count or <code>Globals.DEFAULT_VALUE_INT</code> if not cached</span>
+	 * <span class="zh-CN">参数数量，如果未缓存则返回<code>Globals.DEFAULT_VALUE_INT</code></span>
+	 */
+	public int parameterCount(@Nonnull final StatementKey identifyKey) {
+		CachedParameterMetaData cachedMetaData = this.parameterMetaData.get(identifyKey);
+		return (cachedMetaData == null) ? Globals.DEFAULT_VALUE_INT : cachedMetaData.getParameterCount();
+	}
+
+	/**
+	 * <h4 class="en-US">Cached metadata count</h4>
+	 * <h4 class="zh-CN">已缓存的元数据数量</h4>
+	 *
+	 * @return <span class="en-US">Cached metadata count</span>
+	 * <span class="zh-CN">已缓存的元数据数量</span>
+	 */
+	public int size() {
+		return this.resultSetMetaData.size() + this.parameterMetaData.size();
+	}
+
+	/**
+	 * <h4 class="en-US">Remove all cached metadata</h4>
+	 * <h4 class="zh-CN">移除所有已缓存的元数据</h4>
+	 */
+	public void clear() {
+		this.resultSetMetaData.clear();
+		this.parameterMetaData.clear();
+	}
+
+	/**
+	 * <h4 class="en-US">Shrink each metadata mapping to the given ratio of maximum size</h4>
+	 * <p class="en-US">Arbitrary entries will be removed, the removed snapshots will be copied again on the next fetch</p>
+	 * <h4 class="zh-CN">将每个元数据映射表收缩至最大数量的给定比例</h4>
+	 * <p class="zh-CN">将移除任意条目，已移除的快照将在下次获取时重新复制</p>
+	 *
+	 * @param ratio <span class="en-US">Ratio between 0.0 and 1.0</span>
+	 *              <span class="zh-CN">0.0至1.0之间的比例</span>
+	 */
+	public void trim(final double ratio) {
+		int trimSize = (int) (this.limitSize * Math.max(0.0d, Math.min(ratio, 1.0d)));
+		this.trim(this.resultSetMetaData, trimSize);
+		this.trim(this.parameterMetaData, trimSize);
+	}
+
+	/**
+	 * <h4 class="en-US">Remove arbitrary entries until the size of metadata mapping was not greater than given size</h4>
+	 * <h4 class="zh-CN">移除任意条目直至元数据映射表的数量不大于给定数量</h4>
+	 *
+	 * @param mapping  <span class="en-US">Metadata mapping</span>
+	 *                 <span class="zh-CN">元数据映射表</span>
+	 * @param trimSize <span class="en-US">Maximum size after trim</span>
+	 *                 <span class="zh-CN">收缩后的最大数量</span>
+	 */
+	private void trim(@Nonnull final Map<StatementKey, ?> mapping, final int trimSize) {
+		Iterator<StatementKey> iterator = mapping.keySet().iterator();
+		while (mapping.size() > trimSize && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Store the metadata snapshot, an arbitrary entry will be removed if the mapping was full</h4>
+	 * <h4 class="zh-CN">保存元数据快照，如果映射表已满则移除任意一个条目</h4>
+	 *
+	 * @param <T>         <span class="en-US">Metadata type</span>
+	 *                    <span class="zh-CN">元数据类型</span>
+	 * @param mapping     <span class="en-US">Metadata mapping</span>
+	 *                    <span class="zh-CN">元数据映射表</span>
+	 * @param identifyKey <span class="en-US">Identification code of statement</span>
+	 *                    <span class="zh-CN">查询的唯一识别代码</span>
+	 * @param metaData    <span class="en-US">Metadata snapshot</span>
+	 *                    <span class="zh-CN">元数据快照</span>
+	 */
+	private <T> void store(@Nonnull final Map<StatementKey, T> mapping, @Nonnull final StatementKey identifyKey,
+	                       @Nonnull final T metaData) {
+		if (mapping.size() >= this.limitSize) {
+			Iterator<StatementKey> iterator = mapping.keySet().iterator();
+			if (iterator.hasNext()) {
+				iterator.next();
+				iterator.remove();
+			}
+		}
+		mapping.putIfAbsent(identifyKey, metaData);
+	}
+}
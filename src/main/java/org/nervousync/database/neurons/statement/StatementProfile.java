@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.neurons.statement;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.commons.Globals;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2 class="en-US">Statement popularity profile of data source</h2>
+ * <p class="en-US">
+ * Records the prepare frequency of statements from all connections of the data source, the most frequent statements
+ * will be prepared by the new connections before they enter the pool. All frequencies will be halved when the
+ * recorded count reached ten times of the limit size, and the statements which frequency reached zero will be
+ * removed, so the profile follows the changes of workload. New statements will not be recorded if the profile
+ * was full until the aging removes the cold statements.
+ * </p>
+ * <h2 class="zh-CN">数据源的查询热度统计</h2>
+ * <p class="zh-CN">
+ * 记录数据源所有连接中查询分析器的创建频率，新连接在加入连接池之前将预先创建最常用的查询分析器。
+ * 当记录次数达到最大数量的十倍时，所有频率将减半，频率降为零的查询将被移除，因此统计将随工作负载的变化而变化。
+ * 如果统计已满，新的查询将不会被记录，直到老化移除冷门查询。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 22:57:26 $
+ */
+public final class StatementProfile {
+
+	/**
+	 * <span class="en-US">Default maximum statements count of profile</span>
+	 * <span class="zh-CN">统计的默认最大查询数</span>
+	 */
+	private static final int DEFAULT_LIMIT_SIZE = 1024;
+
+	/**
+	 * <span class="en-US">Maximum statements count of profile</span>
+	 * <span class="zh-CN">统计的最大查询数</span>
+	 */
+	private final int limitSize;
+	/**
+	 * <span class="en-US">Recorded count which triggers the aging</span>
+	 * <span class="zh-CN">触发老化的记录次数</span>
+	 */
+	private final int sampleSize;
+	/**
+	 * <span class="en-US">Recorded count since last aging</span>
+	 * <span class="zh-CN">上次老化后的记录次数</span>
+	 */
+	private final AtomicInteger recordCount;
+	/**
+	 * <span class="en-US">Prepare frequency mapping of statements</span>
+	 * <span class="zh-CN">查询创建频率映射表</span>
+	 */
+	private final Map<StatementKey, AtomicLong> frequencies;
+
+	/**
+	 * <h4 class="en-US">Constructor method for statement popularity profile with default maximum size</h4>
+	 * <h4 class="zh-CN">使用默认最大数量的查询热度统计的构造方法</h4>
+	 */
+	public StatementProfile() {
+		this(DEFAULT_LIMIT_SIZE);
+	}
+
+	/**
+	 * <h4 class="en-US">Constructor method for statement popularity profile</h4>
+	 * <h4 class="zh-CN">查询热度统计的构造方法</h4>
+	 *
+	 * @param limitSize <span class="en-US">Maximum statements count of profile</span>
+	 *                  <span class="zh-CN">统计的最大查询数</span>
+	 */
+	public StatementProfile(final int limitSize) {
+		this.limitSize = Math.max(limitSize, 1);
+		this.sampleSize = this.limitSize * 10;
+		this.recordCount = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+		this.frequencies = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * <h4 class="en-US">Record a prepare of given statement</h4>
+	 * <h4 class="zh-CN">记录指定查询的一次创建</h4>
+	 *
+	 * @param identifyKey <span class="en-US">Identification code of statement</span>
+	 *                    <span class="zh-CN">查询的唯一识别代码</span>
+	 */
+	public void record(@Nonnull final StatementKey identifyKey) {
+		AtomicLong frequency = this.frequencies.get(identifyKey);
+		if (frequency == null) {
+			if (this.frequencies.size() >= this.limitSize) {
+				return;
+			}
+			frequency = this.frequencies.computeIfAbsent(identifyKey, key -> new AtomicLong(Globals.INITIALIZE_INT_VALUE));
+		}
+		frequency.incrementAndGet();
+		//	Only one thread reaches the sample size exactly
+		if (this.recordCount.incrementAndGet() == this.sampleSize) {
+			this.recordCount.addAndGet(-this.sampleSize);
+			this.age();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Merge the frequency of given statement, the greater frequency will be kept</h4>
+	 * <p class="en-US">Used to restore the persisted profile, the statement will be ignored if the profile was full</p>
+	 * <h4 class="zh-CN">合并指定查询的频率，保留较大的频率</h4>
+	 * <p class="zh-CN">用于恢复已持久化的统计，如果统计已满则忽略该查询</p>
+	 *
+	 * @param identifyKey <span class="en-US">Identification code of statement</span>
+	 *                    <span class="zh-CN">查询的唯一识别代码</span>
+	 * @param frequency   <span class="en-US">Recorded frequency</span>
+	 *                    <span class="zh-CN">记录的频率</span>
+	 */
+	public void merge(@Nonnull final StatementKey identifyKey, final long frequency) {
+		if (frequency <= 0L || (this.frequencies.size() >= this.limitSize && !this.frequencies.containsKey(identifyKey))) {
+			return;
+		}
+		this.frequencies.computeIfAbsent(identifyKey, key -> new AtomicLong(Globals.INITIALIZE_INT_VALUE))
+				.accumulateAndGet(frequency, Math::max);
+	}
+
+	/**
+	 * <h4 class="en-US">Recorded frequency of given statement</h4>
+	 * <h4 class="zh-CN">指定查询的记录频率</h4>
+	 *
+	 * @param identifyKey <span class="en-US">Identification code of statement</span>
+	 *                    <span class="zh-CN">查询的唯一识别代码</span>
+	 * @return <span class="en-US">Recorded frequency</span>
+	 * <span class="zh-CN">记录的频率</span>
+	 */
+	public long frequency(@Nonnull final StatementKey identifyKey) {
+		AtomicLong frequency = this.frequencies.get(identifyKey);
+		return (frequency == null) ? Globals.INITIALIZE_INT_VALUE : frequency.get();
+	}
+
+	/**
+	 * <h4 class="en-US">Most frequent statements in descending order of frequency</h4>
+	 * <h4 class="zh-CN">按频率降序排列的最常用查询</h4>
+	 *
+	 * @param count <span class="en-US">Maximum statements count</span>
+	 *              <span class="zh-CN">最大查询数</span>
+	 * @return <span class="en-US">Identification code list of statements</span>
+	 * <span class="zh-CN">查询的唯一识别代码列表</span>
+	 */
+	public List<StatementKey> hotStatements(final int count) {
+		if (count <= 0) {
+			return List.of();
+		}
+		return this.frequencies.entrySet()
+				.stream()
+				.map(entry -> Map.entry(entry.getKey(), entry.getValue().get()))
+				.filter(entry -> entry.getValue() > 0L)
+				.sorted(Map.Entry.<StatementKey, Long>comparingByValue(Comparator.reverseOrder()))
+				.limit(count)
+				.map(Map.Entry::getKey)
+				.toList();
+	}
+
+	/**
+	 * <h4 class="en-US">Recorded statements count</h4>
+	 * <h4 class="zh-CN">已记录的查询数</h4>
+	 *
+	 * @return <span class="en-US">Recorded statements count</span>
+	 * <span class="zh-CN">已记录的查询数</span>
+	 */
+	public int size() {
+		return this.frequencies.size();
+	}
+
+	/**
+	 * <h4 class="en-US">Remove all recorded statements</h4>
+	 * <h4 class="zh-CN">移除所有已记录的查询</h4>
+	 */
+	public void clear() {
+		this.frequencies.clear();
+		this.recordCount.set(Globals.INITIALIZE_INT_VALUE);
+	}
+
+	/**
+	 * <h4 class="en-US">Halve all frequencies and remove the statements which frequency reached zero</h4>
+	 * <h4 class="zh-CN">将所有频率减半并移除频率降为零的查询</h4>
+	 */
+	private void age() {
+		this.frequencies.values().forEach(frequency -> frequency.updateAndGet(current -> current >>> 1));
+		this.frequencies.values().removeIf(frequency -> frequency.get() == 0L);
+	}
+}
@@ -0,0 +1,345 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.neurons.statement;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.commons.Globals;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h2 class="en-US">Local file of statement popularity profile</h2>
+ * <p class="en-US">
+ * Stores the hot statements (SQL command, options of SQL command type and frequency) in a compact binary file.
+ * The file was memory-mapped and reused between saves, it will be remapped only when the content grows over the
+ * mapped size. Saving zeroes the statements count in the header before the entries were written, and writes the
+ * count after the entries were flushed, so a partially written file will be read as an empty profile. The file was
+ * locked during saving and loading. Invalid content will not be merged into the profile.
+ * </p>
+ * <h2 class="zh-CN">查询热度统计的本地文件</h2>
+ * <p class="zh-CN">
+ * 将热点查询（SQL语句、SQL语句类型的选项和频率）保存在紧凑的二进制文件中。文件通过内存映射并在多次保存间重用，
+ * 仅当内容超过映射大小时才重新映射。保存时先将文件头中的查询数清零再写入查询，并在查询刷新至磁盘后写入查询数，
+ * 因此写入不完整的文件将被读取为空的统计。保存和读取期间文件将被锁定。无效的内容不会合并至统计中。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 23:26:51 $
+ */
+public final class StatementProfileFile {
+
+	/**
+	 * <span class="en-US">Magic number of profile file</span>
+	 * <span class="zh-CN">统计文件的魔数</span>
+	 */
+	private static final int MAGIC_NUMBER = 0x4E535046;
+	/**
+	 * <span class="en-US">Format version of profile file</span>
+	 * <span class="zh-CN">统计文件的格式版本</span>
+	 */
+	private static final int FORMAT_VERSION = 1;
+	/**
+	 * <span class="en-US">Header length: magic number, format version and statements count</span>
+	 * <span class="zh-CN">文件头长度：魔数、格式版本和查询数</span>
+	 */
+	private static final int HEADER_LENGTH = 12;
+	/**
+	 * <span class="en-US">Offset of statements count in header</span>
+	 * <span class="zh-CN">文件头中查询数的偏移量</span>
+	 */
+	private static final int COUNT_OFFSET = 8;
+	/**
+	 * <span class="en-US">Mapped size will be aligned to the page size</span>
+	 * <span class="zh-CN">映射大小按页大小对齐</span>
+	 */
+	private static final int PAGE_SIZE = 4096;
+
+	/**
+	 * <span class="en-US">Profile file path</span>
+	 * <span class="zh-CN">统计文件路径</span>
+	 */
+	private final Path filePath;
+	/**
+	 * <span class="en-US">Mapped buffer of profile file</span>
+	 * <span class="zh-CN">统计文件的映射缓冲区</span>
+	 */
+	private MappedByteBuffer mappedBuffer = null;
+
+	/**
+	 * <h4 class="en-US">Constructor method for local file of statement popularity profile</h4>
+	 * <h4 class="zh-CN">查询热度统计的本地文件的构造方法</h4>
+	 *
+	 * @param filePath <span class="en-US">Profile file path</span>
+	 *                 <span class="zh-CN">统计文件路径</span>
+	 */
+	public StatementProfileFile(@Nonnull final Path filePath) {
+		this.filePath = filePath;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for profile file path</h4>
+	 * <h4 class="zh-CN">统计文件路径的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Profile file path</span>
+	 * <span class="zh-CN">统计文件路径</span>
+	 */
+	public Path getFilePath() {
+		return this.filePath;
+	}
+
+	/**
+	 * <h4 class="en-US">Read the profile file and merge the statements into given profile</h4>
+	 * <h4 class="zh-CN">读取统计文件并将查询合并至指定的统计</h4>
+	 *
+	 * @param statementProfile <span class="en-US">Statement popularity profile instance object</span>
+	 *                         <span class="zh-CN">查询热度统计实例对象</span>
+	 * @return <span class="en-US">Loaded statements count, <code>0</code> if the file not exists</span>
+	 * <span class="zh-CN">已读取的查询数，如果文件不存在则返回<code>0</code></span>
+	 * @throws IOException <span class="en-US">if an I/O error occurs or the file format was invalid, nothing was merged into the profile</span>
+	 *                     <span class="zh-CN">如果发生I/O错误或文件格式无效，此时不会向统计中合并任何查询</span>
+	 */
+	public synchronized int load(@Nonnull final StatementProfile statementProfile) throws IOException {
+		if (!Files.isRegularFile(this.filePath)) {
+			return Globals.INITIALIZE_INT_VALUE;
+		}
+		Map<StatementKey, Long> loadedStatements = new LinkedHashMap<>();
+		try (FileChannel fileChannel = FileChannel.open(this.filePath, StandardOpenOption.READ);
+		     FileLock ignored = fileChannel.lock(0L, Long.MAX_VALUE, Boolean.TRUE)) {
+			MappedByteBuffer readBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0L, fileChannel.size());
+			if (readBuffer.getInt() != MAGIC_NUMBER || readBuffer.getInt() != FORMAT_VERSION) {
+				throw new IOException("Invalid statement profile file: " + this.filePath);
+			}
+			int statementCount = readBuffer.getInt();
+			for (int i = 0; i < statementCount; i++) {
+				long frequency = readBuffer.getLong();
+				StatementKey.KeyType keyType = StatementKey.KeyType.values()[readBuffer.get()];
+				int resultSetType = readBuffer.getInt();
+				int resultSetConcurrency = readBuffer.getInt();
+				int resultSetHoldability = readBuffer.getInt();
+				int autoGeneratedKeys = readBuffer.getInt();
+				int[] columnIndexes = null;
+				int length = readLength(readBuffer, Integer.BYTES);
+				if (length >= 0) {
+					columnIndexes = new int[length];
+					for (int j = 0; j < length; j++) {
+						columnIndexes[j] = readBuffer.getInt();
+					}
+				}
+				String[] columnNames = null;
+				length = readLength(readBuffer, Integer.BYTES);
+				if (length >= 0) {
+					columnNames = new String[length];
+					for (int j = 0; j < length; j++) {
+						columnNames[j] = readString(readBuffer);
+					}
+				}
+				String sql = readString(readBuffer);
+				loadedStatements.merge(new StatementKey(keyType, sql, resultSetType, resultSetConcurrency,
+						resultSetHoldability, autoGeneratedKeys, columnIndexes, columnNames), frequency, Long::sum);
+			}
+		} catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+				| NegativeArraySizeException | OverlappingFileLockException e) {
+			throw new IOException("Invalid statement profile file: " + this.filePath, e);
+		}
+		//	Merge after the whole file was read, a corrupt file leaves the profile empty
+		loadedStatements.forEach(statementProfile::merge);
+		return loadedStatements.size();
+	}
+
+	/**
+	 * <h4 class="en-US">Write the hot statements of given profile to the profile file</h4>
+	 * <h4 class="zh-CN">将指定统计中的热点查询写入统计文件</h4>
+	 *
+	 * @param statementProfile <span class="en-US">Statement popularity profile instance object</span>
+	 *                         <span class="zh-CN">查询热度统计实例对象</span>
+	 * @return <span class="en-US">Written statements count</span>
+	 * <span class="zh-CN">已写入的查询数</span>
+	 * @throws IOException <span class="en-US">if an I/O error occurs</span>
+	 *                     <span class="zh-CN">如果发生I/O错误</span>
+	 */
+	public synchronized int save(@Nonnull final StatementProfile statementProfile) throws IOException {
+		List<StatementKey> hotStatements = statementProfile.hotStatements(statementProfile.size());
+		int contentLength = HEADER_LENGTH;
+		byte[][] sqlBytes = new byte[hotStatements.size()][];
+		for (int i = 0; i < hotStatements.size(); i++) {
+			sqlBytes[i] = hotStatements.get(i).getSql().getBytes(StandardCharsets.UTF_8);
+			contentLength += entryLength(hotStatements.get(i), sqlBytes[i]);
+		}
+		try (FileChannel fileChannel = FileChannel.open(this.filePath, StandardOpenOption.CREATE,
+				StandardOpenOption.READ, StandardOpenOption.WRITE);
+		     FileLock ignored = fileChannel.lock()) {
+			MappedByteBuffer writeBuffer = this.mapBuffer(fileChannel, contentLength);
+			//	Invalidate the previous content before overwriting the entries
+			writeBuffer.clear();
+			writeBuffer.putInt(MAGIC_NUMBER).putInt(FORMAT_VERSION).putInt(Globals.INITIALIZE_INT_VALUE);
+			writeBuffer.force();
+			for (int i = 0; i < hotStatements.size(); i++) {
+				StatementKey statementKey = hotStatements.get(i);
+				writeBuffer.putLong(statementProfile.frequency(statementKey))
+						.put((byte) statementKey.getKeyType().ordinal())
+						.putInt(statementKey.getResultSetType())
+						.putInt(statementKey.getResultSetConcurrency())
+						.putInt(statementKey.getResultSetHoldability())
+						.putInt(statementKey.getAutoGeneratedKeys());
+				int[] columnIndexes = statementKey.getColumnIndexes();
+				writeBuffer.putInt((columnIndexes == null) ? Globals.DEFAULT_VALUE_INT : columnIndexes.length);
+				if (columnIndexes != null) {
+					for (int columnIndex : columnIndexes) {
+						writeBuffer.putInt(columnIndex);
+					}
+				}
+				String[] columnNames = statementKey.getColumnNames();
+				writeBuffer.putInt((columnNames == null) ? Globals.DEFAULT_VALUE_INT : columnNames.length);
+				if (columnNames != null) {
+					for (String columnName : columnNames) {
+						writeString(writeBuffer, columnName.getBytes(StandardCharsets.UTF_8));
+					}
+				}
+				writeString(writeBuffer, sqlBytes[i]);
+			}
+			writeBuffer.force();
+			//	Statements count was written after the entries were flushed
+			writeBuffer.putInt(COUNT_OFFSET, hotStatements.size());
+			writeBuffer.force();
+		} catch (OverlappingFileLockException e) {
+			throw new IOException("Statement profile file was locked: " + this.filePath, e);
+		}
+		return hotStatements.size();
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the mapped buffer which could contain given length</h4>
+	 * <p class="en-US">The file will be remapped with the size aligned to the page size if current mapping was too small</p>
+	 * <h4 class="zh-CN">获取可以容纳指定长度的映射缓冲区</h4>
+	 * <p class="zh-CN">如果当前映射过小，将按页大小对齐后重新映射文件</p>
+	 *
+	 * @param fileChannel   <span class="en-US">Opened file channel of profile file</span>
+	 *                      <span class="zh-CN">统计文件已打开的文件通道</span>
+	 * @param contentLength <span class="en-US">Content length</span>
+	 *                      <span class="zh-CN">内容长度</span>
+	 * @return <span class="en-US">Mapped buffer</span>
+	 * <span class="zh-CN">映射缓冲区</span>
+	 * @throws IOException <span class="en-US">if an I/O error occurs</span>
+	 *                     <span class="zh-CN">如果发生I/O错误</span>
+	 */
+	private MappedByteBuffer mapBuffer(@Nonnull final FileChannel fileChannel, final int contentLength)
+			throws IOException {
+		if (this.mappedBuffer == null || this.mappedBuffer.capacity() < contentLength) {
+			long mappedSize = ((long) contentLength + PAGE_SIZE - 1) / PAGE_SIZE * PAGE_SIZE;
+			this.mappedBuffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0L, mappedSize);
+		}
+		return this.mappedBuffer;
+	}
+
+	/**
+	 * <h4 class="en-US">Encoded length of given statement</h4>
+	 * <h4 class="zh-CN">指定查询编码后的长度</h4>
+	 *
+	 * @param statementKey <span class="en-US">Identification code of statement</span>
+	 *                     <span class="zh-CN">查询的唯一识别代码</span>
+	 * @param sqlBytes     <span class="en-US">UTF-8 bytes of SQL command</span>
+	 *                     <span class="zh-CN">SQL语句的UTF-8字节</span>
+	 * @return <span class="en-US">Encoded length</span>
+	 * <span class="zh-CN">编码后的长度</span>
+	 */
+	private static int entryLength(@Nonnull final StatementKey statementKey, @Nonnull final byte[] sqlBytes) {
+		//	Frequency, key type, 4 options, 2 array lengths and SQL command
+		int entryLength = Long.BYTES + 1 + Integer.BYTES * 6 + Integer.BYTES + sqlBytes.length;
+		int[] columnIndexes = statementKey.getColumnIndexes();
+		if (columnIndexes != null) {
+			entryLength += Integer.BYTES * columnIndexes.length;
+		}
+		String[] columnNames = statementKey.getColumnNames();
+		if (columnNames != null) {
+			for (String columnName : columnNames) {
+				entryLength += Integer.BYTES + columnName.getBytes(StandardCharsets.UTF_8).length;
+			}
+		}
+		return entryLength;
+	}
+
+	/**
+	 * <h4 class="en-US">Write the length prefixed bytes to buffer</h4>
+	 * <h4 class="zh-CN">将带长度前缀的字节写入缓冲区</h4>
+	 *
+	 * @param byteBuffer <span class="en-US">Target buffer</span>
+	 *                   <span class="zh-CN">目标缓冲区</span>
+	 * @param bytes      <span class="en-US">UTF-8 bytes of string</span>
+	 *                   <span class="zh-CN">字符串的UTF-8字节</span>
+	 */
+	private static void writeString(@Nonnull final ByteBuffer byteBuffer, @Nonnull final byte[] bytes) {
+		byteBuffer.putInt(bytes.length).put(bytes);
+	}
+
+	/**
+	 * <h4 class="en-US">Read the length prefix of array or string from buffer</h4>
+	 * <p class="en-US">The length was checked against the remaining bytes, so a corrupt file could not allocate a huge array</p>
+	 * <h4 class="zh-CN">从缓冲区读取数组或字符串的长度前缀</h4>
+	 * <p class="zh-CN">长度将与剩余字节数进行比较，因此损坏的文件无法分配过大的数组</p>
+	 *
+	 * @param byteBuffer  <span class="en-US">Source buffer</span>
+	 *                    <span class="zh-CN">源缓冲区</span>
+	 * @param elementSize <span class="en-US">Minimum encoded size of each element</span>
+	 *                    <span class="zh-CN">每个元素编码后的最小长度</span>
+	 * @return <span class="en-US">Read length, -1 for <code>null</code> array</span>
+	 * <span class="zh-CN">读取的长度，-1表示<code>null</code>数组</span>
+	 * @throws IllegalArgumentException <span class="en-US">if the length was invalid</span>
+	 *                                  <span class="zh-CN">如果长度无效</span>
+	 */
+	private static int readLength(@Nonnull final ByteBuffer byteBuffer, final int elementSize) {
+		int length = byteBuffer.getInt();
+		if (length < Globals.DEFAULT_VALUE_INT || (long) length * elementSize > byteBuffer.remaining()) {
+			throw new IllegalArgumentException("Invalid length: " + length);
+		}
+		return length;
+	}
+
+	/**
+	 * <h4 class="en-US">Read the length prefixed string from buffer</h4>
+	 * <h4 class="zh-CN">从缓冲区读取带长度前缀的字符串</h4>
+	 *
+	 * @param byteBuffer <span class="en-US">Source buffer</span>
+	 *                   <span class="zh-CN">源缓冲区</span>
+	 * @return <span class="en-US">Read string</span>
+	 * <span class="zh-CN">读取的字符串</span>
+	 * @throws IllegalArgumentException <span class="en-US">if the length was invalid</span>
+	 *                                  <span class="zh-CN">如果长度无效</span>
+	 */
+	private static String readString(@Nonnull final ByteBuffer byteBuffer) {
+		int length = readLength(byteBuffer, Byte.BYTES);
+		if (length < 0) {
+			throw new IllegalArgumentException("Invalid length: " + length);
+		}
+		byte[] bytes = new byte[length];
+		byteBuffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -19,6 +19,7 @@ package org.nervousync.database.neurons.statement.impl;
 
 import org.nervousync.database.neurons.connection.NeuronsConnection;
 import org.nervousync.database.neurons.statement.CachedStatement;
+import org.nervousync.database.neurons.statement.StatementKey;
 
 import java.io.InputStream;
 import java.io.Reader;
@@ -48,7 +49,7 @@ public final class CachedCallableStatement extends CachedStatement implements Ca
 	 * @param statement   <span class="en-US">JDBC callable statement instance object</span>
 	 *                    <span class="zh-CN">存储过程执行器实例对象</span>
 	 */
-	public CachedCallableStatement(final NeuronsConnection connection, final String identifyKey,
+	public CachedCallableStatement(final NeuronsConnection connection, final StatementKey identifyKey,
 	                               final CallableStatement statement) {
 		super(connection, identifyKey, statement);
 	}
@@ -1191,7 +1192,7 @@ public final class CachedCallableStatement extends CachedStatement implements Ca
 	 */
 	@Override
 	public ResultSet executeQuery() throws SQLException {
-		return this.unwrap(CallableStatement.class).executeQuery();
+		return this.measure(() -> this.unwrap(CallableStatement.class).executeQuery());
 	}
 
 	/**
@@ -1201,7 +1202,7 @@ public final class CachedCallableStatement extends CachedStatement implements Ca
 	 */
 	@Override
 	public int executeUpdate() throws SQLException {
-		return this.unwrap(CallableStatement.class).executeUpdate();
+		return this.measure(() -> this.unwrap(CallableStatement.class).executeUpdate());
 	}
 
 	/**
@@ -1412,7 +1413,7 @@ public final class CachedCallableStatement extends CachedStatement implements Ca
 	 */
 	@Override
 	public boolean execute() throws SQLException {
-		return this.unwrap(CallableStatement.class).execute();
+		return this.measure(() -> this.unwrap(CallableStatement.class).execute());
 	}
 
 	/**
@@ -1482,7 +1483,7 @@ public final class CachedCallableStatement extends CachedStatement implements Ca
 	 */
 	@Override
 	public ResultSetMetaData getMetaData() throws SQLException {
-		return this.unwrap(CallableStatement.class).getMetaData();
+		return this.resultSetMetaData();
 	}
 
 	/**
@@ -1542,7 +1543,7 @@ public final class CachedCallableStatement extends CachedStatement implements Ca
 	 */
 	@Override
 	public ParameterMetaData getParameterMetaData() throws SQLException {
-		return this.unwrap(CallableStatement.class).getParameterMetaData();
+		return this.parameterMetaData();
 	}
 
 	/**
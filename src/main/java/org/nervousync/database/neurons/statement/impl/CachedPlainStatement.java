@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.neurons.statement.impl;
+
+import org.nervousync.database.neurons.connection.NeuronsConnection;
+import org.nervousync.database.neurons.statement.CachedStatement;
+import org.nervousync.database.neurons.statement.StatementKey;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * <h2 class="en-US">Cached plain statement</h2>
+ * <p class="en-US">
+ * Plain statement was reused by the result set type, concurrency and holdability, and only be handed to one
+ * borrower at a time. The opened result set will be closed and the settings changed by the borrower will be
+ * restored when the statement was closed. Close on completion was recorded by the statement handle and will not
+ * be passed to the JDBC statement, the cached JDBC statement should not be closed by the driver.
+ * </p>
+ * <h2 class="zh-CN">可缓存的普通查询执行器</h2>
+ * <p class="zh-CN">
+ * 普通查询执行器按结果集类型、并发性和可保持性复用，同一时间仅交给一个借用者。关闭查询执行器时，将关闭已打开的结果集并恢复借用者修改的设置。
+ * 完成时关闭仅由查询执行器句柄记录，不会传递给JDBC查询执行器，已缓存的JDBC查询执行器不应被驱动关闭。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@Hotmail.com">wmkm0113@Hotmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 16:37:52 $
+ */
+public final class CachedPlainStatement extends CachedStatement {
+
+	/**
+	 * <span class="en-US">Default maximum rows count of JDBC statement</span>
+	 * <span class="zh-CN">JDBC查询执行器默认的最大行数</span>
+	 */
+	private final int maxRows;
+	/**
+	 * <span class="en-US">Default maximum field size of JDBC statement</span>
+	 * <span class="zh-CN">JDBC查询执行器默认的最大字段长度</span>
+	 */
+	private final int maxFieldSize;
+	/**
+	 * <span class="en-US">Default fetch size of JDBC statement</span>
+	 * <span class="zh-CN">JDBC查询执行器默认的获取行数</span>
+	 */
+	private final int fetchSize;
+	/**
+	 * <span class="en-US">Default fetch direction of JDBC statement</span>
+	 * <span class="zh-CN">JDBC查询执行器默认的获取方向</span>
+	 */
+	private final int fetchDirection;
+	/**
+	 * <span class="en-US">Default query timeout of JDBC statement</span>
+	 * <span class="zh-CN">JDBC查询执行器默认的查询超时时间</span>
+	 */
+	private final int queryTimeout;
+	/**
+	 * <span class="en-US">Default poolable status of JDBC statement</span>
+	 * <span class="zh-CN">JDBC查询执行器默认的可池化状态</span>
+	 */
+	private final boolean poolable;
+	/**
+	 * <span class="en-US">Escape processing was disabled by the borrower</span>
+	 * <span class="zh-CN">借用者已禁用转义处理</span>
+	 */
+	private boolean escapeDisabled = Boolean.FALSE;
+	/**
+	 * <span class="en-US">Cursor name was configured by the borrower</span>
+	 * <span class="zh-CN">借用者已设置游标名称</span>
+	 */
+	private boolean cursorNamed = Boolean.FALSE;
+	/**
+	 * <span class="en-US">Close on completion was requested by the borrower</span>
+	 * <span class="zh-CN">借用者已请求完成时关闭</span>
+	 */
+	private boolean closeOnCompletion = Boolean.FALSE;
+
+	/**
+	 * <h4 class="en-US">Constructor method for cached plain statement</h4>
+	 * <h4 class="zh-CN">可缓存的普通查询执行器的构造方法</h4>
+	 *
+	 * @param connection  <span class="en-US">Database connection instance object</span>
+	 *                    <span class="zh-CN">数据库连接实例对象</span>
+	 * @param identifyKey <span class="en-US">Identification code</span>
+	 *                    <span class="zh-CN">唯一识别代码</span>
+	 * @param statement   <span class="en-US">JDBC statement instance object</span>
+	 *                    <span class="zh-CN">查询执行器实例对象</span>
+	 * @throws SQLException <span class="en-US">if a database access error occurs</span>
+	 *                      <span class="zh-CN">如果发生数据库访问错误</span>
+	 */
+	public CachedPlainStatement(final NeuronsConnection connection, final StatementKey identifyKey,
+	                            final Statement statement) throws SQLException {
+		super(connection, identifyKey, statement);
+		this.maxRows = statement.getMaxRows();
+		this.maxFieldSize = statement.getMaxFieldSize();
+		this.fetchSize = statement.getFetchSize();
+		this.fetchDirection = statement.getFetchDirection();
+		this.queryTimeout = statement.getQueryTimeout();
+		this.poolable = statement.isPoolable();
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Statement#close()
+	 */
+	@Override
+	public void close() throws SQLException {
+		try {
+			this.reset();
+		} finally {
+			this.returned();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Reset the statement to the state before borrowing</h4>
+	 * <p class="en-US">Close the opened result set, clear the batch and warnings, restore the settings which changed by the borrower</p>
+	 * <h4 class="zh-CN">将查询执行器重置为借出前的状态</h4>
+	 * <p class="zh-CN">关闭已打开的结果集，清除批处理和警告，恢复借用者修改的设置</p>
+	 *
+	 * @throws SQLException <span class="en-US">if a database access error occurs</span>
+	 *                      <span class="zh-CN">如果发生数据库访问错误</span>
+	 */
+	public void reset() throws SQLException {
+		ResultSet resultSet = this.getResultSet();
+		if (resultSet != null) {
+			resultSet.close();
+		}
+		this.clearBatch();
+		this.clearWarnings();
+		this.closeOnCompletion = Boolean.FALSE;
+		//	Large maximum rows was also restored, it shares the same limit with the maximum rows
+		if (this.getLargeMaxRows() != this.maxRows) {
+			this.setMaxRows(this.maxRows);
+		}
+		if (this.getMaxFieldSize() != this.maxFieldSize) {
+			this.setMaxFieldSize(this.maxFieldSize);
+		}
+		if (this.getFetchSize() != this.fetchSize) {
+			this.setFetchSize(this.fetchSize);
+		}
+		if (this.getFetchDirection() != this.fetchDirection) {
+			this.setFetchDirection(this.fetchDirection);
+		}
+		if (this.getQueryTimeout() != this.queryTimeout) {
+			this.setQueryTimeout(this.queryTimeout);
+		}
+		if (this.isPoolable() != this.poolable) {
+			this.setPoolable(this.poolable);
+		}
+		if (this.escapeDisabled) {
+			//	Escape processing was enabled by default
+			this.setEscapeProcessing(Boolean.TRUE);
+		}
+		if (this.cursorNamed) {
+			this.setCursorName(null);
+			this.cursorNamed = Boolean.FALSE;
+		}
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Statement#setEscapeProcessing(boolean)
+	 */
+	@Override
+	public void setEscapeProcessing(boolean enable) throws SQLException {
+		super.setEscapeProcessing(enable);
+		this.escapeDisabled = !enable;
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Statement#setCursorName(String)
+	 */
+	@Override
+	public void setCursorName(String name) throws SQLException {
+		super.setCursorName(name);
+		this.cursorNamed = (name != null);
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Statement#closeOnCompletion()
+	 */
+	@Override
+	public void closeOnCompletion() {
+		//	Cached JDBC statement should not be closed by the driver, the handle was returned when the borrower closes it
+		this.closeOnCompletion = Boolean.TRUE;
+	}
+
+	/**
+	 * (Non-Javadoc)
+	 *
+	 * @see Statement#isCloseOnCompletion()
+	 */
+	@Override
+	public boolean isCloseOnCompletion() {
+		return this.closeOnCompletion;
+	}
+}
@@ -19,6 +19,7 @@ package org.nervousync.database.neurons.statement.impl;
 
 import org.nervousync.database.neurons.connection.NeuronsConnection;
 import org.nervousync.database.neurons.statement.CachedStatement;
+import org.nervousync.database.neurons.statement.StatementKey;
 
 import java.io.InputStream;
 import java.io.Reader;
@@ -47,7 +48,7 @@ public final class CachedPreparedStatement extends CachedStatement implements Pr
 	 * @param statement   <span class="en-US">JDBC prepared statement instance object</span>
 	 *                    <span class="zh-CN">预编译查询执行器实例对象</span>
 	 */
-	public CachedPreparedStatement(final NeuronsConnection connection, final String identifyKey,
+	public CachedPreparedStatement(final NeuronsConnection connection, final StatementKey identifyKey,
 	                               final PreparedStatement statement) {
 		super(connection, identifyKey, statement);
 	}
@@ -59,9 +60,13 @@ public final class CachedPreparedStatement extends CachedStatement implements Pr
 	 */
 	@Override
 	public void close() throws SQLException {
-		this.clearBatch();
-		this.clearParameters();
-		this.clearWarnings();
+		try {
+			this.clearBatch();
+			this.clearParameters();
+			this.clearWarnings();
+		} finally {
+			this.returned();
+		}
 	}
 
 	/**
@@ -71,7 +76,7 @@ public final class CachedPreparedStatement extends CachedStatement implements Pr
 	 */
 	@Override
 	public ResultSet executeQuery() throws SQLException {
-		return this.unwrap(PreparedStatement.class).executeQuery();
+		return this.measure(() -> this.unwrap(PreparedStatement.class).executeQuery());
 	}
 
 	/**
@@ -81,7 +86,7 @@ public final class CachedPreparedStatement extends CachedStatement implements Pr
 	 */
 	@Override
 	public int executeUpdate() throws SQLException {
-		return this.unwrap(PreparedStatement.class).executeUpdate();
+		return this.measure(() -> this.unwrap(PreparedStatement.class).executeUpdate());
 	}
 
 	/**
@@ -292,7 +297,7 @@ public final class CachedPreparedStatement extends CachedStatement implements Pr
 	 */
 	@Override
 	public boolean execute() throws SQLException {
-		return this.unwrap(PreparedStatement.class).execute();
+		return this.measure(() -> this.unwrap(PreparedStatement.class).execute());
 	}
 
 	/**
@@ -362,7 +367,7 @@ public final class CachedPreparedStatement extends CachedStatement implements Pr
 	 */
 	@Override
 	public ResultSetMetaData getMetaData() throws SQLException {
-		return this.unwrap(PreparedStatement.class).getMetaData();
+		return this.resultSetMetaData();
 	}
 
 	/**
@@ -422,7 +427,7 @@ public final class CachedPreparedStatement extends CachedStatement implements Pr
 	 */
 	@Override
 	public ParameterMetaData getParameterMetaData() throws SQLException {
-		return this.unwrap(PreparedStatement.class).getParameterMetaData();
+		return this.parameterMetaData();
 	}
 
 	/**
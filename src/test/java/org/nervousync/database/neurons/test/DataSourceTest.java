@@ -19,16 +19,51 @@ package org.nervousync.database.neurons.test;
 
 import org.apache.logging.log4j.Level;
 import org.junit.jupiter.api.*;
+import org.nervousync.database.neurons.AdmissionController;
+import org.nervousync.database.neurons.CallerGroup;
+import org.nervousync.database.neurons.ConnectionExecutor;
+import org.nervousync.database.neurons.ConnectionBudget;
+import org.nervousync.database.neurons.ConnectionContext;
+import org.nervousync.database.neurons.MaintenanceExecutor;
 import org.nervousync.database.neurons.NeuronsDataSource;
+import org.nervousync.database.neurons.PoolingMode;
+import org.nervousync.database.neurons.Priority;
+import org.nervousync.database.neurons.WorkloadClassifier;
 import org.nervousync.database.neurons.connection.NeuronsConnection;
+import org.nervousync.database.neurons.sharding.LookupShardResolver;
+import org.nervousync.database.neurons.sharding.ShardingDataSource;
+import org.nervousync.database.neurons.statement.CachedResultSetMetaData;
+import org.nervousync.database.neurons.statement.StatementKey;
+import org.nervousync.database.neurons.statement.impl.CachedPlainStatement;
+import org.nervousync.database.neurons.statement.impl.CachedPreparedStatement;
 import org.nervousync.utils.LoggerUtils;
 
 import java.security.SecureRandom;
 import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Properties;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.logging.Logger;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -68,12 +103,717 @@ public final class DataSourceTest {
 		this.multiThreads(15);
 	}
 
-	@Order(100)
+	@Order(40)
+	@Test
+	public void connectionBudget() throws SQLException, InterruptedException {
+		//	Close the idle connections, the budget will be smaller than the maximum connections of data source
+		this.dataSource.maxConnections(2);
+		this.dataSource.maxConnections(10);
+		ConnectionBudget connectionBudget = new ConnectionBudget(4);
+		this.dataSource.connectionBudget(connectionBudget);
+		Assertions.assertEquals(this.dataSource.getActiveCount() + this.dataSource.getPoolCount(),
+				connectionBudget.getUsedCount(this.dataSource));
+		List<Connection> connections = new ArrayList<>();
+		try {
+			Connection connection;
+			while ((connection = this.dataSource.tryGetConnection()) != null) {
+				connections.add(connection);
+			}
+			//	Borrowing was limited by the budget before the maximum connections of data source
+			Assertions.assertEquals(connectionBudget.getMaxConnections(), connectionBudget.getUsedCount());
+			awaitState(() -> this.dataSource.getActiveCount() + this.dataSource.getPoolCount()
+					== connectionBudget.getMaxConnections());
+		} finally {
+			for (Connection connection : connections) {
+				this.dataSource.closeConnection((NeuronsConnection) connection);
+			}
+		}
+		this.dataSource.connectionBudget(null);
+		Assertions.assertEquals(0, connectionBudget.getUsedCount());
+	}
+
+	@Order(45)
+	@Test
+	public void creationBackoff() throws Exception {
+		FailureDriver failureDriver = new FailureDriver();
+		DriverManager.registerDriver(failureDriver);
+		String jdbcUrl = FailureDriver.URL_PREFIX + "backoff";
+		NeuronsDataSource backoffDataSource = new NeuronsDataSource(0, 4, 1, 2, -1,
+				Boolean.FALSE, Boolean.TRUE, Boolean.TRUE, 0, jdbcUrl, new Properties(), "", "");
+		try {
+			//	The failed creation starts the backoff time
+			Assertions.assertThrows(SQLException.class, () -> backoffDataSource.getConnection(Duration.ofMillis(100L)));
+			Assertions.assertEquals(1, failureDriver.attempts(jdbcUrl));
+			List<CompletableFuture<Connection>> borrowers = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				borrowers.add(CompletableFuture.supplyAsync(() -> {
+					try {
+						return backoffDataSource.getConnection(Duration.ofMillis(1500L));
+					} catch (SQLException e) {
+						throw new IllegalStateException(e);
+					}
+				}));
+			}
+			for (CompletableFuture<Connection> borrower : borrowers) {
+				Assertions.assertThrows(ExecutionException.class, () -> borrower.get(5L, TimeUnit.SECONDS));
+			}
+			//	Only one borrower retries in each backoff time, the others wait for the pool
+			Assertions.assertTrue(failureDriver.attempts(jdbcUrl) <= 3);
+			Assertions.assertEquals(1, failureDriver.maxRunning(jdbcUrl));
+			Assertions.assertEquals(0, backoffDataSource.getActiveCount() + backoffDataSource.getPoolCount());
+		} finally {
+			backoffDataSource.close();
+			DriverManager.deregisterDriver(failureDriver);
+		}
+	}
+
+	@Order(50)
+	@Test
+	public void resize() throws SQLException {
+		Connection connection = this.dataSource.getConnection();
+		this.dataSource.maxConnections(1);
+		Assertions.assertEquals(0, this.dataSource.getPoolCount());
+		this.dataSource.closeConnection((NeuronsConnection) connection);
+		Assertions.assertEquals(0, this.dataSource.getActiveCount() + this.dataSource.getPoolCount());
+		this.dataSource.maxConnections(10);
+		this.dataSource.minConnections(2);
+	}
+
+	@Order(60)
+	@Test
+	public void suspend() throws InterruptedException {
+		this.dataSource.suspend();
+		Assertions.assertTrue(this.dataSource.isSuspended());
+		Assertions.assertEquals(0, this.dataSource.getPoolCount());
+		ObtainConnectionThread obtainThread = new ObtainConnectionThread();
+		obtainThread.start();
+		awaitState(() -> this.dataSource.getWaitCount() == 1);
+		this.dataSource.resume();
+		obtainThread.join();
+		Assertions.assertFalse(this.dataSource.isSuspended());
+		Assertions.assertEquals(0, this.dataSource.getWaitCount());
+	}
+
+	@Order(70)
+	@Test
+	public void deadline() throws SQLException {
+		Connection connection = this.dataSource.tryGetConnection();
+		Assertions.assertNotNull(connection);
+		this.dataSource.closeConnection((NeuronsConnection) connection);
+		connection = this.dataSource.getConnection(Duration.ofMillis(1500L));
+		try (Statement statement = connection.createStatement()) {
+			Assertions.assertEquals(2, statement.getQueryTimeout());
+		}
+		this.dataSource.closeConnection((NeuronsConnection) connection);
+		//	Logical connection binds the physical connection before the same deadline
+		this.dataSource.poolingMode(PoolingMode.TRANSACTION);
+		try (Connection logicalConnection = this.dataSource.getConnection(Duration.ofMillis(1500L))) {
+			Assertions.assertFalse(logicalConnection instanceof NeuronsConnection);
+			try (Statement statement = logicalConnection.createStatement()) {
+				Assertions.assertEquals(2, statement.getQueryTimeout());
+			}
+		} finally {
+			this.dataSource.poolingMode(PoolingMode.SESSION);
+		}
+	}
+
+	@Order(80)
+	@Test
+	public void admission() throws SQLException, InterruptedException {
+		this.dataSource.admissionController(new AdmissionController(1));
+		List<Connection> connections = new ArrayList<>();
+		while (connections.size() < this.dataSource.getConcurrencyLimit()) {
+			connections.add(this.dataSource.getConnection());
+		}
+		ObtainConnectionThread obtainThread = new ObtainConnectionThread();
+		obtainThread.start();
+		awaitState(() -> this.dataSource.getWaitCount() == 1);
+		Assertions.assertThrows(SQLTransientConnectionException.class, () -> this.dataSource.getConnection());
+		Assertions.assertEquals(1L, this.dataSource.getRejectedCount());
+		for (Connection connection : connections) {
+			this.dataSource.closeConnection((NeuronsConnection) connection);
+		}
+		obtainThread.join();
+		this.dataSource.admissionController(null);
+	}
+
+	@Order(90)
+	@Test
+	public void priority() throws SQLException {
+		this.dataSource.reservedConnections(this.dataSource.getConcurrencyLimit());
+		Assertions.assertNull(this.dataSource.tryGetConnection());
+		Connection connection = this.dataSource.getConnection(Priority.CRITICAL);
+		Assertions.assertNotNull(connection);
+		this.dataSource.closeConnection((NeuronsConnection) connection);
+		this.dataSource.reservedConnections(0);
+	}
+
+	@Order(95)
+	@Test
+	public void callerGroup() throws SQLException {
+		CallerGroup callerGroup = this.dataSource.callerGroup("report", 1, 0);
+		Connection connection = this.dataSource.getConnection(callerGroup, Priority.NORMAL);
+		Assertions.assertEquals(1, callerGroup.getBorrowedCount());
+		Assertions.assertThrows(SQLTimeoutException.class, () ->
+				this.dataSource.getConnectionBefore(callerGroup, Priority.NORMAL, System.nanoTime() + 500_000_000L));
+		this.dataSource.closeConnection((NeuronsConnection) connection);
+		Assertions.assertEquals(0, callerGroup.getBorrowedCount());
+		Assertions.assertEquals(1L, callerGroup.getFailedTotal());
+		//	Logical connection binds the physical connection within the caller group
+		this.dataSource.poolingMode(PoolingMode.TRANSACTION);
+		try (Connection logicalConnection = this.dataSource.getConnection(callerGroup, Priority.NORMAL)) {
+			Assertions.assertEquals(0, callerGroup.getBorrowedCount());
+			try (Statement statement = logicalConnection.createStatement()) {
+				Assertions.assertTrue(statement.execute("VALUES 1"));
+				Assertions.assertEquals(1, callerGroup.getBorrowedCount());
+			}
+			Assertions.assertEquals(0, callerGroup.getBorrowedCount());
+		} finally {
+			this.dataSource.poolingMode(PoolingMode.SESSION);
+		}
+		this.dataSource.removeCallerGroup("report");
+		//	Guarantees of all groups could not exceed the maximum connections of data source
+		this.dataSource.callerGroup("online", 0, 6);
+		Assertions.assertThrows(IllegalArgumentException.class, () -> this.dataSource.callerGroup("batch", 0, 6));
+		Assertions.assertNull(this.dataSource.callerGroup("batch"));
+		Assertions.assertEquals(8, this.dataSource.callerGroup("online", 0, 8).getGuaranteedConnections());
+		this.dataSource.removeCallerGroup("online");
+	}
+
+	@Order(97)
+	@Test
+	public void workload() throws SQLException {
+		WorkloadClassifier workloadClassifier = new WorkloadClassifier(60000L, 1);
+		this.dataSource.workloadClassifier(workloadClassifier);
+		Connection connection = this.dataSource.getConnection();
+		try (PreparedStatement statement = connection.prepareStatement("VALUES 1");
+		     ResultSet resultSet = statement.executeQuery()) {
+			Assertions.assertTrue(resultSet.next());
+		}
+		Assertions.assertEquals(1, workloadClassifier.getStatementsCount());
+		Assertions.assertEquals(0, this.dataSource.getLaneCount());
+		this.dataSource.closeConnection((NeuronsConnection) connection);
+		this.dataSource.workloadClassifier(null);
+	}
+
+	@Order(98)
+	@Test
+	public void executor() throws Exception {
+		try (ConnectionExecutor connectionExecutor = this.dataSource.connectionExecutor(2)) {
+			Assertions.assertEquals(2, this.dataSource.getActiveCount());
+			List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+			for (int i = 0; i < 10; i++) {
+				futures.add(connectionExecutor.submit(connection -> {
+					try (PreparedStatement statement = connection.prepareStatement("VALUES 1");
+					     ResultSet resultSet = statement.executeQuery()) {
+						return resultSet.next();
+					} catch (SQLException e) {
+						throw new IllegalStateException(e);
+					}
+				}));
+			}
+			for (CompletableFuture<Boolean> future : futures) {
+				Assertions.assertTrue(future.get(5L, TimeUnit.SECONDS));
+			}
+			//	Closing the handle should not return the owned connection to the pool
+			for (int i = 0; i < 2; i++) {
+				connectionExecutor.submit(connection -> {
+					try (Connection handle = connection) {
+						return handle.isClosed();
+					} catch (SQLException e) {
+						throw new IllegalStateException(e);
+					}
+				}).get(5L, TimeUnit.SECONDS);
+			}
+			Assertions.assertEquals(2, this.dataSource.getActiveCount());
+			//	Statements report the handle, closing it should not return the owned connection either
+			PreparedStatement leftStatement = connectionExecutor.submit(connection -> {
+				try {
+					PreparedStatement statement = connection.prepareStatement("VALUES 1");
+					Assertions.assertSame(connection, statement.getConnection());
+					statement.getConnection().close();
+					return statement;
+				} catch (SQLException e) {
+					throw new IllegalStateException(e);
+				}
+			}).get(5L, TimeUnit.SECONDS);
+			//	Statement left open by the unit of work was returned to the statement cache
+			Assertions.assertEquals(0, leftStatement.unwrap(CachedPreparedStatement.class).getUsingCount());
+			Assertions.assertEquals(2, this.dataSource.getActiveCount());
+			CompletableFuture<Boolean> failed = connectionExecutor.submit(connection -> {
+				throw new IllegalStateException("Unit of work failed");
+			});
+			Assertions.assertThrows(ExecutionException.class, () -> failed.get(5L, TimeUnit.SECONDS));
+			Assertions.assertFalse(connectionExecutor.submit(connection -> {
+				try {
+					return connection.isClosed();
+				} catch (SQLException e) {
+					throw new IllegalStateException(e);
+				}
+			}).get(5L, TimeUnit.SECONDS));
+		}
+	}
+
+	@Order(110)
+	@Test
+	public void transactionPooling() throws SQLException {
+		this.dataSource.poolingMode(PoolingMode.TRANSACTION);
+		int activeCount = this.dataSource.getActiveCount();
+		try (Connection connection = this.dataSource.getConnection()) {
+			Assertions.assertEquals(activeCount, this.dataSource.getActiveCount());
+			try (PreparedStatement statement = connection.prepareStatement("VALUES 1");
+			     ResultSet resultSet = statement.executeQuery()) {
+				Assertions.assertTrue(resultSet.next());
+				Assertions.assertEquals(activeCount + 1, this.dataSource.getActiveCount());
+			}
+			Assertions.assertEquals(activeCount, this.dataSource.getActiveCount());
+			connection.setAutoCommit(Boolean.FALSE);
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("VALUES 1");
+			}
+			Assertions.assertEquals(activeCount + 1, this.dataSource.getActiveCount());
+			connection.commit();
+			Assertions.assertEquals(activeCount, this.dataSource.getActiveCount());
+			connection.setAutoCommit(Boolean.TRUE);
+			Assertions.assertNotNull(connection.getCatalog());
+			connection.getTransactionIsolation();
+			Assertions.assertNotNull(connection.getMetaData().getDatabaseProductName());
+			Assertions.assertEquals(activeCount, this.dataSource.getActiveCount());
+			try (ResultSet resultSet = connection.getMetaData().getTableTypes()) {
+				Assertions.assertEquals(activeCount + 1, this.dataSource.getActiveCount());
+				Assertions.assertTrue(resultSet.next());
+			}
+			Assertions.assertEquals(activeCount, this.dataSource.getActiveCount());
+			connection.setHoldability(ResultSet.CLOSE_CURSORS_AT_COMMIT);
+			NeuronsConnection physicalConnection;
+			try (Statement statement = connection.createStatement()) {
+				physicalConnection = statement.getConnection().unwrap(NeuronsConnection.class);
+				Assertions.assertEquals(ResultSet.CLOSE_CURSORS_AT_COMMIT, physicalConnection.getHoldability());
+			}
+			Assertions.assertEquals(activeCount, this.dataSource.getActiveCount());
+			Assertions.assertEquals(ResultSet.HOLD_CURSORS_OVER_COMMIT, physicalConnection.getHoldability());
+		} finally {
+			this.dataSource.poolingMode(PoolingMode.SESSION);
+		}
+	}
+
+	@Order(120)
+	@Test
+	public void lazyPooling() throws SQLException {
+		this.dataSource.poolingMode(PoolingMode.LAZY);
+		int activeCount = this.dataSource.getActiveCount();
+		try (Connection connection = this.dataSource.getConnection()) {
+			connection.setAutoCommit(Boolean.FALSE);
+			//	Reading the defaults should not bind and pin the physical connection
+			String catalog = connection.getCatalog();
+			Assertions.assertEquals(catalog, connection.getCatalog());
+			connection.getHoldability();
+			Assertions.assertEquals(activeCount, this.dataSource.getActiveCount());
+			connection.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+			Assertions.assertEquals(activeCount, this.dataSource.getActiveCount());
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("VALUES 1");
+			}
+			connection.commit();
+			Assertions.assertEquals(activeCount + 1, this.dataSource.getActiveCount());
+			NeuronsConnection physicalConnection = connection.unwrap(NeuronsConnection.class);
+			Assertions.assertFalse(physicalConnection.getAutoCommit());
+			Assertions.assertEquals(Connection.TRANSACTION_READ_COMMITTED, physicalConnection.getTransactionIsolation());
+		} finally {
+			this.dataSource.poolingMode(PoolingMode.SESSION);
+		}
+		Assertions.assertEquals(activeCount, this.dataSource.getActiveCount());
+	}
+
+	@Order(125)
+	@Test
+	public void softEviction() throws SQLException, InterruptedException {
+		NeuronsDataSource evictDataSource = new NeuronsDataSource(2, 4, 1, 2, -1,
+				Boolean.FALSE, Boolean.TRUE, Boolean.TRUE, 3,
+				"jdbc:derby:D:/nervousync;create=true", new Properties(), "", "");
+		try {
+			awaitState(() -> evictDataSource.getPoolCount() == 2);
+			NeuronsConnection connection = (NeuronsConnection) evictDataSource.getConnection();
+			evictDataSource.softEvictConnections();
+			//	Borrowed connection was retired but still usable until it was returned
+			Assertions.assertTrue(connection.isRetired());
+			Assertions.assertFalse(connection.isClosed());
+			try (Statement statement = connection.createStatement()) {
+				Assertions.assertTrue(statement.execute("VALUES 1"));
+			}
+			evictDataSource.closeConnection(connection);
+			Assertions.assertTrue(connection.isClosed());
+			Assertions.assertEquals(0, evictDataSource.getActiveCount());
+
+			awaitState(() -> evictDataSource.getPoolCount() == 2);
+			List<NeuronsConnection> idleConnections = new ArrayList<>();
+			for (int i = 0; i < 2; i++) {
+				idleConnections.add((NeuronsConnection) evictDataSource.getConnection());
+			}
+			for (NeuronsConnection idleConnection : idleConnections) {
+				evictDataSource.closeConnection(idleConnection);
+			}
+			//	Idle connections were replaced one by one, the pool was refilled to the minimum connections
+			evictDataSource.drainAndRefill();
+			awaitState(() -> idleConnections.stream().allMatch(DataSourceTest::closed));
+			awaitState(() -> evictDataSource.getPoolCount() == 2);
+			for (int i = 0; i < 2; i++) {
+				NeuronsConnection refilled = (NeuronsConnection) evictDataSource.getConnection();
+				Assertions.assertFalse(refilled.isRetired());
+				Assertions.assertFalse(idleConnections.contains(refilled));
+				evictDataSource.closeConnection(refilled);
+			}
+		} finally {
+			evictDataSource.close();
+		}
+	}
+
+	@Order(130)
+	@Test
+	public void context() throws SQLException {
+		int activeCount = this.dataSource.getActiveCount();
+		try (ConnectionContext connectionContext = this.dataSource.openContext()) {
+			Connection connection = this.dataSource.getConnection();
+			try (ConnectionContext nestedContext = this.dataSource.openContext();
+			     Connection nestedConnection = this.dataSource.getConnection()) {
+				Assertions.assertSame(connectionContext, nestedContext);
+				Assertions.assertSame(connection.unwrap(NeuronsConnection.class),
+						nestedConnection.unwrap(NeuronsConnection.class));
+				Assertions.assertEquals(2, connectionContext.getReferenceCount());
+				try (Statement statement = nestedConnection.createStatement()) {
+					Assertions.assertSame(nestedConnection, statement.getConnection());
+					statement.getConnection().close();
+				}
+				Assertions.assertEquals(1, connectionContext.getReferenceCount());
+			}
+			Assertions.assertEquals(1, connectionContext.getReferenceCount());
+			connection.close();
+			Assertions.assertTrue(connectionContext.isBound());
+			Assertions.assertEquals(activeCount + 1, this.dataSource.getActiveCount());
+		}
+		Assertions.assertEquals(activeCount, this.dataSource.getActiveCount());
+	}
+
+	@Order(140)
+	@Test
+	public void statementRelease() throws SQLException, InterruptedException {
+		int statementCount = this.dataSource.getStatementCount();
+		Connection connection = this.dataSource.getConnection();
+		PreparedStatement statement = connection.prepareStatement("VALUES 1");
+		try (ResultSet resultSet = statement.executeQuery()) {
+			Assertions.assertTrue(resultSet.next());
+		}
+		Assertions.assertEquals(statementCount + 1, this.dataSource.getStatementCount());
+		statement.close();
+		long endTime = System.currentTimeMillis() + 5000L;
+		while (this.dataSource.getStatementCount() > statementCount && System.currentTimeMillis() < endTime) {
+			Thread.sleep(50L);
+		}
+		Assertions.assertEquals(statementCount, this.dataSource.getStatementCount());
+		this.dataSource.closeConnection((NeuronsConnection) connection);
+	}
+
+	@Order(150)
+	@Test
+	public void metaDataCache() throws SQLException {
+		this.dataSource.clearMetaDataCache();
+		Connection connection = this.dataSource.getConnection();
+		Connection otherConnection = this.dataSource.getConnection();
+		try (PreparedStatement statement = connection.prepareStatement("VALUES CAST(? AS INTEGER)");
+		     PreparedStatement otherStatement = otherConnection.prepareStatement("VALUES CAST(? AS INTEGER)")) {
+			ResultSetMetaData metaData = statement.getMetaData();
+			Assertions.assertSame(metaData, otherStatement.getMetaData());
+			Assertions.assertEquals(1, metaData.getColumnCount());
+			CachedResultSetMetaData cachedMetaData = metaData.unwrap(CachedResultSetMetaData.class);
+			Assertions.assertEquals(1, cachedMetaData.columnIndex(metaData.getColumnLabel(1).toLowerCase()));
+			Assertions.assertEquals(1, otherStatement.getParameterMetaData().getParameterCount());
+			Assertions.assertSame(statement.getParameterMetaData(), otherStatement.getParameterMetaData());
+		} finally {
+			this.dataSource.closeConnection((NeuronsConnection) connection);
+			this.dataSource.closeConnection((NeuronsConnection) otherConnection);
+		}
+	}
+
+	@Order(160)
+	@Test
+	public void plainStatement() throws SQLException, InterruptedException {
+		this.dataSource.plainStatementCaching(Boolean.TRUE);
+		int statementCount = this.dataSource.getStatementCount();
+		Connection connection = this.dataSource.getConnection();
+		try {
+			Statement statement = connection.createStatement();
+			Assertions.assertTrue(statement.isWrapperFor(CachedPlainStatement.class));
+			statement.setMaxRows(1);
+			try (ResultSet resultSet = statement.executeQuery("VALUES 1")) {
+				Assertions.assertTrue(resultSet.next());
+			}
+			Assertions.assertEquals(statementCount + 1, this.dataSource.getStatementCount());
+			//	Statement cache was disabled, the JDBC statement will be released when the borrower closes it
+			statement.close();
+			long endTime = System.currentTimeMillis() + 5000L;
+			while (this.dataSource.getStatementCount() > statementCount && System.currentTimeMillis() < endTime) {
+				Thread.sleep(50L);
+			}
+			Assertions.assertEquals(statementCount, this.dataSource.getStatementCount());
+		} finally {
+			this.dataSource.plainStatementCaching(Boolean.FALSE);
+			this.dataSource.closeConnection((NeuronsConnection) connection);
+		}
+	}
+
+	@Order(170)
+	@Test
+	public void plainStatementReuse() throws SQLException {
+		NeuronsDataSource cachedDataSource = new NeuronsDataSource(1, 2, 1, 2, 16,
+				Boolean.FALSE, Boolean.TRUE, Boolean.TRUE, 3,
+				"jdbc:derby:D:/nervousync;create=true", new Properties(), "", "");
+		cachedDataSource.plainStatementCaching(Boolean.TRUE);
+		Connection connection = cachedDataSource.getConnection();
+		try {
+			Statement statement = connection.createStatement();
+			statement.setMaxRows(1);
+			try (ResultSet resultSet = statement.executeQuery("VALUES 1, 2")) {
+				Assertions.assertTrue(resultSet.next());
+				//	Nested statement should not share the JDBC statement of the opened handle
+				Statement nestedStatement = connection.createStatement();
+				Assertions.assertNotSame(statement.unwrap(Statement.class), nestedStatement.unwrap(Statement.class));
+				try (ResultSet nestedResultSet = nestedStatement.executeQuery("VALUES 3")) {
+					Assertions.assertTrue(nestedResultSet.next());
+				}
+				nestedStatement.close();
+				Assertions.assertFalse(resultSet.isClosed());
+				Assertions.assertEquals(1, statement.getMaxRows());
+				Assertions.assertFalse(resultSet.next());
+			}
+			statement.close();
+			Statement reusedStatement = connection.createStatement();
+			Assertions.assertSame(statement, reusedStatement);
+			Assertions.assertEquals(0, reusedStatement.getMaxRows());
+			reusedStatement.closeOnCompletion();
+			try (ResultSet resultSet = reusedStatement.executeQuery("VALUES 1")) {
+				Assertions.assertTrue(resultSet.next());
+			}
+			Assertions.assertFalse(reusedStatement.isClosed());
+			reusedStatement.close();
+			Statement cachedStatement = connection.createStatement();
+			Assertions.assertSame(statement, cachedStatement);
+			Assertions.assertFalse(cachedStatement.isCloseOnCompletion());
+			cachedStatement.close();
+		} finally {
+			cachedDataSource.closeConnection((NeuronsConnection) connection);
+			cachedDataSource.close();
+		}
+	}
+
+	@Order(175)
+	@Test
+	public void cacheResize() throws SQLException, InterruptedException {
+		NeuronsDataSource cachedDataSource = new NeuronsDataSource(1, 2, 1, 2, 16,
+				Boolean.FALSE, Boolean.TRUE, Boolean.TRUE, 3,
+				"jdbc:derby:D:/nervousync;create=true", new Properties(), "", "");
+		try {
+			Connection connection = cachedDataSource.getConnection();
+			for (int i = 0; i < 4; i++) {
+				PreparedStatement preparedStatement = connection.prepareStatement("VALUES " + i);
+				preparedStatement.close();
+			}
+			cachedDataSource.closeConnection((NeuronsConnection) connection);
+			Assertions.assertTrue(cachedDataSource.getStatementCount() >= 4);
+			Assertions.assertTrue(cachedDataSource.getCacheWeight() > 0L);
+			//	Memory budget was exceeded, the maintenance shrinks the statement cache of idle connection
+			cachedDataSource.cacheMemorySize(1L);
+			awaitState(() -> cachedDataSource.getCacheWeight() == 0L);
+			Assertions.assertTrue(cachedDataSource.getEvictedCount() >= 4L);
+			awaitState(() -> cachedDataSource.getStatementCount() == 0);
+		} finally {
+			cachedDataSource.close();
+		}
+	}
+
+	@Order(180)
+	@Test
+	public void workloadAging() {
+		WorkloadClassifier workloadClassifier = new WorkloadClassifier(1L, 1, 2);
+		this.dataSource.workloadClassifier(workloadClassifier);
+		try {
+			StatementKey hotKey = new StatementKey(StatementKey.KeyType.SQL_ONLY, "VALUES 1");
+			StatementKey rareKey = new StatementKey(StatementKey.KeyType.SQL_ONLY, "VALUES 2");
+			StatementKey newKey = new StatementKey(StatementKey.KeyType.SQL_ONLY, "VALUES 3");
+			this.dataSource.statementExecuted(hotKey, TimeUnit.MILLISECONDS.toNanos(5L));
+			this.dataSource.statementExecuted(rareKey, TimeUnit.MILLISECONDS.toNanos(5L));
+			this.dataSource.statementExecuted(newKey, TimeUnit.MILLISECONDS.toNanos(5L));
+			Assertions.assertEquals(-1L, workloadClassifier.getExecutionTime(newKey));
+			//	Aging was triggered by the 20th record, the rarely executed statement was removed
+			for (int i = 0; i < 17; i++) {
+				this.dataSource.statementExecuted(hotKey, TimeUnit.MILLISECONDS.toNanos(5L));
+			}
+			Assertions.assertEquals(1, workloadClassifier.getStatementsCount());
+			Assertions.assertEquals(-1L, workloadClassifier.getExecutionTime(rareKey));
+			this.dataSource.statementExecuted(newKey, TimeUnit.MILLISECONDS.toNanos(5L));
+			Assertions.assertTrue(workloadClassifier.isLongRunning(newKey));
+			Assertions.assertTrue(workloadClassifier.isLongRunning(hotKey));
+		} finally {
+			this.dataSource.workloadClassifier(null);
+		}
+	}
+
+	@Order(190)
+	@Test
+	public void workloadLane() throws Exception {
+		NeuronsDataSource laneDataSource = new NeuronsDataSource(1, 1, 1, 2, -1,
+				Boolean.FALSE, Boolean.TRUE, Boolean.TRUE, 3,
+				"jdbc:derby:D:/nervousync;create=true", new Properties(), "", "");
+		WorkloadClassifier workloadClassifier = new WorkloadClassifier(1L, 1);
+		laneDataSource.workloadClassifier(workloadClassifier);
+		StatementKey longKey = new StatementKey(StatementKey.KeyType.SQL_ONLY, "VALUES 1");
+		laneDataSource.statementExecuted(longKey, TimeUnit.MILLISECONDS.toNanos(10L));
+		List<Connection> connections = new ArrayList<>();
+		try {
+			NeuronsConnection connection = (NeuronsConnection) laneDataSource.getConnection();
+			connections.add(connection);
+			//	Hand-off: the laned connection releases the capacity of main pool to the waiting borrower
+			CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync(() -> {
+				try {
+					return laneDataSource.getConnection();
+				} catch (SQLException e) {
+					throw new IllegalStateException(e);
+				}
+			});
+			awaitState(() -> laneDataSource.getWaitCount() == 1);
+			Assertions.assertFalse(waiting.isDone());
+			laneDataSource.statementExecuting(connection, longKey, -1L);
+			Assertions.assertEquals(1, laneDataSource.getLaneCount());
+			NeuronsConnection handOff = (NeuronsConnection) waiting.get(5L, TimeUnit.SECONDS);
+			connections.add(handOff);
+
+			//	Wait: the lane was full, the second long-running statement waits until the laned connection returned
+			CompletableFuture<Void> laneWaiting = new CompletableFuture<>();
+			Thread laneThread = new Thread(() -> {
+				try {
+					laneDataSource.statementExecuting(handOff, longKey, -1L);
+					laneWaiting.complete(null);
+				} catch (SQLException e) {
+					laneWaiting.completeExceptionally(e);
+				}
+			});
+			laneThread.start();
+			awaitState(() -> laneThread.getState() == Thread.State.TIMED_WAITING);
+			Assertions.assertFalse(laneWaiting.isDone());
+			connections.remove(connection);
+			laneDataSource.closeConnection(connection);
+			laneWaiting.get(5L, TimeUnit.SECONDS);
+			Assertions.assertEquals(1, laneDataSource.getLaneCount());
+			Assertions.assertEquals(2L, workloadClassifier.getLaneTotal());
+
+			//	Timeout: the lane was still full before the deadline
+			NeuronsConnection timeoutConnection = (NeuronsConnection) laneDataSource.getConnection();
+			connections.add(timeoutConnection);
+			Assertions.assertThrows(SQLTimeoutException.class, () -> laneDataSource.statementExecuting(
+					timeoutConnection, longKey, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100L)));
+			//	Waiting without deadline was limited by the connect timeout
+			Assertions.assertThrows(SQLTimeoutException.class, () -> laneDataSource.statementExecuting(
+					timeoutConnection, longKey, -1L));
+			Assertions.assertEquals(1, laneDataSource.getLaneCount());
+
+			//	Plain statements share one identity, they should not be classified by the ad-hoc queries
+			StatementKey plainKey = new StatementKey(StatementKey.KeyType.STATEMENT_ONLY, "");
+			laneDataSource.statementExecuted(plainKey, TimeUnit.MILLISECONDS.toNanos(10L));
+			Assertions.assertFalse(workloadClassifier.isLongRunning(plainKey));
+		} finally {
+			for (Connection connection : connections) {
+				laneDataSource.closeConnection((NeuronsConnection) connection);
+			}
+			laneDataSource.close();
+		}
+	}
+
+	@Order(195)
+	@Test
+	public void sharedMaintenance() throws Exception {
+		FailureDriver failureDriver = new FailureDriver();
+		DriverManager.registerDriver(failureDriver);
+		List<NeuronsDataSource> dataSources = new ArrayList<>();
+		try {
+			for (int i = 0; i < 2; i++) {
+				dataSources.add(new NeuronsDataSource(4, 8, 1, 2, -1,
+						Boolean.FALSE, Boolean.TRUE, Boolean.TRUE, 1,
+						FailureDriver.URL_PREFIX + i, new Properties(), "", ""));
+			}
+			//	Wait until the retries of both data sources were exhausted
+			Thread.sleep(4000L);
+			int[] attempts = new int[2];
+			for (int i = 0; i < 2; i++) {
+				attempts[i] = failureDriver.attempts(FailureDriver.URL_PREFIX + i);
+				Assertions.assertTrue(attempts[i] > 0);
+			}
+			Thread.sleep(3000L);
+			int parallelism = MaintenanceExecutor.shared().poolParallelism();
+			for (int i = 0; i < 2; i++) {
+				String jdbcUrl = FailureDriver.URL_PREFIX + i;
+				Assertions.assertTrue(failureDriver.maxRunning(jdbcUrl) <= parallelism);
+				//	Retry count was not reset by the maintenance, only one creation was triggered in each period
+				int periodAttempts = failureDriver.attempts(jdbcUrl) - attempts[i];
+				Assertions.assertTrue(periodAttempts > 0);
+				Assertions.assertTrue(periodAttempts <= 4);
+			}
+		} finally {
+			dataSources.forEach(NeuronsDataSource::close);
+			DriverManager.deregisterDriver(failureDriver);
+		}
+	}
+
+	@Order(197)
+	@Test
+	public void scatterFailure() throws InterruptedException {
+		Map<String, NeuronsDataSource> shards = new LinkedHashMap<>();
+		for (int i = 0; i < 3; i++) {
+			shards.put("shard" + i, new NeuronsDataSource(1, 2, 1, 2, -1,
+					Boolean.FALSE, Boolean.TRUE, Boolean.TRUE, 3,
+					"jdbc:derby:D:/nervousync;create=true", new Properties(), "", ""));
+		}
+		//	Closed shard throws exception when obtains connection
+		shards.get("shard1").close();
+		ShardingDataSource<String> shardingDataSource = new ShardingDataSource<>(shards,
+				new LookupShardResolver<>(Map.of("key0", "shard0", "key1", "shard1", "key2", "shard2"), "shard0"));
+		try {
+			Assertions.assertThrows(SQLException.class,
+					() -> shardingDataSource.scatter(List.of("key0", "key1", "key2")));
+			//	Connections borrowed from the other shards were released
+			for (NeuronsDataSource shard : shards.values()) {
+				awaitState(() -> shard.getActiveCount() == 0);
+			}
+			Assertions.assertEquals(1L, shardingDataSource.errorCount("shard1"));
+		} finally {
+			shardingDataSource.close();
+		}
+		//	Shard data sources were owned by the caller
+		Assertions.assertFalse(shards.get("shard0").isClosed());
+		Assertions.assertFalse(shards.get("shard2").isClosed());
+		shards.values().forEach(NeuronsDataSource::close);
+	}
+
+	@Order(200)
 	@Test
 	public void close() {
 		this.dataSource.close();
 	}
 
+	private static void awaitState(final BooleanSupplier condition) throws InterruptedException {
+		long endTime = System.currentTimeMillis() + 5000L;
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < endTime) {
+			Thread.sleep(10L);
+		}
+		Assertions.assertTrue(condition.getAsBoolean());
+	}
+
+	private static boolean closed(final Connection connection) {
+		try {
+			return connection.isClosed();
+		} catch (SQLException e) {
+			return Boolean.TRUE;
+		}
+	}
+
 	private void multiThreads(int threadCount) {
 		if (threadCount < 0) {
 			return;
@@ -90,6 +830,72 @@ public final class DataSourceTest {
 		}
 	}
 
+	private static final class FailureDriver implements Driver {
+
+		private static final String URL_PREFIX = "jdbc:neurons-failure:";
+
+		private final Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+		private final Map<String, AtomicInteger> running = new ConcurrentHashMap<>();
+		private final Map<String, AtomicInteger> maxRunning = new ConcurrentHashMap<>();
+
+		int attempts(final String url) {
+			return this.attempts.computeIfAbsent(url, key -> new AtomicInteger(0)).get();
+		}
+
+		int maxRunning(final String url) {
+			return this.maxRunning.computeIfAbsent(url, key -> new AtomicInteger(0)).get();
+		}
+
+		@Override
+		public Connection connect(final String url, final Properties info) throws SQLException {
+			if (!this.acceptsURL(url)) {
+				return null;
+			}
+			this.attempts.computeIfAbsent(url, key -> new AtomicInteger(0)).incrementAndGet();
+			AtomicInteger runningCount = this.running.computeIfAbsent(url, key -> new AtomicInteger(0));
+			int current = runningCount.incrementAndGet();
+			this.maxRunning.computeIfAbsent(url, key -> new AtomicInteger(0)).accumulateAndGet(current, Math::max);
+			try {
+				Thread.sleep(200L);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				runningCount.decrementAndGet();
+			}
+			throw new SQLException("Database unavailable! ");
+		}
+
+		@Override
+		public boolean acceptsURL(final String url) {
+			return url != null && url.startsWith(URL_PREFIX);
+		}
+
+		@Override
+		public DriverPropertyInfo[] getPropertyInfo(final String url, final Properties info) {
+			return new DriverPropertyInfo[0];
+		}
+
+		@Override
+		public int getMajorVersion() {
+			return 1;
+		}
+
+		@Override
+		public int getMinorVersion() {
+			return 0;
+		}
+
+		@Override
+		public boolean jdbcCompliant() {
+			return Boolean.FALSE;
+		}
+
+		@Override
+		public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+			throw new SQLFeatureNotSupportedException();
+		}
+	}
+
 	private final class ObtainConnectionThread extends Thread {
 
 		public ObtainConnectionThread() {
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.neurons.test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.nervousync.database.neurons.HeapPressureMonitor;
+
+public final class HeapPressureMonitorTest {
+
+	@Test
+	public void pressureFree() {
+		Assertions.assertEquals(1.0d, HeapPressureMonitor.cacheRatio(0.0d));
+		Assertions.assertEquals(1.0d, HeapPressureMonitor.cacheRatio(0.5d));
+		Assertions.assertEquals(1.0d, HeapPressureMonitor.cacheRatio(0.70d));
+	}
+
+	@Test
+	public void pressureLinear() {
+		Assertions.assertEquals(0.5d, HeapPressureMonitor.cacheRatio(0.825d), 1.0e-9d);
+		Assertions.assertTrue(HeapPressureMonitor.cacheRatio(0.75d) > HeapPressureMonitor.cacheRatio(0.90d));
+	}
+
+	@Test
+	public void pressureCritical() {
+		Assertions.assertEquals(0.0d, HeapPressureMonitor.cacheRatio(0.95d), 1.0e-9d);
+		Assertions.assertEquals(0.0d, HeapPressureMonitor.cacheRatio(0.99d));
+		Assertions.assertEquals(0.0d, HeapPressureMonitor.cacheRatio(1.0d));
+	}
+
+	@Test
+	public void sharedRatio() {
+		double cacheRatio = HeapPressureMonitor.shared().cacheRatio();
+		Assertions.assertTrue(cacheRatio >= 0.0d && cacheRatio <= 1.0d);
+	}
+}
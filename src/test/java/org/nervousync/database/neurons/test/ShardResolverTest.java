@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.neurons.test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.nervousync.database.neurons.sharding.HashShardResolver;
+import org.nervousync.database.neurons.sharding.LookupShardResolver;
+import org.nervousync.database.neurons.sharding.RangeShardResolver;
+
+import java.util.List;
+import java.util.Map;
+
+public final class ShardResolverTest {
+
+	@Test
+	public void hashResolver() {
+		HashShardResolver<Long> shardResolver = new HashShardResolver<>(List.of("shard0", "shard1", "shard2"));
+		Assertions.assertNotNull(shardResolver.resolve(-17L));
+		Assertions.assertEquals(shardResolver.resolve(1024L), shardResolver.resolve(1024L));
+		Assertions.assertNull(shardResolver.resolve(null));
+	}
+
+	@Test
+	public void rangeResolver() {
+		RangeShardResolver<Integer> shardResolver =
+				new RangeShardResolver<>(Map.of(0, "shard0", 1000, "shard1", 2000, "shard2"));
+		Assertions.assertEquals("shard0", shardResolver.resolve(999));
+		Assertions.assertEquals("shard1", shardResolver.resolve(1000));
+		Assertions.assertEquals("shard2", shardResolver.resolve(Integer.MAX_VALUE));
+		Assertions.assertNull(shardResolver.resolve(-1));
+	}
+
+	@Test
+	public void lookupResolver() {
+		LookupShardResolver<String> shardResolver = new LookupShardResolver<>(Map.of("customer", "shard1"), "shard0");
+		Assertions.assertEquals("shard1", shardResolver.resolve("customer"));
+		Assertions.assertEquals("shard0", shardResolver.resolve("unknown"));
+		shardResolver.update("unknown", "shard2");
+		Assertions.assertEquals("shard2", shardResolver.resolve("unknown"));
+	}
+}
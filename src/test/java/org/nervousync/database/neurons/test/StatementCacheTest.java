@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.database.neurons.test;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.nervousync.commons.Globals;
+import org.nervousync.database.neurons.NeuronsDataSource;
+import org.nervousync.database.neurons.connection.NeuronsConnection;
+import org.nervousync.database.neurons.statement.CachedStatement;
+import org.nervousync.database.neurons.statement.StatementCache;
+import org.nervousync.database.neurons.statement.StatementKey;
+import org.nervousync.database.neurons.statement.StatementProfile;
+import org.nervousync.database.neurons.statement.StatementProfileFile;
+import org.nervousync.database.neurons.statement.impl.CachedPreparedStatement;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class StatementCacheTest {
+
+	@Test
+	public void segmentedEviction() {
+		StatementCache statementCache = new StatementCache(4);
+		for (String sql : new String[]{"a", "b", "c", "d"}) {
+			Assertions.assertNull(statementCache.put(new CachedPreparedStatement(null, statementKey(sql), null)));
+		}
+		Assertions.assertNotNull(statementCache.get(statementKey("a")));
+		//	Candidate leaves the admission window was not more frequent than the victim of main region
+		CachedStatement evicted = statementCache.put(new CachedPreparedStatement(null, statementKey("e"), null));
+		Assertions.assertNotNull(evicted);
+		Assertions.assertEquals(statementKey("d"), evicted.getIdentifyKey());
+		Assertions.assertEquals(4, statementCache.size());
+		Assertions.assertEquals(3, statementCache.get(statementKey("a")).getHitCount());
+		Assertions.assertNull(statementCache.get(statementKey("d")));
+	}
+
+	@Test
+	public void frequencyAdmission() {
+		StatementCache statementCache = new StatementCache(100);
+		for (int i = 0; i < 10; i++) {
+			StatementKey statementKey = statementKey("HOT " + i);
+			Assertions.assertNull(statementCache.get(statementKey));
+			statementCache.put(new CachedPreparedStatement(null, statementKey, null));
+			for (int j = 0; j < 5; j++) {
+				Assertions.assertNotNull(statementCache.get(statementKey));
+			}
+		}
+		for (int i = 0; i < 1000; i++) {
+			StatementKey statementKey = statementKey("SCAN " + i);
+			Assertions.assertNull(statementCache.get(statementKey));
+			statementCache.put(new CachedPreparedStatement(null, statementKey, null));
+		}
+		Assertions.assertEquals(100, statementCache.size());
+		for (int i = 0; i < 10; i++) {
+			Assertions.assertNotNull(statementCache.get(statementKey("HOT " + i)));
+		}
+	}
+
+	@Test
+	public void weightTrim() {
+		StatementCache statementCache = new StatementCache(4);
+		for (String sql : new String[]{"a", "b", "c", "d"}) {
+			CachedStatement cachedStatement = new CachedPreparedStatement(null, statementKey(sql), null);
+			cachedStatement.weight(100L);
+			statementCache.put(cachedStatement);
+		}
+		Assertions.assertEquals(400L, statementCache.getWeight());
+		Assertions.assertNotNull(statementCache.get(statementKey("a")));
+		//	Admission window was trimmed first, then the probation segment, the protected statement was kept
+		List<CachedStatement> evictedStatements = statementCache.trim(250L, Integer.MAX_VALUE);
+		Assertions.assertEquals(2, evictedStatements.size());
+		Assertions.assertEquals(statementKey("d"), evictedStatements.get(0).getIdentifyKey());
+		Assertions.assertEquals(statementKey("b"), evictedStatements.get(1).getIdentifyKey());
+		Assertions.assertEquals(200L, statementCache.getWeight());
+		Assertions.assertNotNull(statementCache.get(statementKey("a")));
+		Assertions.assertTrue(statementCache.trim(200L, Integer.MAX_VALUE).isEmpty());
+		//	Shrinking by size, the least recently used statement of probation segment was evicted before protected
+		evictedStatements = statementCache.trim(Long.MAX_VALUE, 1);
+		Assertions.assertEquals(1, evictedStatements.size());
+		Assertions.assertEquals(statementKey("c"), evictedStatements.get(0).getIdentifyKey());
+		Assertions.assertEquals(1, statementCache.size());
+		Assertions.assertEquals(100L, statementCache.getWeight());
+		statementCache.clear();
+		Assertions.assertEquals(0L, statementCache.getWeight());
+	}
+
+	@Test
+	public void statementKey() {
+		StatementKey statementKey = new StatementKey(StatementKey.KeyType.SQL_COLUMN_NAMES, new String("SELECT 1"),
+				ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, Globals.DEFAULT_VALUE_INT,
+				Globals.DEFAULT_VALUE_INT, null, new String[]{"ID"});
+		Assertions.assertEquals(new StatementKey(StatementKey.KeyType.SQL_COLUMN_NAMES, "SELECT 1",
+				Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT,
+				Globals.DEFAULT_VALUE_INT, new int[]{1}, new String[]{"ID"}), statementKey);
+		Assertions.assertNotEquals(statementKey(statementKey.getSql()), statementKey);
+		Assertions.assertEquals("SELECT 1", statementKey.getSql());
+		StatementKey emptyKey = new StatementKey(StatementKey.KeyType.SQL_COLUMN_NAMES, "SELECT 1",
+				Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT,
+				Globals.DEFAULT_VALUE_INT, null, new String[0]);
+		Assertions.assertSame(emptyKey.getColumnNames(), emptyKey.getColumnNames());
+		Assertions.assertEquals(0, emptyKey.getColumnNames().length);
+		Assertions.assertNotSame(statementKey.getColumnNames(), statementKey.getColumnNames());
+	}
+
+	@Test
+	public void statementProfile() {
+		StatementProfile statementProfile = new StatementProfile(2);
+		for (int i = 0; i < 5; i++) {
+			statementProfile.record(statementKey("a"));
+		}
+		statementProfile.record(statementKey("b"));
+		statementProfile.record(statementKey("b"));
+		//	Profile was full, new statement will not be recorded
+		statementProfile.record(statementKey("c"));
+		Assertions.assertEquals(List.of(statementKey("a"), statementKey("b")), statementProfile.hotStatements(3));
+		Assertions.assertEquals(0L, statementProfile.frequency(statementKey("c")));
+		//	Frequencies were halved when the recorded count reached ten times of the limit size
+		for (int i = 0; i < 13; i++) {
+			statementProfile.record(statementKey("a"));
+		}
+		Assertions.assertEquals(9L, statementProfile.frequency(statementKey("a")));
+		Assertions.assertEquals(1L, statementProfile.frequency(statementKey("b")));
+	}
+
+	@Test
+	public void profileFile() throws IOException {
+		StatementProfile statementProfile = new StatementProfile();
+		StatementKey columnsKey = new StatementKey(StatementKey.KeyType.SQL_COLUMN_NAMES,
+				"INSERT INTO T_USER (NAME) VALUES (?)", Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT,
+				Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT, null, new String[]{"ID"});
+		for (int i = 0; i < 3; i++) {
+			statementProfile.record(columnsKey);
+		}
+		statementProfile.record(statementKey("SELECT NAME FROM T_USER WHERE ID = ?"));
+		//	Mapped file could not be deleted on some platforms until the buffer was released
+		Path filePath = Files.createTempFile("neurons", ".profile");
+		filePath.toFile().deleteOnExit();
+		Assertions.assertEquals(2, new StatementProfileFile(filePath).save(statementProfile));
+		StatementProfile loadedProfile = new StatementProfile();
+		Assertions.assertEquals(2, new StatementProfileFile(filePath).load(loadedProfile));
+		Assertions.assertEquals(statementProfile.hotStatements(2), loadedProfile.hotStatements(2));
+		Assertions.assertEquals(3L, loadedProfile.frequency(columnsKey));
+	}
+
+	@Test
+	public void corruptProfileFile() throws IOException {
+		StatementProfile statementProfile = new StatementProfile();
+		statementProfile.record(statementKey("SELECT NAME FROM T_USER WHERE ID = ?"));
+		statementProfile.record(statementKey("SELECT ID FROM T_USER"));
+		Path filePath = Files.createTempFile("neurons", ".profile");
+		filePath.toFile().deleteOnExit();
+		Assertions.assertEquals(2, new StatementProfileFile(filePath).save(statementProfile));
+		//	Length of SQL command in the first entry: header, frequency, key type, 4 options and 2 array lengths
+		try (FileChannel fileChannel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+			fileChannel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, Integer.MAX_VALUE), 45L);
+		}
+		StatementProfile loadedProfile = new StatementProfile();
+		Assertions.assertThrows(IOException.class, () -> new StatementProfileFile(filePath).load(loadedProfile));
+		Assertions.assertEquals(0, loadedProfile.size());
+	}
+
+	private static StatementKey statementKey(final String sql) {
+		return new StatementKey(StatementKey.KeyType.SQL_ONLY, sql);
+	}
+
+	@Test
+	public void closeFailure() throws SQLException {
+		Set<String> closedStatements = ConcurrentHashMap.newKeySet();
+		boolean[] socketClosed = new boolean[1];
+		Connection physicalConnection = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+				new Class<?>[]{Connection.class}, (proxy, method, args) -> switch (method.getName()) {
+					case "prepareStatement" -> physicalStatement((String) args[0], closedStatements);
+					case "close" -> {
+						socketClosed[0] = Boolean.TRUE;
+						yield null;
+					}
+					default -> defaultValue(method.getReturnType());
+				});
+		NeuronsDataSource dataSource = new NeuronsDataSource(0, 1, 1, 1, 4,
+				Boolean.FALSE, Boolean.FALSE, Boolean.FALSE, 0, "jdbc:neurons-none:", new Properties(), "", "");
+		try {
+			NeuronsConnection connection = new NeuronsConnection(dataSource, physicalConnection, Boolean.FALSE, 4);
+			for (String sql : new String[]{"VALUES 1", "VALUES 2", "VALUES 3"}) {
+				connection.prepareStatement(sql).close();
+			}
+			//	Failure of one statement should not stop closing the other statements and the physical connection
+			SQLException exception = Assertions.assertThrows(SQLException.class, connection::closeConnection);
+			Assertions.assertEquals("VALUES 2", exception.getMessage());
+			Assertions.assertEquals(Set.of("VALUES 1", "VALUES 2", "VALUES 3"), closedStatements);
+			Assertions.assertTrue(socketClosed[0]);
+		} finally {
+			dataSource.close();
+		}
+	}
+
+	private static PreparedStatement physicalStatement(final String sql, final Set<String> closedStatements) {
+		return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+				new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> switch (method.getName()) {
+					case "unwrap" -> proxy;
+					case "close" -> {
+						closedStatements.add(sql);
+						if ("VALUES 2".equals(sql)) {
+							throw new SQLException(sql);
+						}
+						yield null;
+					}
+					default -> defaultValue(method.getReturnType());
+				});
+	}
+
+	private static Object defaultValue(final Class<?> returnType) {
+		if (returnType == boolean.class) {
+			return Boolean.FALSE;
+		}
+		if (returnType == int.class) {
+			return Globals.INITIALIZE_INT_VALUE;
+		}
+		if (returnType == long.class) {
+			return 0L;
+		}
+		return null;
+	}
+}